@@ -0,0 +1,171 @@
+package com.monopoly.bench;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+import com.monopoly.model.property.ColorGroup;
+import com.monopoly.model.property.Property;
+import com.monopoly.network.protocol.ClientCommand;
+import com.monopoly.server.GameController;
+import com.monopoly.server.Server;
+import com.monopoly.util.Logger;
+
+/**
+ * Builds game states for the benchmarks by playing a room in memory.
+ * No socket is opened: the server is never started and the room has no
+ * connected handlers. Dice are seeded, so every run benchmarks the same
+ * states.
+ */
+public final class GameStates {
+
+    /** Commands played before a state counts as mid-game */
+    public static final int MID_GAME_COMMANDS = 240;
+
+    /** Commands played before a state counts as late-game */
+    public static final int LATE_GAME_COMMANDS = 600;
+
+    /** Seed of the dice while the states are played */
+    public static final long DICE_SEED = 42;
+
+    /**
+     * Stage of a pre-built game
+     */
+    public enum Stage {
+        /** Most properties bought, no buildings */
+        MID,
+        /** Every color group complete, built up, some property mortgaged */
+        LATE
+    }
+
+    private GameStates() {
+    }
+
+    /**
+     * Builds a room at the given stage
+     * @param stage Game stage
+     * @param players Number of players (2-4)
+     * @return Room holding the state
+     */
+    public static GameController build(Stage stage, int players) {
+        return stage == Stage.MID ? mid(players) : late(players);
+    }
+
+    /**
+     * Plays a room until mid-game, buying every property landed on
+     * @param players Number of players (2-4)
+     * @return Room holding the mid-game state
+     */
+    public static GameController mid(int players) {
+        return play(players, MID_GAME_COMMANDS);
+    }
+
+    /**
+     * Plays a room further, then settles it into a typical late game: each
+     * color group goes to the player holding most of it and gets one to
+     * four houses (or a hotel), and each player's cheapest unbuilt property
+     * is mortgaged. Random play alone rarely completes a group.
+     * @param players Number of players (2-4)
+     * @return Room holding the late-game state
+     */
+    public static GameController late(int players) {
+        GameController room = play(players, LATE_GAME_COMMANDS);
+        GameState state = room.getGameState();
+        ArrayList<Integer> order = state.getPlayerOrder();
+
+        for (ColorGroup group : ColorGroup.values()) {
+            if (!group.isStandardProperty()) {
+                continue;
+            }
+            ArrayList<Property> properties = state.getBoard().getPropertiesInColorGroup(group);
+            Player owner = largestHolder(state, order, group);
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                if (property.getOwnerId() == owner.getId()) {
+                    continue;
+                }
+                Player previous = state.getPlayer(property.getOwnerId());
+                if (previous != null) {
+                    previous.removeProperty(property);
+                }
+                if (property.isMortgaged()) {
+                    property.unmortgage();
+                }
+                owner.addProperty(property);
+            }
+            int houses = 1 + group.ordinal() % 5;
+            for (int i = 0; i < properties.size(); i++) {
+                if (houses == 5) {
+                    properties.get(i).setNumberOfHouses(4);
+                    properties.get(i).buildHotel();
+                } else {
+                    properties.get(i).setNumberOfHouses(houses);
+                }
+            }
+        }
+
+        for (int i = 0; i < order.size(); i++) {
+            Player player = state.getPlayer(order.get(i));
+            Property cheapest = null;
+            ArrayList<Property> owned = player.getOwnedProperties();
+            for (int j = 0; j < owned.size(); j++) {
+                Property property = owned.get(j);
+                if (property.canMortgage() && (cheapest == null || property.getPrice() < cheapest.getPrice())) {
+                    cheapest = property;
+                }
+            }
+            if (cheapest != null) {
+                cheapest.mortgage();
+            }
+        }
+        return room;
+    }
+
+    /**
+     * Finds the solvent player owning most of a color group (the first
+     * player on ties)
+     */
+    private static Player largestHolder(GameState state, ArrayList<Integer> order, ColorGroup group) {
+        Player best = null;
+        int bestCount = -1;
+        for (int i = 0; i < order.size(); i++) {
+            Player player = state.getPlayer(order.get(i));
+            if (player.isBankrupt()) {
+                continue;
+            }
+            int count = player.getPropertiesInColorGroup(group);
+            if (count > bestCount) {
+                best = player;
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Plays a room for a number of commands, buying every property landed on
+     */
+    private static GameController play(int players, int commands) {
+        Logger.getInstance().setLevel(Logger.LogLevel.WARN);
+        GameController room = new GameController("bench_" + players, new Server(0));
+        for (int playerId = 1; playerId <= players; playerId++) {
+            room.addPlayer(playerId, null);
+            room.onPlayerJoined(playerId, "Player " + playerId);
+        }
+        room.startGame();
+        GameState state = room.getGameState();
+        state.getDice().setRngState(DICE_SEED);
+        for (int i = 0; i < commands && !state.isGameOver(); i++) {
+            int current = state.getCurrentPlayerId();
+            TurnPhase phase = state.getTurnPhase();
+            if (phase == TurnPhase.PRE_ROLL) {
+                room.processCommand(current, ClientCommand.createRollDice(current));
+            } else if (phase == TurnPhase.PROPERTY_DECISION) {
+                room.processCommand(current, ClientCommand.createBuyProperty(current, -1));
+            } else {
+                room.processCommand(current, ClientCommand.createEndTurn(current));
+            }
+        }
+        return room;
+    }
+}
@@ -0,0 +1,129 @@
+package com.monopoly.bench.datastructures;
+
+import com.monopoly.datastructures.ArrayList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ArrayList add/get/remove/iteration against java.util.ArrayList.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArrayListBenchmark {
+
+    /** Elements: a board's worth, and a large list */
+    @Param({"40", "65536"})
+    public int size;
+
+    private Integer[] values;
+    private int[] indexes;
+    private ArrayList<Integer> list;
+    private java.util.ArrayList<Integer> jdkList;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        values = new Integer[size];
+        indexes = new int[size];
+        list = new ArrayList<>();
+        jdkList = new java.util.ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+            indexes[i] = random.nextInt(size);
+            list.add(values[i]);
+            jdkList.add(values[i]);
+        }
+    }
+
+    private int nextIndex() {
+        cursor = cursor + 1 == size ? 0 : cursor + 1;
+        return indexes[cursor];
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer getJdk() {
+        return jdkList.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer addRemoveLast() {
+        list.add(values[0]);
+        return list.remove(list.size() - 1);
+    }
+
+    @Benchmark
+    public Integer addRemoveLastJdk() {
+        jdkList.add(values[0]);
+        return jdkList.remove(jdkList.size() - 1);
+    }
+
+    @Benchmark
+    public void fill(Blackhole blackhole) {
+        ArrayList<Integer> fresh = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            fresh.add(values[i]);
+        }
+        blackhole.consume(fresh);
+    }
+
+    @Benchmark
+    public void fillJdk(Blackhole blackhole) {
+        java.util.ArrayList<Integer> fresh = new java.util.ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            fresh.add(values[i]);
+        }
+        blackhole.consume(fresh);
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Integer value : list) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateJdk() {
+        long sum = 0;
+        for (Integer value : jdkList) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        return list.contains(Integer.MIN_VALUE);
+    }
+
+    @Benchmark
+    public boolean containsMissJdk() {
+        return jdkList.contains(Integer.MIN_VALUE);
+    }
+}
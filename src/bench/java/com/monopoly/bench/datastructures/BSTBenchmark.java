@@ -0,0 +1,102 @@
+package com.monopoly.bench.datastructures;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.datastructures.BST;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BST search/insert/delete and in-order traversal against java.util.TreeSet.
+ * Keys are inserted in random order; the BST is not self-balancing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BSTBenchmark {
+
+    /** Elements: a board's properties, and a large index */
+    @Param({"28", "65536"})
+    public int size;
+
+    private Integer[] keys;
+    private BST<Integer> tree;
+    private TreeSet<Integer> jdkTree;
+    private Integer absent;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        keys = new Integer[size];
+        tree = new BST<>();
+        jdkTree = new TreeSet<>();
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt(Integer.MAX_VALUE);
+            tree.insert(keys[i]);
+            jdkTree.add(keys[i]);
+        }
+        absent = -1;
+    }
+
+    private Integer nextKey() {
+        cursor = cursor + 1 == size ? 0 : cursor + 1;
+        return keys[cursor];
+    }
+
+    @Benchmark
+    public boolean search() {
+        return tree.search(nextKey());
+    }
+
+    @Benchmark
+    public boolean searchJdk() {
+        return jdkTree.contains(nextKey());
+    }
+
+    @Benchmark
+    public boolean insertDelete() {
+        tree.insert(absent);
+        return tree.delete(absent);
+    }
+
+    @Benchmark
+    public boolean insertDeleteJdk() {
+        jdkTree.add(absent);
+        return jdkTree.remove(absent);
+    }
+
+    @Benchmark
+    public void inOrderTraversal(Blackhole blackhole) {
+        tree.inOrderTraversal(blackhole::consume);
+    }
+
+    @Benchmark
+    public void inOrderTraversalJdk(Blackhole blackhole) {
+        for (Integer key : jdkTree) {
+            blackhole.consume(key);
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Integer> topK() {
+        return tree.getTopK(3);
+    }
+}
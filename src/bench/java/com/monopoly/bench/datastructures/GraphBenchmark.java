@@ -0,0 +1,121 @@
+package com.monopoly.bench.datastructures;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.datastructures.Graph;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Graph edge accumulation and traversals against an adjacency map built
+ * from java.util collections.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GraphBenchmark {
+
+    /** Vertices: players in a game, and a large interaction graph */
+    @Param({"8", "4096"})
+    public int size;
+
+    /** Outgoing edges per vertex */
+    private static final int DEGREE = 4;
+
+    private Integer[] vertices;
+    private int[] sources;
+    private int[] destinations;
+    private Graph<Integer> graph;
+    private HashMap<Integer, HashMap<Integer, Integer>> jdkGraph;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        vertices = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            vertices[i] = i;
+        }
+        int edges = size * DEGREE;
+        sources = new int[edges];
+        destinations = new int[edges];
+        graph = new Graph<>();
+        jdkGraph = new HashMap<>();
+        for (int i = 0; i < edges; i++) {
+            sources[i] = i % size;
+            destinations[i] = random.nextInt(size);
+            graph.addOrUpdateEdge(vertices[sources[i]], vertices[destinations[i]], 10);
+            jdkGraph.computeIfAbsent(vertices[sources[i]], v -> new HashMap<>())
+                    .merge(vertices[destinations[i]], 10, Integer::sum);
+        }
+    }
+
+    @Benchmark
+    public int addOrUpdateEdge() {
+        cursor = cursor + 1 == sources.length ? 0 : cursor + 1;
+        graph.addOrUpdateEdge(vertices[sources[cursor]], vertices[destinations[cursor]], 1);
+        return graph.getEdgeCount();
+    }
+
+    @Benchmark
+    public int addOrUpdateEdgeJdk() {
+        cursor = cursor + 1 == sources.length ? 0 : cursor + 1;
+        return jdkGraph.computeIfAbsent(vertices[sources[cursor]], v -> new HashMap<>())
+                       .merge(vertices[destinations[cursor]], 1, Integer::sum);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> breadthFirst() {
+        return graph.breadthFirstTraversal(vertices[0]);
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> breadthFirstJdk() {
+        java.util.ArrayList<Integer> order = new java.util.ArrayList<>();
+        HashSet<Integer> seen = new HashSet<>();
+        ArrayDeque<Integer> pending = new ArrayDeque<>();
+        pending.add(vertices[0]);
+        seen.add(vertices[0]);
+        while (!pending.isEmpty()) {
+            Integer vertex = pending.poll();
+            order.add(vertex);
+            HashMap<Integer, Integer> edges = jdkGraph.get(vertex);
+            if (edges != null) {
+                for (Integer next : edges.keySet()) {
+                    if (seen.add(next)) {
+                        pending.add(next);
+                    }
+                }
+            }
+        }
+        return order;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> depthFirst() {
+        return graph.depthFirstTraversal(vertices[0]);
+    }
+
+    @Benchmark
+    public Graph.Edge<Integer> mostInteractedPair() {
+        return graph.getMostInteractedPair();
+    }
+}
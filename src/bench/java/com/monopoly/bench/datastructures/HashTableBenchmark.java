@@ -0,0 +1,115 @@
+package com.monopoly.bench.datastructures;
+
+import com.monopoly.datastructures.HashTable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HashTable get/put/remove against java.util.HashMap.
+ * Keys are pre-boxed so boxing is not part of the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HashTableBenchmark {
+
+    /** Entries in the table: a game's worth of IDs, and a large server */
+    @Param({"64", "65536"})
+    public int size;
+
+    private Integer[] keys;
+    private Integer[] missing;
+    private HashTable<Integer, Integer> table;
+    private HashMap<Integer, Integer> jdkMap;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        keys = new Integer[size];
+        missing = new Integer[size];
+        table = new HashTable<>();
+        jdkMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt(Integer.MAX_VALUE / 2);
+            missing[i] = Integer.MAX_VALUE / 2 + i;
+            table.put(keys[i], i);
+            jdkMap.put(keys[i], i);
+        }
+    }
+
+    private int next() {
+        cursor = cursor + 1 == size ? 0 : cursor + 1;
+        return cursor;
+    }
+
+    @Benchmark
+    public Integer getHit() {
+        return table.get(keys[next()]);
+    }
+
+    @Benchmark
+    public Integer getHitJdk() {
+        return jdkMap.get(keys[next()]);
+    }
+
+    @Benchmark
+    public Integer getMiss() {
+        return table.get(missing[next()]);
+    }
+
+    @Benchmark
+    public Integer getMissJdk() {
+        return jdkMap.get(missing[next()]);
+    }
+
+    @Benchmark
+    public Integer putRemove() {
+        Integer key = missing[next()];
+        table.put(key, 1);
+        return table.remove(key);
+    }
+
+    @Benchmark
+    public Integer putRemoveJdk() {
+        Integer key = missing[next()];
+        jdkMap.put(key, 1);
+        return jdkMap.remove(key);
+    }
+
+    @Benchmark
+    public void fill(Blackhole blackhole) {
+        HashTable<Integer, Integer> fresh = new HashTable<>();
+        for (int i = 0; i < size; i++) {
+            fresh.put(keys[i], i);
+        }
+        blackhole.consume(fresh);
+    }
+
+    @Benchmark
+    public void fillJdk(Blackhole blackhole) {
+        HashMap<Integer, Integer> fresh = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            fresh.put(keys[i], i);
+        }
+        blackhole.consume(fresh);
+    }
+}
@@ -0,0 +1,88 @@
+package com.monopoly.bench.datastructures;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.datastructures.Heap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap insert/extract and top-K reports against java.util.PriorityQueue.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HeapBenchmark {
+
+    /** Elements: players in a game, and a large leaderboard */
+    @Param({"8", "65536"})
+    public int size;
+
+    /** Report length, as in "top 3 richest players" */
+    private static final int TOP_K = 3;
+
+    private Integer[] values;
+    private Heap<Integer> heap;
+    private PriorityQueue<Integer> jdkHeap;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        values = new Integer[size];
+        heap = new Heap<>(true);
+        jdkHeap = new PriorityQueue<>(Collections.reverseOrder());
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(100_000);
+            heap.insert(values[i]);
+            jdkHeap.add(values[i]);
+        }
+    }
+
+    @Benchmark
+    public Integer insertExtract() {
+        cursor = cursor + 1 == size ? 0 : cursor + 1;
+        heap.insert(values[cursor]);
+        return heap.extractTop();
+    }
+
+    @Benchmark
+    public Integer insertExtractJdk() {
+        cursor = cursor + 1 == size ? 0 : cursor + 1;
+        jdkHeap.add(values[cursor]);
+        return jdkHeap.poll();
+    }
+
+    @Benchmark
+    public ArrayList<Integer> topK() {
+        return heap.getTopK(TOP_K);
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Integer> topKJdk() {
+        // Same contract as Heap.getTopK: copy, then take the top K
+        PriorityQueue<Integer> copy = new PriorityQueue<>(jdkHeap);
+        java.util.ArrayList<Integer> result = new java.util.ArrayList<>(TOP_K);
+        for (int i = 0; i < TOP_K && !copy.isEmpty(); i++) {
+            result.add(copy.poll());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,89 @@
+package com.monopoly.bench.datastructures;
+
+import com.monopoly.datastructures.LinkedList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LinkedList end operations, indexed access and iteration against
+ * java.util.LinkedList.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LinkedListBenchmark {
+
+    /** Elements: a player's edge list, and a large list */
+    @Param({"16", "65536"})
+    public int size;
+
+    private LinkedList<Integer> list;
+    private java.util.LinkedList<Integer> jdkList;
+    private Integer value;
+
+    @Setup
+    public void setUp() {
+        list = new LinkedList<>();
+        jdkList = new java.util.LinkedList<>();
+        value = 7;
+        for (int i = 0; i < size; i++) {
+            list.addLast(i);
+            jdkList.addLast(i);
+        }
+    }
+
+    @Benchmark
+    public Integer addLastRemoveFirst() {
+        list.addLast(value);
+        return list.removeFirst();
+    }
+
+    @Benchmark
+    public Integer addLastRemoveFirstJdk() {
+        jdkList.addLast(value);
+        return jdkList.removeFirst();
+    }
+
+    @Benchmark
+    public Integer getMiddle() {
+        return list.get(size / 2);
+    }
+
+    @Benchmark
+    public Integer getMiddleJdk() {
+        return jdkList.get(size / 2);
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Integer element : list) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateJdk() {
+        long sum = 0;
+        for (Integer element : jdkList) {
+            sum += element;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,82 @@
+package com.monopoly.bench.datastructures;
+
+import com.monopoly.datastructures.Queue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queue enqueue/dequeue and card draws against java.util.ArrayDeque.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueueBenchmark {
+
+    /** Elements queued: a card deck, and a large backlog */
+    @Param({"16", "65536"})
+    public int size;
+
+    private Queue<Integer> queue;
+    private ArrayDeque<Integer> jdkQueue;
+
+    @Setup
+    public void setUp() {
+        queue = new Queue<>();
+        jdkQueue = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            queue.enqueue(i);
+            jdkQueue.addLast(i);
+        }
+    }
+
+    @Benchmark
+    public Integer enqueueDequeue() {
+        queue.enqueue(queue.peek());
+        return queue.dequeue();
+    }
+
+    @Benchmark
+    public Integer enqueueDequeueJdk() {
+        jdkQueue.addLast(jdkQueue.peekFirst());
+        return jdkQueue.pollFirst();
+    }
+
+    @Benchmark
+    public Integer draw() {
+        return queue.draw();
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Integer element : queue) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateJdk() {
+        long sum = 0;
+        for (Integer element : jdkQueue) {
+            sum += element;
+        }
+        return sum;
+    }
+}
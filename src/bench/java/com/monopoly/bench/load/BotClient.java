@@ -0,0 +1,350 @@
+package com.monopoly.bench.load;
+
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.network.protocol.ClientCommand;
+import com.monopoly.network.protocol.Message;
+import com.monopoly.network.protocol.MessageType;
+import com.monopoly.network.protocol.ProtocolHandler;
+import com.monopoly.network.protocol.ServerEvent;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Scripted player for the load generator.
+ * Speaks the same line-delimited JSON as ServerConnection over its own
+ * socket and plays whenever the last STATE_UPDATE says it may: it sends the
+ * first command of PREFERENCE that ProtocolHandler.isValidCommand allows in
+ * the current phase and waits for the STATE_UPDATE or ERROR answering it
+ * before acting again. A command the server rejects is skipped until the
+ * next state arrives, so a bot never repeats a failing command.
+ */
+public class BotClient implements Runnable {
+
+    /** Commands a bot plays, most preferred first */
+    static final MessageType[] PREFERENCE = {
+        MessageType.ROLL_DICE,
+        MessageType.BUY_PROPERTY,
+        MessageType.DECLINE_BUY,
+        MessageType.PASS_BID,
+        MessageType.END_TURN
+    };
+
+    // Marker of a STATE_UPDATE line
+    private static final String STATE_UPDATE_TYPE = "\"type\":\"" + MessageType.STATE_UPDATE.name() + "\"";
+
+    // Identity
+    private final int index;
+    private final String name;
+
+    // Owner (table coordination and statistics)
+    private final LoadGenerator generator;
+    private LoadGenerator.Table table;
+
+    // Shared codec and phase rules
+    private final ProtocolHandler protocol;
+
+    // Socket and streams
+    private Socket socket;
+    private BufferedReader input;
+    private Writer output;
+
+    // Assigned by the server
+    private volatile int playerId;
+    private volatile String roomId;
+
+    // Last state seen (guarded by this)
+    private TurnPhase phase;
+    private int currentPlayerId;
+    private final boolean[] rejected;
+
+    // Command awaiting its answer (guarded by this)
+    private MessageType pendingType;
+    private long pendingSince;
+
+    /**
+     * Creates a bot
+     * @param index Bot number
+     * @param generator Owning load generator
+     * @param protocol Shared protocol handler
+     */
+    BotClient(int index, LoadGenerator generator, ProtocolHandler protocol) {
+        this.index = index;
+        this.name = "bot-" + index;
+        this.generator = generator;
+        this.protocol = protocol;
+        this.playerId = -1;
+        this.currentPlayerId = -1;
+        this.rejected = new boolean[PREFERENCE.length];
+    }
+
+    // ==================== Connection ====================
+
+    /**
+     * Connects and introduces the bot; the server answers with SESSION_TOKEN
+     * @param host Server host
+     * @param port Server port
+     * @throws IOException if the connection fails
+     */
+    void connect(String host, int port) throws IOException {
+        socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        input = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        output = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+        send(ClientCommand.createHello(name));
+    }
+
+    /**
+     * Closes the socket, which also ends the reader thread
+     */
+    void close() {
+        try {
+            if (socket != null) {
+                socket.close();
+            }
+        } catch (IOException e) {
+            // Already closed
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            String line;
+            while ((line = input.readLine()) != null) {
+                // ServerEvent.fromJson drops the embedded state, so state
+                // updates are read straight from the line
+                if (line.contains(STATE_UPDATE_TYPE)) {
+                    onStateUpdate(line);
+                    continue;
+                }
+                Message message = protocol.parseMessage(line);
+                if (message instanceof ServerEvent) {
+                    onEvent((ServerEvent) message);
+                }
+            }
+        } catch (IOException e) {
+            // Socket closed by close() or by the server
+        }
+    }
+
+    /**
+     * Writes one command
+     * @param command Command to send
+     */
+    void send(ClientCommand command) {
+        String line = protocol.serializeMessage(command);
+        try {
+            synchronized (output) {
+                output.write(line);
+                output.flush();
+            }
+        } catch (IOException e) {
+            close();
+        }
+    }
+
+    // ==================== Events ====================
+
+    /**
+     * Reacts to one server event
+     */
+    private void onEvent(ServerEvent event) {
+        switch (event.getMessageType()) {
+            case SESSION_TOKEN:
+                playerId = event.getIntData("playerId", -1);
+                generator.onBotReady(this);
+                break;
+
+            case PING:
+                send(ClientCommand.createPong(playerId));
+                break;
+
+            case ROOM_JOINED:
+                if (event.getIntData("playerId", -1) == playerId) {
+                    roomId = event.getRoomId();
+                    resetState();
+                    table.onRoomJoined(this, roomId);
+                }
+                break;
+
+            case ERROR:
+                onError();
+                break;
+
+            case GAME_END:
+                table.onGameEnded(this);
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Records the new phase and current player, then plays if it may
+     * @param line STATE_UPDATE line as received
+     */
+    private void onStateUpdate(String line) {
+        String phaseName = embeddedField(line, "turnPhase");
+        String current = embeddedField(line, "currentPlayerId");
+        synchronized (this) {
+            answered();
+            try {
+                phase = phaseName != null ? TurnPhase.valueOf(phaseName) : null;
+                currentPlayerId = current != null ? Integer.parseInt(current) : -1;
+            } catch (IllegalArgumentException e) {
+                phase = null;
+            }
+            for (int i = 0; i < rejected.length; i++) {
+                rejected[i] = false;
+            }
+            act();
+        }
+        table.onProgress();
+    }
+
+    /**
+     * Extracts a scalar field of the game state embedded (as an escaped
+     * JSON string) in a STATE_UPDATE line
+     * @param line STATE_UPDATE line
+     * @param field Field name
+     * @return Field value, or null if absent
+     */
+    static String embeddedField(String line, String field) {
+        String pattern = "\\\"" + field + "\\\":";
+        int start = line.indexOf(pattern);
+        if (start < 0) {
+            return null;
+        }
+        start += pattern.length();
+        if (line.startsWith("\\\"", start)) {
+            int end = line.indexOf("\\\"", start + 2);
+            return end < 0 ? null : line.substring(start + 2, end);
+        }
+        int end = start;
+        while (end < line.length() && (Character.isDigit(line.charAt(end)) || line.charAt(end) == '-')) {
+            end++;
+        }
+        return line.substring(start, end);
+    }
+
+    /**
+     * Marks the pending command as rejected and tries the next choice
+     */
+    private synchronized void onError() {
+        generator.stats().errors.increment();
+        if (pendingType != null) {
+            for (int i = 0; i < PREFERENCE.length; i++) {
+                if (PREFERENCE[i] == pendingType) {
+                    rejected[i] = true;
+                }
+            }
+        }
+        answered();
+        act();
+    }
+
+    /**
+     * Records the latency of the pending command, if any
+     */
+    private void answered() {
+        if (pendingType != null) {
+            generator.stats().latency.record(System.nanoTime() - pendingSince);
+            pendingType = null;
+        }
+    }
+
+    // ==================== Playing ====================
+
+    /**
+     * Sends the preferred command the current phase allows, unless a
+     * command is already in flight or it is not the bot's move
+     */
+    private void act() {
+        if (pendingType != null || phase == null) {
+            return;
+        }
+        if (currentPlayerId != playerId && phase != TurnPhase.AUCTION) {
+            return;
+        }
+        for (int i = 0; i < PREFERENCE.length; i++) {
+            if (rejected[i]) {
+                continue;
+            }
+            ClientCommand command = createCommand(PREFERENCE[i]);
+            if (protocol.isValidCommand(command, phase)) {
+                pendingType = PREFERENCE[i];
+                pendingSince = System.nanoTime();
+                generator.stats().commands.increment();
+                send(command);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Builds a game command of the given type
+     */
+    private ClientCommand createCommand(MessageType type) {
+        switch (type) {
+            case ROLL_DICE:
+                return ClientCommand.createRollDice(playerId);
+            case BUY_PROPERTY:
+                return ClientCommand.createBuyProperty(playerId, -1);
+            case DECLINE_BUY:
+                return ClientCommand.createDeclineBuy(playerId);
+            case PASS_BID:
+                return ClientCommand.createPassBid(playerId);
+            default:
+                return ClientCommand.createEndTurn(playerId);
+        }
+    }
+
+    /**
+     * Gives up on a command that has not been answered in time and plays
+     * again from the last known state
+     * @param now Current nanoTime
+     * @param timeoutNanos Time after which a command counts as lost
+     */
+    synchronized void checkTimeout(long now, long timeoutNanos) {
+        if (pendingType != null && now - pendingSince > timeoutNanos) {
+            generator.stats().timeouts.increment();
+            pendingType = null;
+            act();
+        }
+    }
+
+    /**
+     * Forgets the state of the previous room
+     */
+    private synchronized void resetState() {
+        phase = null;
+        currentPlayerId = -1;
+        pendingType = null;
+    }
+
+    // ==================== Getters ====================
+
+    void setTable(LoadGenerator.Table table) {
+        this.table = table;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+}
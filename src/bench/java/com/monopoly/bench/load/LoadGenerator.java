@@ -0,0 +1,505 @@
+package com.monopoly.bench.load;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.network.protocol.ClientCommand;
+import com.monopoly.network.protocol.ProtocolHandler;
+import com.monopoly.server.Server;
+import com.monopoly.server.metrics.LatencyHistogram;
+import com.monopoly.util.Logger;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Loopback load generator.
+ * Starts a real Server on a free port (or targets one given with
+ * --connect), opens one socket per bot, seats the bots at tables of
+ * --players-per-room, and has every table create a room, join it, start
+ * the game and play it out; a finished or stuck game is replaced by a new
+ * one. Every second it prints the command rate, the command-to-answer
+ * latency percentiles, and the CPU and heap of this JVM. CPU is split
+ * into bot reader threads and everything else, which is the server when
+ * it runs in-process. After the warm-up the statistics are reset and the
+ * final summary covers only the measured window.
+ *
+ * Each bot costs two sockets and two threads in this process, so raise
+ * `ulimit -n` above twice the bot count for large runs.
+ */
+public class LoadGenerator {
+
+    // Shared logger
+    private static final Logger LOG = Logger.getInstance();
+
+    /** Stack size of bot reader threads (they only parse small messages) */
+    public static final long BOT_STACK_BYTES = 256 * 1024;
+
+    /** Time after which an unanswered command counts as lost */
+    public static final long COMMAND_TIMEOUT_MS = 5_000;
+
+    /** Time without a state update after which a table restarts its game */
+    public static final long STALL_TIMEOUT_MS = 15_000;
+
+    /** Interval between progress lines */
+    public static final long REPORT_INTERVAL_MS = 1_000;
+
+    /**
+     * Counters of one measurement window (replaced after the warm-up)
+     */
+    static final class Stats {
+        // Command written to STATE_UPDATE or ERROR read back
+        final LatencyHistogram latency = new LatencyHistogram();
+
+        // Commands sent, rejected, and never answered
+        final LongAdder commands = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder timeouts = new LongAdder();
+
+        // Games played to the end, and games abandoned as stuck
+        final LongAdder gamesFinished = new LongAdder();
+        final LongAdder gamesStalled = new LongAdder();
+
+        // Window start
+        final long startedAt = System.nanoTime();
+    }
+
+    /**
+     * Bots sharing one room. The first bot creates the room, the others
+     * join it once its ID is known, and the first bot starts the game when
+     * everyone is seated.
+     */
+    final class Table {
+        // Seated bots, leader first
+        private final BotClient[] bots;
+
+        // Room of the current game and bots seated in it
+        private String roomId;
+        private int seated;
+
+        // Last time the game moved (nanoTime), 0 while seating
+        private volatile long lastProgress;
+
+        Table(BotClient[] bots) {
+            this.bots = bots;
+            for (BotClient bot : bots) {
+                bot.setTable(this);
+            }
+        }
+
+        /**
+         * Seats the table in a new room
+         */
+        synchronized void open() {
+            roomId = null;
+            seated = 0;
+            lastProgress = 0;
+            bots[0].send(ClientCommand.createCreateRoom(bots[0].getPlayerId()));
+        }
+
+        /**
+         * Called by a bot that entered a room
+         * @param bot Bot
+         * @param joinedRoom Room it entered
+         */
+        synchronized void onRoomJoined(BotClient bot, String joinedRoom) {
+            if (bot == bots[0]) {
+                roomId = joinedRoom;
+                seated = 1;
+                for (int i = 1; i < bots.length; i++) {
+                    bots[i].send(ClientCommand.createJoinRoom(bots[i].getPlayerId(), roomId));
+                }
+            } else if (joinedRoom.equals(roomId)) {
+                seated++;
+            }
+            if (seated == bots.length) {
+                lastProgress = System.nanoTime();
+                bots[0].send(ClientCommand.createStartGame(bots[0].getPlayerId()));
+            }
+        }
+
+        /**
+         * Called by a bot that saw its game end
+         * @param bot Bot
+         */
+        void onGameEnded(BotClient bot) {
+            if (bot == bots[0] && running) {
+                stats().gamesFinished.increment();
+                open();
+            }
+        }
+
+        /**
+         * Called whenever a state update arrives
+         */
+        void onProgress() {
+            if (lastProgress != 0) {
+                lastProgress = System.nanoTime();
+            }
+        }
+
+        /**
+         * Checks for lost commands and restarts a game that stopped moving
+         * @param now Current nanoTime
+         */
+        void check(long now) {
+            for (BotClient bot : bots) {
+                bot.checkTimeout(now, TimeUnit.MILLISECONDS.toNanos(COMMAND_TIMEOUT_MS));
+            }
+            long last = lastProgress;
+            if (last != 0 && now - last > TimeUnit.MILLISECONDS.toNanos(STALL_TIMEOUT_MS) && running) {
+                stats().gamesStalled.increment();
+                open();
+            }
+        }
+    }
+
+    // Configuration
+    private final int botCount;
+    private final int playersPerRoom;
+
+    // Codec and phase rules shared by all bots
+    private final ProtocolHandler protocol;
+
+    // Bots, tables and their reader threads
+    private final ArrayList<BotClient> bots;
+    private final ArrayList<Table> tables;
+    private final ArrayList<Thread> threads;
+
+    // Bots that received their player ID
+    private final CountDownLatch ready;
+
+    // Current measurement window
+    private volatile Stats stats;
+
+    // Cleared when the run ends so finished games are not replaced
+    private volatile boolean running;
+
+    /**
+     * Creates a load generator
+     * @param botCount Number of bots (rounded down to full tables)
+     * @param playersPerRoom Bots per room (MIN_PLAYERS to MAX_PLAYERS)
+     */
+    public LoadGenerator(int botCount, int playersPerRoom) {
+        if (playersPerRoom < Server.MIN_PLAYERS || playersPerRoom > Server.MAX_PLAYERS) {
+            throw new IllegalArgumentException("Players per room must be between " + Server.MIN_PLAYERS
+                                               + " and " + Server.MAX_PLAYERS);
+        }
+        this.playersPerRoom = playersPerRoom;
+        this.botCount = Math.max(1, botCount / playersPerRoom) * playersPerRoom;
+        this.protocol = new ProtocolHandler();
+        this.bots = new ArrayList<>();
+        this.tables = new ArrayList<>();
+        this.threads = new ArrayList<>();
+        this.ready = new CountDownLatch(this.botCount);
+        this.stats = new Stats();
+    }
+
+    // ==================== Running ====================
+
+    /**
+     * Connects every bot and seats the tables
+     * @param host Server host
+     * @param port Server port
+     * @throws IOException if a bot cannot connect
+     * @throws InterruptedException if interrupted while waiting for player IDs
+     */
+    public void connect(String host, int port) throws IOException, InterruptedException {
+        running = true;
+        for (int i = 0; i < botCount; i++) {
+            BotClient bot = new BotClient(i, this, protocol);
+            bots.add(bot);
+            if (bots.size() % playersPerRoom == 0) {
+                BotClient[] seats = new BotClient[playersPerRoom];
+                for (int seat = 0; seat < playersPerRoom; seat++) {
+                    seats[seat] = bots.get(bots.size() - playersPerRoom + seat);
+                }
+                tables.add(new Table(seats));
+            }
+            bot.connect(host, port);
+            Thread thread = new Thread(null, bot, "bot-" + i, BOT_STACK_BYTES);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        if (!ready.await(30, TimeUnit.SECONDS)) {
+            throw new IOException((botCount - ready.getCount()) + " of " + botCount
+                                  + " bots received a player ID in time");
+        }
+        for (int i = 0; i < tables.size(); i++) {
+            tables.get(i).open();
+        }
+    }
+
+    /**
+     * Called by a bot once it knows its player ID
+     * @param bot Bot
+     */
+    void onBotReady(BotClient bot) {
+        ready.countDown();
+    }
+
+    /**
+     * Runs the load, printing a line per REPORT_INTERVAL_MS
+     * @param warmupSeconds Seconds before the statistics are reset
+     * @param durationSeconds Measured seconds after the warm-up
+     * @return Statistics of the measured window
+     * @throws InterruptedException if interrupted
+     */
+    public Stats run(int warmupSeconds, int durationSeconds) throws InterruptedException {
+        CpuSampler cpu = new CpuSampler();
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        // Moved to the actual end of the warm-up when the statistics are reset
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(durationSeconds);
+        boolean warm = warmupSeconds == 0;
+        long lastCommands = 0;
+        while (System.nanoTime() < end) {
+            Thread.sleep(REPORT_INTERVAL_MS);
+            long now = System.nanoTime();
+            for (int i = 0; i < tables.size(); i++) {
+                tables.get(i).check(now);
+            }
+            if (!warm && now >= warmupEnd) {
+                warm = true;
+                stats = new Stats();
+                end = now + TimeUnit.SECONDS.toNanos(durationSeconds);
+                lastCommands = 0;
+                System.out.println("-- warm-up done, statistics reset");
+                continue;
+            }
+            Stats current = stats;
+            long commands = current.commands.sum();
+            System.out.println(String.format("%s%6d cmd/s  p50 %7.3f ms  p99 %7.3f ms  p999 %7.3f ms  %s",
+                    warm ? "" : "(warm-up) ",
+                    (commands - lastCommands) * 1000 / REPORT_INTERVAL_MS,
+                    millis(current.latency.getPercentile(50)),
+                    millis(current.latency.getPercentile(99)),
+                    millis(current.latency.getPercentile(99.9)),
+                    cpu.sample()));
+            lastCommands = commands;
+        }
+        running = false;
+        return stats;
+    }
+
+    /**
+     * Closes every bot
+     */
+    public void close() {
+        running = false;
+        for (int i = 0; i < bots.size(); i++) {
+            bots.get(i).close();
+        }
+    }
+
+    /**
+     * Gets the current measurement window
+     * @return Statistics
+     */
+    Stats stats() {
+        return stats;
+    }
+
+    /**
+     * Gets the IDs of the bot reader threads
+     */
+    private long[] botThreadIds() {
+        long[] ids = new long[threads.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = threads.get(i).getId();
+        }
+        return ids;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // ==================== CPU and Heap ====================
+
+    /**
+     * Samples process and bot CPU time between calls, plus heap and GC
+     */
+    private final class CpuSampler {
+        // Process CPU bean (null where the JVM does not expose it)
+        private final com.sun.management.OperatingSystemMXBean os;
+        private final ThreadMXBean threadBean;
+
+        // Previous sample
+        private long lastWall;
+        private long lastProcess;
+        private long lastBots;
+
+        CpuSampler() {
+            java.lang.management.OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+            this.os = bean instanceof com.sun.management.OperatingSystemMXBean
+                    ? (com.sun.management.OperatingSystemMXBean) bean : null;
+            this.threadBean = ManagementFactory.getThreadMXBean();
+            this.lastWall = System.nanoTime();
+            this.lastProcess = processCpu();
+            this.lastBots = botCpu();
+        }
+
+        private long processCpu() {
+            return os != null ? os.getProcessCpuTime() : 0;
+        }
+
+        private long botCpu() {
+            if (!threadBean.isThreadCpuTimeSupported()) {
+                return 0;
+            }
+            long total = 0;
+            for (long id : botThreadIds()) {
+                total += Math.max(0, threadBean.getThreadCpuTime(id));
+            }
+            return total;
+        }
+
+        /**
+         * Describes CPU (in cores) since the previous call, heap and GC time
+         * @return Summary text
+         */
+        String sample() {
+            long wall = System.nanoTime();
+            long process = processCpu();
+            long botTime = botCpu();
+            double elapsed = Math.max(1, wall - lastWall);
+            double processCores = (process - lastProcess) / elapsed;
+            double botCores = (botTime - lastBots) / elapsed;
+            lastWall = wall;
+            lastProcess = process;
+            lastBots = botTime;
+
+            long gcMillis = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                gcMillis += Math.max(0, gc.getCollectionTime());
+            }
+            MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+            return String.format("cpu %.2f cores (server %.2f, bots %.2f)  heap %d/%d MB  gc %d ms",
+                    processCores, Math.max(0, processCores - botCores), botCores,
+                    heap.getUsed() >> 20, heap.getMax() >> 20, gcMillis);
+        }
+    }
+
+    // ==================== Entry Point ====================
+
+    /**
+     * Runs a load test
+     * @param args [--bots N] [--players-per-room N] [--warmup S] [--duration S] [--connect host:port]
+     */
+    public static void main(String[] args) {
+        int botCount = 400;
+        int playersPerRoom = Server.MAX_PLAYERS;
+        int warmup = 5;
+        int duration = 30;
+        String target = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--bots":
+                        botCount = Integer.parseInt(args[++i]);
+                        break;
+                    case "--players-per-room":
+                        playersPerRoom = Integer.parseInt(args[++i]);
+                        break;
+                    case "--warmup":
+                        warmup = Integer.parseInt(args[++i]);
+                        break;
+                    case "--duration":
+                        duration = Integer.parseInt(args[++i]);
+                        break;
+                    case "--connect":
+                        target = args[++i];
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + args[i]);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage() != null ? e.getMessage() : "Missing option value");
+            System.err.println("Usage: LoadGenerator [--bots N] [--players-per-room N] [--warmup S] "
+                               + "[--duration S] [--connect host:port]");
+            System.exit(2);
+            return;
+        }
+
+        // Per-command server logging would dominate the measurement
+        LOG.setLevel(Logger.LogLevel.WARN);
+
+        Server server = null;
+        String host = "127.0.0.1";
+        int port;
+        if (target == null) {
+            server = new Server(0);
+            Thread serverThread = new Thread(server::start, "server-accept");
+            serverThread.setDaemon(true);
+            serverThread.start();
+            port = awaitPort(server);
+            if (port < 0) {
+                System.err.println("Server did not start");
+                System.exit(1);
+                return;
+            }
+        } else {
+            int colon = target.lastIndexOf(':');
+            host = target.substring(0, colon);
+            port = Integer.parseInt(target.substring(colon + 1));
+        }
+
+        LoadGenerator generator = new LoadGenerator(botCount, playersPerRoom);
+        System.out.println(String.format("Driving %s:%d with %d bots at %d per room (%s)",
+                host, port, generator.botCount, playersPerRoom,
+                server != null ? "in-process server" : "external server, CPU figures are bots only"));
+        try {
+            long connectStart = System.nanoTime();
+            generator.connect(host, port);
+            System.out.println(String.format("Connected in %.1f s", (System.nanoTime() - connectStart) / 1e9));
+
+            Stats result = generator.run(warmup, duration);
+            double seconds = (System.nanoTime() - result.startedAt) / 1e9;
+            LatencyHistogram latency = result.latency;
+            System.out.println("== Summary over " + String.format("%.1f", seconds) + " s");
+            System.out.println(String.format("commands      %d (%.0f/s sustained)",
+                    result.commands.sum(), result.commands.sum() / seconds));
+            System.out.println(String.format("latency       p50 %.3f ms  p99 %.3f ms  p999 %.3f ms  max %.3f ms",
+                    millis(latency.getPercentile(50)), millis(latency.getPercentile(99)),
+                    millis(latency.getPercentile(99.9)), millis(latency.getMax())));
+            System.out.println(String.format("rejected      %d  timed out %d", result.errors.sum(), result.timeouts.sum()));
+            System.out.println(String.format("games         %d finished  %d stalled",
+                    result.gamesFinished.sum(), result.gamesStalled.sum()));
+        } catch (IOException | InterruptedException e) {
+            System.err.println("Load test failed: " + e.getMessage());
+        } finally {
+            generator.close();
+            if (server != null) {
+                server.stop();
+            }
+            LOG.flush();
+        }
+    }
+
+    /**
+     * Waits until a server started on another thread is listening
+     * @return Bound port, or -1 after 10 seconds
+     */
+    private static int awaitPort(Server server) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            int port = server.getLocalPort();
+            if (port > 0) {
+                return port;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return -1;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,58 @@
+package com.monopoly.bench.logic;
+
+import com.monopoly.bench.GameStates;
+import com.monopoly.logic.BankruptcyManager;
+import com.monopoly.model.game.GameState;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BankruptcyManager.getTotalLiquidationValue for each solvent player, the
+ * check run whenever a player cannot pay a debt outright.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BankruptcyManagerBenchmark {
+
+    /** Stage of the pre-built game */
+    @Param({"MID", "LATE"})
+    public GameStates.Stage stage;
+
+    private BankruptcyManager bankruptcyManager;
+    private int[] playerIds;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        GameState state = GameStates.build(stage, 4).getGameState();
+        bankruptcyManager = new BankruptcyManager(state);
+        TurnSnapshot snapshot = new TurnSnapshot(state);
+        int[] solvent = snapshot.getSolventIndexes();
+        playerIds = new int[solvent.length];
+        for (int i = 0; i < solvent.length; i++) {
+            playerIds[i] = snapshot.getPlayers()[solvent[i]].getId();
+        }
+    }
+
+    @Benchmark
+    public int getTotalLiquidationValue() {
+        cursor = cursor + 1 == playerIds.length ? 0 : cursor + 1;
+        return bankruptcyManager.getTotalLiquidationValue(playerIds[cursor]);
+    }
+}
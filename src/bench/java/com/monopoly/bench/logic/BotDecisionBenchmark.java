@@ -0,0 +1,71 @@
+package com.monopoly.bench.logic;
+
+import com.monopoly.bench.GameStates;
+import com.monopoly.bot.ExpectedValueStrategy;
+import com.monopoly.bot.PropertyValuation;
+import com.monopoly.model.game.GameState;
+import com.monopoly.network.protocol.ClientCommand;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One expected-value bot decision per seat, with the room's valuation
+ * already cached, against the cost of rebuilding the valuation after an
+ * ownership change.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BotDecisionBenchmark {
+
+    /** Stage of the pre-built game */
+    @Param({"MID", "LATE"})
+    public GameStates.Stage stage;
+
+    private GameState state;
+    private PropertyValuation valuation;
+    private ExpectedValueStrategy strategy;
+    private int[] playerIds;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        state = GameStates.build(stage, 4).getGameState();
+        valuation = new PropertyValuation(state);
+        valuation.refresh();
+        strategy = new ExpectedValueStrategy();
+        playerIds = new int[state.getPlayerOrder().size()];
+        for (int i = 0; i < playerIds.length; i++) {
+            playerIds[i] = state.getPlayerOrder().get(i);
+        }
+    }
+
+    @Benchmark
+    public ClientCommand decide() {
+        cursor = cursor + 1 == playerIds.length ? 0 : cursor + 1;
+        valuation.refresh();
+        return strategy.decide(valuation, playerIds[cursor]);
+    }
+
+    @Benchmark
+    public int rebuildValuation() {
+        PropertyValuation fresh = new PropertyValuation(state);
+        fresh.refresh();
+        return fresh.getRevision();
+    }
+}
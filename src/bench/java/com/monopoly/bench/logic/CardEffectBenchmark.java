@@ -0,0 +1,100 @@
+package com.monopoly.bench.logic;
+
+import com.monopoly.bench.GameStates;
+import com.monopoly.logic.GameLogic;
+import com.monopoly.model.card.Card;
+import com.monopoly.model.card.CardEffect;
+import com.monopoly.model.card.ChanceCard;
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameLogic.executeCard for every CardEffect, drawn on each Chance tile
+ * in turn by each solvent player. Effects that move the player include
+ * the landing they trigger. The turn fields are restored before every
+ * card.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CardEffectBenchmark {
+
+    /** Chance tiles the card is drawn on */
+    private static final int[] CHANCE_TILES = {7, 22, 36};
+
+    /** Stage of the pre-built game */
+    @Param({"MID", "LATE"})
+    public GameStates.Stage stage;
+
+    /** Effect of the card (every CardEffect) */
+    @Param
+    public CardEffect effect;
+
+    private GameState state;
+    private GameLogic logic;
+    private TurnSnapshot snapshot;
+    private int[] playerIndexes;
+    private Card card;
+    private int turn;
+    private int tile;
+
+    @Setup
+    public void setUp() {
+        state = GameStates.build(stage, 4).getGameState();
+        logic = new GameLogic(state);
+        snapshot = new TurnSnapshot(state);
+        playerIndexes = snapshot.getSolventIndexes();
+        card = new ChanceCard(0, "Benchmark card", effect, primaryValue(effect), 100);
+    }
+
+    /**
+     * Picks a value typical of the printed cards with this effect
+     */
+    private static int primaryValue(CardEffect effect) {
+        switch (effect) {
+            case ADVANCE_TO:
+                return 24;
+            case GO_BACK:
+                return 3;
+            case REPAIRS:
+            case STREET_REPAIRS:
+            case GENERAL_REPAIRS:
+                return 25;
+            default:
+                return 50;
+        }
+    }
+
+    @Benchmark
+    public String executeCard() {
+        turn = turn + 1 == playerIndexes.length ? 0 : turn + 1;
+        tile = tile + 1 == CHANCE_TILES.length ? 0 : tile + 1;
+        int index = playerIndexes[turn];
+        Player player = snapshot.getPlayers()[index];
+
+        snapshot.restore();
+        snapshot.restore(index, CHANCE_TILES[tile]);
+        state.setCurrentPlayerId(player.getId());
+        state.setTurnPhase(TurnPhase.DRAWING_CARD);
+
+        return logic.executeCard(player.getId(), card);
+    }
+}
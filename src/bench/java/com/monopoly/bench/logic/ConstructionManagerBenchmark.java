@@ -0,0 +1,86 @@
+package com.monopoly.bench.logic;
+
+import com.monopoly.bench.GameStates;
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.logic.ConstructionManager;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.property.ColorGroup;
+import com.monopoly.model.property.Property;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConstructionManager building checks: canBuildHouse for each street and
+ * its owner (or player 1 if unowned), and getBuildableProperties for each
+ * player, which clients ask for whenever a BUILD menu is shown.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConstructionManagerBenchmark {
+
+    /** Stage of the pre-built game */
+    @Param({"MID", "LATE"})
+    public GameStates.Stage stage;
+
+    private ConstructionManager constructionManager;
+    private int[] propertyIds;
+    private int[] ownerIds;
+    private int[] playerIds;
+    private int propertyCursor;
+    private int playerCursor;
+
+    @Setup
+    public void setUp() {
+        GameState state = GameStates.build(stage, 4).getGameState();
+        constructionManager = new ConstructionManager(state);
+        ArrayList<Property> streets = new ArrayList<>();
+        for (ColorGroup group : ColorGroup.values()) {
+            if (group.isStandardProperty()) {
+                ArrayList<Property> properties = state.getBoard().getPropertiesInColorGroup(group);
+                for (int i = 0; i < properties.size(); i++) {
+                    streets.add(properties.get(i));
+                }
+            }
+        }
+        propertyIds = new int[streets.size()];
+        ownerIds = new int[streets.size()];
+        for (int i = 0; i < propertyIds.length; i++) {
+            propertyIds[i] = streets.get(i).getId();
+            ownerIds[i] = streets.get(i).getOwnerId() >= 0 ? streets.get(i).getOwnerId() : 1;
+        }
+        TurnSnapshot snapshot = new TurnSnapshot(state);
+        int[] solvent = snapshot.getSolventIndexes();
+        playerIds = new int[solvent.length];
+        for (int i = 0; i < solvent.length; i++) {
+            playerIds[i] = snapshot.getPlayers()[solvent[i]].getId();
+        }
+    }
+
+    @Benchmark
+    public boolean canBuildHouse() {
+        propertyCursor = propertyCursor + 1 == propertyIds.length ? 0 : propertyCursor + 1;
+        return constructionManager.canBuildHouse(ownerIds[propertyCursor], propertyIds[propertyCursor]);
+    }
+
+    @Benchmark
+    public ArrayList<Property> getBuildableProperties() {
+        playerCursor = playerCursor + 1 == playerIds.length ? 0 : playerCursor + 1;
+        return constructionManager.getBuildableProperties(playerIds[playerCursor]);
+    }
+}
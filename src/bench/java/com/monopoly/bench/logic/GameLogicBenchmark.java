@@ -0,0 +1,90 @@
+package com.monopoly.bench.logic;
+
+import com.monopoly.bench.GameStates;
+import com.monopoly.logic.GameLogic;
+import com.monopoly.logic.TurnOutcome;
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One dice roll resolved the way GameController resolves ROLL_DICE:
+ * GameLogic.resolveRoll followed by resolveLanding, against the text API
+ * (rollAndMove and handleTileLanding) that renders a description of each
+ * step. Players take turns and each roll starts from a different tile, so
+ * landings spread over the whole board; the turn fields are restored
+ * before every roll.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameLogicBenchmark {
+
+    /** Stage of the pre-built game */
+    @Param({"MID", "LATE"})
+    public GameStates.Stage stage;
+
+    private GameState state;
+    private GameLogic logic;
+    private TurnSnapshot snapshot;
+    private int[] playerIndexes;
+    private int turn;
+    private int start;
+
+    @Setup
+    public void setUp() {
+        state = GameStates.build(stage, 4).getGameState();
+        logic = new GameLogic(state);
+        snapshot = new TurnSnapshot(state);
+        playerIndexes = snapshot.getSolventIndexes();
+    }
+
+    @Benchmark
+    public String rollAndMoveAndLand(Blackhole blackhole) {
+        int playerId = nextTurn();
+        blackhole.consume(logic.rollAndMove());
+        return state.getTurnPhase() == TurnPhase.LANDED ? logic.handleTileLanding(playerId) : null;
+    }
+
+    @Benchmark
+    public TurnOutcome resolveRollAndLanding(Blackhole blackhole) {
+        int playerId = nextTurn();
+        blackhole.consume(logic.resolveRoll());
+        return state.getTurnPhase() == TurnPhase.LANDED ? logic.resolveLanding(playerId) : null;
+    }
+
+    /**
+     * Puts the next player on the next start tile, ready to roll
+     * @return ID of the player to roll
+     */
+    private int nextTurn() {
+        turn = turn + 1 == playerIndexes.length ? 0 : turn + 1;
+        start = start + 7 >= 40 ? start + 7 - 40 : start + 7;
+        int index = playerIndexes[turn];
+        Player player = snapshot.getPlayers()[index];
+
+        snapshot.restore();
+        snapshot.restore(index, start);
+        state.setCurrentPlayerId(player.getId());
+        state.setTurnPhase(TurnPhase.PRE_ROLL);
+        return player.getId();
+    }
+}
@@ -0,0 +1,71 @@
+package com.monopoly.bench.logic;
+
+import com.monopoly.bench.GameStates;
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.logic.RentCalculator;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.property.ColorGroup;
+import com.monopoly.model.property.Property;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RentCalculator.calculatePropertyRent over every owned street, the rent
+ * lookup behind each landing on another player's property.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RentCalculatorBenchmark {
+
+    /** Stage of the pre-built game */
+    @Param({"MID", "LATE"})
+    public GameStates.Stage stage;
+
+    private RentCalculator rentCalculator;
+    private Property[] owned;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        GameState state = GameStates.build(stage, 4).getGameState();
+        rentCalculator = new RentCalculator(state);
+        ArrayList<Property> streets = new ArrayList<>();
+        for (ColorGroup group : ColorGroup.values()) {
+            if (!group.isStandardProperty()) {
+                continue;
+            }
+            ArrayList<Property> properties = state.getBoard().getPropertiesInColorGroup(group);
+            for (int i = 0; i < properties.size(); i++) {
+                if (properties.get(i).getOwnerId() >= 0) {
+                    streets.add(properties.get(i));
+                }
+            }
+        }
+        owned = new Property[streets.size()];
+        for (int i = 0; i < owned.length; i++) {
+            owned[i] = streets.get(i);
+        }
+    }
+
+    @Benchmark
+    public int calculatePropertyRent() {
+        cursor = cursor + 1 == owned.length ? 0 : cursor + 1;
+        return rentCalculator.calculatePropertyRent(owned[cursor]);
+    }
+}
@@ -0,0 +1,61 @@
+package com.monopoly.bench.logic;
+
+import com.monopoly.ai.MctsStrategy;
+import com.monopoly.ai.Simulation;
+import com.monopoly.bench.GameStates;
+import com.monopoly.bot.ExpectedValueStrategy;
+import com.monopoly.model.game.GameState;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One search-bot rollout: forking the game from its checkpoint, against
+ * forking it and playing ROLLOUT_TURNS turns with the expected-value policy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RolloutBenchmark {
+
+    /** Stage of the pre-built game */
+    @Param({"MID", "LATE"})
+    public GameStates.Stage stage;
+
+    private byte[] checkpoint;
+    private ExpectedValueStrategy policy;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        GameState state = GameStates.build(stage, 4).getGameState();
+        checkpoint = state.checkpoint();
+        policy = new ExpectedValueStrategy();
+    }
+
+    @Benchmark
+    public Simulation fork() {
+        return Simulation.fork(checkpoint, ++seed, policy);
+    }
+
+    @Benchmark
+    public double rollout() {
+        Simulation simulation = Simulation.fork(checkpoint, ++seed, policy);
+        simulation.playOut(MctsStrategy.ROLLOUT_TURNS);
+        return simulation.score(simulation.getGameState().getCurrentPlayerId());
+    }
+}
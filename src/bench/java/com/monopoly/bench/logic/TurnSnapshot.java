@@ -0,0 +1,113 @@
+package com.monopoly.bench.logic;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+
+/**
+ * Player and turn fields a rule call can change (money, position, jail,
+ * jail cards, phase, doubles). Benchmarks of mutating calls restore it
+ * before every call so each one runs against the same pre-built state
+ * instead of a game drifting towards bankruptcy. Restoring only sets
+ * fields and never allocates.
+ */
+final class TurnSnapshot {
+
+    // State the snapshot belongs to
+    private final GameState state;
+
+    // Players in turn order
+    private final Player[] players;
+
+    // Saved fields, indexed like players
+    private final int[] money;
+    private final int[] positions;
+    private final boolean[] inJail;
+    private final int[] jailCards;
+
+    // Saved turn
+    private final int currentPlayerId;
+    private final TurnPhase phase;
+
+    /**
+     * Saves the current player and turn fields
+     * @param state Game state
+     */
+    TurnSnapshot(GameState state) {
+        this.state = state;
+        ArrayList<Integer> order = state.getPlayerOrder();
+        this.players = new Player[order.size()];
+        this.money = new int[players.length];
+        this.positions = new int[players.length];
+        this.inJail = new boolean[players.length];
+        this.jailCards = new int[players.length];
+        for (int i = 0; i < players.length; i++) {
+            Player player = state.getPlayer(order.get(i));
+            players[i] = player;
+            money[i] = player.getMoney();
+            positions[i] = player.getPosition();
+            inJail[i] = player.isInJail();
+            jailCards[i] = player.getGetOutOfJailCards();
+        }
+        this.currentPlayerId = state.getCurrentPlayerId();
+        this.phase = state.getTurnPhase();
+    }
+
+    /**
+     * Puts every saved field back
+     */
+    void restore() {
+        for (int i = 0; i < players.length; i++) {
+            restore(i, positions[i]);
+        }
+        state.setCurrentPlayerId(currentPlayerId);
+        state.setTurnPhase(phase);
+        state.getDice().resetDoubles();
+        state.getDice().resetForNewTurn();
+    }
+
+    /**
+     * Puts a player's saved fields back, moving them to a given tile
+     * @param index Player index in turn order
+     * @param position Tile to stand on
+     */
+    void restore(int index, int position) {
+        Player player = players[index];
+        player.setMoney(money[index]);
+        player.setPosition(position);
+        player.setInJail(inJail[index]);
+        while (player.getGetOutOfJailCards() > jailCards[index] && player.removeGetOutOfJailCard()) {
+            // Drop cards picked up since the snapshot
+        }
+    }
+
+    /**
+     * Gets the players in turn order
+     * @return Players
+     */
+    Player[] getPlayers() {
+        return players;
+    }
+
+    /**
+     * Gets the turn-order indexes of players still in the game
+     * @return Indexes into getPlayers()
+     */
+    int[] getSolventIndexes() {
+        int count = 0;
+        for (Player player : players) {
+            if (!player.isBankrupt()) {
+                count++;
+            }
+        }
+        int[] indexes = new int[count];
+        int next = 0;
+        for (int i = 0; i < players.length; i++) {
+            if (!players[i].isBankrupt()) {
+                indexes[next++] = i;
+            }
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,99 @@
+package com.monopoly.bench.protocol;
+
+import com.monopoly.bench.GameStates;
+import com.monopoly.network.protocol.ClientCommand;
+import com.monopoly.network.protocol.Message;
+import com.monopoly.network.protocol.ProtocolHandler;
+import com.monopoly.network.protocol.ServerEvent;
+import com.monopoly.network.serialization.Serializer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of protocol messages as the server and clients see them: small
+ * commands, small events, and a 4-player mid-game STATE_UPDATE. Run with
+ * the GC profiler (on by default in the bench profile) to see bytes
+ * allocated per message.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProtocolCodecBenchmark {
+
+    private ProtocolHandler protocolHandler;
+
+    // Encoded inputs
+    private String rollDice;
+    private String build;
+    private String diceResult;
+    private String stateUpdate;
+
+    @Setup
+    public void setUp() {
+        protocolHandler = new ProtocolHandler();
+        rollDice = protocolHandler.serializeMessage(ClientCommand.createRollDice(3));
+        build = protocolHandler.serializeMessage(ClientCommand.createBuild(3, 37, "HOUSE"));
+        diceResult = protocolHandler.serializeMessage(ServerEvent.createDiceResult(4, 6));
+        String state = new Serializer().serializeGameState(GameStates.mid(4).getGameState());
+        stateUpdate = protocolHandler.serializeMessage(ServerEvent.createStateUpdate(state));
+    }
+
+    @Benchmark
+    public ClientCommand clientCommandFromJson() {
+        return ClientCommand.fromJson(rollDice);
+    }
+
+    @Benchmark
+    public ClientCommand clientCommandWithParametersFromJson() {
+        return ClientCommand.fromJson(build);
+    }
+
+    @Benchmark
+    public ServerEvent serverEventFromJson() {
+        return ServerEvent.fromJson(diceResult);
+    }
+
+    @Benchmark
+    public ServerEvent stateUpdateFromJson() {
+        return ServerEvent.fromJson(stateUpdate);
+    }
+
+    @Benchmark
+    public String extractJsonField() {
+        return Message.extractJsonField(rollDice, "type");
+    }
+
+    @Benchmark
+    public String extractJsonFieldFromStateUpdate() {
+        return Message.extractJsonField(stateUpdate, "type");
+    }
+
+    @Benchmark
+    public Message parseCommand() {
+        return protocolHandler.parseMessage(rollDice);
+    }
+
+    @Benchmark
+    public Message parseStateUpdate() {
+        return protocolHandler.parseMessage(stateUpdate);
+    }
+
+    @Benchmark
+    public String encodeCommand() {
+        return protocolHandler.serializeMessage(ClientCommand.createRollDice(3));
+    }
+}
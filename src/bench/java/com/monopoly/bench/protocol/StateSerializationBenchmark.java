@@ -0,0 +1,67 @@
+package com.monopoly.bench.protocol;
+
+import com.monopoly.bench.GameStates;
+import com.monopoly.model.game.GameState;
+import com.monopoly.network.protocol.ProtocolHandler;
+import com.monopoly.network.protocol.ServerEvent;
+import com.monopoly.network.serialization.Serializer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full game-state serialization, the payload of every STATE_UPDATE.
+ * Run with the GC profiler (on by default in the bench profile) to see
+ * bytes allocated per state.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StateSerializationBenchmark {
+
+    /** Players in the game */
+    @Param({"2", "3", "4"})
+    public int players;
+
+    private GameState state;
+    private Serializer serializer;
+    private ProtocolHandler protocolHandler;
+    private ServerEvent stateUpdate;
+
+    @Setup
+    public void setUp() {
+        state = GameStates.mid(players).getGameState();
+        serializer = new Serializer();
+        protocolHandler = new ProtocolHandler();
+        stateUpdate = ServerEvent.createStateUpdate(serializer.serializeGameState(state));
+    }
+
+    @Benchmark
+    public String serializeGameState() {
+        return serializer.serializeGameState(state);
+    }
+
+    @Benchmark
+    public String encodeStateUpdate() {
+        return protocolHandler.serializeMessage(stateUpdate);
+    }
+
+    @Benchmark
+    public String serializeAndEncode() {
+        return protocolHandler.serializeMessage(ServerEvent.createStateUpdate(serializer.serializeGameState(state)));
+    }
+}
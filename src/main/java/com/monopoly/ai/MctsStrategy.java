@@ -0,0 +1,365 @@
+package com.monopoly.ai;
+
+import com.monopoly.bot.BotStrategy;
+import com.monopoly.bot.ExpectedValueStrategy;
+import com.monopoly.bot.PropertyValuation;
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.logic.JailManager;
+import com.monopoly.model.game.Auction;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.game.Trade;
+import com.monopoly.model.player.Player;
+import com.monopoly.model.property.Property;
+import com.monopoly.network.protocol.ClientCommand;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Monte Carlo tree search bot for hard seats.
+ *
+ * Each decision with more than one sensible move is searched at the root:
+ * the moves are arms of a UCB1 bandit, and every rollout forks the game
+ * from one checkpoint, plays the chosen move, then plays every seat with
+ * the expected-value policy for a number of turns and scores the result.
+ * Rollouts run on a fork-join pool until the time budget is spent. The
+ * k-th rollout of every move uses the same dice seed, so moves are compared
+ * on the same luck.
+ */
+public final class MctsStrategy implements BotStrategy {
+
+    /** Default search time per decision in milliseconds */
+    public static final long DEFAULT_BUDGET_MS = 50;
+
+    /** Turns played by each rollout after the searched move */
+    public static final int ROLLOUT_TURNS = 60;
+
+    /** UCB1 exploration constant, for scores between 0 and 1 */
+    public static final double EXPLORATION = 0.3;
+
+    // Rollout policy, stateless and shared by every worker
+    private static final ExpectedValueStrategy POLICY = new ExpectedValueStrategy();
+
+    // Pool the rollouts run on
+    private final ForkJoinPool pool;
+
+    // Search time per decision in nanoseconds
+    private final long budgetNanos;
+
+    // Cap on rollouts per decision, 0 for none
+    private final int maxRollouts;
+
+    // Seed of the first decision; later decisions advance it
+    private long seed;
+
+    // Rollouts played for the last searched decision
+    private volatile int lastRollouts;
+
+    /**
+     * Creates a strategy searching for DEFAULT_BUDGET_MS per decision
+     * @param pool Pool to run rollouts on
+     */
+    public MctsStrategy(ForkJoinPool pool) {
+        this(pool, DEFAULT_BUDGET_MS, 0, System.nanoTime());
+    }
+
+    /**
+     * Creates a strategy
+     * @param pool Pool to run rollouts on
+     * @param budgetMillis Search time per decision
+     * @param maxRollouts Cap on rollouts per decision, 0 for none
+     * @param seed Seed of the rollout dice
+     */
+    public MctsStrategy(ForkJoinPool pool, long budgetMillis, int maxRollouts, long seed) {
+        this.pool = pool;
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.maxRollouts = maxRollouts;
+        this.seed = seed;
+    }
+
+    @Override
+    public ClientCommand decide(PropertyValuation valuation, int playerId) {
+        ArrayList<ClientCommand> moves = candidates(valuation, playerId);
+        if (moves.isEmpty()) {
+            return null;
+        }
+        if (moves.size() == 1) {
+            return moves.get(0);
+        }
+
+        RootSearch search = new RootSearch(moves, playerId, valuation.getGameState().checkpoint(), nextSeed());
+        long deadline = System.nanoTime() + budgetNanos;
+        pool.invoke(new RolloutBatch(search, deadline, maxRollouts, Math.max(1, pool.getParallelism())));
+        lastRollouts = search.getRollouts();
+        return moves.get(search.best());
+    }
+
+    /**
+     * Gets the number of rollouts played for the last searched decision
+     * @return Rollout count
+     */
+    public int getLastRollouts() {
+        return lastRollouts;
+    }
+
+    private synchronized long nextSeed() {
+        seed += 0x9E3779B97F4A7C15L;
+        return seed;
+    }
+
+    // ==================== Candidate moves ====================
+
+    /**
+     * Lists the moves worth searching for a seat: the expected-value move,
+     * the phase's safe move, and the bolder alternatives of the phase
+     * @param valuation Valuations of the bot's room (refreshed by the caller)
+     * @param playerId The bot's player ID
+     * @return Distinct candidate commands, empty if the seat waits
+     */
+    public ArrayList<ClientCommand> candidates(PropertyValuation valuation, int playerId) {
+        ArrayList<ClientCommand> moves = new ArrayList<>();
+        GameState state = valuation.getGameState();
+        Player player = state.getPlayer(playerId);
+        if (player == null || player.isBankrupt()) {
+            return moves;
+        }
+        add(moves, POLICY.decide(valuation, playerId));
+        add(moves, BotStrategy.fallback(state, playerId));
+        if (moves.isEmpty()) {
+            return moves;
+        }
+
+        switch (state.getTurnPhase()) {
+            case PROPERTY_DECISION:
+                if (player.getMoney() >= valuation.getPrice(player.getPosition())) {
+                    add(moves, ClientCommand.createBuyProperty(playerId, player.getPosition()));
+                }
+                add(moves, ClientCommand.createDeclineBuy(playerId));
+                break;
+            case AUCTION:
+                addBids(moves, valuation, player, state.getActiveAuction());
+                break;
+            case TRADING:
+                Trade trade = state.getActiveTrade();
+                if (trade != null && trade.getReceiverId() == playerId) {
+                    add(moves, ClientCommand.createAcceptTrade(playerId));
+                }
+                break;
+            case PRE_ROLL:
+                add(moves, ClientCommand.createRollDice(playerId));
+                if (player.isInJail()) {
+                    if (player.getJailFreeCards() > 0) {
+                        add(moves, ClientCommand.createJailUseCard(playerId));
+                    } else if (player.getMoney() >= JailManager.JAIL_FINE) {
+                        add(moves, ClientCommand.createJailPayFine(playerId));
+                    }
+                }
+                addBuild(moves, valuation, player);
+                break;
+            case POST_ROLL:
+                add(moves, ClientCommand.createEndTurn(playerId));
+                addBuild(moves, valuation, player);
+                break;
+            default:
+                break;
+        }
+        return moves;
+    }
+
+    private void addBids(ArrayList<ClientCommand> moves, PropertyValuation valuation, Player player, Auction auction) {
+        if (auction == null || auction.getCurrentHighBidder() == player.getId()) {
+            return;
+        }
+        int playerId = player.getId();
+        int position = auction.getProperty().getId();
+        int minimum = auction.getMinimumNextBid();
+        add(moves, ClientCommand.createPassBid(playerId));
+        int[] bids = {minimum, POLICY.maxBid(valuation, player, position), valuation.getPrice(position)};
+        for (int i = 0; i < bids.length; i++) {
+            if (bids[i] >= minimum && bids[i] <= player.getMoney()) {
+                add(moves, ClientCommand.createBid(playerId, bids[i]));
+            }
+        }
+    }
+
+    /**
+     * Adds the best building the player can pay for, even below their cash reserve
+     */
+    private void addBuild(ArrayList<ClientCommand> moves, PropertyValuation valuation, Player player) {
+        int build = POLICY.chooseBuild(valuation, player.getId());
+        if (build < 0) {
+            return;
+        }
+        Property street = valuation.getStreet(build);
+        boolean hotel = street.getNumberOfHouses() == 4;
+        if (player.getMoney() > (hotel ? street.getHotelCost() : street.getHouseCost())) {
+            add(moves, ClientCommand.createBuild(player.getId(), build, hotel ? "hotel" : "house"));
+        }
+    }
+
+    /**
+     * Adds a move unless an equal one is already listed
+     */
+    private static void add(ArrayList<ClientCommand> moves, ClientCommand move) {
+        if (move == null) {
+            return;
+        }
+        for (int i = 0; i < moves.size(); i++) {
+            ClientCommand other = moves.get(i);
+            if (other.getCommandType() == move.getCommandType()
+                    && other.getIntParameter("propertyId", -1) == move.getIntParameter("propertyId", -1)
+                    && other.getIntParameter("amount", -1) == move.getIntParameter("amount", -1)) {
+                return;
+            }
+        }
+        moves.add(move);
+    }
+
+    // ==================== Search ====================
+
+    /**
+     * Root statistics of one decision, shared by the rollout workers
+     */
+    private static final class RootSearch {
+
+        // Moves being compared
+        private final ArrayList<ClientCommand> moves;
+
+        // Seat the search plays for
+        private final int playerId;
+
+        // Position every rollout forks from
+        private final byte[] checkpoint;
+
+        // Seed of the decision's first rollout round
+        private final long seed;
+
+        // Rollouts and summed scores per move
+        private final int[] visits;
+        private final double[] totals;
+
+        // Rollouts handed out so far
+        private int rollouts;
+
+        RootSearch(ArrayList<ClientCommand> moves, int playerId, byte[] checkpoint, long seed) {
+            this.moves = moves;
+            this.playerId = playerId;
+            this.checkpoint = checkpoint;
+            this.seed = seed;
+            this.visits = new int[moves.size()];
+            this.totals = new double[moves.size()];
+        }
+
+        /**
+         * Picks the next move to roll out by UCB1, unvisited moves first
+         * @param cap Rollout cap, 0 for none
+         * @return Move index in the high half and its round in the low half,
+         *         or -1 once the cap is reached
+         */
+        synchronized long select(int cap) {
+            if (cap > 0 && rollouts >= cap) {
+                return -1;
+            }
+            int arm = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            double logTotal = Math.log(Math.max(1, rollouts));
+            for (int i = 0; i < visits.length; i++) {
+                if (visits[i] == 0) {
+                    arm = i;
+                    break;
+                }
+                double score = totals[i] / visits[i] + EXPLORATION * Math.sqrt(logTotal / visits[i]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    arm = i;
+                }
+            }
+            int round = visits[arm];
+            // Counted now so concurrent workers spread over the moves
+            visits[arm]++;
+            rollouts++;
+            return ((long) arm << 32) | round;
+        }
+
+        synchronized void update(int arm, double score) {
+            totals[arm] += score;
+        }
+
+        synchronized int best() {
+            int best = 0;
+            double bestMean = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < visits.length; i++) {
+                double mean = visits[i] == 0 ? 0.0 : totals[i] / visits[i];
+                if (mean > bestMean) {
+                    bestMean = mean;
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        synchronized int getRollouts() {
+            return rollouts;
+        }
+
+        /**
+         * Plays one rollout of a move
+         * @param arm Move index
+         * @param round The move's rollout round, which fixes the dice seed
+         * @return Score for the searching seat
+         */
+        double rollout(int arm, int round) {
+            Simulation simulation = Simulation.fork(checkpoint, seed + round * 0xBF58476D1CE4E5B9L, POLICY);
+            if (!simulation.apply(playerId, moves.get(arm))) {
+                return 0.0;
+            }
+            simulation.playOut(ROLLOUT_TURNS);
+            return simulation.score(playerId);
+        }
+    }
+
+    /**
+     * Rollout worker; the root task splits into one worker per pool thread
+     */
+    private static final class RolloutBatch extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        // Shared statistics
+        private final transient RootSearch search;
+
+        // System.nanoTime() at which workers stop starting rollouts
+        private final long deadline;
+
+        // Cap on rollouts per decision, 0 for none
+        private final int maxRollouts;
+
+        // Workers this task still has to split into
+        private final int workers;
+
+        RolloutBatch(RootSearch search, long deadline, int maxRollouts, int workers) {
+            this.search = search;
+            this.deadline = deadline;
+            this.maxRollouts = maxRollouts;
+            this.workers = workers;
+        }
+
+        @Override
+        protected void compute() {
+            if (workers > 1) {
+                int half = workers / 2;
+                invokeAll(new RolloutBatch(search, deadline, maxRollouts, half),
+                          new RolloutBatch(search, deadline, maxRollouts, workers - half));
+                return;
+            }
+            while (System.nanoTime() < deadline) {
+                long selected = search.select(maxRollouts);
+                if (selected < 0) {
+                    return;
+                }
+                int arm = (int) (selected >>> 32);
+                search.update(arm, search.rollout(arm, (int) selected));
+            }
+        }
+    }
+}
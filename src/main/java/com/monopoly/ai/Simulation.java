@@ -0,0 +1,184 @@
+package com.monopoly.ai;
+
+import com.monopoly.bot.BotStrategy;
+import com.monopoly.bot.PropertyValuation;
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.logic.BankruptcyManager;
+import com.monopoly.logic.TurnEngine;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+import com.monopoly.network.protocol.ClientCommand;
+import com.monopoly.network.protocol.ProtocolHandler;
+
+/**
+ * A private copy of a game played forward without a room.
+ *
+ * Commands go through the same TurnEngine as GameController, but with no
+ * listener: nothing is broadcast, journaled or logged, and no ServerEvent
+ * or message text is ever built. Every seat is played by one rollout
+ * policy. A simulation is confined to the thread that forked it.
+ */
+public final class Simulation {
+
+    /** Commands a seat may send in one turn before it is made to move on */
+    public static final int MAX_COMMANDS_PER_TURN = 50;
+
+    // Phase rules, read-only and shared by every simulation
+    private static final ProtocolHandler RULES = new ProtocolHandler();
+
+    // The copy being played, and the room rules it is played by
+    private final GameState state;
+    private final TurnEngine engine;
+    private final BankruptcyManager bankruptcyManager;
+
+    // Policy that plays every seat, and its valuations of the copy
+    private final BotStrategy policy;
+    private final PropertyValuation valuation;
+
+    // Set once a single player is left
+    private boolean ended;
+
+    // Commands sent in the current turn
+    private int commandTurn;
+    private int commands;
+
+    private Simulation(GameState state, BotStrategy policy) {
+        this.state = state;
+        this.engine = new TurnEngine(state, RULES);
+        this.bankruptcyManager = engine.getBankruptcyManager();
+        this.policy = policy;
+        this.valuation = new PropertyValuation(state);
+        this.ended = state.isGameOver();
+        this.commandTurn = state.getTurnNumber();
+    }
+
+    /**
+     * Forks a game from a checkpoint. The copy gets its own dice seed and
+     * reshuffled decks, so it knows neither the real dice sequence nor the
+     * real draw order.
+     * @param checkpoint Bytes from GameState.checkpoint()
+     * @param seed Seed of this copy's dice and decks
+     * @param policy Policy for every seat
+     * @return New simulation
+     */
+    public static Simulation fork(byte[] checkpoint, long seed, BotStrategy policy) {
+        GameState state = GameState.restore(checkpoint);
+        state.getDice().setRngState(seed);
+        state.shuffleDecks(Long.rotateLeft(seed, 32));
+        return new Simulation(state, policy);
+    }
+
+    // ==================== Play ====================
+
+    /**
+     * Plays the game forward with the policy until it ends, a number of
+     * turns have passed or no seat can move
+     * @param turns Turns to play
+     */
+    public void playOut(int turns) {
+        int lastTurn = state.getTurnNumber() + turns;
+        int steps = turns * MAX_COMMANDS_PER_TURN;
+        while (!ended && state.getTurnNumber() < lastTurn && steps-- > 0) {
+            if (!step()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Applies the next command of the first seat that has one. A rejected
+     * command is replaced by the phase's fallback, as is every command past
+     * MAX_COMMANDS_PER_TURN.
+     * @return true if a command was applied
+     */
+    private boolean step() {
+        valuation.refresh();
+        ArrayList<Integer> order = state.getPlayerOrder();
+        for (int i = 0; i < order.size(); i++) {
+            int playerId = order.get(i);
+            Player player = state.getPlayer(playerId);
+            if (player == null || player.isBankrupt()) {
+                continue;
+            }
+            ClientCommand command = policy.decide(valuation, playerId);
+            if (command == null) {
+                continue;
+            }
+
+            if (commandTurn != state.getTurnNumber()) {
+                commandTurn = state.getTurnNumber();
+                commands = 0;
+            }
+            if (++commands > MAX_COMMANDS_PER_TURN) {
+                command = BotStrategy.fallback(state, playerId);
+            }
+            if (command != null && apply(playerId, command)) {
+                return true;
+            }
+            ClientCommand fallback = BotStrategy.fallback(state, playerId);
+            if (fallback != null && apply(playerId, fallback)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Scores the position for a player: 1 for a win, 0 once bankrupt,
+     * otherwise their share of the solvent players' liquidation value
+     * @param playerId The player
+     * @return Score between 0 and 1
+     */
+    public double score(int playerId) {
+        Player player = state.getPlayer(playerId);
+        if (player == null || player.isBankrupt()) {
+            return 0.0;
+        }
+        if (ended) {
+            return 1.0;
+        }
+        ArrayList<Integer> order = state.getPlayerOrder();
+        double total = 0.0;
+        for (int i = 0; i < order.size(); i++) {
+            Player other = state.getPlayer(order.get(i));
+            if (other != null && !other.isBankrupt()) {
+                total += Math.max(0, bankruptcyManager.getTotalLiquidationValue(other.getId()));
+            }
+        }
+        int own = Math.max(0, bankruptcyManager.getTotalLiquidationValue(playerId));
+        return total > 0.0 ? own / total : 0.0;
+    }
+
+    /**
+     * Checks if a single player is left
+     * @return true once the game is over
+     */
+    public boolean isEnded() {
+        return ended;
+    }
+
+    /**
+     * Gets the copy being played
+     * @return Game state
+     */
+    public GameState getGameState() {
+        return state;
+    }
+
+    // ==================== Commands ====================
+
+    /**
+     * Applies a command with the room rules
+     * @param playerId Sending player
+     * @param command Command
+     * @return true if the command was accepted
+     */
+    public boolean apply(int playerId, ClientCommand command) {
+        if (ended) {
+            return false;
+        }
+        boolean accepted = engine.apply(playerId, command);
+        ended = state.isGameOver();
+        return accepted;
+    }
+}
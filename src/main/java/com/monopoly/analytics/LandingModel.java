@@ -0,0 +1,472 @@
+package com.monopoly.analytics;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.logic.JailManager;
+import com.monopoly.model.card.Card;
+import com.monopoly.model.card.ChanceCard;
+import com.monopoly.model.card.CommunityChestCard;
+import com.monopoly.model.game.Board;
+import com.monopoly.model.game.Dice;
+import com.monopoly.model.property.Property;
+import com.monopoly.model.tile.RailroadTile;
+import com.monopoly.model.tile.TileType;
+import com.monopoly.model.tile.UtilityTile;
+
+/**
+ * Long-run landing frequencies of the board, computed once as the
+ * stationary distribution of a Markov chain and then queried in O(1).
+ *
+ * A state is where the next roll starts from: a board position together
+ * with the doubles already rolled this turn (0-2), or a jail state counting
+ * the failed release rolls so far. Each roll of two dice moves the player,
+ * and the tile reached is settled: Go To Jail sends the player to jail,
+ * Chance and Community Chest draw one card from a uniformly shuffled deck
+ * (movement cards move the player once more, without a second draw), and
+ * the third doubles of a turn goes to jail. In jail the player always rolls
+ * for doubles and pays the fine on the last allowed turn, which is the
+ * usual long-game play. The chain is solved by power iteration.
+ *
+ * Rent estimates are per opponent turn: the expected landings of one
+ * opponent on a tile during one of its turns, times the rent charged.
+ */
+public final class LandingModel {
+
+    /** Rent level of a property without buildings or color set */
+    public static final int LEVEL_BASE = 0;
+
+    /** Rent level of a property whose owner holds the whole color set */
+    public static final int LEVEL_COLOR_SET = 1;
+
+    /** Rent level of a property with one house; n houses is LEVEL_ONE_HOUSE + n - 1 */
+    public static final int LEVEL_ONE_HOUSE = 2;
+
+    /** Rent level of a property with a hotel */
+    public static final int LEVEL_HOTEL = 6;
+
+    /** Number of rent levels per tile */
+    public static final int LEVEL_COUNT = 7;
+
+    /** Mean total of two dice, used for utility rent */
+    public static final double MEAN_DICE_TOTAL = (Dice.MIN_VALUE + Dice.MAX_VALUE);
+
+    /** Power iteration stops once a step changes the distribution less than this (L1) */
+    public static final double TOLERANCE = 1e-13;
+
+    /** Power iteration gives up after this many steps */
+    public static final int MAX_ITERATIONS = 10_000;
+
+    // Roll states per board position (doubles already rolled this turn)
+    private static final int DOUBLES_STATES = Dice.MAX_DOUBLES;
+
+    // Destination index meaning "sent to jail" in settled-move distributions
+    private static final int TO_JAIL = Board.BOARD_SIZE;
+
+    // Share of moves ending on each position
+    private final double[] landingProbability;
+
+    // Expected landings on each position per turn
+    private final double[] landingsPerTurn;
+
+    // Share of turns started in jail
+    private final double jailProbability;
+
+    // Expected rent per opponent turn, by position and rent level
+    private final double[][] expectedRent;
+
+    // Power iteration steps the solution took
+    private final int iterations;
+
+    private LandingModel(double[] landingProbability, double[] landingsPerTurn,
+                         double jailProbability, double[][] expectedRent, int iterations) {
+        this.landingProbability = landingProbability;
+        this.landingsPerTurn = landingsPerTurn;
+        this.jailProbability = jailProbability;
+        this.expectedRent = expectedRent;
+        this.iterations = iterations;
+    }
+
+    /**
+     * Holds the model of the standard board, computed on first use
+     */
+    private static final class Standard {
+        static final LandingModel MODEL = compute(new Board(), ChanceCard.createStandardDeck(),
+            CommunityChestCard.createStandardDeck(), JailManager.MAX_TURNS_IN_JAIL);
+    }
+
+    /**
+     * Gets the model of the standard board and decks, computing it on the
+     * first call
+     * @return Shared model
+     */
+    public static LandingModel standard() {
+        return Standard.MODEL;
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Gets the share of moves that end on a position
+     * @param position Board position
+     * @return Probability in [0, 1] (0 for positions off the board)
+     */
+    public double getLandingProbability(int position) {
+        return onBoard(position) ? landingProbability[position] : 0.0;
+    }
+
+    /**
+     * Gets the expected number of times a player lands on a position during
+     * one turn (doubles give a turn several moves)
+     * @param position Board position
+     * @return Expected landings per turn
+     */
+    public double getLandingsPerTurn(int position) {
+        return onBoard(position) ? landingsPerTurn[position] : 0.0;
+    }
+
+    /**
+     * Gets the share of turns a player starts in jail
+     * @return Probability in [0, 1]
+     */
+    public double getJailProbability() {
+        return jailProbability;
+    }
+
+    /**
+     * Gets the number of power iteration steps the model took
+     * @return Iteration count
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Gets the expected rent a tile earns per opponent turn at a rent level.
+     * Levels are LEVEL_* for properties, railroads owned minus one for
+     * railroads, and utilities owned minus one for utilities.
+     * @param position Board position
+     * @param level Rent level
+     * @return Expected rent (0 for tiles charging no rent)
+     */
+    public double expectedRent(int position, int level) {
+        if (!onBoard(position) || level < 0 || level >= LEVEL_COUNT) {
+            return 0.0;
+        }
+        return expectedRent[position][level];
+    }
+
+    /**
+     * Gets the expected rent a property earns per opponent turn as it
+     * currently stands
+     * @param property The property
+     * @param ownsColorSet Whether its owner holds the whole color set
+     * @return Expected rent (0 if mortgaged)
+     */
+    public double expectedPropertyRent(Property property, boolean ownsColorSet) {
+        if (property == null || property.isMortgaged()) {
+            return 0.0;
+        }
+        return expectedRent(property.getId(),
+            rentLevel(property.getNumberOfHouses(), property.hasHotel(), ownsColorSet));
+    }
+
+    /**
+     * Gets the expected rent a railroad earns per opponent turn
+     * @param position Position of the railroad
+     * @param railroadsOwned Railroads held by its owner (1-4)
+     * @return Expected rent
+     */
+    public double expectedRailroadRent(int position, int railroadsOwned) {
+        return expectedRent(position, railroadsOwned - 1);
+    }
+
+    /**
+     * Gets the expected rent a utility earns per opponent turn
+     * @param position Position of the utility
+     * @param utilitiesOwned Utilities held by its owner (1-2)
+     * @return Expected rent
+     */
+    public double expectedUtilityRent(int position, int utilitiesOwned) {
+        return expectedRent(position, utilitiesOwned - 1);
+    }
+
+    /**
+     * Gets the rent level of a building configuration
+     * @param houses Number of houses (ignored with a hotel)
+     * @param hotel Whether there is a hotel
+     * @param ownsColorSet Whether the owner holds the whole color set
+     * @return Rent level
+     */
+    public static int rentLevel(int houses, boolean hotel, boolean ownsColorSet) {
+        if (hotel) {
+            return LEVEL_HOTEL;
+        }
+        if (houses > 0) {
+            return LEVEL_ONE_HOUSE + Math.min(houses, 4) - 1;
+        }
+        return ownsColorSet ? LEVEL_COLOR_SET : LEVEL_BASE;
+    }
+
+    private static boolean onBoard(int position) {
+        return position >= 0 && position < Board.BOARD_SIZE;
+    }
+
+    // ==================== Computation ====================
+
+    /**
+     * Computes the model of a board
+     * @param board The board
+     * @param chance Chance deck
+     * @param communityChest Community Chest deck
+     * @param maxJailTurns Release rolls allowed before the fine is due
+     * @return Model
+     */
+    public static LandingModel compute(Board board, ArrayList<? extends Card> chance,
+                                       ArrayList<? extends Card> communityChest, int maxJailTurns) {
+        double[][] settled = settleTable(board, chance, communityChest);
+        int jailStates = Math.max(1, maxJailTurns);
+        int rollStates = Board.BOARD_SIZE * DOUBLES_STATES;
+        int states = rollStates + jailStates;
+
+        // Per state: chance of each next state, expected landings per position
+        double[][] transition = new double[states][states];
+        double[][] landings = new double[states][Board.BOARD_SIZE];
+        double rollChance = 1.0 / ((Dice.MAX_VALUE - Dice.MIN_VALUE + 1) * (Dice.MAX_VALUE - Dice.MIN_VALUE + 1));
+
+        for (int position = 0; position < Board.BOARD_SIZE; position++) {
+            for (int doubles = 0; doubles < DOUBLES_STATES; doubles++) {
+                int state = rollState(position, doubles);
+                for (int die1 = Dice.MIN_VALUE; die1 <= Dice.MAX_VALUE; die1++) {
+                    for (int die2 = Dice.MIN_VALUE; die2 <= Dice.MAX_VALUE; die2++) {
+                        boolean isDoubles = die1 == die2;
+                        if (isDoubles && doubles == DOUBLES_STATES - 1) {
+                            // Speeding
+                            transition[state][rollStates] += rollChance;
+                            landings[state][Board.JAIL_POSITION] += rollChance;
+                            continue;
+                        }
+                        int target = board.normalizePosition(position + die1 + die2);
+                        move(transition[state], landings[state], settled[target], rollChance,
+                             isDoubles ? doubles + 1 : 0, rollStates);
+                    }
+                }
+            }
+        }
+
+        for (int jailTurn = 0; jailTurn < jailStates; jailTurn++) {
+            int state = rollStates + jailTurn;
+            for (int die1 = Dice.MIN_VALUE; die1 <= Dice.MAX_VALUE; die1++) {
+                for (int die2 = Dice.MIN_VALUE; die2 <= Dice.MAX_VALUE; die2++) {
+                    if (die1 != die2 && jailTurn < jailStates - 1) {
+                        transition[state][state + 1] += rollChance;
+                        continue;
+                    }
+                    // Released by doubles (no extra roll) or by paying the fine
+                    int target = board.normalizePosition(Board.JAIL_POSITION + die1 + die2);
+                    move(transition[state], landings[state], settled[target], rollChance, 0, rollStates);
+                }
+            }
+        }
+
+        double[] distribution = new double[states];
+        int iterations = solve(transition, distribution);
+
+        // Turns start from states with no doubles rolled yet, or in jail
+        double turnStarts = 0.0;
+        double inJail = 0.0;
+        double[] landingRate = new double[Board.BOARD_SIZE];
+        for (int state = 0; state < states; state++) {
+            double share = distribution[state];
+            if (state >= rollStates) {
+                inJail += share;
+                turnStarts += share;
+            } else if (state % DOUBLES_STATES == 0) {
+                turnStarts += share;
+            }
+            for (int position = 0; position < Board.BOARD_SIZE; position++) {
+                landingRate[position] += share * landings[state][position];
+            }
+        }
+
+        double moves = 0.0;
+        for (int position = 0; position < Board.BOARD_SIZE; position++) {
+            moves += landingRate[position];
+        }
+        double[] landingProbability = new double[Board.BOARD_SIZE];
+        double[] landingsPerTurn = new double[Board.BOARD_SIZE];
+        for (int position = 0; position < Board.BOARD_SIZE; position++) {
+            landingProbability[position] = landingRate[position] / moves;
+            landingsPerTurn[position] = landingRate[position] / turnStarts;
+        }
+
+        return new LandingModel(landingProbability, landingsPerTurn, inJail / turnStarts,
+            rentTable(board, landingsPerTurn), iterations);
+    }
+
+    /**
+     * Index of the state rolling from a position after some doubles
+     */
+    private static int rollState(int position, int doubles) {
+        return position * DOUBLES_STATES + doubles;
+    }
+
+    /**
+     * Adds one move to the rows of a state, spreading it over the
+     * destinations the reached tile settles to
+     */
+    private static void move(double[] transitionRow, double[] landingRow, double[] settled,
+                             double chance, int doubles, int rollStates) {
+        for (int destination = 0; destination <= TO_JAIL; destination++) {
+            double share = settled[destination] * chance;
+            if (share == 0.0) {
+                continue;
+            }
+            if (destination == TO_JAIL) {
+                transitionRow[rollStates] += share;
+                landingRow[Board.JAIL_POSITION] += share;
+            } else {
+                transitionRow[rollState(destination, doubles)] += share;
+                landingRow[destination] += share;
+            }
+        }
+    }
+
+    /**
+     * Computes, for each tile, where a player reaching it ends up after
+     * the tile's own move (Go To Jail, card draws)
+     * @return Per position, chance of each destination (TO_JAIL last)
+     */
+    private static double[][] settleTable(Board board, ArrayList<? extends Card> chance,
+                                          ArrayList<? extends Card> communityChest) {
+        double[][] settled = new double[Board.BOARD_SIZE][TO_JAIL + 1];
+        for (int position = 0; position < Board.BOARD_SIZE; position++) {
+            switch (board.getTile(position).getTileType()) {
+                case GO_TO_JAIL:
+                    settled[position][TO_JAIL] = 1.0;
+                    break;
+                case CHANCE:
+                    drawCard(board, position, chance, settled[position]);
+                    break;
+                case COMMUNITY_CHEST:
+                    drawCard(board, position, communityChest, settled[position]);
+                    break;
+                default:
+                    settled[position][position] = 1.0;
+                    break;
+            }
+        }
+        return settled;
+    }
+
+    /**
+     * Spreads a card draw over the destinations of the deck's cards
+     */
+    private static void drawCard(Board board, int position, ArrayList<? extends Card> deck, double[] settled) {
+        if (deck == null || deck.isEmpty()) {
+            settled[position] = 1.0;
+            return;
+        }
+        double chance = 1.0 / deck.size();
+        for (int i = 0; i < deck.size(); i++) {
+            int destination = cardDestination(board, position, deck.get(i));
+            // The new tile is resolved but never draws another card
+            if (destination != TO_JAIL
+                    && board.getTile(destination).getTileType() == TileType.GO_TO_JAIL) {
+                destination = TO_JAIL;
+            }
+            settled[destination] += chance;
+        }
+    }
+
+    /**
+     * Gets where a card sends a player drawing it on a position
+     */
+    private static int cardDestination(Board board, int position, Card card) {
+        switch (card.getEffect()) {
+            case ADVANCE_TO:
+                return board.normalizePosition(card.getPrimaryValue());
+            case ADVANCE_TO_GO:
+                return Board.GO_POSITION;
+            case ADVANCE_TO_NEAREST_RAILROAD:
+                return board.findNearestRailroad(position);
+            case ADVANCE_TO_NEAREST_UTILITY:
+                return board.findNearestUtility(position);
+            case GO_BACK:
+                return board.normalizePosition(position - card.getPrimaryValue());
+            case GO_TO_JAIL:
+                return TO_JAIL;
+            default:
+                return position;
+        }
+    }
+
+    /**
+     * Finds the stationary distribution by power iteration from the
+     * uniform distribution
+     * @return Steps taken
+     */
+    private static int solve(double[][] transition, double[] distribution) {
+        int states = distribution.length;
+        for (int i = 0; i < states; i++) {
+            distribution[i] = 1.0 / states;
+        }
+        double[] next = new double[states];
+        for (int iteration = 1; iteration <= MAX_ITERATIONS; iteration++) {
+            for (int j = 0; j < states; j++) {
+                next[j] = 0.0;
+            }
+            for (int i = 0; i < states; i++) {
+                double share = distribution[i];
+                if (share == 0.0) {
+                    continue;
+                }
+                double[] row = transition[i];
+                for (int j = 0; j < states; j++) {
+                    next[j] += share * row[j];
+                }
+            }
+            double change = 0.0;
+            for (int j = 0; j < states; j++) {
+                change += Math.abs(next[j] - distribution[j]);
+                distribution[j] = next[j];
+            }
+            if (change < TOLERANCE) {
+                return iteration;
+            }
+        }
+        return MAX_ITERATIONS;
+    }
+
+    /**
+     * Multiplies each tile's landings per turn by its rent at every level
+     */
+    private static double[][] rentTable(Board board, double[] landingsPerTurn) {
+        double[][] table = new double[Board.BOARD_SIZE][LEVEL_COUNT];
+        for (int position = 0; position < Board.BOARD_SIZE; position++) {
+            double landings = landingsPerTurn[position];
+            double[] rents = table[position];
+            switch (board.getTile(position).getTileType()) {
+                case PROPERTY:
+                    Property property = board.getProperty(position);
+                    rents[LEVEL_BASE] = landings * property.getBaseRent();
+                    rents[LEVEL_COLOR_SET] = landings * property.getRentWithColorSet();
+                    for (int houses = 1; houses <= 4; houses++) {
+                        rents[LEVEL_ONE_HOUSE + houses - 1] = landings * property.getRentWithHouses(houses);
+                    }
+                    rents[LEVEL_HOTEL] = landings * property.getRentWithHotel();
+                    break;
+                case RAILROAD:
+                    for (int owned = 0; owned < RailroadTile.RENT_BY_COUNT.length; owned++) {
+                        rents[owned] = landings * RailroadTile.RENT_BY_COUNT[owned];
+                    }
+                    break;
+                case UTILITY:
+                    rents[0] = landings * UtilityTile.MULTIPLIER_ONE_UTILITY * MEAN_DICE_TOTAL;
+                    rents[1] = landings * UtilityTile.MULTIPLIER_BOTH_UTILITIES * MEAN_DICE_TOTAL;
+                    break;
+                default:
+                    break;
+            }
+        }
+        return table;
+    }
+}
@@ -0,0 +1,176 @@
+package com.monopoly.analytics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Scans a file written by TurnStatsWriter one row group at a time.
+ * Each group is decoded straight into primitive column arrays that are
+ * reused across groups, so a scan needs memory for one group only.
+ */
+public class TurnStatsReader implements AutoCloseable {
+
+    // Input file
+    private final FileChannel channel;
+
+    // Raw bytes of the current group
+    private ByteBuffer buffer;
+
+    // Columns of the current group (valid up to rows)
+    private final short[] games;
+    private final int[] turns;
+    private final int[] players;
+    private final byte[] positions;
+    private final int[] money;
+    private final int[] rentPaid;
+    private final byte[] cardTypes;
+    private final byte[] cardIds;
+    private int rows;
+
+    // Room IDs of the current group
+    private String[] gameIds;
+
+    /**
+     * Opens a stats file
+     * @param file Stats file
+     * @throws IOException if it cannot be read or is not a stats file
+     */
+    public TurnStatsReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        int size = TurnStatsWriter.ROW_GROUP_SIZE;
+        this.games = new short[size];
+        this.turns = new int[size];
+        this.players = new int[size];
+        this.positions = new byte[size];
+        this.money = new int[size];
+        this.rentPaid = new int[size];
+        this.cardTypes = new byte[size];
+        this.cardIds = new byte[size];
+        this.gameIds = new String[0];
+        this.buffer = ByteBuffer.allocateDirect(size * TurnStatsWriter.ROW_BYTES + 4096)
+                                .order(ByteOrder.LITTLE_ENDIAN);
+
+        if (!read(8) || buffer.getInt() != TurnStatsWriter.FILE_MAGIC) {
+            throw new IOException("Not a turn stats file: " + file);
+        }
+        int version = buffer.getInt();
+        if (version != TurnStatsWriter.VERSION) {
+            throw new IOException("Unsupported turn stats version " + version);
+        }
+    }
+
+    /**
+     * Loads the next row group
+     * @return false at the end of the file
+     * @throws IOException if the file is truncated or corrupt
+     */
+    public boolean nextGroup() throws IOException {
+        if (!read(12)) {
+            rows = 0;
+            return false;
+        }
+        if (buffer.getInt() != TurnStatsWriter.GROUP_MAGIC) {
+            throw new IOException("Corrupt row group at " + (channel.position() - 12));
+        }
+        rows = buffer.getInt();
+        int length = buffer.getInt();
+        if (rows < 0 || rows > TurnStatsWriter.ROW_GROUP_SIZE || !read(length)) {
+            throw new IOException("Truncated row group at " + (channel.position() - 12));
+        }
+
+        gameIds = new String[buffer.getShort()];
+        for (int i = 0; i < gameIds.length; i++) {
+            byte[] name = new byte[buffer.getShort()];
+            buffer.get(name);
+            gameIds[i] = new String(name, StandardCharsets.UTF_8);
+        }
+        buffer.asShortBuffer().get(games, 0, rows);
+        buffer.position(buffer.position() + rows * 2);
+        buffer.asIntBuffer().get(turns, 0, rows);
+        buffer.position(buffer.position() + rows * 4);
+        buffer.asIntBuffer().get(players, 0, rows);
+        buffer.position(buffer.position() + rows * 4);
+        buffer.get(positions, 0, rows);
+        buffer.asIntBuffer().get(money, 0, rows);
+        buffer.position(buffer.position() + rows * 4);
+        buffer.asIntBuffer().get(rentPaid, 0, rows);
+        buffer.position(buffer.position() + rows * 4);
+        buffer.get(cardTypes, 0, rows);
+        buffer.get(cardIds, 0, rows);
+        return true;
+    }
+
+    /**
+     * Reads exactly count bytes into the buffer and flips it
+     * @return false if the file ended cleanly before any byte was read
+     */
+    private boolean read(int count) throws IOException {
+        if (buffer.capacity() < count) {
+            buffer = ByteBuffer.allocateDirect(count).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        buffer.clear().limit(count);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                if (buffer.position() == 0) {
+                    return false;
+                }
+                throw new IOException("Unexpected end of turn stats file");
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+
+    // ==================== Current Group ====================
+
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the room ID of a row in the current group
+     * @param row Row index
+     * @return Room ID
+     */
+    public String getGameId(int row) {
+        return gameIds[games[row]];
+    }
+
+    public int[] getTurns() {
+        return turns;
+    }
+
+    public int[] getPlayers() {
+        return players;
+    }
+
+    public byte[] getPositions() {
+        return positions;
+    }
+
+    public int[] getMoney() {
+        return money;
+    }
+
+    public int[] getRentPaid() {
+        return rentPaid;
+    }
+
+    public byte[] getCardTypes() {
+        return cardTypes;
+    }
+
+    public byte[] getCardIds() {
+        return cardIds;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,207 @@
+package com.monopoly.analytics;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.datastructures.HashTable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams per-turn facts into a columnar file.
+ * Rows are buffered in primitive column arrays and written out as a row
+ * group every ROW_GROUP_SIZE rows, so memory stays bounded however many
+ * games are exported. Inside a group each column is one contiguous
+ * little-endian array, which a reader can scan without decoding rows.
+ *
+ * File layout: [int FILE_MAGIC][int VERSION] followed by row groups:
+ * [int GROUP_MAGIC][int rows][int byteLength][game dictionary][columns].
+ * The game dictionary is [short count] then each room ID as
+ * [short length][UTF-8 bytes]; the game column indexes into it. Columns
+ * follow in this order: game (short), turn (int), player (int),
+ * position (byte), money (int), rent paid (int), card type (byte,
+ * -1 if no card), card ID (byte).
+ * Writers may be shared by several rooms; append() is synchronized.
+ */
+public class TurnStatsWriter implements AutoCloseable {
+
+    /** File magic ("MTS1") */
+    public static final int FILE_MAGIC = 0x4D545331;
+
+    /** Row group magic ("RGRP") */
+    public static final int GROUP_MAGIC = 0x52475250;
+
+    /** Format version */
+    public static final int VERSION = 1;
+
+    /** Rows per row group */
+    public static final int ROW_GROUP_SIZE = 65536;
+
+    /** Bytes per row across all columns */
+    static final int ROW_BYTES = 2 + 4 + 4 + 1 + 4 + 4 + 1 + 1;
+
+    // Output file
+    private final FileChannel channel;
+
+    // Column buffers of the open row group
+    private final short[] games;
+    private final int[] turns;
+    private final int[] players;
+    private final byte[] positions;
+    private final int[] money;
+    private final int[] rentPaid;
+    private final byte[] cardTypes;
+    private final byte[] cardIds;
+    private int rows;
+
+    // Room IDs of the open row group, and their dictionary index
+    private final ArrayList<String> gameIds;
+    private final HashTable<String, Integer> gameIndex;
+
+    // Reused encoding buffer
+    private ByteBuffer buffer;
+
+    // Rows written so far (all groups)
+    private long rowCount;
+
+    /**
+     * Creates or replaces a stats file
+     * @param file Output file
+     * @throws IOException if it cannot be created
+     */
+    public TurnStatsWriter(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                        StandardOpenOption.TRUNCATE_EXISTING);
+        this.games = new short[ROW_GROUP_SIZE];
+        this.turns = new int[ROW_GROUP_SIZE];
+        this.players = new int[ROW_GROUP_SIZE];
+        this.positions = new byte[ROW_GROUP_SIZE];
+        this.money = new int[ROW_GROUP_SIZE];
+        this.rentPaid = new int[ROW_GROUP_SIZE];
+        this.cardTypes = new byte[ROW_GROUP_SIZE];
+        this.cardIds = new byte[ROW_GROUP_SIZE];
+        this.gameIds = new ArrayList<>();
+        this.gameIndex = new HashTable<>();
+        this.buffer = ByteBuffer.allocateDirect(ROW_GROUP_SIZE * ROW_BYTES + 4096).order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putInt(FILE_MAGIC).putInt(VERSION).flip();
+        write();
+    }
+
+    /**
+     * Appends one completed turn
+     * @param gameId Room ID
+     * @param turn Turn number
+     * @param playerId Player whose turn it was
+     * @param position Board position at the end of the turn
+     * @param playerMoney Money at the end of the turn
+     * @param rent Rent the player paid during the turn
+     * @param cardType Ordinal of the CardType drawn, or -1
+     * @param cardId ID of the card drawn, or -1
+     * @throws IOException if a full row group cannot be written
+     */
+    public synchronized void append(String gameId, int turn, int playerId, int position, int playerMoney,
+                                    int rent, int cardType, int cardId) throws IOException {
+        Integer game = gameIndex.get(gameId);
+        if (game == null) {
+            game = gameIds.size();
+            gameIds.add(gameId);
+            gameIndex.put(gameId, game);
+        }
+        games[rows] = (short) (int) game;
+        turns[rows] = turn;
+        players[rows] = playerId;
+        positions[rows] = (byte) position;
+        money[rows] = playerMoney;
+        rentPaid[rows] = rent;
+        cardTypes[rows] = (byte) cardType;
+        cardIds[rows] = (byte) cardId;
+        rows++;
+        rowCount++;
+        // A row group holds at most Short.MAX_VALUE games so the index fits
+        if (rows == ROW_GROUP_SIZE || gameIds.size() == Short.MAX_VALUE) {
+            flushGroup();
+        }
+    }
+
+    /**
+     * Writes the open row group, if it has rows
+     */
+    private void flushGroup() throws IOException {
+        if (rows == 0) {
+            return;
+        }
+        int dictionaryBytes = 2;
+        byte[][] names = new byte[gameIds.size()][];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = gameIds.get(i).getBytes(StandardCharsets.UTF_8);
+            dictionaryBytes += 2 + names[i].length;
+        }
+        int length = dictionaryBytes + rows * ROW_BYTES;
+        if (buffer.capacity() < 12 + length) {
+            buffer = ByteBuffer.allocateDirect(12 + length).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        buffer.clear();
+        buffer.putInt(GROUP_MAGIC).putInt(rows).putInt(length);
+        buffer.putShort((short) names.length);
+        for (byte[] name : names) {
+            buffer.putShort((short) name.length).put(name);
+        }
+        for (int i = 0; i < rows; i++) {
+            buffer.putShort(games[i]);
+        }
+        for (int i = 0; i < rows; i++) {
+            buffer.putInt(turns[i]);
+        }
+        for (int i = 0; i < rows; i++) {
+            buffer.putInt(players[i]);
+        }
+        buffer.put(positions, 0, rows);
+        for (int i = 0; i < rows; i++) {
+            buffer.putInt(money[i]);
+        }
+        for (int i = 0; i < rows; i++) {
+            buffer.putInt(rentPaid[i]);
+        }
+        buffer.put(cardTypes, 0, rows);
+        buffer.put(cardIds, 0, rows);
+        buffer.flip();
+        write();
+
+        rows = 0;
+        gameIds.clear();
+        gameIndex.clear();
+    }
+
+    private void write() throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Gets the number of rows appended so far
+     * @return Row count
+     */
+    public synchronized long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Writes the last row group and closes the file
+     * @throws IOException if writing fails
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flushGroup();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.monopoly.bot;
+
+import com.monopoly.model.game.Auction;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.game.Trade;
+import com.monopoly.model.player.Player;
+import com.monopoly.network.protocol.ClientCommand;
+
+/**
+ * Decision maker behind a computer-controlled seat.
+ * The room asks every bot seat for its next command after each command it
+ * processes; a strategy answers with the command it would send, or null
+ * when the seat has nothing to do (not its turn, waiting for a bid, ...).
+ * Strategies read the room's shared PropertyValuation rather than
+ * recomputing valuations themselves.
+ */
+public interface BotStrategy {
+
+    /**
+     * Chooses the next command of a bot seat
+     * @param valuation Valuations of the bot's room (refreshed by the caller)
+     * @param playerId The bot's player ID
+     * @return Command to process, or null if the bot waits
+     */
+    ClientCommand decide(PropertyValuation valuation, int playerId);
+
+    /**
+     * Gets the command that always moves the game along in the current
+     * phase, used when a strategy's command was rejected
+     * @param state Game state
+     * @param playerId The bot's player ID
+     * @return Safe command, or null if the seat has nothing to do
+     */
+    static ClientCommand fallback(GameState state, int playerId) {
+        Player player = state.getPlayer(playerId);
+        if (player == null || player.isBankrupt()) {
+            return null;
+        }
+        switch (state.getTurnPhase()) {
+            case AUCTION:
+                Auction auction = state.getActiveAuction();
+                if (auction == null || !auction.isActive() || !auction.isEligible(playerId)
+                        || auction.hasPlayerPassed(playerId)) {
+                    return null;
+                }
+                return ClientCommand.createPassBid(playerId);
+            case TRADING:
+                Trade trade = state.getActiveTrade();
+                if (trade == null || !trade.isPending() || trade.getReceiverId() != playerId) {
+                    return null;
+                }
+                return ClientCommand.createDeclineTrade(playerId);
+            default:
+                break;
+        }
+        if (state.getCurrentPlayerId() != playerId) {
+            return null;
+        }
+        switch (state.getTurnPhase()) {
+            case PRE_ROLL:
+                return ClientCommand.createRollDice(playerId);
+            case PROPERTY_DECISION:
+                return ClientCommand.createDeclineBuy(playerId);
+            case POST_ROLL:
+            case IN_DEBT:
+                return ClientCommand.createEndTurn(playerId);
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.monopoly.bot;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.logic.JailManager;
+import com.monopoly.model.game.Auction;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.game.Trade;
+import com.monopoly.model.player.Player;
+import com.monopoly.model.property.ColorGroup;
+import com.monopoly.model.property.Property;
+import com.monopoly.network.protocol.ClientCommand;
+
+/**
+ * Bot strategy that weighs every choice by expected value.
+ *
+ * Buying, bidding and trading compare the PropertyValuation of what changes
+ * hands with the money involved; building picks the house with the best
+ * expected rent per dollar, mortgaging the cheapest streets to pay for it
+ * if needed. Every spend keeps the cash reserve the valuation asks for.
+ * Decisions only read the valuation's arrays and the game state, so they
+ * take microseconds and allocate nothing but the returned command.
+ */
+public final class ExpectedValueStrategy implements BotStrategy {
+
+    /** Smallest raise over the current high bid */
+    public static final int MIN_RAISE = 10;
+
+    /** Unowned properties left while the bot still wants out of jail */
+    public static final int EARLY_GAME_UNOWNED = 12;
+
+    /** Value of a Get Out of Jail Free card in a trade */
+    public static final int JAIL_CARD_VALUE = 50;
+
+    /** Cash kept above the reserve before paying off a mortgage */
+    public static final int UNMORTGAGE_BUFFER = 50;
+
+    // Color groups, cached to avoid values() copies
+    private static final ColorGroup[] GROUPS = ColorGroup.values();
+
+    @Override
+    public ClientCommand decide(PropertyValuation valuation, int playerId) {
+        GameState state = valuation.getGameState();
+        Player player = state.getPlayer(playerId);
+        if (player == null || player.isBankrupt()) {
+            return null;
+        }
+
+        switch (state.getTurnPhase()) {
+            case AUCTION:
+                return decideBid(valuation, player, state.getActiveAuction());
+            case TRADING:
+                return decideTrade(valuation, player, state.getActiveTrade());
+            default:
+                break;
+        }
+        if (state.getCurrentPlayerId() != playerId) {
+            return null;
+        }
+
+        switch (state.getTurnPhase()) {
+            case PRE_ROLL: {
+                ClientCommand development = decideDevelopment(valuation, player);
+                if (development != null) {
+                    return development;
+                }
+                if (player.isInJail() && valuation.getUnownedCount() >= EARLY_GAME_UNOWNED) {
+                    // Early on, touring the board to buy beats sitting in jail
+                    if (player.getJailFreeCards() > 0) {
+                        return ClientCommand.createJailUseCard(playerId);
+                    }
+                    if (player.getMoney() - JailManager.JAIL_FINE >= valuation.getCashReserve(playerId)) {
+                        return ClientCommand.createJailPayFine(playerId);
+                    }
+                }
+                return ClientCommand.createRollDice(playerId);
+            }
+            case POST_ROLL: {
+                ClientCommand development = decideDevelopment(valuation, player);
+                return development != null ? development : ClientCommand.createEndTurn(playerId);
+            }
+            case PROPERTY_DECISION: {
+                int position = player.getPosition();
+                return shouldBuy(valuation, player, position)
+                    ? ClientCommand.createBuyProperty(playerId, position)
+                    : ClientCommand.createDeclineBuy(playerId);
+            }
+            case IN_DEBT:
+                return decideDebt(valuation, player);
+            default:
+                return null;
+        }
+    }
+
+    // ==================== Buying ====================
+
+    /**
+     * Checks whether a player should buy a position from the bank
+     * @param valuation Room valuation
+     * @param player The player
+     * @param position Board position
+     * @return true if the value covers the price and the reserve survives
+     */
+    public boolean shouldBuy(PropertyValuation valuation, Player player, int position) {
+        int price = valuation.getPrice(position);
+        if (price <= 0 || valuation.getOwner(position) >= 0) {
+            return false;
+        }
+        return valuation.getAcquireValue(player.getId(), position) >= price
+            && player.getMoney() - price >= valuation.getCashReserve(player.getId());
+    }
+
+    /**
+     * Gets the most a player should bid for a position
+     * @param valuation Room valuation
+     * @param player The player
+     * @param position Board position
+     * @return Highest bid worth making (may be below the minimum bid)
+     */
+    public int maxBid(PropertyValuation valuation, Player player, int position) {
+        int value = (int) valuation.getAcquireValue(player.getId(), position);
+        return Math.min(value, player.getMoney() - valuation.getCashReserve(player.getId()));
+    }
+
+    private ClientCommand decideBid(PropertyValuation valuation, Player player, Auction auction) {
+        int playerId = player.getId();
+        if (auction == null || !auction.isActive() || !auction.isEligible(playerId)
+                || auction.hasPlayerPassed(playerId) || auction.getCurrentHighBidder() == playerId) {
+            return null;
+        }
+        int limit = maxBid(valuation, player, auction.getProperty().getId());
+        int high = auction.getCurrentHighBid();
+        int next = Math.max(auction.getMinimumNextBid(), high + Math.max(MIN_RAISE, high / 10));
+        if (limit < auction.getMinimumNextBid()) {
+            return ClientCommand.createPassBid(playerId);
+        }
+        return ClientCommand.createBid(playerId, Math.min(limit, next));
+    }
+
+    // ==================== Trading ====================
+
+    /**
+     * Checks whether the receiver of a trade should accept it: they must
+     * gain, and gain at least as much as the initiator does
+     * @param valuation Room valuation
+     * @param player The receiver
+     * @param trade Pending trade
+     * @return true to accept
+     */
+    public boolean acceptTrade(PropertyValuation valuation, Player player, Trade trade) {
+        int playerId = player.getId();
+        int initiatorId = trade.getInitiatorId();
+
+        double offered = tradeValue(valuation, playerId, trade.getInitiatorProperties(), true)
+            + trade.getInitiatorMoney() + trade.getInitiatorJailCards() * JAIL_CARD_VALUE;
+        double requested = tradeValue(valuation, playerId, trade.getReceiverProperties(), false)
+            + trade.getReceiverMoney() + trade.getReceiverJailCards() * JAIL_CARD_VALUE;
+        double myNet = offered - requested;
+
+        double theirGain = tradeValue(valuation, initiatorId, trade.getReceiverProperties(), true)
+            + trade.getReceiverMoney() + trade.getReceiverJailCards() * JAIL_CARD_VALUE;
+        double theirLoss = tradeValue(valuation, initiatorId, trade.getInitiatorProperties(), false)
+            + trade.getInitiatorMoney() + trade.getInitiatorJailCards() * JAIL_CARD_VALUE;
+        double theirNet = theirGain - theirLoss;
+
+        int cashAfter = player.getMoney() - trade.getReceiverMoney() + trade.getInitiatorMoney();
+        return myNet > 0 && myNet >= theirNet && cashAfter >= valuation.getCashReserve(playerId);
+    }
+
+    private double tradeValue(PropertyValuation valuation, int playerId,
+                              ArrayList<Property> properties, boolean acquired) {
+        double total = 0.0;
+        for (int i = 0; i < properties.size(); i++) {
+            int position = properties.get(i).getId();
+            total += acquired ? valuation.getAcquireValue(playerId, position) : valuation.getHoldValue(position);
+        }
+        return total;
+    }
+
+    private ClientCommand decideTrade(PropertyValuation valuation, Player player, Trade trade) {
+        if (trade == null || !trade.isPending() || trade.getReceiverId() != player.getId()) {
+            return null;
+        }
+        return acceptTrade(valuation, player, trade)
+            ? ClientCommand.createAcceptTrade(player.getId())
+            : ClientCommand.createDeclineTrade(player.getId());
+    }
+
+    // ==================== Development ====================
+
+    /**
+     * Chooses the street whose next building earns the most per dollar,
+     * among complete unmortgaged sets and respecting even building
+     * @param valuation Room valuation
+     * @param playerId The player
+     * @return Street position, or -1 if no building is worth its cost
+     */
+    public int chooseBuild(PropertyValuation valuation, int playerId) {
+        GameState state = valuation.getGameState();
+        boolean houses = state.getBank().hasHousesAvailable();
+        boolean hotels = state.getBank().hasHotelsAvailable();
+        int best = -1;
+        double bestRatio = 1.0;
+        for (int g = 0; g < GROUPS.length; g++) {
+            if (!GROUPS[g].isStandardProperty()) {
+                continue;
+            }
+            int[] positions = valuation.getGroupPositions(GROUPS[g]);
+            if (!valuation.ownsGroup(playerId, positions[0])) {
+                continue;
+            }
+
+            // Even building: only the least developed streets can take the next building
+            int minLevel = Integer.MAX_VALUE;
+            boolean mortgaged = false;
+            for (int i = 0; i < positions.length; i++) {
+                Property street = valuation.getStreet(positions[i]);
+                mortgaged |= street.isMortgaged();
+                minLevel = Math.min(minLevel, street.hasHotel() ? 5 : street.getNumberOfHouses());
+            }
+            if (mortgaged || minLevel >= 5 || (minLevel == 4 ? !hotels : !houses)) {
+                continue;
+            }
+
+            for (int i = 0; i < positions.length; i++) {
+                Property street = valuation.getStreet(positions[i]);
+                if (street.hasHotel() || street.getNumberOfHouses() != minLevel) {
+                    continue;
+                }
+                int cost = minLevel == 4 ? street.getHotelCost() : street.getHouseCost();
+                double ratio = valuation.getBuildValue(positions[i]) / cost;
+                if (ratio > bestRatio) {
+                    bestRatio = ratio;
+                    best = positions[i];
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Chooses the street whose mortgage costs the least expected rent per
+     * dollar raised; streets in complete sets are kept
+     * @param valuation Room valuation
+     * @param playerId The player
+     * @return Street position, or -1 if nothing can be mortgaged
+     */
+    public int chooseMortgage(PropertyValuation valuation, int playerId) {
+        int[] ownable = valuation.getOwnablePositions();
+        int best = -1;
+        double bestLoss = Double.MAX_VALUE;
+        for (int i = 0; i < ownable.length; i++) {
+            int position = ownable[i];
+            Property street = valuation.getStreet(position);
+            if (street == null || street.getOwnerId() != playerId || street.isMortgaged()
+                    || street.getNumberOfHouses() > 0 || street.hasHotel()
+                    || valuation.ownsGroup(playerId, position)) {
+                continue;
+            }
+            double loss = valuation.getMortgageLoss(position) / street.getMortgageValue();
+            if (loss < bestLoss) {
+                bestLoss = loss;
+                best = position;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Chooses the mortgaged street that earns the most once paid off
+     * @param valuation Room valuation
+     * @param player The player
+     * @return Street position, or -1 if none is affordable
+     */
+    public int chooseUnmortgage(PropertyValuation valuation, Player player) {
+        int[] ownable = valuation.getOwnablePositions();
+        int spendable = player.getMoney() - valuation.getCashReserve(player.getId()) - UNMORTGAGE_BUFFER;
+        int best = -1;
+        double bestValue = 0.0;
+        for (int i = 0; i < ownable.length; i++) {
+            Property street = valuation.getStreet(ownable[i]);
+            if (street == null || street.getOwnerId() != player.getId() || !street.isMortgaged()
+                    || street.getUnmortgageCost() > spendable) {
+                continue;
+            }
+            double value = valuation.getAcquireValue(player.getId(), ownable[i]);
+            if (value > bestValue) {
+                bestValue = value;
+                best = ownable[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Raises cash towards a pending debt, giving up the least rent first:
+     * streets outside complete sets, then houses, then the sets themselves.
+     * The room pays the debt as soon as the cash covers it; once nothing
+     * is left to raise, the turn ends.
+     */
+    private ClientCommand decideDebt(PropertyValuation valuation, Player player) {
+        int playerId = player.getId();
+        int mortgage = chooseMortgage(valuation, playerId);
+        if (mortgage >= 0) {
+            return ClientCommand.createMortgage(playerId, mortgage);
+        }
+
+        int[] ownable = valuation.getOwnablePositions();
+        int sell = -1;
+        int mostHouses = 0;
+        int bare = -1;
+        for (int i = 0; i < ownable.length; i++) {
+            Property street = valuation.getStreet(ownable[i]);
+            if (street == null || street.getOwnerId() != playerId || street.isMortgaged() || street.hasHotel()) {
+                continue;
+            }
+            // Even selling: houses come off the most developed street first
+            if (street.getNumberOfHouses() > mostHouses) {
+                mostHouses = street.getNumberOfHouses();
+                sell = ownable[i];
+            } else if (street.getNumberOfHouses() == 0 && bare < 0) {
+                bare = ownable[i];
+            }
+        }
+        if (sell >= 0) {
+            return ClientCommand.createSellBuilding(playerId, sell);
+        }
+        if (bare >= 0) {
+            return ClientCommand.createMortgage(playerId, bare);
+        }
+        return ClientCommand.createEndTurn(playerId);
+    }
+
+    private ClientCommand decideDevelopment(PropertyValuation valuation, Player player) {
+        int playerId = player.getId();
+        int build = chooseBuild(valuation, playerId);
+        if (build >= 0) {
+            Property street = valuation.getStreet(build);
+            boolean hotel = street.getNumberOfHouses() == 4;
+            int cost = hotel ? street.getHotelCost() : street.getHouseCost();
+            int shortfall = cost + valuation.getCashReserve(playerId) - player.getMoney();
+            if (shortfall <= 0) {
+                return ClientCommand.createBuild(playerId, build, hotel ? "hotel" : "house");
+            }
+
+            // Raise the money if the rent given up is worth less than the building's surplus
+            int mortgage = chooseMortgage(valuation, playerId);
+            if (mortgage >= 0 && valuation.getMortgageLoss(mortgage) < valuation.getBuildValue(build) - cost
+                    && mortgageable(valuation, playerId) >= shortfall) {
+                return ClientCommand.createMortgage(playerId, mortgage);
+            }
+            return null;
+        }
+
+        int unmortgage = chooseUnmortgage(valuation, player);
+        return unmortgage >= 0 ? ClientCommand.createUnmortgage(playerId, unmortgage) : null;
+    }
+
+    /**
+     * Cash that mortgaging every eligible street would raise
+     */
+    private int mortgageable(PropertyValuation valuation, int playerId) {
+        int[] ownable = valuation.getOwnablePositions();
+        int total = 0;
+        for (int i = 0; i < ownable.length; i++) {
+            Property street = valuation.getStreet(ownable[i]);
+            if (street != null && street.getOwnerId() == playerId && !street.isMortgaged()
+                    && street.getNumberOfHouses() == 0 && !street.hasHotel()
+                    && !valuation.ownsGroup(playerId, ownable[i])) {
+                total += street.getMortgageValue();
+            }
+        }
+        return total;
+    }
+}
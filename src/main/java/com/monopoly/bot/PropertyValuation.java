@@ -0,0 +1,640 @@
+package com.monopoly.bot;
+
+import com.monopoly.analytics.LandingModel;
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.model.game.Board;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+import com.monopoly.model.property.ColorGroup;
+import com.monopoly.model.property.Property;
+import com.monopoly.model.tile.PropertyTile;
+import com.monopoly.model.tile.RailroadTile;
+import com.monopoly.model.tile.Tile;
+import com.monopoly.model.tile.UtilityTile;
+
+/**
+ * Expected-value valuations of a room's properties, shared by its bot seats.
+ *
+ * Every value is in dollars: the expected rent a tile brings its owner over
+ * HORIZON_TURNS opponent turns (landing odds from LandingModel, rents from
+ * the board's rent tables) plus the cash it can be mortgaged for. Holding
+ * part of an uncontested color group also counts a share of the developed
+ * set's rent, so the first pieces of a group are worth more than their base
+ * rent; taking the last piece another player needs counts some of what it
+ * denies them.
+ *
+ * The tables are kept in primitive arrays and only rebuilt when refresh()
+ * sees that ownership, buildings, mortgages or the set of solvent players
+ * changed; money moving around never invalidates them. A valuation belongs
+ * to one GameState and is not thread-safe: the room calls it under its own
+ * lock.
+ */
+public final class PropertyValuation {
+
+    /** Opponent turns a property is expected to earn rent over */
+    public static final int HORIZON_TURNS = 25;
+
+    /** Share of a developed set's rent credited to an uncontested partial group */
+    public static final double SET_SHARE = 1.0;
+
+    /** Share of the three-house rent a complete set is assumed to reach */
+    public static final double DEVELOPED_SHARE = 0.5;
+
+    /** Share of an opponent's set income counted when denying their last piece */
+    public static final double DENIAL_SHARE = 0.5;
+
+    /** Own turns of expected rent kept in cash before spending */
+    public static final int RESERVE_TURNS = 10;
+
+    /** Smallest cash reserve */
+    public static final int MIN_RESERVE = 100;
+
+    // Rent level used as the developed state of a complete set
+    private static final int DEVELOPED_LEVEL = LandingModel.LEVEL_ONE_HOUSE + 2;
+
+    // Kinds of board positions
+    private static final int NOT_OWNABLE = 0;
+    private static final int STREET = 1;
+    private static final int RAILROAD = 2;
+    private static final int UTILITY = 3;
+
+    // Snapshot bits of a position's state (next to the building level 0-5)
+    private static final int MORTGAGED_BIT = 8;
+
+    // Game being valued and its landing odds
+    private final GameState state;
+    private final LandingModel model;
+
+    // Board layout, by position
+    private final int[] kind;
+    private final int[] groupOf;
+    private final int[] price;
+    private final int[] mortgageValue;
+    private final Property[] streets;
+    private final RailroadTile[] railroads;
+    private final UtilityTile[] utilities;
+
+    // Ownable positions, and positions of each group (by ColorGroup ordinal)
+    private final int[] ownable;
+    private final int[][] groupPositions;
+
+    // Seats in play order
+    private final int[] seatIds;
+
+    // Snapshot the tables were built from
+    private final int[] ownerSnapshot;
+    private final int[] buildSnapshot;
+    private int solventSnapshot;
+
+    // Expected rent per opponent turn of each position as it stands
+    private final double[] rentNow;
+
+    // Value to each seat of acquiring each position (its hold value for the owner)
+    private final double[][] acquireValue;
+
+    // Value of each owned position to its owner
+    private final double[] holdValue;
+
+    // Expected rent each seat pays per own turn
+    private final double[] exposure;
+
+    // Solvent players, and positions still with the bank
+    private int solventCount;
+    private int unownedCount;
+
+    // Times the tables were rebuilt
+    private int revision;
+
+    /**
+     * Creates the valuation of a game with the standard landing model
+     * @param state The game
+     */
+    public PropertyValuation(GameState state) {
+        this(state, LandingModel.standard());
+    }
+
+    /**
+     * Creates the valuation of a game
+     * @param state The game
+     * @param model Landing odds of its board
+     */
+    public PropertyValuation(GameState state, LandingModel model) {
+        this.state = state;
+        this.model = model;
+        Board board = state.getBoard();
+
+        kind = new int[Board.BOARD_SIZE];
+        groupOf = new int[Board.BOARD_SIZE];
+        price = new int[Board.BOARD_SIZE];
+        mortgageValue = new int[Board.BOARD_SIZE];
+        streets = new Property[Board.BOARD_SIZE];
+        railroads = new RailroadTile[Board.BOARD_SIZE];
+        utilities = new UtilityTile[Board.BOARD_SIZE];
+
+        int[] groupSizes = new int[ColorGroup.values().length];
+        int ownableCount = 0;
+        for (int position = 0; position < Board.BOARD_SIZE; position++) {
+            Tile tile = board.getTile(position);
+            groupOf[position] = -1;
+            if (tile instanceof PropertyTile) {
+                Property property = ((PropertyTile) tile).getProperty();
+                kind[position] = STREET;
+                streets[position] = property;
+                groupOf[position] = property.getColorGroup().ordinal();
+                price[position] = property.getPrice();
+                mortgageValue[position] = property.getMortgageValue();
+            } else if (tile instanceof RailroadTile) {
+                kind[position] = RAILROAD;
+                railroads[position] = (RailroadTile) tile;
+                groupOf[position] = ColorGroup.RAILROAD.ordinal();
+                price[position] = RailroadTile.PURCHASE_PRICE;
+                mortgageValue[position] = RailroadTile.MORTGAGE_VALUE;
+            } else if (tile instanceof UtilityTile) {
+                kind[position] = UTILITY;
+                utilities[position] = (UtilityTile) tile;
+                groupOf[position] = ColorGroup.UTILITY.ordinal();
+                price[position] = UtilityTile.PURCHASE_PRICE;
+                mortgageValue[position] = UtilityTile.MORTGAGE_VALUE;
+            } else {
+                continue;
+            }
+            groupSizes[groupOf[position]]++;
+            ownableCount++;
+        }
+
+        ownable = new int[ownableCount];
+        groupPositions = new int[groupSizes.length][];
+        for (int group = 0; group < groupSizes.length; group++) {
+            groupPositions[group] = new int[groupSizes[group]];
+            groupSizes[group] = 0;
+        }
+        int next = 0;
+        for (int position = 0; position < Board.BOARD_SIZE; position++) {
+            if (kind[position] != NOT_OWNABLE) {
+                ownable[next++] = position;
+                int group = groupOf[position];
+                groupPositions[group][groupSizes[group]++] = position;
+            }
+        }
+
+        ArrayList<Integer> order = state.getPlayerOrder();
+        seatIds = new int[order.size()];
+        for (int i = 0; i < seatIds.length; i++) {
+            seatIds[i] = order.get(i);
+        }
+
+        ownerSnapshot = new int[Board.BOARD_SIZE];
+        buildSnapshot = new int[Board.BOARD_SIZE];
+        rentNow = new double[Board.BOARD_SIZE];
+        acquireValue = new double[seatIds.length][Board.BOARD_SIZE];
+        holdValue = new double[Board.BOARD_SIZE];
+        exposure = new double[seatIds.length];
+        revision = 0;
+    }
+
+    // ==================== Cache ====================
+
+    /**
+     * Rebuilds the tables if ownership, buildings, mortgages or the solvent
+     * players changed since the last call
+     * @return true if the tables were rebuilt
+     */
+    public boolean refresh() {
+        boolean changed = revision == 0;
+        for (int i = 0; i < ownable.length; i++) {
+            int position = ownable[i];
+            int owner = ownerAt(position);
+            int build = buildAt(position);
+            if (owner != ownerSnapshot[position] || build != buildSnapshot[position]) {
+                ownerSnapshot[position] = owner;
+                buildSnapshot[position] = build;
+                changed = true;
+            }
+        }
+        int solvent = 0;
+        for (int seat = 0; seat < seatIds.length; seat++) {
+            Player player = state.getPlayer(seatIds[seat]);
+            if (player != null && !player.isBankrupt()) {
+                solvent |= 1 << seat;
+            }
+        }
+        if (solvent != solventSnapshot) {
+            solventSnapshot = solvent;
+            changed = true;
+        }
+        if (changed) {
+            rebuild();
+            revision++;
+        }
+        return changed;
+    }
+
+    /**
+     * Gets how many times the tables were rebuilt
+     * @return Revision
+     */
+    public int getRevision() {
+        return revision;
+    }
+
+    /**
+     * Gets the game being valued
+     * @return Game state
+     */
+    public GameState getGameState() {
+        return state;
+    }
+
+    private int ownerAt(int position) {
+        switch (kind[position]) {
+            case STREET:
+                return streets[position].getOwnerId();
+            case RAILROAD:
+                return railroads[position].getOwnerId();
+            default:
+                return utilities[position].getOwnerId();
+        }
+    }
+
+    private int buildAt(int position) {
+        switch (kind[position]) {
+            case STREET:
+                Property property = streets[position];
+                int level = property.hasHotel() ? 5 : property.getNumberOfHouses();
+                return property.isMortgaged() ? level | MORTGAGED_BIT : level;
+            case RAILROAD:
+                return railroads[position].isMortgaged() ? MORTGAGED_BIT : 0;
+            default:
+                return utilities[position].isMortgaged() ? MORTGAGED_BIT : 0;
+        }
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Gets the value to a player of acquiring a position (for its owner,
+     * the value of keeping it)
+     * @param playerId The player
+     * @param position Board position
+     * @return Value in dollars (0 if not ownable or not seated)
+     */
+    public double getAcquireValue(int playerId, int position) {
+        int seat = seatOf(playerId);
+        return seat < 0 || !isOwnable(position) ? 0.0 : acquireValue[seat][position];
+    }
+
+    /**
+     * Gets the value of an owned position to its owner
+     * @param position Board position
+     * @return Value in dollars (0 if unowned)
+     */
+    public double getHoldValue(int position) {
+        return isOwnable(position) ? holdValue[position] : 0.0;
+    }
+
+    /**
+     * Gets the expected rent a position earns per opponent turn as it stands
+     * @param position Board position
+     * @return Expected rent (0 if unowned or mortgaged)
+     */
+    public double getRentPerTurn(int position) {
+        return isOwnable(position) ? rentNow[position] : 0.0;
+    }
+
+    /**
+     * Gets the value of the rent a building would add to a street. Rent
+     * jumps at the third house, so below it each house is credited an
+     * even share of the rise to three houses.
+     * @param position Street position
+     * @return Value in dollars of the next house or hotel (0 if none can go there)
+     */
+    public double getBuildValue(int position) {
+        if (!isStreet(position)) {
+            return 0.0;
+        }
+        Property property = streets[position];
+        if (property.hasHotel() || property.getOwnerId() < 0) {
+            return 0.0;
+        }
+        int houses = property.getNumberOfHouses();
+        double current = model.expectedRent(position, LandingModel.rentLevel(houses, false, true));
+        double gain;
+        if (houses < 3) {
+            gain = (model.expectedRent(position, DEVELOPED_LEVEL) - current) / (3 - houses);
+        } else {
+            gain = model.expectedRent(position, LandingModel.rentLevel(houses + 1, houses == 4, true)) - current;
+        }
+        return gain * horizon(property.getOwnerId());
+    }
+
+    /**
+     * Gets the value a mortgage takes away from its owner (rent lost)
+     * @param position Board position
+     * @return Value in dollars
+     */
+    public double getMortgageLoss(int position) {
+        return isOwnable(position) ? rentNow[position] * horizon(ownerSnapshot[position]) : 0.0;
+    }
+
+    /**
+     * Gets the cash a player should keep to cover expected rent
+     * @param playerId The player
+     * @return Reserve in dollars
+     */
+    public int getCashReserve(int playerId) {
+        int seat = seatOf(playerId);
+        double expected = seat < 0 ? 0.0 : exposure[seat] * RESERVE_TURNS;
+        return Math.max(MIN_RESERVE, (int) Math.ceil(expected));
+    }
+
+    /**
+     * Gets the number of ownable positions still held by the bank
+     * @return Unowned count
+     */
+    public int getUnownedCount() {
+        return unownedCount;
+    }
+
+    /**
+     * Gets the number of solvent opponents of a player
+     * @param playerId The player
+     * @return Opponent count (at least 1)
+     */
+    public int getOpponentCount(int playerId) {
+        return Math.max(1, solventCount - 1);
+    }
+
+    /**
+     * Checks whether a position can be owned
+     * @param position Board position
+     * @return true for streets, railroads and utilities
+     */
+    public boolean isOwnable(int position) {
+        return position >= 0 && position < Board.BOARD_SIZE && kind[position] != NOT_OWNABLE;
+    }
+
+    /**
+     * Checks whether a position is a street (a Property)
+     * @param position Board position
+     * @return true for streets
+     */
+    public boolean isStreet(int position) {
+        return position >= 0 && position < Board.BOARD_SIZE && kind[position] == STREET;
+    }
+
+    /**
+     * Gets the bank price of a position
+     * @param position Board position
+     * @return Price (0 if not ownable)
+     */
+    public int getPrice(int position) {
+        return isOwnable(position) ? price[position] : 0;
+    }
+
+    /**
+     * Gets the owner of a position as of the last refresh
+     * @param position Board position
+     * @return Owner ID, or -1
+     */
+    public int getOwner(int position) {
+        return isOwnable(position) ? ownerSnapshot[position] : -1;
+    }
+
+    /**
+     * Gets the positions of a group
+     * @param group Color group
+     * @return Positions in board order (shared array, do not modify)
+     */
+    public int[] getGroupPositions(ColorGroup group) {
+        return groupPositions[group.ordinal()];
+    }
+
+    /**
+     * Gets the group of a position
+     * @param position Board position
+     * @return ColorGroup ordinal, or -1 if not ownable
+     */
+    public int getGroup(int position) {
+        return isOwnable(position) ? groupOf[position] : -1;
+    }
+
+    /**
+     * Gets the positions of every ownable tile
+     * @return Positions in board order (shared array, do not modify)
+     */
+    public int[] getOwnablePositions() {
+        return ownable;
+    }
+
+    /**
+     * Gets the street at a position
+     * @param position Board position
+     * @return Street, or null
+     */
+    public Property getStreet(int position) {
+        return isStreet(position) ? streets[position] : null;
+    }
+
+    /**
+     * Checks whether a player holds every piece of a position's group
+     * @param playerId The player
+     * @param position Board position
+     * @return true if the group is complete
+     */
+    public boolean ownsGroup(int playerId, int position) {
+        if (!isOwnable(position)) {
+            return false;
+        }
+        int[] positions = groupPositions[groupOf[position]];
+        for (int i = 0; i < positions.length; i++) {
+            if (ownerSnapshot[positions[i]] != playerId) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int seatOf(int playerId) {
+        for (int seat = 0; seat < seatIds.length; seat++) {
+            if (seatIds[seat] == playerId) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Converts a rent per opponent turn into dollars for an owner
+     */
+    private double horizon(int ownerId) {
+        return getOpponentCount(ownerId) * (double) HORIZON_TURNS;
+    }
+
+    // ==================== Tables ====================
+
+    /**
+     * Rebuilds every table from the snapshot
+     */
+    private void rebuild() {
+        solventCount = Integer.bitCount(solventSnapshot);
+        unownedCount = 0;
+        for (int i = 0; i < ownable.length; i++) {
+            int position = ownable[i];
+            int owner = ownerSnapshot[position];
+            if (owner < 0) {
+                unownedCount++;
+            }
+            rentNow[position] = currentRent(position, owner);
+        }
+
+        for (int seat = 0; seat < seatIds.length; seat++) {
+            int playerId = seatIds[seat];
+            double paid = 0.0;
+            for (int i = 0; i < ownable.length; i++) {
+                int position = ownable[i];
+                int owner = ownerSnapshot[position];
+                if (owner >= 0 && owner != playerId) {
+                    paid += rentNow[position];
+                }
+            }
+            exposure[seat] = paid;
+        }
+
+        for (int i = 0; i < ownable.length; i++) {
+            int position = ownable[i];
+            int owner = ownerSnapshot[position];
+            holdValue[position] = owner < 0 ? 0.0 : keepValue(owner, position);
+            for (int seat = 0; seat < seatIds.length; seat++) {
+                int playerId = seatIds[seat];
+                acquireValue[seat][position] = playerId == owner
+                    ? holdValue[position] : gainValue(playerId, position);
+            }
+        }
+    }
+
+    /**
+     * Expected rent of a position per opponent turn with its real owner,
+     * buildings and mortgage
+     */
+    private double currentRent(int position, int owner) {
+        if (owner < 0 || (buildSnapshot[position] & MORTGAGED_BIT) != 0) {
+            return 0.0;
+        }
+        switch (kind[position]) {
+            case STREET:
+                return model.expectedPropertyRent(streets[position], ownsGroup(owner, position));
+            case RAILROAD:
+                return model.expectedRailroadRent(position, countHeld(owner, groupOf[position], -1));
+            default:
+                return model.expectedUtilityRent(position, countHeld(owner, groupOf[position], -1));
+        }
+    }
+
+    /**
+     * Value to a player of acquiring a position they do not hold
+     */
+    private double gainValue(int playerId, int position) {
+        int group = groupOf[position];
+        double before = groupIncome(playerId, group, -1, -1);
+        double after = groupIncome(playerId, group, position, -1);
+
+        // What taking the position denies the player it would complete
+        double denied = 0.0;
+        for (int seat = 0; seat < seatIds.length; seat++) {
+            int other = seatIds[seat];
+            if (other == playerId || other == ownerSnapshot[position] || (solventSnapshot & (1 << seat)) == 0) {
+                continue;
+            }
+            if (countHeld(other, group, -1) == groupPositions[group].length - 1) {
+                denied = Math.max(denied, groupIncome(other, group, position, -1) - groupIncome(other, group, -1, -1));
+            }
+        }
+        return (after - before + DENIAL_SHARE * denied) * horizon(playerId) + mortgageValue[position];
+    }
+
+    /**
+     * Value to its owner of keeping a position rather than handing it over
+     */
+    private double keepValue(int ownerId, int position) {
+        int group = groupOf[position];
+        double with = groupIncome(ownerId, group, -1, -1);
+        double without = groupIncome(ownerId, group, -1, position);
+        boolean mortgaged = (buildSnapshot[position] & MORTGAGED_BIT) != 0;
+        return (with - without) * horizon(ownerId) + (mortgaged ? 0 : mortgageValue[position]);
+    }
+
+    /**
+     * Expected rent per opponent turn a player draws from one group
+     * @param playerId The player
+     * @param group Group ordinal
+     * @param added Position counted as the player's (or -1)
+     * @param removed Position counted as another player's (or -1)
+     */
+    private double groupIncome(int playerId, int group, int added, int removed) {
+        int[] positions = groupPositions[group];
+        int held = countHeld(playerId, group, added, removed);
+        if (held == 0) {
+            return 0.0;
+        }
+
+        if (group == ColorGroup.RAILROAD.ordinal() || group == ColorGroup.UTILITY.ordinal()) {
+            double income = 0.0;
+            for (int i = 0; i < positions.length; i++) {
+                int position = positions[i];
+                if (holds(playerId, position, added, removed)) {
+                    income += group == ColorGroup.RAILROAD.ordinal()
+                        ? model.expectedRailroadRent(position, held)
+                        : model.expectedUtilityRent(position, held);
+                }
+            }
+            return income;
+        }
+
+        double base = 0.0;
+        double developed = 0.0;
+        double complete = 0.0;
+        boolean contested = false;
+        for (int i = 0; i < positions.length; i++) {
+            int position = positions[i];
+            double developedRent = model.expectedRent(position, DEVELOPED_LEVEL);
+            developed += developedRent;
+            if (holds(playerId, position, added, removed)) {
+                base += model.expectedRent(position, LandingModel.LEVEL_BASE);
+                int level = LandingModel.rentLevel(buildSnapshot[position] & 7, (buildSnapshot[position] & 7) == 5, true);
+                complete += Math.max(model.expectedRent(position, level), DEVELOPED_SHARE * developedRent);
+            } else if (position == removed || ownerSnapshot[position] >= 0) {
+                contested = true;
+            }
+        }
+        if (held == positions.length) {
+            return complete;
+        }
+        if (contested) {
+            return base;
+        }
+        double share = (double) held / positions.length;
+        return base + share * share * SET_SHARE * DEVELOPED_SHARE * developed;
+    }
+
+    private boolean holds(int playerId, int position, int added, int removed) {
+        if (position == added) {
+            return true;
+        }
+        return position != removed && ownerSnapshot[position] == playerId;
+    }
+
+    private int countHeld(int playerId, int group, int added) {
+        return countHeld(playerId, group, added, -1);
+    }
+
+    private int countHeld(int playerId, int group, int added, int removed) {
+        int[] positions = groupPositions[group];
+        int held = 0;
+        for (int i = 0; i < positions.length; i++) {
+            if (holds(playerId, positions[i], added, removed)) {
+                held++;
+            }
+        }
+        return held;
+    }
+}
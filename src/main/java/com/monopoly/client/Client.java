@@ -1,9 +1,15 @@
 package com.monopoly.client;
 
+import com.monopoly.datastructures.HashTable;
+import com.monopoly.model.enums.EventCode;
 import com.monopoly.model.game.GameState;
 import com.monopoly.network.protocol.ClientCommand;
 import com.monopoly.network.protocol.ServerEvent;
 import com.monopoly.network.serialization.Deserializer;
+import com.monopoly.util.EventTemplates;
+import com.monopoly.util.Logger;
+
+import java.util.Locale;
 
 /**
  * Main client class for connecting to the Monopoly server.
@@ -12,14 +18,32 @@ import com.monopoly.network.serialization.Deserializer;
  */
 public class Client {
 
+    // Shared logger
+    private static final Logger LOG = Logger.getInstance();
+
     /** Default server port */
     public static final int DEFAULT_PORT = 12345;
     
     /** Default server host */
     public static final String DEFAULT_HOST = "localhost";
     
+    /** Reconnect attempts before giving up on a dropped session */
+    public static final int RESUME_ATTEMPTS = 5;
+    
+    /** Delay before the first reconnect attempt (doubles each time) */
+    public static final long RESUME_BACKOFF_MS = 250;
+    
     // Server connection
-    private ServerConnection serverConnection;
+    private volatile ServerConnection serverConnection;
+    private String serverHost;
+    private int serverPort;
+    
+    // Session resumption
+    private volatile String resumeToken;
+    private volatile long lastSequence;
+    
+    // Room this client is currently in
+    private volatile String currentRoomId;
     
     // Player info
     private int playerId;
@@ -28,6 +52,12 @@ public class Client {
     // Local state (copy from server)
     private GameState localGameState;
     
+    // Names of the players seen so far, for rendering the event log
+    private final HashTable<Integer, String> playerNames;
+    
+    // Event log templates in the user's language
+    private EventTemplates eventTemplates;
+    
     // Deserializer for parsing
     private final Deserializer deserializer;
     
@@ -44,6 +74,8 @@ public class Client {
         this.deserializer = new Deserializer();
         this.isConnected = false;
         this.playerId = -1;
+        this.playerNames = new HashTable<>();
+        this.eventTemplates = EventTemplates.getDefault();
     }
     
     /**
@@ -59,6 +91,10 @@ public class Client {
         }
         
         this.playerName = playerName;
+        this.serverHost = host;
+        this.serverPort = port;
+        this.resumeToken = null;
+        this.lastSequence = 0;
         this.serverConnection = new ServerConnection(this);
         
         if (!serverConnection.connect(host, port)) {
@@ -101,6 +137,7 @@ public class Client {
         sendCommand(disconnectCommand);
         
         isConnected = false;
+        resumeToken = null;
         
         if (serverConnection != null) {
             serverConnection.disconnect();
@@ -118,7 +155,7 @@ public class Client {
      */
     public void sendCommand(ClientCommand command) {
         if (!isConnected || serverConnection == null) {
-            System.err.println("Not connected to server");
+            LOG.warn("Not connected to server");
             return;
         }
         
@@ -203,6 +240,51 @@ public class Client {
         sendCommand(ClientCommand.createEndTurn(playerId));
     }
     
+    /**
+     * Sends spectate command (watch a room instead of playing)
+     * @param roomId Room to watch
+     */
+    public void spectate(String roomId) {
+        sendCommand(ClientCommand.createSpectate(roomId));
+    }
+    
+    /**
+     * Sends create room command (open a new room and move into it)
+     */
+    public void createRoom() {
+        sendCommand(ClientCommand.createCreateRoom(playerId));
+    }
+    
+    /**
+     * Sends join room command
+     * @param roomId Room to join
+     */
+    public void joinRoom(String roomId) {
+        sendCommand(ClientCommand.createJoinRoom(playerId, roomId));
+    }
+    
+    /**
+     * Sends start game command for the current room
+     */
+    public void startGame() {
+        sendCommand(ClientCommand.createStartGame(playerId));
+    }
+    
+    /**
+     * Sends add bot command for the current room
+     */
+    public void addBot() {
+        sendCommand(ClientCommand.createAddBot(playerId));
+    }
+    
+    /**
+     * Sends add bot command for the current room
+     * @param difficulty "easy" or "hard"
+     */
+    public void addBot(String difficulty) {
+        sendCommand(ClientCommand.createAddBot(playerId, difficulty));
+    }
+    
     // ==================== Event Handlers (called by ServerConnection) ====================
     
     /**
@@ -217,11 +299,26 @@ public class Client {
                 onStateUpdate(event);
                 break;
             case EVENT_LOG:
-                onEventLog(event.getStringData("description"));
+                onEventLog(renderEventLog(event));
                 break;
             case ERROR:
                 onError(event.getStringData("message"));
                 break;
+            case SESSION_TOKEN:
+                resumeToken = event.getStringData("resumeToken");
+                playerId = event.getIntData("playerId", playerId);
+                break;
+            case PING:
+                sendCommand(ClientCommand.createPong(playerId));
+                break;
+            case ROOM_JOINED:
+                currentRoomId = event.getRoomId();
+                LOG.info("Joined room {}", currentRoomId);
+                break;
+            case SESSION_RESUMED:
+                LOG.info("Session resumed{}",
+                         event.getBooleanData("resynced", false) ? " (full resync)" : "");
+                break;
             case GAME_START:
                 if (eventListener != null) {
                     eventListener.onGameStart();
@@ -249,9 +346,12 @@ public class Client {
                 }
                 break;
             case PLAYER_JOINED:
+                int joinedPlayerId = event.getIntData("playerId", -1);
+                String joinedPlayerName = event.getStringData("playerName");
+                if (joinedPlayerName != null) {
+                    playerNames.put(joinedPlayerId, joinedPlayerName);
+                }
                 if (eventListener != null) {
-                    int joinedPlayerId = event.getIntData("playerId", -1);
-                    String joinedPlayerName = event.getStringData("playerName");
                     eventListener.onPlayerJoined(joinedPlayerId, joinedPlayerName);
                 }
                 break;
@@ -316,12 +416,35 @@ public class Client {
         }
     }
     
+    /**
+     * Renders an EVENT_LOG event: structured events through the local
+     * templates, free-text events (older servers) as sent
+     * @param event EVENT_LOG event
+     * @return Text to show
+     */
+    private String renderEventLog(ServerEvent event) {
+        EventCode code = EventCode.fromId(event.getIntData("code", -1));
+        if (code == null) {
+            return event.getStringData("description");
+        }
+        return eventTemplates.render(code, event.getIntArrayData("args"),
+                                     id -> id == playerId ? playerName : playerNames.get(id));
+    }
+    
+    /**
+     * Sets the language of the event log
+     * @param locale Locale whose templates to use
+     */
+    public void setEventLocale(Locale locale) {
+        this.eventTemplates = EventTemplates.forLocale(locale);
+    }
+    
     /**
      * Handles event log
      * @param eventDescription Event description
      */
     private void onEventLog(String eventDescription) {
-        System.out.println("[Event] " + eventDescription);
+        LOG.info("[Event] {}", eventDescription);
         
         if (eventListener != null) {
             eventListener.onEventLog(eventDescription);
@@ -333,17 +456,40 @@ public class Client {
      * @param errorMessage Error message
      */
     private void onError(String errorMessage) {
-        System.err.println("[Error] " + errorMessage);
+        LOG.warn("[Error] {}", errorMessage);
         
         if (eventListener != null) {
             eventListener.onError(errorMessage);
         }
     }
     
+    /**
+     * Records the sequence number of a received event
+     * @param sequence Event sequence
+     */
+    void onSequence(long sequence) {
+        if (sequence > lastSequence) {
+            lastSequence = sequence;
+        }
+    }
+    
     /**
      * Called when connection is lost
+     * @param connection The connection that dropped
      */
-    void onConnectionLost() {
+    void onConnectionLost(ServerConnection connection) {
+        if (connection != serverConnection) {
+            // An old connection closing after a resume
+            return;
+        }
+        
+        if (isConnected && resumeToken != null) {
+            Thread resumeThread = new Thread(this::resumeSession, "client-resume");
+            resumeThread.setDaemon(true);
+            resumeThread.start();
+            return;
+        }
+        
         isConnected = false;
         
         if (eventListener != null) {
@@ -351,6 +497,42 @@ public class Client {
         }
     }
     
+    /**
+     * Reconnects with backoff and presents the resume token.
+     * The server replays the missed events, so the local view stays current.
+     */
+    private void resumeSession() {
+        long backoff = RESUME_BACKOFF_MS;
+        for (int attempt = 1; attempt <= RESUME_ATTEMPTS && isConnected; attempt++) {
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            backoff *= 2;
+            
+            ServerConnection connection = new ServerConnection(this);
+            if (!connection.connect(serverHost, serverPort)) {
+                continue;
+            }
+            
+            serverConnection = connection;
+            Thread receiverThread = new Thread(connection);
+            receiverThread.setDaemon(true);
+            receiverThread.start();
+            
+            connection.sendMessage(ClientCommand.createResume(resumeToken, lastSequence));
+            LOG.info("Reconnected, resuming from seq {}", lastSequence);
+            return;
+        }
+        
+        isConnected = false;
+        if (eventListener != null) {
+            eventListener.onDisconnected();
+        }
+    }
+    
     // ==================== Getters/Setters ====================
     
     /**
@@ -401,6 +583,14 @@ public class Client {
         return playerName;
     }
     
+    /**
+     * Gets the room this client is in
+     * @return Room ID, or null before any ROOM_JOINED
+     */
+    public String getCurrentRoomId() {
+        return currentRoomId;
+    }
+    
     /**
      * Checks if connected
      * @return true if connected
@@ -3,6 +3,7 @@ package com.monopoly.client;
 import com.monopoly.network.protocol.Message;
 import com.monopoly.network.protocol.ProtocolHandler;
 import com.monopoly.network.protocol.ServerEvent;
+import com.monopoly.util.Logger;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -16,6 +17,9 @@ import java.net.Socket;
  */
 public class ServerConnection implements Runnable {
 
+    // Shared logger
+    private static final Logger LOG = Logger.getInstance();
+
     // Socket and streams
     private Socket socket;
     private BufferedReader inputStream;
@@ -67,10 +71,10 @@ public class ServerConnection implements Runnable {
             isConnected = true;
             isRunning = true;
             
-            System.out.println("Connected to server at " + host + ":" + port);
+            LOG.info("Connected to server at {}:{}", host, port);
             return true;
         } catch (IOException e) {
-            System.err.println("Failed to connect to server: " + e.getMessage());
+            LOG.error("Failed to connect to server: {}", e.getMessage());
             return false;
         }
     }
@@ -93,15 +97,15 @@ public class ServerConnection implements Runnable {
                 socket.close();
             }
         } catch (IOException e) {
-            System.err.println("Error disconnecting: " + e.getMessage());
+            LOG.error("Error disconnecting: {}", e.getMessage());
         }
         
-        System.out.println("Disconnected from server");
+        LOG.info("Disconnected from server");
     }
     
     @Override
     public void run() {
-        System.out.println("Server connection thread started");
+        LOG.info("Server connection thread started");
         
         try {
             StringBuilder messageBuffer = new StringBuilder();
@@ -126,11 +130,11 @@ public class ServerConnection implements Runnable {
             }
         } catch (IOException e) {
             if (isRunning) {
-                System.err.println("Connection error: " + e.getMessage());
+                LOG.error("Connection error: {}", e.getMessage());
             }
         } finally {
             isConnected = false;
-            client.onConnectionLost();
+            client.onConnectionLost(this);
         }
     }
     
@@ -169,16 +173,26 @@ public class ServerConnection implements Runnable {
         Message message = protocolHandler.parseMessage(rawMessage);
         
         if (message == null) {
-            System.err.println("Failed to parse message: " + rawMessage);
+            LOG.error("Failed to parse message: {}", rawMessage);
             return;
         }
         
+        // Track the per-player sequence for session resumption
+        String sequence = Message.extractJsonField(rawMessage, "seq");
+        if (sequence != null) {
+            try {
+                client.onSequence(Long.parseLong(sequence));
+            } catch (NumberFormatException e) {
+                // Not a sequenced event
+            }
+        }
+        
         // Must be a ServerEvent
         if (message instanceof ServerEvent) {
             ServerEvent event = (ServerEvent) message;
             client.onServerEvent(event);
         } else {
-            System.err.println("Unexpected message type from server");
+            LOG.warn("Unexpected message type from server");
         }
     }
     
@@ -188,7 +202,7 @@ public class ServerConnection implements Runnable {
      */
     public void sendMessage(Message message) {
         if (!isConnected || outputStream == null) {
-            System.err.println("Not connected, cannot send message");
+            LOG.error("Not connected, cannot send message");
             return;
         }
         
@@ -197,7 +211,7 @@ public class ServerConnection implements Runnable {
             outputStream.println(json);
             outputStream.flush();
         } catch (Exception e) {
-            System.err.println("Error sending message: " + e.getMessage());
+            LOG.error("Error sending message: {}", e.getMessage());
         }
     }
     
@@ -10,17 +10,22 @@ import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.ButtonType;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
+import javafx.stage.DirectoryChooser;
 import javafx.stage.Stage;
 import javafx.stage.Modality;
 import javafx.animation.FadeTransition;
 import javafx.util.Duration;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 
 import com.monopoly.gui.controllers.MainController;
 import com.monopoly.gui.controllers.ConnectionDialogController;
+import com.monopoly.gui.controllers.ReplayController;
 import com.monopoly.client.Client;
+import com.monopoly.server.ReplayEngine;
+import com.monopoly.server.Server;
 
 /**
  * Main JavaFX Application class.
@@ -79,6 +84,8 @@ public class MainApp extends Application {
                 showMainGame();
             });
             
+            controller.setOnWatchReplay(this::showReplay);
+            
             // Create and style scene - fullscreen
             Scene scene = new Scene(root);
             applyDarkTheme(scene);
@@ -146,6 +153,45 @@ public class MainApp extends Application {
         }
     }
     
+    /**
+     * Asks for a room journal directory and plays it back in a replay window
+     */
+    public void showReplay() {
+        DirectoryChooser chooser = new DirectoryChooser();
+        chooser.setTitle("Open Room Journal");
+        File directory = chooser.showDialog(primaryStage);
+        if (directory == null) {
+            return;
+        }
+        
+        try {
+            ReplayEngine.Recording recording = ReplayEngine.load(directory.toPath());
+            if (recording == null) {
+                showError("No snapshot or game start in " + directory);
+                return;
+            }
+            // Replayed rooms need a host server; it is never started
+            ReplayEngine.Stepper stepper = new ReplayEngine(new Server(0)).open(recording);
+            
+            FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/replay.fxml"));
+            Parent root = loader.load();
+            ReplayController controller = loader.getController();
+            controller.open(stepper);
+            
+            Stage replayStage = new Stage();
+            replayStage.setTitle("Replay - " + recording.getName());
+            replayStage.initOwner(primaryStage);
+            Scene scene = new Scene(root, 1100, 950);
+            applyDarkTheme(scene);
+            replayStage.setScene(scene);
+            replayStage.setOnHidden(event -> controller.pause());
+            replayStage.show();
+            
+        } catch (IOException | IllegalArgumentException e) {
+            showError("Failed to open replay: " + e.getMessage());
+        }
+    }
+    
     /**
      * Shows trade dialog
      */
@@ -28,12 +28,14 @@ public class ConnectionDialogController implements Initializable {
     @FXML private Label errorLabel;
     @FXML private Button connectButton;
     @FXML private Button hostButton;
+    @FXML private Button replayButton;
     @FXML private HBox loadingBox;
     @FXML private Label loadingLabel;
     
     private Client client;
     private Runnable onConnectSuccess;
     private Runnable onHostGame;
+    private Runnable onWatchReplay;
     private ToggleGroup tokenGroup;
     private PlayerToken selectedToken = PlayerToken.CAR;
     
@@ -204,6 +206,17 @@ public class ConnectionDialogController implements Initializable {
         }).start();
     }
     
+    /**
+     * Handles watch replay button click
+     */
+    @FXML
+    private void handleWatchReplay() {
+        clearError();
+        if (onWatchReplay != null) {
+            onWatchReplay.run();
+        }
+    }
+    
     /**
      * Shows loading state
      */
@@ -213,6 +226,7 @@ public class ConnectionDialogController implements Initializable {
         loadingBox.setManaged(true);
         connectButton.setDisable(true);
         hostButton.setDisable(true);
+        replayButton.setDisable(true);
         clearError();
     }
     
@@ -224,6 +238,7 @@ public class ConnectionDialogController implements Initializable {
         loadingBox.setManaged(false);
         connectButton.setDisable(false);
         hostButton.setDisable(false);
+        replayButton.setDisable(false);
     }
     
     /**
@@ -263,6 +278,13 @@ public class ConnectionDialogController implements Initializable {
         this.onHostGame = callback;
     }
     
+    /**
+     * Sets callback for watching a recorded game
+     */
+    public void setOnWatchReplay(Runnable callback) {
+        this.onWatchReplay = callback;
+    }
+    
     /**
      * Gets the entered player name
      */
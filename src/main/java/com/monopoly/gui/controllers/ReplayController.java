@@ -0,0 +1,186 @@
+package com.monopoly.gui.controllers;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.Slider;
+import javafx.scene.layout.GridPane;
+import javafx.util.Duration;
+
+import com.monopoly.server.ReplayEngine;
+
+import java.net.URL;
+import java.util.ResourceBundle;
+
+/**
+ * Controller for the replay window (replay.fxml).
+ * Plays a recorded game on the board at an adjustable speed: each tick of
+ * a JavaFX timeline replays one turn through the engine's stepper and
+ * redraws the board. The speed is in turns per second; the slider moves
+ * on a log scale so both ends of the range are reachable.
+ */
+public class ReplayController implements Initializable {
+
+    /** Slowest playback speed (turns per second) */
+    public static final double MIN_SPEED = 0.25;
+
+    /** Fastest playback speed (turns per second) */
+    public static final double MAX_SPEED = 50.0;
+
+    // FXML Injected Fields
+    @FXML private GridPane boardGrid;
+    @FXML private Button playButton, pauseButton, stepButton;
+    @FXML private Slider speedSlider;
+    @FXML private Label speedLabel, statusLabel;
+
+    // Board to draw on
+    private BoardController boardController;
+
+    // Replay position, set by open()
+    private ReplayEngine.Stepper stepper;
+
+    // Ticks once per turn
+    private Timeline timeline;
+
+    // Current speed (turns per second)
+    private double speed;
+
+    @Override
+    public void initialize(URL location, ResourceBundle resources) {
+        boardController = new BoardController(boardGrid);
+        speed = 1.0;
+
+        speedSlider.setMin(log2(MIN_SPEED));
+        speedSlider.setMax(log2(MAX_SPEED));
+        speedSlider.setValue(log2(speed));
+        speedSlider.valueProperty().addListener((obs, oldVal, newVal) ->
+            setSpeed(Math.pow(2, newVal.doubleValue())));
+        setSpeed(speed);
+
+        updateButtons();
+    }
+
+    /**
+     * Shows a recording, positioned before its first turn
+     * @param stepper Stepper opened on the recording
+     */
+    public void open(ReplayEngine.Stepper stepper) {
+        pause();
+        this.stepper = stepper;
+        boardController.updateBoard(stepper.getGameState());
+        report("Ready: " + stepper.getRecordCount() + " records");
+        updateButtons();
+    }
+
+    @FXML
+    private void handlePlay() {
+        play();
+    }
+
+    @FXML
+    private void handlePause() {
+        pause();
+    }
+
+    @FXML
+    private void handleStep() {
+        pause();
+        stepTurn();
+    }
+
+    /**
+     * Starts or resumes playback
+     */
+    public void play() {
+        if (stepper == null) {
+            return;
+        }
+        if (timeline == null) {
+            timeline = new Timeline(new KeyFrame(Duration.seconds(1.0), event -> stepTurn()));
+            timeline.setCycleCount(Animation.INDEFINITE);
+        }
+        timeline.setRate(speed);
+        timeline.play();
+        updateButtons();
+    }
+
+    /**
+     * Pauses playback
+     */
+    public void pause() {
+        if (timeline != null) {
+            timeline.pause();
+        }
+        updateButtons();
+    }
+
+    /**
+     * Sets the playback speed
+     * @param turnsPerSecond Speed, clamped to MIN_SPEED..MAX_SPEED
+     */
+    public void setSpeed(double turnsPerSecond) {
+        this.speed = Math.max(MIN_SPEED, Math.min(MAX_SPEED, turnsPerSecond));
+        if (timeline != null) {
+            timeline.setRate(speed);
+        }
+        speedLabel.setText(String.format("%.2f turns/s", speed));
+    }
+
+    /**
+     * Replays one turn and redraws the board. Playback stops at the end of
+     * the recording or when the replay diverges.
+     */
+    public void stepTurn() {
+        if (stepper == null) {
+            return;
+        }
+        boolean more;
+        try {
+            more = stepper.stepTurn();
+        } catch (IllegalStateException e) {
+            pause();
+            report("Replay diverged: " + e.getMessage());
+            return;
+        }
+        boardController.updateBoard(stepper.getGameState());
+        report("Turn " + stepper.getGameState().getTurnNumber() +
+               " (" + stepper.getPosition() + "/" + stepper.getRecordCount() + ")");
+        if (!more) {
+            pause();
+            stepButton.setDisable(true);
+            playButton.setDisable(true);
+            report("Replay finished");
+        }
+    }
+
+    /**
+     * Enables the buttons that apply to the current playback state
+     */
+    private void updateButtons() {
+        boolean loaded = stepper != null;
+        boolean playing = isPlaying();
+        playButton.setDisable(!loaded || playing);
+        pauseButton.setDisable(!playing);
+        stepButton.setDisable(!loaded);
+    }
+
+    private void report(String message) {
+        statusLabel.setText(message);
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public boolean isPlaying() {
+        return timeline != null && timeline.getStatus() == Animation.Status.RUNNING;
+    }
+}
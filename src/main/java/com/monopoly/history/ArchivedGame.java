@@ -0,0 +1,271 @@
+package com.monopoly.history;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+import com.monopoly.transaction.TransactionManager;
+import com.monopoly.transaction.TransactionType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Summary of a finished game as kept in the game archive: final
+ * standings and what the ledger moved, by transaction type.
+ */
+public class ArchivedGame {
+
+    /** Body format version */
+    private static final int VERSION = 1;
+
+    /**
+     * One player's final position
+     */
+    public static class Standing {
+
+        // Player ID in the room
+        private final int playerId;
+
+        // Display name (the archive's player index key)
+        private final String name;
+
+        // Money and net worth at the end
+        private final int money;
+        private final int netWorth;
+
+        // Properties owned at the end
+        private final int propertyCount;
+
+        // Whether the player went bankrupt
+        private final boolean bankrupt;
+
+        public Standing(int playerId, String name, int money, int netWorth, int propertyCount, boolean bankrupt) {
+            this.playerId = playerId;
+            this.name = name;
+            this.money = money;
+            this.netWorth = netWorth;
+            this.propertyCount = propertyCount;
+            this.bankrupt = bankrupt;
+        }
+
+        public int getPlayerId() {
+            return playerId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getMoney() {
+            return money;
+        }
+
+        public int getNetWorth() {
+            return netWorth;
+        }
+
+        public int getPropertyCount() {
+            return propertyCount;
+        }
+
+        public boolean isBankrupt() {
+            return bankrupt;
+        }
+
+        /**
+         * Checks if this standing ranks above another (survivors first,
+         * then by net worth)
+         */
+        boolean ranksAbove(Standing other) {
+            if (bankrupt != other.bankrupt) {
+                return !bankrupt;
+            }
+            return netWorth > other.netWorth;
+        }
+    }
+
+    // Room the game was played in
+    private final String roomId;
+
+    // Wall-clock time the game ended
+    private final long finishedAt;
+
+    // Turns played
+    private final int turnCount;
+
+    // Winner's player ID, or -1
+    private final int winnerId;
+
+    // Players, best first
+    private final ArrayList<Standing> standings;
+
+    // Ledger summary, indexed by TransactionType ordinal
+    private final long[] totalsByType;
+    private final int[] countsByType;
+
+    /**
+     * Creates an archived game
+     * @param roomId Room ID
+     * @param finishedAt End time (epoch millis)
+     * @param turnCount Turns played
+     * @param winnerId Winner, or -1
+     * @param standings Players, best first
+     * @param totalsByType Money moved per transaction type
+     * @param countsByType Transfers per transaction type
+     */
+    public ArchivedGame(String roomId, long finishedAt, int turnCount, int winnerId,
+                        ArrayList<Standing> standings, long[] totalsByType, int[] countsByType) {
+        this.roomId = roomId;
+        this.finishedAt = finishedAt;
+        this.turnCount = turnCount;
+        this.winnerId = winnerId;
+        this.standings = standings;
+        this.totalsByType = totalsByType;
+        this.countsByType = countsByType;
+    }
+
+    /**
+     * Summarizes a finished game
+     * @param gameState Final game state
+     * @param finishedAt End time (epoch millis)
+     * @return Archived game
+     */
+    public static ArchivedGame capture(GameState gameState, long finishedAt) {
+        ArrayList<Standing> standings = new ArrayList<>();
+        ArrayList<Player> players = gameState.getAllPlayers();
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            Standing standing = new Standing(player.getId(), player.getName(), player.getMoney(),
+                                             player.getNetWorth(), player.getPropertyCount(), player.isBankrupt());
+            int position = standings.size();
+            while (position > 0 && standing.ranksAbove(standings.get(position - 1))) {
+                position--;
+            }
+            standings.add(position, standing);
+        }
+
+        TransactionManager ledger = gameState.getLedger();
+        TransactionType[] types = TransactionType.values();
+        long[] totals = new long[types.length];
+        int[] counts = new int[types.length];
+        for (TransactionType type : types) {
+            totals[type.ordinal()] = ledger.getTotal(type);
+            counts[type.ordinal()] = ledger.getCount(type);
+        }
+        return new ArchivedGame(gameState.getRoomId(), finishedAt, gameState.getTurnNumber(),
+                                gameState.getWinnerId(), standings, totals, counts);
+    }
+
+    // ==================== Encoding ====================
+
+    /**
+     * Encodes the game for the archive file
+     * @return Body bytes
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(roomId != null ? roomId : "");
+            out.writeLong(finishedAt);
+            out.writeInt(turnCount);
+            out.writeInt(winnerId);
+            out.writeByte(standings.size());
+            for (int i = 0; i < standings.size(); i++) {
+                Standing standing = standings.get(i);
+                out.writeInt(standing.playerId);
+                out.writeUTF(standing.name);
+                out.writeInt(standing.money);
+                out.writeInt(standing.netWorth);
+                out.writeShort(standing.propertyCount);
+                out.writeBoolean(standing.bankrupt);
+            }
+            out.writeByte(totalsByType.length);
+            for (int i = 0; i < totalsByType.length; i++) {
+                out.writeLong(totalsByType[i]);
+                out.writeInt(countsByType[i]);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("In-memory encoding failed", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a game written by encode()
+     * @param body Body bytes
+     * @return Archived game
+     * @throws IOException if the body is malformed
+     */
+    public static ArchivedGame decode(byte[] body) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported archive version " + version);
+        }
+        String roomId = in.readUTF();
+        long finishedAt = in.readLong();
+        int turnCount = in.readInt();
+        int winnerId = in.readInt();
+        int playerCount = in.readUnsignedByte();
+        ArrayList<Standing> standings = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            standings.add(new Standing(in.readInt(), in.readUTF(), in.readInt(), in.readInt(),
+                                       in.readShort(), in.readBoolean()));
+        }
+        // Types added after the game was written read as zero
+        int typeCount = in.readUnsignedByte();
+        int known = TransactionType.values().length;
+        long[] totals = new long[known];
+        int[] counts = new int[known];
+        for (int i = 0; i < typeCount; i++) {
+            long total = in.readLong();
+            int count = in.readInt();
+            if (i < known) {
+                totals[i] = total;
+                counts[i] = count;
+            }
+        }
+        return new ArchivedGame(roomId, finishedAt, turnCount, winnerId, standings, totals, counts);
+    }
+
+    // ==================== Getters ====================
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public long getFinishedAt() {
+        return finishedAt;
+    }
+
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    public int getWinnerId() {
+        return winnerId;
+    }
+
+    public ArrayList<Standing> getStandings() {
+        return standings;
+    }
+
+    public long getTotal(TransactionType type) {
+        return totalsByType[type.ordinal()];
+    }
+
+    public int getCount(TransactionType type) {
+        return countsByType[type.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+        String winner = standings.isEmpty() ? "-" : standings.get(0).getName();
+        return "ArchivedGame{room=" + roomId + ", turns=" + turnCount + ", winner=" + winner +
+               ", players=" + standings.size() + '}';
+    }
+}
@@ -0,0 +1,165 @@
+package com.monopoly.history;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.model.game.Dice;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * What a journaled command did to the game: dice, cards drawn, whose turn
+ * it is and every player's cash afterwards. Replay recomputes the outcome
+ * and compares it with the recorded one to prove the game was reproduced.
+ */
+public class CommandOutcome {
+
+    // Dice after the command
+    private final int die1;
+    private final int die2;
+
+    // Cards drawn while handling the command
+    private final int[] cardsDrawn;
+
+    // Turn position after the command
+    private final int currentPlayerId;
+    private final int turnNumber;
+    private final int turnPhase;
+
+    // Cash of each player, in turn order
+    private final int[] money;
+
+    /**
+     * Creates an outcome
+     */
+    private CommandOutcome(int die1, int die2, int[] cardsDrawn, int currentPlayerId,
+                           int turnNumber, int turnPhase, int[] money) {
+        this.die1 = die1;
+        this.die2 = die2;
+        this.cardsDrawn = cardsDrawn;
+        this.currentPlayerId = currentPlayerId;
+        this.turnNumber = turnNumber;
+        this.turnPhase = turnPhase;
+        this.money = money;
+    }
+
+    /**
+     * Captures the outcome from the state after a command
+     * @param state Game state
+     * @param cardsDrawn IDs of the cards drawn during the command
+     * @return Outcome
+     */
+    public static CommandOutcome capture(GameState state, ArrayList<Integer> cardsDrawn) {
+        Dice dice = state.getDice();
+        int[] cards = new int[cardsDrawn.size()];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = cardsDrawn.get(i);
+        }
+        ArrayList<Integer> order = state.getPlayerOrder();
+        int[] money = new int[order.size()];
+        for (int i = 0; i < money.length; i++) {
+            Player player = state.getPlayer(order.get(i));
+            money[i] = player != null ? player.getMoney() : 0;
+        }
+        return new CommandOutcome(dice.getDie1(), dice.getDie2(), cards, state.getCurrentPlayerId(),
+                                  state.getTurnNumber(), state.getTurnPhase().ordinal(), money);
+    }
+
+    // ==================== Encoding ====================
+
+    /**
+     * Writes the outcome
+     * @param out Target stream
+     * @throws IOException on write failure
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeByte(die1);
+        out.writeByte(die2);
+        out.writeByte(cardsDrawn.length);
+        for (int card : cardsDrawn) {
+            out.writeByte(card);
+        }
+        out.writeInt(currentPlayerId);
+        out.writeInt(turnNumber);
+        out.writeByte(turnPhase);
+        out.writeByte(money.length);
+        for (int cash : money) {
+            out.writeInt(cash);
+        }
+    }
+
+    /**
+     * Reads an outcome
+     * @param in Source stream
+     * @return Outcome
+     * @throws IOException on read failure
+     */
+    public static CommandOutcome read(DataInputStream in) throws IOException {
+        int die1 = in.readUnsignedByte();
+        int die2 = in.readUnsignedByte();
+        int[] cards = new int[in.readUnsignedByte()];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = in.readUnsignedByte();
+        }
+        int currentPlayerId = in.readInt();
+        int turnNumber = in.readInt();
+        int turnPhase = in.readUnsignedByte();
+        int[] money = new int[in.readUnsignedByte()];
+        for (int i = 0; i < money.length; i++) {
+            money[i] = in.readInt();
+        }
+        return new CommandOutcome(die1, die2, cards, currentPlayerId, turnNumber, turnPhase, money);
+    }
+
+    // ==================== Getters ====================
+
+    public int getDie1() {
+        return die1;
+    }
+
+    public int getDie2() {
+        return die2;
+    }
+
+    public int[] getCardsDrawn() {
+        return cardsDrawn;
+    }
+
+    public int getCurrentPlayerId() {
+        return currentPlayerId;
+    }
+
+    public int getTurnNumber() {
+        return turnNumber;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof CommandOutcome)) return false;
+        CommandOutcome other = (CommandOutcome) obj;
+        return die1 == other.die1 && die2 == other.die2
+                && currentPlayerId == other.currentPlayerId
+                && turnNumber == other.turnNumber && turnPhase == other.turnPhase
+                && Arrays.equals(cardsDrawn, other.cardsDrawn)
+                && Arrays.equals(money, other.money);
+    }
+
+    @Override
+    public int hashCode() {
+        return ((die1 * 7 + die2) * 31 + currentPlayerId) * 31 + turnNumber;
+    }
+
+    @Override
+    public String toString() {
+        return "CommandOutcome{" +
+                "dice=" + die1 + "+" + die2 +
+                ", cards=" + cardsDrawn.length +
+                ", current=" + currentPlayerId +
+                ", turn=" + turnNumber +
+                '}';
+    }
+}
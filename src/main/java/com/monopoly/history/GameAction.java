@@ -1,24 +1,172 @@
 package com.monopoly.history;
 
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.game.StateVector;
+
 /**
  * Represents a game action that can be undone/redone.
+ * Instead of before and after copies of the whole game, an action keeps
+ * only the state vector slots it changed with their old and new values,
+ * so its size follows the number of fields the action touched.
  */
 public class GameAction {
 
-    // TODO: Implement actionId field
-    // TODO: Implement actionType field (enum ActionType)
-    // TODO: Implement playerId field
-    // TODO: Implement timestamp field
-    // TODO: Implement beforeState field (snapshot for undo)
-    // TODO: Implement afterState field (snapshot for redo)
-    // TODO: Implement description field
-    // TODO: Implement isReversible field
-    
-    // TODO: Implement constructor
-    // TODO: Implement getters for all fields
-    // TODO: Implement undo() - restores before state
-    // TODO: Implement redo() - restores after state
-    // TODO: Implement isReversible()
-    // TODO: Implement toString()
+    // Position in the game's history
+    private final long actionId;
+
+    // What kind of action this was
+    private final ActionType actionType;
+
+    // Player who acted (-1 for the game itself)
+    private final int playerId;
+
+    // Wall-clock time of the action
+    private final long timestamp;
+
+    // Human-readable summary
+    private final String description;
+
+    // Changed state vector slots with their values before and after
+    private final int[] slots;
+    private final int[] beforeValues;
+    private final int[] afterValues;
+
+    // Whether the change can be written back (no cards, auctions, trades or player changes)
+    private final boolean reversible;
+
+    /**
+     * Creates an action from its changed slots
+     */
+    private GameAction(long actionId, ActionType actionType, int playerId, String description,
+                       int[] slots, int[] beforeValues, int[] afterValues, boolean reversible) {
+        this.actionId = actionId;
+        this.actionType = actionType;
+        this.playerId = playerId;
+        this.timestamp = System.currentTimeMillis();
+        this.description = description;
+        this.slots = slots;
+        this.beforeValues = beforeValues;
+        this.afterValues = afterValues;
+        this.reversible = reversible;
+    }
+
+    /**
+     * Records an action from the state vectors taken around it
+     * @param actionId Action ID
+     * @param actionType Action type
+     * @param playerId Acting player or -1
+     * @param description Summary
+     * @param before StateVector.capture() before the action
+     * @param after StateVector.capture() after the action
+     * @return Action holding only the changed slots
+     */
+    public static GameAction record(long actionId, ActionType actionType, int playerId, String description,
+                                    int[] before, int[] after) {
+        if (!StateVector.isRewindable(before, after)) {
+            return new GameAction(actionId, actionType, playerId, description,
+                                  new int[0], new int[0], new int[0], false);
+        }
+        int changed = 0;
+        for (int i = 0; i < before.length; i++) {
+            if (before[i] != after[i]) {
+                changed++;
+            }
+        }
+        int[] slots = new int[changed];
+        int[] beforeValues = new int[changed];
+        int[] afterValues = new int[changed];
+        int next = 0;
+        for (int i = 0; i < before.length; i++) {
+            if (before[i] != after[i]) {
+                slots[next] = i;
+                beforeValues[next] = before[i];
+                afterValues[next] = after[i];
+                next++;
+            }
+        }
+        return new GameAction(actionId, actionType, playerId, description,
+                              slots, beforeValues, afterValues, true);
+    }
+
+    // ==================== Undo / Redo ====================
+
+    /**
+     * Restores the state from before the action
+     * @param state Game state, as the action left it
+     * @param vector State vector of the game as the action left it; updated in place
+     * @throws IllegalStateException if the action is not reversible or the state moved on
+     */
+    public void undo(GameState state, int[] vector) {
+        rewrite(state, vector, afterValues, beforeValues);
+    }
+
+    /**
+     * Restores the state from after the action
+     * @param state Game state, as it was before the action
+     * @param vector State vector of the game as it was before the action; updated in place
+     * @throws IllegalStateException if the action is not reversible or the state moved on
+     */
+    public void redo(GameState state, int[] vector) {
+        rewrite(state, vector, beforeValues, afterValues);
+    }
+
+    /**
+     * Checks the changed slots hold the expected values, then writes the others
+     */
+    private void rewrite(GameState state, int[] vector, int[] expected, int[] values) {
+        if (!reversible) {
+            throw new IllegalStateException("Action " + actionId + " (" + actionType + ") is not reversible");
+        }
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] >= vector.length || vector[slots[i]] != expected[i]) {
+                throw new IllegalStateException("Game changed outside history since action " + actionId);
+            }
+        }
+        StateVector.apply(state, vector, slots, values);
+    }
+
+    // ==================== Getters ====================
+
+    public long getActionId() {
+        return actionId;
+    }
+
+    public ActionType getActionType() {
+        return actionType;
+    }
+
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Gets the number of state fields the action changed
+     * @return Changed field count
+     */
+    public int getChangedFieldCount() {
+        return slots.length;
+    }
+
+    public boolean isReversible() {
+        return reversible;
+    }
 
+    @Override
+    public String toString() {
+        return "GameAction{" +
+                "id=" + actionId +
+                ", type=" + actionType +
+                ", player=" + playerId +
+                ", changed=" + slots.length +
+                ", reversible=" + reversible +
+                '}';
+    }
 }
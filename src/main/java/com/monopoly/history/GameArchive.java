@@ -0,0 +1,377 @@
+package com.monopoly.history;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.datastructures.HashTable;
+import com.monopoly.util.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * Archive of finished games in one append-only local file.
+ * Rooms hand games to archive() and return at once; a background thread
+ * drains the queue every FLUSH_INTERVAL_MS and appends the whole batch
+ * with one write and one fsync. A batch that cannot be written goes back
+ * to the head of the queue and is retried on the next flush. Each record
+ * is framed as [int length][int crc32][body], so a torn tail left by a
+ * crash is detected and cut off when the file is opened.
+ * The indexes (file offsets by player name, and by end time) live in
+ * memory and are rebuilt by scanning the file on open, so a player's
+ * recent games cost one positional read each.
+ */
+public class GameArchive {
+
+    // Shared logger
+    private static final Logger LOG = Logger.getInstance();
+
+    /** Interval between write-behind flushes */
+    public static final long FLUSH_INTERVAL_MS = 200;
+
+    /** Archive file name inside the archive directory */
+    public static final String FILE_NAME = "games.dat";
+
+    /** Bytes before each body: length and checksum */
+    private static final int FRAME_HEADER = 8;
+
+    // Archive file
+    private final Path file;
+
+    // Open archive file (positional reads are thread-safe)
+    private final FileChannel channel;
+
+    // Games handed over but not written yet, oldest first
+    private final ConcurrentLinkedDeque<ArchivedGame> pending;
+
+    // Why the last batch could not be written (null after a successful write)
+    private volatile IOException writeError;
+
+    // Write-behind thread
+    private final ScheduledExecutorService writer;
+
+    // Offsets of each player's games, oldest first (lower-cased name -> offsets)
+    private final HashTable<String, ArrayList<Long>> byPlayer;
+
+    // End times and offsets of all games, sorted by end time
+    private long[] finishTimes;
+    private long[] offsets;
+    private int gameCount;
+
+    // End of the last complete record (where the next batch goes)
+    private long end;
+
+    /**
+     * Opens an archive, creating it if needed, and starts its writer
+     * @param directory Archive directory
+     * @throws IOException if the file cannot be opened or scanned
+     */
+    public GameArchive(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        this.file = directory.resolve(FILE_NAME);
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                        StandardOpenOption.WRITE);
+        this.pending = new ConcurrentLinkedDeque<>();
+        this.byPlayer = new HashTable<>();
+        this.finishTimes = new long[64];
+        this.offsets = new long[64];
+        this.gameCount = 0;
+        this.end = 0;
+        scan();
+
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-archive");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::flushPending, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS,
+                                      TimeUnit.MILLISECONDS);
+    }
+
+    // ==================== Writing ====================
+
+    /**
+     * Queues a finished game for writing; returns immediately
+     * @param game Game summary
+     */
+    public void archive(ArchivedGame game) {
+        pending.add(game);
+    }
+
+    /**
+     * Writes everything queued so far and waits for it
+     * @throws IOException if the batch could not be written; the games
+     *         stay queued for the next attempt
+     */
+    public void flush() throws IOException {
+        try {
+            writer.submit(this::flushPending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOG.error("Archive flush failed: {}", e.getMessage());
+        }
+        IOException error = writeError;
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Appends the queued games as one batch (writer thread only)
+     */
+    private void flushPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        ArrayList<ArchivedGame> batch = new ArrayList<>();
+        ArrayList<byte[]> bodies = new ArrayList<>();
+        int size = 0;
+        ArchivedGame game;
+        while ((game = pending.poll()) != null) {
+            byte[] body = game.encode();
+            batch.add(game);
+            bodies.add(body);
+            size += FRAME_HEADER + body.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < bodies.size(); i++) {
+            byte[] body = bodies.get(i);
+            crc.reset();
+            crc.update(body);
+            buffer.putInt(body.length).putInt((int) crc.getValue()).put(body);
+        }
+        buffer.flip();
+
+        long start = end;
+        try {
+            long position = start;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            // Keep the games, ahead of anything queued meanwhile
+            for (int i = batch.size() - 1; i >= 0; i--) {
+                pending.addFirst(batch.get(i));
+            }
+            writeError = e;
+            LOG.error("Could not archive {} game(s), will retry: {}", batch.size(), e.getMessage());
+            return;
+        }
+        writeError = null;
+
+        synchronized (this) {
+            long offset = start;
+            for (int i = 0; i < batch.size(); i++) {
+                index(batch.get(i), offset);
+                offset += FRAME_HEADER + bodies.get(i).length;
+            }
+            end = offset;
+        }
+    }
+
+    // ==================== Indexing ====================
+
+    /**
+     * Rebuilds the indexes from the file and cuts off a torn tail
+     */
+    private void scan() throws IOException {
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER);
+        CRC32 crc = new CRC32();
+        long position = 0;
+        while (position + FRAME_HEADER <= size) {
+            header.clear();
+            channel.read(header, position);
+            header.flip();
+            int length = header.getInt();
+            int checksum = header.getInt();
+            if (length <= 0 || position + FRAME_HEADER + length > size) {
+                break;
+            }
+            byte[] body = new byte[length];
+            readFully(ByteBuffer.wrap(body), position + FRAME_HEADER);
+            crc.reset();
+            crc.update(body);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            index(ArchivedGame.decode(body), position);
+            position += FRAME_HEADER + length;
+        }
+        if (position < size) {
+            LOG.warn("Archive {}: discarding {} torn byte(s)", file, size - position);
+            channel.truncate(position);
+        }
+        end = position;
+    }
+
+    /**
+     * Adds a game at an offset to both indexes
+     */
+    private void index(ArchivedGame game, long offset) {
+        ArrayList<ArchivedGame.Standing> standings = game.getStandings();
+        for (int i = 0; i < standings.size(); i++) {
+            String key = key(standings.get(i).getName());
+            ArrayList<Long> games = byPlayer.get(key);
+            if (games == null) {
+                games = new ArrayList<>();
+                byPlayer.put(key, games);
+            }
+            if (games.isEmpty() || games.get(games.size() - 1) != offset) {
+                games.add(offset);
+            }
+        }
+
+        if (gameCount == finishTimes.length) {
+            long[] grownTimes = new long[gameCount * 2];
+            long[] grownOffsets = new long[gameCount * 2];
+            System.arraycopy(finishTimes, 0, grownTimes, 0, gameCount);
+            System.arraycopy(offsets, 0, grownOffsets, 0, gameCount);
+            finishTimes = grownTimes;
+            offsets = grownOffsets;
+        }
+        // Games arrive almost in end-time order, so this rarely shifts anything
+        int slot = gameCount;
+        while (slot > 0 && finishTimes[slot - 1] > game.getFinishedAt()) {
+            slot--;
+        }
+        System.arraycopy(finishTimes, slot, finishTimes, slot + 1, gameCount - slot);
+        System.arraycopy(offsets, slot, offsets, slot + 1, gameCount - slot);
+        finishTimes[slot] = game.getFinishedAt();
+        offsets[slot] = offset;
+        gameCount++;
+    }
+
+    private static String key(String playerName) {
+        return playerName.toLowerCase(Locale.ROOT);
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Gets a player's most recent games (written ones only)
+     * @param playerName Player name (case-insensitive)
+     * @param max Maximum number of games
+     * @return Games, newest first
+     * @throws IOException if the file cannot be read
+     */
+    public ArrayList<ArchivedGame> findByPlayer(String playerName, int max) throws IOException {
+        long[] wanted;
+        synchronized (this) {
+            ArrayList<Long> games = byPlayer.get(key(playerName));
+            if (games == null) {
+                return new ArrayList<>();
+            }
+            int count = Math.min(max, games.size());
+            wanted = new long[count];
+            for (int i = 0; i < count; i++) {
+                wanted[i] = games.get(games.size() - 1 - i);
+            }
+        }
+        return readAll(wanted);
+    }
+
+    /**
+     * Gets the games that ended in a time range
+     * @param fromMillis Start of the range (inclusive, epoch millis)
+     * @param toMillis End of the range (exclusive, epoch millis)
+     * @return Games, oldest first
+     * @throws IOException if the file cannot be read
+     */
+    public ArrayList<ArchivedGame> findBetween(long fromMillis, long toMillis) throws IOException {
+        long[] wanted;
+        synchronized (this) {
+            int first = lowerBound(fromMillis);
+            int last = lowerBound(toMillis);
+            wanted = new long[Math.max(0, last - first)];
+            System.arraycopy(offsets, first, wanted, 0, wanted.length);
+        }
+        return readAll(wanted);
+    }
+
+    /**
+     * Finds the first game that ended at or after a time
+     */
+    private int lowerBound(long millis) {
+        int low = 0;
+        int high = gameCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (finishTimes[mid] < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Reads the games at the given offsets, in order
+     */
+    private ArrayList<ArchivedGame> readAll(long[] wanted) throws IOException {
+        ArrayList<ArchivedGame> games = new ArrayList<>(Math.max(1, wanted.length));
+        ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER);
+        for (long offset : wanted) {
+            header.clear();
+            readFully(header, offset);
+            header.flip();
+            byte[] body = new byte[header.getInt()];
+            readFully(ByteBuffer.wrap(body), offset + FRAME_HEADER);
+            games.add(ArchivedGame.decode(body));
+        }
+        return games;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of archive at " + position);
+            }
+            position += read;
+        }
+    }
+
+    public synchronized int getGameCount() {
+        return gameCount;
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    // ==================== Lifecycle ====================
+
+    /**
+     * Writes what is queued, stops the writer and closes the file
+     */
+    public void close() {
+        try {
+            flush();
+        } catch (IOException e) {
+            LOG.error("Archive {} closed with {} game(s) unwritten: {}", file, pending.size(), e.getMessage());
+        }
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+            channel.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            LOG.error("Could not close archive {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,443 @@
+package com.monopoly.history;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.util.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of one room.
+ * Records go into fixed-size memory-mapped segment files named after the
+ * first sequence they hold, so an append is a copy into the page cache and
+ * never waits for the disk. Durability comes from sync(), which a
+ * background thread calls for all journals at a short interval: every
+ * record appended since the previous sync is committed by a single force()
+ * per segment (group commit).
+ * Every few turns the room is also written to a snapshot file next to the
+ * segments; segments wholly covered by the snapshot are then deleted, so
+ * recovery loads the snapshot and replays only the short tail after it.
+ */
+public class GameJournal {
+
+    // Shared logger
+    private static final Logger LOG = Logger.getInstance();
+
+    /** Size of one segment file */
+    public static final int SEGMENT_SIZE = 4 * 1024 * 1024;
+
+    /** Segment file name prefix */
+    private static final String SEGMENT_PREFIX = "segment-";
+
+    /** Segment file name suffix */
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    /** Snapshot file name prefix */
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+
+    /** Snapshot file name suffix */
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    /** Snapshot file bytes before the body: sequence, length, crc32 */
+    private static final int SNAPSHOT_HEADER = 16;
+
+    // Directory holding this room's segments
+    private final Path directory;
+
+    // Segment currently appended to (null until the first append)
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+
+    // First sequence of the current segment
+    private long segmentFirstSequence;
+
+    // Sequence assigned to the next record
+    private long nextSequence;
+
+    // Full segments not yet forced to disk
+    private final ArrayList<MappedByteBuffer> unsynced;
+
+    // Whether the current segment has unforced records
+    private boolean dirty;
+
+    // Set once closed
+    private boolean closed;
+
+    /**
+     * Creates a journal positioned at the end of the existing records
+     */
+    private GameJournal(Path directory) {
+        this.directory = directory;
+        this.nextSequence = 1;
+        this.unsynced = new ArrayList<>();
+        this.dirty = false;
+        this.closed = false;
+    }
+
+    /**
+     * Opens (or creates) the journal in a directory for appending.
+     * A torn record at the end of the last segment is discarded.
+     * @param directory Room journal directory
+     * @return Journal ready for appends
+     * @throws IOException if the directory cannot be used
+     */
+    public static GameJournal open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        GameJournal journal = new GameJournal(directory);
+
+        ArrayList<Path> segments = listSegments(directory);
+        if (!segments.isEmpty()) {
+            Path last = segments.get(segments.size() - 1);
+            journal.nextSequence = firstSequenceOf(last);
+            journal.segmentFirstSequence = journal.nextSequence;
+            journal.channel = FileChannel.open(last, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            journal.segment = journal.channel.map(FileChannel.MapMode.READ_WRITE, 0, SEGMENT_SIZE);
+
+            JournalRecord record;
+            while ((record = JournalRecord.readFrom(journal.segment)) != null) {
+                journal.nextSequence = record.getSequence() + 1;
+            }
+
+            // Clear a torn record a crash may have left after the last complete one
+            int end = journal.segment.position();
+            int tornLength = end + 4 <= SEGMENT_SIZE ? journal.segment.getInt(end) : 0;
+            if (tornLength != 0) {
+                int tornEnd = tornLength > 0 && tornLength <= SEGMENT_SIZE - end - JournalRecord.FRAME_HEADER
+                        ? end + JournalRecord.FRAME_HEADER + tornLength
+                        : SEGMENT_SIZE;
+                for (int i = end; i < tornEnd; i++) {
+                    journal.segment.put(i, (byte) 0);
+                }
+            }
+        }
+        return journal;
+    }
+
+    // ==================== Writing ====================
+
+    /**
+     * Appends a record. Returns as soon as the record is in the mapped
+     * segment; it becomes durable at the next sync().
+     * @param type Record type
+     * @param playerId Player ID or -1
+     * @param body Record body
+     * @return Sequence assigned to the record
+     * @throws IOException if a new segment cannot be created
+     */
+    public synchronized long append(byte type, int playerId, byte[] body) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed: " + directory);
+        }
+        JournalRecord record = new JournalRecord(type, nextSequence, System.currentTimeMillis(), playerId, body);
+        int size = record.getFramedSize();
+        if (size > SEGMENT_SIZE - JournalRecord.FRAME_HEADER) {
+            throw new IllegalArgumentException("Record of " + size + " bytes does not fit a segment");
+        }
+
+        // Keep a zero length after the last record as the end marker
+        if (segment == null || segment.remaining() < size + JournalRecord.FRAME_HEADER) {
+            rollSegment();
+        }
+        record.writeTo(segment);
+        dirty = true;
+        return nextSequence++;
+    }
+
+    /**
+     * Starts a new segment beginning at the next sequence
+     */
+    private void rollSegment() throws IOException {
+        if (segment != null) {
+            if (dirty) {
+                unsynced.add(segment);
+            }
+            channel.close();
+        }
+        Path file = directory.resolve(segmentName(nextSequence));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, SEGMENT_SIZE);
+        segmentFirstSequence = nextSequence;
+        dirty = false;
+    }
+
+    /**
+     * Closes the current segment if it holds records, so the next append
+     * starts a new one. Called when a snapshot is taken, which lets the
+     * segments before it be deleted whole.
+     * @throws IOException if a new segment cannot be created
+     */
+    public synchronized void rollover() throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed: " + directory);
+        }
+        if (segment != null && nextSequence > segmentFirstSequence) {
+            rollSegment();
+        }
+    }
+
+    /**
+     * Forces every record appended so far to disk. Appends may continue
+     * while the force runs; they are picked up by the next sync.
+     */
+    public void sync() {
+        ArrayList<MappedByteBuffer> pending = new ArrayList<>();
+        synchronized (this) {
+            for (int i = 0; i < unsynced.size(); i++) {
+                pending.add(unsynced.get(i));
+            }
+            unsynced.clear();
+            if (dirty && segment != null) {
+                pending.add(segment);
+                dirty = false;
+            }
+        }
+        for (int i = 0; i < pending.size(); i++) {
+            pending.get(i).force();
+        }
+    }
+
+    /**
+     * Syncs and closes the journal
+     */
+    public void close() {
+        sync();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    LOG.error("Error closing journal {}: {}", directory, e.getMessage());
+                }
+            }
+            channel = null;
+            segment = null;
+        }
+    }
+
+    // ==================== Snapshots ====================
+
+    /**
+     * Durably writes a snapshot of the room as of a sequence, then deletes
+     * older snapshots and every segment whose records all precede it.
+     * The file is written under a temporary name and renamed, so a crash
+     * never leaves a half-written snapshot behind.
+     * @param sequence Last journal sequence the snapshot includes
+     * @param body Snapshot bytes
+     * @throws IOException if the snapshot cannot be written
+     */
+    public void writeSnapshot(long sequence, byte[] body) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        ByteBuffer buffer = ByteBuffer.allocate(SNAPSHOT_HEADER + body.length);
+        buffer.putLong(sequence);
+        buffer.putInt(body.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(body);
+        buffer.flip();
+
+        Path file = directory.resolve(snapshotName(sequence));
+        Path temporary = directory.resolve(snapshotName(sequence) + ".tmp");
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        ArrayList<Path> snapshots = listSnapshots(directory);
+        for (int i = 0; i < snapshots.size(); i++) {
+            if (sequenceOf(snapshots.get(i), SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX) < sequence) {
+                Files.deleteIfExists(snapshots.get(i));
+            }
+        }
+        truncateThrough(sequence);
+    }
+
+    /**
+     * Deletes the segments whose records all have a sequence up to a bound.
+     * The segment being appended to is always kept.
+     * @param sequence Highest sequence that is no longer needed
+     * @throws IOException if a segment cannot be deleted
+     */
+    public void truncateThrough(long sequence) throws IOException {
+        long current;
+        synchronized (this) {
+            current = segment != null ? segmentFirstSequence : nextSequence;
+        }
+        ArrayList<Path> segments = listSegments(directory);
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            long next = firstSequenceOf(segments.get(i + 1));
+            if (next - 1 > sequence || firstSequenceOf(segments.get(i)) >= current) {
+                break;
+            }
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    /**
+     * Loads the newest valid snapshot of a journal
+     * @param directory Room journal directory
+     * @return Snapshot as a SNAPSHOT record carrying its sequence, or null if there is none
+     * @throws IOException if a snapshot file cannot be read
+     */
+    public static JournalRecord readSnapshot(Path directory) throws IOException {
+        ArrayList<Path> snapshots = listSnapshots(directory);
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            Path file = snapshots.get(i);
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.remaining() < SNAPSHOT_HEADER) {
+                continue;
+            }
+            long sequence = buffer.getLong();
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length != buffer.remaining()) {
+                continue;
+            }
+            byte[] body = new byte[length];
+            buffer.get(body);
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            if ((int) crc.getValue() == checksum) {
+                return new JournalRecord(JournalRecord.SNAPSHOT, sequence,
+                        Files.getLastModifiedTime(file).toMillis(), -1, body);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lists the snapshot files of a journal, oldest first
+     */
+    private static ArrayList<Path> listSnapshots(Path directory) {
+        return listFiles(directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+    }
+
+    /**
+     * Builds the file name of a snapshot
+     */
+    private static String snapshotName(long sequence) {
+        return String.format("%s%020d%s", SNAPSHOT_PREFIX, sequence, SNAPSHOT_SUFFIX);
+    }
+
+    // ==================== Reading ====================
+
+    /**
+     * Reads every complete record of a journal, in order
+     * @param directory Room journal directory
+     * @return Records
+     * @throws IOException if a segment cannot be read
+     */
+    public static ArrayList<JournalRecord> readAll(Path directory) throws IOException {
+        return readAfter(directory, 0);
+    }
+
+    /**
+     * Reads the complete records that follow a sequence, skipping the
+     * segments that end before it
+     * @param directory Room journal directory
+     * @param sequence Last sequence already accounted for (0 for all)
+     * @return Records with a higher sequence, in order
+     * @throws IOException if a segment cannot be read
+     */
+    public static ArrayList<JournalRecord> readAfter(Path directory, long sequence) throws IOException {
+        ArrayList<JournalRecord> records = new ArrayList<>();
+        ArrayList<Path> segments = listSegments(directory);
+        for (int i = 0; i < segments.size(); i++) {
+            if (i + 1 < segments.size() && firstSequenceOf(segments.get(i + 1)) <= sequence + 1) {
+                continue;
+            }
+            try (FileChannel file = FileChannel.open(segments.get(i), StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = file.map(FileChannel.MapMode.READ_ONLY, 0, file.size());
+                JournalRecord record;
+                while ((record = JournalRecord.readFrom(buffer)) != null) {
+                    if (record.getSequence() > sequence) {
+                        records.add(record);
+                    }
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Lists the segment files of a journal in sequence order
+     * @param directory Room journal directory
+     * @return Segment paths
+     */
+    public static ArrayList<Path> listSegments(Path directory) {
+        return listFiles(directory, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Lists the files of a journal with a prefix and suffix in sequence order
+     */
+    private static ArrayList<Path> listFiles(Path directory, String prefix, String suffix) {
+        ArrayList<Path> paths = new ArrayList<>();
+        File[] files = directory.toFile().listFiles((dir, name) ->
+                name.startsWith(prefix) && name.endsWith(suffix));
+        if (files == null) {
+            return paths;
+        }
+        // Names are zero-padded, so name order is sequence order
+        Arrays.sort(files);
+        for (File file : files) {
+            paths.add(file.toPath());
+        }
+        return paths;
+    }
+
+    /**
+     * Gets the first sequence held by a segment, from its file name
+     * @param segment Segment path
+     * @return First sequence
+     */
+    public static long firstSequenceOf(Path segment) {
+        return sequenceOf(segment, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Parses the sequence out of a segment or snapshot file name
+     */
+    private static long sequenceOf(Path file, String prefix, String suffix) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+    }
+
+    /**
+     * Builds the file name of a segment
+     */
+    private static String segmentName(long firstSequence) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX);
+    }
+
+    // ==================== Getters ====================
+
+    public synchronized long getLastSequence() {
+        return nextSequence - 1;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+}
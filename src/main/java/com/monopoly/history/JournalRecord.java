@@ -0,0 +1,164 @@
+package com.monopoly.history;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * One entry of a room journal.
+ * On disk each record is framed as [length][crc32][payload], where the
+ * payload holds the type, sequence, timestamp, player and an opaque body.
+ * A zero length marks the end of the written part of a segment.
+ */
+public class JournalRecord {
+
+    /** Room checkpoint that replay starts from (written when a game starts) */
+    public static final byte GENESIS = 1;
+
+    /** Accepted client command together with its outcome */
+    public static final byte COMMAND = 2;
+
+    /** Player dropped out of a running game */
+    public static final byte DISCONNECT = 3;
+
+    /** Room snapshot loaded from a snapshot file (never appended to segments) */
+    public static final byte SNAPSHOT = 4;
+
+    /** Hash of the game state at a turn boundary, checked on replay */
+    public static final byte CHECKSUM = 5;
+
+    /** Bytes before the payload: length and checksum */
+    static final int FRAME_HEADER = 8;
+
+    /** Payload bytes before the body: type, sequence, timestamp, player */
+    static final int PAYLOAD_HEADER = 21;
+
+    // Record kind
+    private final byte type;
+
+    // Position in the room journal (starts at 1)
+    private final long sequence;
+
+    // Wall-clock time of the append
+    private final long timestamp;
+
+    // Player the record concerns (-1 if none)
+    private final int playerId;
+
+    // Type-specific content
+    private final byte[] body;
+
+    /**
+     * Creates a record
+     * @param type Record type
+     * @param sequence Journal sequence
+     * @param timestamp Append time
+     * @param playerId Player ID or -1
+     * @param body Record body
+     */
+    public JournalRecord(byte type, long sequence, long timestamp, int playerId, byte[] body) {
+        this.type = type;
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.playerId = playerId;
+        this.body = body != null ? body : new byte[0];
+    }
+
+    // ==================== Framing ====================
+
+    /**
+     * Gets the number of bytes this record takes in a segment
+     * @return Framed size
+     */
+    int getFramedSize() {
+        return FRAME_HEADER + PAYLOAD_HEADER + body.length;
+    }
+
+    /**
+     * Writes the framed record at the buffer's position
+     * @param buffer Target buffer with at least getFramedSize() bytes left
+     */
+    void writeTo(ByteBuffer buffer) {
+        int start = buffer.position();
+        int payloadLength = PAYLOAD_HEADER + body.length;
+        buffer.putInt(payloadLength);
+        buffer.putInt(0);
+        buffer.put(type);
+        buffer.putLong(sequence);
+        buffer.putLong(timestamp);
+        buffer.putInt(playerId);
+        buffer.put(body);
+
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(start + FRAME_HEADER).limit(start + FRAME_HEADER + payloadLength);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        buffer.putInt(start + 4, (int) crc.getValue());
+    }
+
+    /**
+     * Reads a framed record at the buffer's position
+     * @param buffer Source buffer
+     * @return Record, or null at the end of the written data or at a torn write
+     */
+    static JournalRecord readFrom(ByteBuffer buffer) {
+        if (buffer.remaining() < FRAME_HEADER + PAYLOAD_HEADER) {
+            return null;
+        }
+        int start = buffer.position();
+        int payloadLength = buffer.getInt(start);
+        if (payloadLength < PAYLOAD_HEADER || payloadLength > buffer.remaining() - FRAME_HEADER) {
+            return null;
+        }
+        int checksum = buffer.getInt(start + 4);
+
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(start + FRAME_HEADER).limit(start + FRAME_HEADER + payloadLength);
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            return null;
+        }
+
+        byte type = payload.get();
+        long sequence = payload.getLong();
+        long timestamp = payload.getLong();
+        int playerId = payload.getInt();
+        byte[] body = new byte[payloadLength - PAYLOAD_HEADER];
+        payload.get(body);
+
+        buffer.position(start + FRAME_HEADER + payloadLength);
+        return new JournalRecord(type, sequence, timestamp, playerId, body);
+    }
+
+    // ==================== Getters ====================
+
+    public byte getType() {
+        return type;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    @Override
+    public String toString() {
+        return "JournalRecord{" +
+                "type=" + type +
+                ", seq=" + sequence +
+                ", player=" + playerId +
+                ", bytes=" + body.length +
+                '}';
+    }
+}
@@ -0,0 +1,182 @@
+package com.monopoly.history;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.util.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Journals of all rooms on a node, one directory per room.
+ * A single background thread syncs every open journal each
+ * GROUP_COMMIT_MS, so room threads only ever copy into mapped memory.
+ * Snapshots are written by a second thread for the same reason.
+ */
+public class JournalStore {
+
+    // Shared logger
+    private static final Logger LOG = Logger.getInstance();
+
+    /** Interval between group commits */
+    public static final long GROUP_COMMIT_MS = 5;
+
+    /** Turns between two snapshots of a room */
+    public static final int SNAPSHOT_INTERVAL_TURNS = 10;
+
+    // Root directory (one subdirectory per room)
+    private final Path directory;
+
+    // Open journals (roomId -> journal)
+    private final ConcurrentHashMap<String, GameJournal> journals;
+
+    // Group commit thread
+    private final ScheduledExecutorService syncer;
+
+    // Snapshot writer thread
+    private final ExecutorService snapshotter;
+
+    /**
+     * Creates a store and starts its group commit thread
+     * @param directory Root directory
+     */
+    public JournalStore(Path directory) {
+        this.directory = directory;
+        this.journals = new ConcurrentHashMap<>();
+        this.syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncer.scheduleWithFixedDelay(this::syncAll, GROUP_COMMIT_MS, GROUP_COMMIT_MS, TimeUnit.MILLISECONDS);
+        this.snapshotter = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens the journal of a room, creating it if needed
+     * @param roomId Room ID
+     * @return Journal
+     * @throws IOException if the journal cannot be opened
+     */
+    public synchronized GameJournal open(String roomId) throws IOException {
+        GameJournal journal = journals.get(roomId);
+        if (journal == null || journal.isClosed()) {
+            journal = GameJournal.open(directory.resolve(roomId));
+            journals.put(roomId, journal);
+        }
+        return journal;
+    }
+
+    /**
+     * Syncs and closes the journal of a room (its files are kept)
+     * @param roomId Room ID
+     */
+    public void close(String roomId) {
+        GameJournal journal = journals.remove(roomId);
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    /**
+     * Closes the journal of a room and deletes its files, for a room that
+     * now lives on another node
+     * @param roomId Room ID
+     */
+    public void discard(String roomId) {
+        close(roomId);
+        File room = roomDirectory(roomId).toFile();
+        File[] files = room.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        room.delete();
+    }
+
+    /**
+     * Writes a room snapshot in the background and truncates the journal
+     * behind it. The journal should have been rolled over at the sequence,
+     * so the segments before it can go.
+     * @param journal Room journal
+     * @param sequence Last journal sequence the snapshot includes
+     * @param body Snapshot bytes
+     */
+    public void snapshot(GameJournal journal, long sequence, byte[] body) {
+        snapshotter.execute(() -> {
+            try {
+                journal.writeSnapshot(sequence, body);
+            } catch (IOException | RuntimeException e) {
+                LOG.error("Snapshot failed for {}: {}", journal.getDirectory(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Lists the rooms that have a journal on disk
+     * @return Room IDs
+     */
+    public ArrayList<String> listRooms() {
+        ArrayList<String> rooms = new ArrayList<>();
+        File[] entries = directory.toFile().listFiles(File::isDirectory);
+        if (entries != null) {
+            for (File entry : entries) {
+                rooms.add(entry.getName());
+            }
+        }
+        return rooms;
+    }
+
+    /**
+     * Gets the journal directory of a room
+     * @param roomId Room ID
+     * @return Directory
+     */
+    public Path roomDirectory(String roomId) {
+        return directory.resolve(roomId);
+    }
+
+    /**
+     * Commits all open journals
+     */
+    private void syncAll() {
+        for (GameJournal journal : journals.values()) {
+            try {
+                journal.sync();
+            } catch (RuntimeException e) {
+                LOG.error("Journal sync failed for {}: {}", journal.getDirectory(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Stops the group commit thread and closes every journal
+     */
+    public void shutdown() {
+        snapshotter.shutdown();
+        try {
+            snapshotter.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        syncer.shutdown();
+        for (GameJournal journal : journals.values()) {
+            journal.close();
+        }
+        journals.clear();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+}
@@ -1,29 +1,178 @@
 package com.monopoly.history;
 
 import com.monopoly.datastructures.Stack;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.game.StateVector;
 
 /**
  * Manages Undo and Redo functionality using two stacks.
  * Logs reversible actions (Move, Buy, Build).
- * Some actions like Bankruptcy or Card Effects may not be reversible.
+ * Some actions like Bankruptcy or Card Effects may not be reversible;
+ * recording one clears the history, since nothing before it can be undone.
+ * Both stacks are bounded and drop their oldest entry when full.
+ * The manager keeps the state vector of the game as the history left it:
+ * an action is one capture diffed against it, and undo or redo write their
+ * slots into the game and the kept vector without capturing again.
  */
 public class UndoRedoManager {
 
-    // TODO: Implement undoStack field (Stack<GameAction>)
-    // TODO: Implement redoStack field (Stack<GameAction>)
-    // TODO: Implement maxHistorySize field (to prevent memory issues)
-    
-    // TODO: Implement constructor()
-    // TODO: Implement recordAction(GameAction action)
-    // TODO: Implement canUndo() - checks if undo stack not empty
-    // TODO: Implement canRedo() - checks if redo stack not empty
-    // TODO: Implement undo() - pops from undo, pushes to redo, returns action
-    // TODO: Implement redo() - pops from redo, pushes to undo, returns action
-    // TODO: Implement clearRedoStack() - called when new action is recorded
-    // TODO: Implement getUndoStackSize()
-    // TODO: Implement getRedoStackSize()
-    // TODO: Implement peekUndo() - view last action without removing
-    // TODO: Implement peekRedo()
-    // TODO: Implement clearAll() - clears both stacks
+    /** Default number of actions kept for undo */
+    public static final int DEFAULT_MAX_HISTORY = 1000;
 
+    // Actions that can be undone, newest on top
+    private final Stack<GameAction> undoStack;
+
+    // Undone actions that can be redone, newest on top
+    private final Stack<GameAction> redoStack;
+
+    // Maximum entries per stack
+    private final int maxHistorySize;
+
+    // State vector of the game after the newest recorded, undone or redone action
+    private int[] vector;
+
+    /**
+     * Creates a manager with the default history size
+     */
+    public UndoRedoManager() {
+        this(DEFAULT_MAX_HISTORY);
+    }
+
+    /**
+     * Creates a manager keeping a bounded history
+     * @param maxHistorySize Maximum number of actions kept for undo
+     */
+    public UndoRedoManager(int maxHistorySize) {
+        this.maxHistorySize = maxHistorySize;
+        this.undoStack = new Stack<>(maxHistorySize);
+        this.redoStack = new Stack<>(maxHistorySize);
+    }
+
+    /**
+     * Starts following a game: clears the history and takes the vector the
+     * first action is compared with
+     * @param state Game state
+     */
+    public void track(GameState state) {
+        clearAll();
+        vector = StateVector.capture(state);
+    }
+
+    /**
+     * Records an action that was just applied to the tracked game. The
+     * redo stack is cleared.
+     * @param actionId Action ID
+     * @param actionType Action type
+     * @param playerId Acting player or -1
+     * @param description Summary
+     * @param state Game state after the action
+     * @return Recorded action
+     * @throws IllegalStateException if no game is tracked
+     */
+    public GameAction record(long actionId, ActionType actionType, int playerId, String description,
+                             GameState state) {
+        if (vector == null) {
+            throw new IllegalStateException("No game tracked");
+        }
+        int[] after = StateVector.capture(state);
+        GameAction action = GameAction.record(actionId, actionType, playerId, description, vector, after);
+        vector = after;
+        push(action);
+        return action;
+    }
+
+    /**
+     * Pushes a recorded action, or drops the history for an irreversible one
+     */
+    private void push(GameAction action) {
+        clearRedoStack();
+        if (!action.isReversible()) {
+            undoStack.clear();
+            return;
+        }
+        undoStack.push(action);
+    }
+
+    public boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Undoes the most recent action
+     * @param state Game state to rewind
+     * @return Undone action, or null if there is nothing to undo
+     * @throws IllegalStateException if the game changed outside the history
+     */
+    public GameAction undo(GameState state) {
+        if (!canUndo()) {
+            return null;
+        }
+        GameAction action = undoStack.peek();
+        action.undo(state, vector);
+        redoStack.push(undoStack.pop());
+        return action;
+    }
+
+    /**
+     * Redoes the most recently undone action
+     * @param state Game state to move forward
+     * @return Redone action, or null if there is nothing to redo
+     * @throws IllegalStateException if the game changed outside the history
+     */
+    public GameAction redo(GameState state) {
+        if (!canRedo()) {
+            return null;
+        }
+        GameAction action = redoStack.peek();
+        action.redo(state, vector);
+        undoStack.push(redoStack.pop());
+        return action;
+    }
+
+    /**
+     * Drops the undone actions (a new action invalidates them)
+     */
+    public void clearRedoStack() {
+        redoStack.clear();
+    }
+
+    public int getUndoStackSize() {
+        return undoStack.size();
+    }
+
+    public int getRedoStackSize() {
+        return redoStack.size();
+    }
+
+    public int getMaxHistorySize() {
+        return maxHistorySize;
+    }
+
+    /**
+     * Gets the action undo() would revert
+     * @return Action, or null
+     */
+    public GameAction peekUndo() {
+        return canUndo() ? undoStack.peek() : null;
+    }
+
+    /**
+     * Gets the action redo() would reapply
+     * @return Action, or null
+     */
+    public GameAction peekRedo() {
+        return canRedo() ? redoStack.peek() : null;
+    }
+
+    /**
+     * Clears both stacks
+     */
+    public void clearAll() {
+        undoStack.clear();
+        redoStack.clear();
+    }
 }
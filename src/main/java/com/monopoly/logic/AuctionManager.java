@@ -6,6 +6,8 @@ import com.monopoly.model.game.Bank;
 import com.monopoly.model.game.GameState;
 import com.monopoly.model.player.Player;
 import com.monopoly.model.property.Property;
+import com.monopoly.transaction.Transaction;
+import com.monopoly.transaction.TransactionType;
 
 /**
  * Manages property auctions when a player declines to buy.
@@ -220,8 +222,8 @@ public class AuctionManager {
             
             if (winner != null && property != null) {
                 // Take money from winner
-                winner.removeMoney(winningBid);
-                bank.receiveFromPlayer(winningBid);
+                gameState.getLedger().transfer(TransactionType.AUCTION_PAYMENT, winnerId, Transaction.BANK_ID,
+                                               winningBid, property.getId());
                 
                 // Transfer property
                 bank.removeUnownedProperty(property.getId());
@@ -6,6 +6,10 @@ import com.monopoly.model.game.Bank;
 import com.monopoly.model.game.GameState;
 import com.monopoly.model.player.Player;
 import com.monopoly.model.property.Property;
+import com.monopoly.transaction.AssetTransfers;
+import com.monopoly.transaction.Transaction;
+import com.monopoly.transaction.TransactionType;
+import com.monopoly.transaction.UnitOfWork;
 
 /**
  * Manages player bankruptcy.
@@ -76,8 +80,11 @@ public class BankruptcyManager {
         sellAllBuildings(playerId);
         
         if (creditorId >= 0) {
-            // Transfer assets to another player
-            transferAssetsToCreditor(playerId, creditorId);
+            // Transfer assets to another player; if that rolls back, the
+            // bank takes them so no bankrupt player keeps anything
+            if (!transferAssetsToCreditor(playerId, creditorId)) {
+                returnAssetsToBank(playerId);
+            }
         } else {
             // Return assets to bank
             returnAssetsToBank(playerId);
@@ -94,46 +101,36 @@ public class BankruptcyManager {
      * Transfers all assets from bankrupt player to creditor
      * @param bankruptPlayerId The bankrupt player's ID
      * @param creditorId The creditor's ID
+     * @return true if everything moved; false if nothing did
      */
-    public void transferAssetsToCreditor(int bankruptPlayerId, int creditorId) {
+    public boolean transferAssetsToCreditor(int bankruptPlayerId, int creditorId) {
         Player bankrupt = gameState.getPlayer(bankruptPlayerId);
         Player creditor = gameState.getPlayer(creditorId);
         
         if (bankrupt == null || creditor == null) {
-            return;
+            return false;
         }
         
+        UnitOfWork work = new UnitOfWork("bankruptcy", bankruptPlayerId, "->", creditorId);
+        
         // Transfer money
-        int money = bankrupt.getMoney();
-        bankrupt.removeMoney(money);
-        creditor.addMoney(money);
+        work.add(AssetTransfers.money(gameState, TransactionType.BANKRUPTCY, bankruptPlayerId, creditorId,
+                                      bankrupt.getMoney()));
         
-        // Transfer properties
+        // Transfer each property; the creditor gets mortgaged properties but
+        // must pay 10% interest immediately or unmortgage within their turn
         ArrayList<Property> properties = bankrupt.getOwnedProperties();
-        ArrayList<Property> propertiesToTransfer = new ArrayList<>();
-        
-        // Collect properties first to avoid modification during iteration
         for (int i = 0; i < properties.size(); i++) {
-            propertiesToTransfer.add(properties.get(i));
-        }
-        
-        // Transfer each property
-        for (int i = 0; i < propertiesToTransfer.size(); i++) {
-            Property prop = propertiesToTransfer.get(i);
+            Property prop = properties.get(i);
             if (prop != null) {
-                // Creditor gets mortgaged properties but must pay 10% interest immediately
-                // or unmortgage within their turn
-                bankrupt.removeProperty(prop);
-                creditor.addProperty(prop);
-                prop.setOwnerId(creditorId);
+                work.add(AssetTransfers.property(bankrupt, creditor, prop));
             }
         }
         
         // Transfer Get Out of Jail cards
-        while (bankrupt.getGetOutOfJailCards() > 0) {
-            bankrupt.useGetOutOfJailCard();
-            creditor.addGetOutOfJailCard();
-        }
+        work.add(AssetTransfers.jailCards(bankrupt, creditor, bankrupt.getGetOutOfJailCards()));
+        
+        return work.commit();
     }
     
     /**
@@ -149,9 +146,7 @@ public class BankruptcyManager {
         }
         
         // Money goes back to bank
-        int money = player.getMoney();
-        player.removeMoney(money);
-        bank.receiveFromPlayer(money);
+        gameState.getLedger().payToBank(TransactionType.BANKRUPTCY, playerId, player.getMoney());
         
         // Properties return to bank (unmortgaged)
         ArrayList<Property> properties = player.getOwnedProperties();
@@ -244,7 +239,6 @@ public class BankruptcyManager {
     public boolean mortgageProperty(int playerId, int propertyId) {
         Property property = gameState.getBoard().getProperty(propertyId);
         Player player = gameState.getPlayer(playerId);
-        Bank bank = gameState.getBank();
         
         if (property == null || player == null) {
             return false;
@@ -267,9 +261,8 @@ public class BankruptcyManager {
         property.mortgage();
         
         // Get mortgage value from bank
-        int value = property.getMortgageValue();
-        bank.payToPlayer(value);
-        player.addMoney(value);
+        gameState.getLedger().transfer(TransactionType.MORTGAGE, Transaction.BANK_ID, playerId,
+                                       property.getMortgageValue(), propertyId);
         
         return true;
     }
@@ -283,7 +276,6 @@ public class BankruptcyManager {
     public boolean unmortgageProperty(int playerId, int propertyId) {
         Property property = gameState.getBoard().getProperty(propertyId);
         Player player = gameState.getPlayer(playerId);
-        Bank bank = gameState.getBank();
         
         if (property == null || player == null) {
             return false;
@@ -304,8 +296,8 @@ public class BankruptcyManager {
         }
         
         // Pay unmortgage cost
-        player.removeMoney(unmortgageCost);
-        bank.receiveFromPlayer(unmortgageCost);
+        gameState.getLedger().transfer(TransactionType.UNMORTGAGE, playerId, Transaction.BANK_ID,
+                                       unmortgageCost, propertyId);
         
         // Unmortgage
         property.unmortgage();
@@ -6,6 +6,8 @@ import com.monopoly.model.game.Bank;
 import com.monopoly.model.game.GameState;
 import com.monopoly.model.player.Player;
 import com.monopoly.model.property.Property;
+import com.monopoly.transaction.Transaction;
+import com.monopoly.transaction.TransactionType;
 
 /**
  * Manages building construction (houses and hotels).
@@ -157,8 +159,8 @@ public class ConstructionManager {
         
         // Take money from player
         int cost = property.getHouseCost();
-        player.removeMoney(cost);
-        bank.receiveFromPlayer(cost);
+        gameState.getLedger().transfer(TransactionType.HOUSE_PURCHASE, playerId, Transaction.BANK_ID,
+                                       cost, propertyId);
         
         // Take house from bank
         bank.takeHouse();
@@ -186,8 +188,8 @@ public class ConstructionManager {
         
         // Take money from player
         int cost = property.getHotelCost();
-        player.removeMoney(cost);
-        bank.receiveFromPlayer(cost);
+        gameState.getLedger().transfer(TransactionType.HOTEL_PURCHASE, playerId, Transaction.BANK_ID,
+                                       cost, propertyId);
         
         // Return 4 houses to bank, take hotel
         bank.returnHouses(4);
@@ -236,8 +238,8 @@ public class ConstructionManager {
         
         // Pay player half the cost
         int sellPrice = property.getHouseCost() / 2;
-        bank.payToPlayer(sellPrice);
-        player.addMoney(sellPrice);
+        gameState.getLedger().transfer(TransactionType.HOUSE_SALE, Transaction.BANK_ID, playerId,
+                                       sellPrice, propertyId);
         
         return true;
     }
@@ -282,8 +284,8 @@ public class ConstructionManager {
         
         // Pay player half the hotel cost
         int sellPrice = property.getHotelCost() / 2;
-        bank.payToPlayer(sellPrice);
-        player.addMoney(sellPrice);
+        gameState.getLedger().transfer(TransactionType.HOTEL_SALE, Transaction.BANK_ID, playerId,
+                                       sellPrice, propertyId);
         
         return true;
     }
@@ -4,6 +4,7 @@ import com.monopoly.datastructures.ArrayList;
 import com.monopoly.model.card.Card;
 import com.monopoly.model.card.CardEffect;
 import com.monopoly.model.card.CardType;
+import com.monopoly.model.enums.EventCode;
 import com.monopoly.model.enums.GameStatus;
 import com.monopoly.model.enums.TileType;
 import com.monopoly.model.enums.TurnPhase;
@@ -14,6 +15,9 @@ import com.monopoly.model.game.GameState;
 import com.monopoly.model.player.Player;
 import com.monopoly.model.property.Property;
 import com.monopoly.model.tile.*;
+import com.monopoly.transaction.Transaction;
+import com.monopoly.transaction.TransactionType;
+import com.monopoly.util.EventTemplates;
 
 /**
  * Core game logic handler.
@@ -34,11 +38,17 @@ public class GameLogic {
     private final BankruptcyManager bankruptcyManager;
     private final JailManager jailManager;
     
-    // Last action info
-    private String lastActionDescription;
+    // Last action info (rendered on demand)
+    private EventCode lastActionCode;
+    private final int[] lastActionArgs;
     private int lastRentPaid;
     private Card lastCardDrawn;
     
+    // Reused outcomes of the last roll, landing and card
+    private final TurnOutcome rollOutcome;
+    private final TurnOutcome landingOutcome;
+    private final TurnOutcome cardOutcome;
+    
     /**
      * Creates a GameLogic instance for a game
      * @param gameState The game state to manage
@@ -51,10 +61,14 @@ public class GameLogic {
         this.tradeManager = new TradeManager(gameState);
         this.auctionManager = new AuctionManager(gameState);
         this.bankruptcyManager = new BankruptcyManager(gameState);
-        this.jailManager = new JailManager();
-        this.lastActionDescription = "";
+        this.jailManager = new JailManager(gameState);
+        this.lastActionCode = null;
+        this.lastActionArgs = new int[3];
         this.lastRentPaid = 0;
         this.lastCardDrawn = null;
+        this.rollOutcome = new TurnOutcome();
+        this.landingOutcome = new TurnOutcome();
+        this.cardOutcome = new TurnOutcome();
     }
     
     // ==================== Game Flow ====================
@@ -70,7 +84,7 @@ public class GameLogic {
         
         gameState.startGame();
         turnManager.startTurn();
-        lastActionDescription = "Game started!";
+        recordLastAction(EventCode.GAME_STARTED, 0, 0, 0);
         
         return true;
     }
@@ -80,35 +94,45 @@ public class GameLogic {
      * @return Result containing roll info and movement result
      */
     public RollResult rollAndMove() {
+        TurnOutcome outcome = resolveRoll();
+        return new RollResult(outcome.isRolled(), outcome.getDie1(), outcome.getDie2(),
+            outcome.describe(gameState));
+    }
+    
+    /**
+     * Rolls dice and moves the current player without allocating.
+     * The returned outcome is reused by the next call.
+     * @return Outcome of the roll
+     */
+    public TurnOutcome resolveRoll() {
         Player currentPlayer = turnManager.getCurrentPlayer();
         
         if (currentPlayer == null) {
-            return new RollResult(false, 0, 0, "No current player");
+            return rollOutcome.roll(-1, 0, 0).code(EventCode.NO_PLAYER);
         }
         
         if (!turnManager.isActionAllowed("ROLL")) {
-            return new RollResult(false, 0, 0, "Cannot roll now");
+            return rollOutcome.roll(currentPlayer.getId(), 0, 0).code(EventCode.ROLL_NOT_ALLOWED);
         }
         
         Dice dice = gameState.getDice();
         int total = turnManager.rollDice();
         boolean isDoubles = dice.isDoubles();
+        rollOutcome.roll(currentPlayer.getId(), dice.getDie1(), dice.getDie2());
         
         // Handle jail
         if (currentPlayer.isInJail()) {
-            return handleJailRoll(currentPlayer, total, isDoubles);
+            return resolveJailRoll(currentPlayer, total, isDoubles);
         }
         
         // Check for speeding (3 doubles)
         if (isDoubles && dice.shouldGoToJail()) {
             jailManager.sendToJail(currentPlayer);
             turnManager.setPhase(TurnPhase.POST_ACTION);
-            return new RollResult(true, dice.getDie1(), dice.getDie2(), 
-                "Speeding! Go to Jail!");
+            return rollOutcome.code(EventCode.SPEEDING).position(currentPlayer.getPosition());
         }
         
         // Normal movement
-        int oldPosition = currentPlayer.getPosition();
         int newPosition = movePlayer(currentPlayer.getId(), total);
         
         // Handle doubles (extra turn)
@@ -117,31 +141,21 @@ public class GameLogic {
         // Set phase to landed
         turnManager.setPhase(TurnPhase.LANDED);
         
-        String message = String.format("Rolled %d+%d=%d. Moved to %s", 
-            dice.getDie1(), dice.getDie2(), total, 
-            gameState.getBoard().getTile(newPosition).getName());
-        
-        if (isDoubles && !dice.shouldGoToJail()) {
-            message += " (Doubles - roll again!)";
-        }
-        
-        return new RollResult(true, dice.getDie1(), dice.getDie2(), message);
+        return rollOutcome.code(isDoubles ? EventCode.MOVED_DOUBLES : EventCode.MOVED)
+            .position(newPosition)
+            .amount(total);
     }
     
     /**
      * Handles dice roll while in jail
      */
-    private RollResult handleJailRoll(Player player, int total, boolean isDoubles) {
-        Dice dice = gameState.getDice();
-        
+    private TurnOutcome resolveJailRoll(Player player, int total, boolean isDoubles) {
         if (isDoubles) {
             // Released by doubles
             jailManager.attemptReleaseByDoubles(player, true);
             int newPosition = movePlayer(player.getId(), total);
             turnManager.setPhase(TurnPhase.LANDED);
-            return new RollResult(true, dice.getDie1(), dice.getDie2(),
-                "Doubles! Released from jail. Moved to " + 
-                gameState.getBoard().getTile(newPosition).getName());
+            return rollOutcome.code(EventCode.JAIL_DOUBLES).position(newPosition).amount(total);
         }
         
         // Still in jail
@@ -151,21 +165,22 @@ public class GameLogic {
                 jailManager.releaseByFine(player);
                 int newPosition = movePlayer(player.getId(), total);
                 turnManager.setPhase(TurnPhase.LANDED);
-                return new RollResult(true, dice.getDie1(), dice.getDie2(),
-                    "Paid $50 fine. Moved to " + 
-                    gameState.getBoard().getTile(newPosition).getName());
+                return rollOutcome.code(EventCode.JAIL_FINE_PAID).position(newPosition).amount(JailManager.JAIL_FINE);
             } else {
                 // Player must raise money or go bankrupt
+                gameState.setDebt(TransactionType.JAIL_FINE, Transaction.BANK_ID, JailManager.JAIL_FINE);
                 turnManager.setPhase(TurnPhase.IN_DEBT);
-                return new RollResult(true, dice.getDie1(), dice.getDie2(),
-                    "Must pay $50 fine but insufficient funds!");
+                return rollOutcome.code(EventCode.JAIL_FINE_UNPAID)
+                    .position(player.getPosition())
+                    .amount(JailManager.JAIL_FINE)
+                    .cash(player.getMoney());
             }
         }
         
         turnManager.setPhase(TurnPhase.POST_ACTION);
-        return new RollResult(true, dice.getDie1(), dice.getDie2(),
-            "No doubles. Still in jail. Turns remaining: " + 
-            jailManager.getRemainingJailTurns(player));
+        return rollOutcome.code(EventCode.STILL_IN_JAIL)
+            .position(player.getPosition())
+            .amount(jailManager.getRemainingJailTurns(player));
     }
     
     /**
@@ -195,8 +210,8 @@ public class GameLogic {
             passedGo(playerId);
         }
         
-        // Move the player
-        player.move(steps);
+        // Move the player (the salary was paid above, through the ledger)
+        player.setPosition(newPosition);
         
         return newPosition;
     }
@@ -254,56 +269,69 @@ public class GameLogic {
      * @return Description of what happened
      */
     public String handleTileLanding(int playerId) {
+        return resolveLanding(playerId).describe(gameState);
+    }
+    
+    /**
+     * Resolves landing on the tile a player stands on without allocating.
+     * The returned outcome is reused by the next call.
+     * @param playerId The player
+     * @return Outcome of the landing
+     */
+    public TurnOutcome resolveLanding(int playerId) {
         Player player = gameState.getPlayer(playerId);
-        Board board = gameState.getBoard();
+        TurnOutcome outcome = landingOutcome.landing(playerId, -1);
         
         if (player == null) {
-            return "Invalid player";
+            return outcome;
         }
         
         int position = player.getPosition();
-        Tile tile = board.getTile(position);
+        Tile tile = gameState.getBoard().getTile(position);
+        outcome.position(position);
         
         if (tile == null) {
-            return "Invalid tile";
+            return outcome;
         }
         
-        lastActionDescription = "";
+        lastActionCode = null;
         
         switch (tile.getTileType()) {
             case PROPERTY:
-                return handlePropertyLanding(player, (PropertyTile) tile);
+                return resolvePropertyLanding(player, (PropertyTile) tile, outcome);
             case RAILROAD:
-                return handleRailroadLanding(player, (RailroadTile) tile);
+                return resolveRailroadLanding(player, (RailroadTile) tile, outcome);
             case UTILITY:
-                return handleUtilityLanding(player, (UtilityTile) tile);
+                return resolveUtilityLanding(player, (UtilityTile) tile, outcome);
             case GO:
-                return handleGoLanding(player);
+                // Already collected when passing/landing
+                return outcome.code(EventCode.GO).amount(Player.GO_SALARY);
             case JAIL:
-                return handleJailLanding(player);
+                return outcome.code(EventCode.JUST_VISITING);
             case GO_TO_JAIL:
-                return handleGoToJailLanding(player);
+                sendToJail(playerId);
+                return outcome.code(EventCode.GO_TO_JAIL);
             case FREE_PARKING:
-                return handleFreeParkingLanding(player);
+                return resolveFreeParkingLanding(player, outcome);
             case CHANCE:
-                return handleChanceLanding(player);
             case COMMUNITY_CHEST:
-                return handleCommunityChestLanding(player);
+                turnManager.setPhase(TurnPhase.DRAWING_CARD);
+                return outcome.code(EventCode.DRAW_CARD);
             case TAX:
-                return handleTaxLanding(player, (TaxTile) tile);
+                return resolveTaxLanding(player, (TaxTile) tile, outcome);
             default:
-                return "Landed on " + tile.getName();
+                return outcome.code(EventCode.LANDED);
         }
     }
     
     /**
      * Handles landing on a property
      */
-    private String handlePropertyLanding(Player player, PropertyTile tile) {
+    private TurnOutcome resolvePropertyLanding(Player player, PropertyTile tile, TurnOutcome outcome) {
         Property property = tile.getProperty();
         
         if (property == null) {
-            return "Invalid property";
+            return outcome;
         }
         
         int ownerId = property.getOwnerId();
@@ -311,129 +339,100 @@ public class GameLogic {
         if (ownerId < 0) {
             // Unowned
             turnManager.setPhase(TurnPhase.AWAITING_DECISION);
-            return String.format("%s is unowned. Price: $%d. Buy or Auction?", 
-                property.getName(), property.getPrice());
+            return outcome.code(EventCode.UNOWNED).amount(property.getPrice());
         } else if (ownerId == player.getId()) {
             // Own property
-            return "You own " + property.getName();
+            return outcome.code(EventCode.OWN_PROPERTY);
         } else if (property.isMortgaged()) {
             // Mortgaged - no rent
-            return property.getName() + " is mortgaged. No rent due.";
+            return outcome.code(EventCode.MORTGAGED);
         } else {
             // Pay rent
             int rent = rentCalculator.calculatePropertyRent(property);
-            return collectRent(player.getId(), ownerId, rent, property.getName());
+            return resolveRent(player, ownerId, rent, outcome);
         }
     }
     
     /**
      * Handles landing on a railroad
      */
-    private String handleRailroadLanding(Player player, RailroadTile tile) {
+    private TurnOutcome resolveRailroadLanding(Player player, RailroadTile tile, TurnOutcome outcome) {
         int ownerId = tile.getOwnerId();
         
         if (ownerId < 0) {
             turnManager.setPhase(TurnPhase.AWAITING_DECISION);
-            return String.format("%s is unowned. Price: $%d. Buy or Auction?",
-                tile.getName(), RailroadTile.PURCHASE_PRICE);
+            return outcome.code(EventCode.UNOWNED).amount(RailroadTile.PURCHASE_PRICE);
         } else if (ownerId == player.getId()) {
-            return "You own " + tile.getName();
+            return outcome.code(EventCode.OWN_PROPERTY);
         } else if (tile.isMortgaged()) {
-            return tile.getName() + " is mortgaged. No rent due.";
+            return outcome.code(EventCode.MORTGAGED);
         } else {
             int rent = rentCalculator.calculateRailroadRent(ownerId);
-            return collectRent(player.getId(), ownerId, rent, tile.getName());
+            return resolveRent(player, ownerId, rent, outcome);
         }
     }
     
     /**
      * Handles landing on a utility
      */
-    private String handleUtilityLanding(Player player, UtilityTile tile) {
+    private TurnOutcome resolveUtilityLanding(Player player, UtilityTile tile, TurnOutcome outcome) {
         int ownerId = tile.getOwnerId();
         
         if (ownerId < 0) {
             turnManager.setPhase(TurnPhase.AWAITING_DECISION);
-            return String.format("%s is unowned. Price: $%d. Buy or Auction?",
-                tile.getName(), UtilityTile.PURCHASE_PRICE);
+            return outcome.code(EventCode.UNOWNED).amount(UtilityTile.PURCHASE_PRICE);
         } else if (ownerId == player.getId()) {
-            return "You own " + tile.getName();
+            return outcome.code(EventCode.OWN_PROPERTY);
         } else if (tile.isMortgaged()) {
-            return tile.getName() + " is mortgaged. No rent due.";
+            return outcome.code(EventCode.MORTGAGED);
         } else {
             int diceRoll = gameState.getDice().getTotal();
             int rent = rentCalculator.calculateUtilityRent(ownerId, diceRoll);
-            return collectRent(player.getId(), ownerId, rent, tile.getName());
+            return resolveRent(player, ownerId, rent, outcome);
         }
     }
     
-    /**
-     * Handles landing on GO
-     */
-    private String handleGoLanding(Player player) {
-        // Already collected when passing/landing
-        return "Landed on GO! Collected $200.";
-    }
-    
-    /**
-     * Handles landing on Jail (Just Visiting)
-     */
-    private String handleJailLanding(Player player) {
-        return "Just visiting jail.";
-    }
-    
-    /**
-     * Handles landing on Go To Jail
-     */
-    private String handleGoToJailLanding(Player player) {
-        sendToJail(player.getId());
-        return "Go to Jail!";
-    }
-    
     /**
      * Handles landing on Free Parking
      */
-    private String handleFreeParkingLanding(Player player) {
+    private TurnOutcome resolveFreeParkingLanding(Player player, TurnOutcome outcome) {
         if (gameState.getFreeParkingJackpot() > 0) {
             int jackpot = gameState.collectFreeParkingJackpot();
-            player.addMoney(jackpot);
-            return "Free Parking! Collected jackpot of $" + jackpot;
+            gameState.getLedger().collectFromBank(TransactionType.CARD_EFFECT, player.getId(), jackpot);
+            return outcome.code(EventCode.FREE_PARKING_JACKPOT).amount(jackpot);
         }
-        return "Free Parking. Rest here.";
-    }
-    
-    /**
-     * Handles landing on Chance
-     */
-    private String handleChanceLanding(Player player) {
-        turnManager.setPhase(TurnPhase.DRAWING_CARD);
-        return "Draw a Chance card!";
-    }
-    
-    /**
-     * Handles landing on Community Chest
-     */
-    private String handleCommunityChestLanding(Player player) {
-        turnManager.setPhase(TurnPhase.DRAWING_CARD);
-        return "Draw a Community Chest card!";
+        return outcome.code(EventCode.FREE_PARKING);
     }
     
     /**
      * Handles landing on Tax
      */
-    private String handleTaxLanding(Player player, TaxTile tile) {
+    private TurnOutcome resolveTaxLanding(Player player, TaxTile tile, TurnOutcome outcome) {
         int tax = tile.getTaxAmount();
+        outcome.amount(tax);
         
         if (player.getMoney() >= tax) {
-            player.removeMoney(tax);
-            gameState.getBank().receiveFromPlayer(tax);
+            gameState.getLedger().payToBank(TransactionType.TAX_PAYMENT, player.getId(), tax);
             gameState.addToFreeParkingJackpot(tax);
-            return String.format("Paid %s: $%d", tile.getName(), tax);
+            return outcome.code(EventCode.TAX_PAID);
         } else {
             // Need to raise money
+            gameState.setDebt(TransactionType.TAX_PAYMENT, Transaction.BANK_ID, tax);
             turnManager.setPhase(TurnPhase.IN_DEBT);
-            return String.format("Must pay %s: $%d. Insufficient funds!", tile.getName(), tax);
+            return outcome.code(EventCode.TAX_UNPAID).cash(player.getMoney());
+        }
+    }
+    
+    /**
+     * Collects rent owed on landing and records it in the outcome
+     */
+    private TurnOutcome resolveRent(Player payer, int ownerId, int rent, TurnOutcome outcome) {
+        Player owner = gameState.getPlayer(ownerId);
+        if (owner == null || rent <= 0) {
+            return outcome;
         }
+        outcome.amount(rent).otherPlayer(ownerId).cash(payer.getMoney());
+        return outcome.code(settleRent(payer, owner, rent));
     }
     
     // ==================== Property Purchase ====================
@@ -482,15 +481,15 @@ public class GameLogic {
         
         // Transaction
         int price = property.getPrice();
-        player.removeMoney(price);
-        bank.receiveFromPlayer(price);
+        gameState.getLedger().transfer(TransactionType.PROPERTY_PURCHASE, playerId, Transaction.BANK_ID,
+                                       price, propertyId);
         bank.removeUnownedProperty(propertyId);
         
         // Transfer ownership
         player.addProperty(property);
         property.setOwnerId(playerId);
         
-        lastActionDescription = player.getName() + " bought " + property.getName() + " for $" + price;
+        recordLastAction(EventCode.BOUGHT, playerId, propertyId, price);
         turnManager.setPhase(TurnPhase.POST_ACTION);
         
         return true;
@@ -519,15 +518,13 @@ public class GameLogic {
             return false;
         }
         
-        Player player = gameState.getPlayer(playerId);
         RailroadTile railroad = (RailroadTile) gameState.getBoard().getTile(position);
-        Bank bank = gameState.getBank();
         
-        player.removeMoney(RailroadTile.PURCHASE_PRICE);
-        bank.receiveFromPlayer(RailroadTile.PURCHASE_PRICE);
+        gameState.getLedger().transfer(TransactionType.PROPERTY_PURCHASE, playerId, Transaction.BANK_ID,
+                                       RailroadTile.PURCHASE_PRICE, position);
         railroad.setOwnerId(playerId);
         
-        lastActionDescription = player.getName() + " bought " + railroad.getName();
+        recordLastAction(EventCode.BOUGHT, playerId, position, RailroadTile.PURCHASE_PRICE);
         turnManager.setPhase(TurnPhase.POST_ACTION);
         
         return true;
@@ -556,15 +553,13 @@ public class GameLogic {
             return false;
         }
         
-        Player player = gameState.getPlayer(playerId);
         UtilityTile utility = (UtilityTile) gameState.getBoard().getTile(position);
-        Bank bank = gameState.getBank();
         
-        player.removeMoney(UtilityTile.PURCHASE_PRICE);
-        bank.receiveFromPlayer(UtilityTile.PURCHASE_PRICE);
+        gameState.getLedger().transfer(TransactionType.PROPERTY_PURCHASE, playerId, Transaction.BANK_ID,
+                                       UtilityTile.PURCHASE_PRICE, position);
         utility.setOwnerId(playerId);
         
-        lastActionDescription = player.getName() + " bought " + utility.getName();
+        recordLastAction(EventCode.BOUGHT, playerId, position, UtilityTile.PURCHASE_PRICE);
         turnManager.setPhase(TurnPhase.POST_ACTION);
         
         return true;
@@ -588,30 +583,88 @@ public class GameLogic {
             return "Invalid rent collection";
         }
         
+        int cash = payer.getMoney();
+        switch (settleRent(payer, owner, amount)) {
+            case RENT_PAID:
+                return String.format("Paid $%d rent to %s for %s", amount, owner.getName(), propertyName);
+            case RENT_IN_DEBT:
+                return String.format("Must pay $%d rent to %s but have only $%d. Sell or mortgage to pay!",
+                    amount, owner.getName(), cash);
+            default:
+                return payer.getName() + " went bankrupt paying rent to " + owner.getName();
+        }
+    }
+    
+    /**
+     * Moves rent from payer to owner, or puts the payer in debt or bankrupt
+     * @param payer The paying player
+     * @param owner The owner receiving rent
+     * @param amount The rent amount (positive)
+     * @return RENT_PAID, RENT_IN_DEBT or RENT_BANKRUPT
+     */
+    private EventCode settleRent(Player payer, Player owner, int amount) {
         lastRentPaid = amount;
         
         if (payer.getMoney() >= amount) {
             // Can pay
-            payer.removeMoney(amount);
-            owner.addMoney(amount);
+            gameState.getLedger().transfer(TransactionType.RENT_PAYMENT, payer.getId(), owner.getId(), amount,
+                                           Transaction.NO_PROPERTY);
             payer.addRentPaid(amount);
             owner.addRentCollected(amount);
-            gameState.recordTransaction(payerId, ownerId, amount);
             
             turnManager.setPhase(TurnPhase.POST_ACTION);
-            return String.format("Paid $%d rent to %s for %s", amount, owner.getName(), propertyName);
+            return EventCode.RENT_PAID;
+        }
+        
+        // Can't pay - check if can liquidate
+        if (bankruptcyManager.canAvoidBankruptcy(payer.getId(), amount)) {
+            gameState.setDebt(TransactionType.RENT_PAYMENT, owner.getId(), amount);
+            turnManager.setPhase(TurnPhase.IN_DEBT);
+            return EventCode.RENT_IN_DEBT;
+        }
+        
+        // Bankruptcy
+        bankruptcyManager.declareBankruptcy(payer.getId(), owner.getId());
+        return EventCode.RENT_BANKRUPT;
+    }
+    
+    // ==================== Debt ====================
+    
+    /**
+     * Pays the pending debt once the player's cash covers it: rent goes to
+     * the owner, anything else to the bank as it would have on the spot
+     * (taxes and card payments feed the jackpot, a jail fine releases)
+     * @param playerId The indebted player
+     * @return true if nothing is owed any more
+     */
+    public boolean settleDebt(int playerId) {
+        if (!gameState.hasDebt()) {
+            return true;
+        }
+        Player player = gameState.getPlayer(playerId);
+        int amount = gameState.getDebtAmount();
+        if (player == null || player.getMoney() < amount) {
+            return false;
+        }
+        
+        TransactionType type = gameState.getDebtType();
+        Player creditor = gameState.getPlayer(gameState.getDebtCreditorId());
+        if (creditor != null && !creditor.isBankrupt()) {
+            gameState.getLedger().transfer(type, playerId, creditor.getId(), amount, Transaction.NO_PROPERTY);
+            if (type == TransactionType.RENT_PAYMENT) {
+                player.addRentPaid(amount);
+                creditor.addRentCollected(amount);
+            }
         } else {
-            // Can't pay - check if can liquidate
-            if (bankruptcyManager.canAvoidBankruptcy(payerId, amount)) {
-                turnManager.setPhase(TurnPhase.IN_DEBT);
-                return String.format("Must pay $%d rent to %s but have only $%d. Sell or mortgage to pay!",
-                    amount, owner.getName(), payer.getMoney());
-            } else {
-                // Bankruptcy
-                bankruptcyManager.declareBankruptcy(payerId, ownerId);
-                return payer.getName() + " went bankrupt paying rent to " + owner.getName();
+            gameState.getLedger().payToBank(type, playerId, amount);
+            if (type == TransactionType.JAIL_FINE) {
+                player.releaseFromJail();
+            } else if (type != TransactionType.RENT_PAYMENT) {
+                gameState.addToFreeParkingJackpot(amount);
             }
         }
+        gameState.clearDebt();
+        return true;
     }
     
     // ==================== Jail ====================
@@ -690,56 +743,78 @@ public class GameLogic {
      * @return Description of effect
      */
     public String executeCard(int playerId, Card card) {
+        TurnOutcome outcome = resolveCard(playerId, card);
+        String text = outcome.describe(gameState);
+        return outcome.isMoved() ? text + " " + landingOutcome.describe(gameState) : text;
+    }
+    
+    /**
+     * Executes a card effect without allocating. When the card moves the
+     * player, the landing on the new tile is resolved too and reported by
+     * getLandingOutcome(). The returned outcome is reused by the next call.
+     * @param playerId The player
+     * @param card The card to execute
+     * @return Outcome of the card
+     */
+    public TurnOutcome resolveCard(int playerId, Card card) {
         Player player = gameState.getPlayer(playerId);
+        TurnOutcome outcome = cardOutcome.landing(playerId, player != null ? player.getPosition() : -1);
         if (player == null || card == null) {
-            return "Invalid card execution";
+            return outcome;
         }
+        outcome.card(EventTemplates.cardKey(card)).code(EventCode.CARD_APPLIED);
         
         CardEffect effect = card.getEffect();
         int primaryValue = card.getPrimaryValue();
         int secondaryValue = card.getSecondaryValue();
         
-        String result = card.getDescription();
-        
         switch (effect) {
             case COLLECT_FROM_BANK:
-                player.addMoney(primaryValue);
-                gameState.getBank().payToPlayer(primaryValue);
+                gameState.getLedger().collectFromBank(TransactionType.CARD_EFFECT, playerId, primaryValue);
                 break;
                 
             case PAY_BANK:
                 if (player.getMoney() >= primaryValue) {
-                    player.removeMoney(primaryValue);
-                    gameState.getBank().receiveFromPlayer(primaryValue);
+                    gameState.getLedger().payToBank(TransactionType.CARD_EFFECT, playerId, primaryValue);
                     gameState.addToFreeParkingJackpot(primaryValue);
                 } else {
+                    gameState.setDebt(TransactionType.CARD_EFFECT, Transaction.BANK_ID, primaryValue);
                     turnManager.setPhase(TurnPhase.IN_DEBT);
-                    return "Must pay $" + primaryValue + " but insufficient funds!";
+                    return outcome.code(EventCode.CARD_UNPAID).amount(primaryValue).cash(player.getMoney());
                 }
                 break;
                 
             case ADVANCE_TO:
-                int oldPos = player.getPosition();
                 teleportPlayer(playerId, primaryValue, true);
-                result += handleTileLanding(playerId);
+                resolveLanding(playerId);
+                outcome.moved();
+                break;
+                
+            case ADVANCE_TO_GO:
+                teleportPlayer(playerId, Board.GO_POSITION, true);
+                resolveLanding(playerId);
+                outcome.moved();
                 break;
                 
             case ADVANCE_TO_NEAREST_RAILROAD:
                 int nearestRR = gameState.getBoard().findNearestRailroad(player.getPosition());
                 teleportPlayer(playerId, nearestRR, true);
-                result += " " + handleTileLanding(playerId);
+                resolveLanding(playerId);
+                outcome.moved();
                 break;
                 
             case ADVANCE_TO_NEAREST_UTILITY:
                 int nearestUtil = gameState.getBoard().findNearestUtility(player.getPosition());
                 teleportPlayer(playerId, nearestUtil, true);
-                result += " " + handleTileLanding(playerId);
+                resolveLanding(playerId);
+                outcome.moved();
                 break;
                 
             case GO_BACK:
                 int newPos = gameState.getBoard().normalizePosition(player.getPosition() - primaryValue);
                 player.teleportTo(newPos);
-                result += " " + handleTileLanding(playerId);
+                resolveLanding(playerId);
+                outcome.moved();
                 break;
                 
             case GO_TO_JAIL:
@@ -757,13 +832,13 @@ public class GameLogic {
                 int hotels = countPlayerHotels(playerId);
                 int repairCost = houses * primaryValue + hotels * secondaryValue;
                 if (player.getMoney() >= repairCost) {
-                    player.removeMoney(repairCost);
-                    gameState.getBank().receiveFromPlayer(repairCost);
+                    gameState.getLedger().payToBank(TransactionType.CARD_EFFECT, playerId, repairCost);
                     gameState.addToFreeParkingJackpot(repairCost);
-                    result += " Paid $" + repairCost;
+                    outcome.code(EventCode.CARD_PAID).amount(repairCost);
                 } else {
+                    gameState.setDebt(TransactionType.CARD_EFFECT, Transaction.BANK_ID, repairCost);
                     turnManager.setPhase(TurnPhase.IN_DEBT);
-                    return "Must pay $" + repairCost + " for repairs but insufficient funds!";
+                    return outcome.code(EventCode.CARD_UNPAID).amount(repairCost).cash(player.getMoney());
                 }
                 break;
                 
@@ -775,16 +850,14 @@ public class GameLogic {
                     if (otherId != playerId) {
                         Player other = gameState.getPlayer(otherId);
                         if (other != null && !other.isBankrupt()) {
-                            if (other.getMoney() >= primaryValue) {
-                                other.removeMoney(primaryValue);
+                            if (gameState.getLedger().transfer(TransactionType.CARD_EFFECT, otherId, playerId,
+                                                               primaryValue, Transaction.NO_PROPERTY)) {
                                 collected += primaryValue;
-                                gameState.recordTransaction(otherId, playerId, primaryValue);
                             }
                         }
                     }
                 }
-                player.addMoney(collected);
-                result += " Collected $" + collected + " total";
+                outcome.code(EventCode.CARD_COLLECTED).amount(collected);
                 break;
                 
             case PAY_EACH_PLAYER:
@@ -795,16 +868,14 @@ public class GameLogic {
                     if (otherId != playerId) {
                         Player other = gameState.getPlayer(otherId);
                         if (other != null && !other.isBankrupt()) {
-                            if (player.getMoney() >= primaryValue) {
-                                player.removeMoney(primaryValue);
-                                other.addMoney(primaryValue);
+                            if (gameState.getLedger().transfer(TransactionType.CARD_EFFECT, playerId, otherId,
+                                                               primaryValue, Transaction.NO_PROPERTY)) {
                                 totalPaid += primaryValue;
-                                gameState.recordTransaction(playerId, otherId, primaryValue);
                             }
                         }
                     }
                 }
-                result += " Paid $" + totalPaid + " total";
+                outcome.code(EventCode.CARD_PAID).amount(totalPaid);
                 break;
                 
             default:
@@ -815,11 +886,21 @@ public class GameLogic {
             turnManager.setPhase(TurnPhase.POST_ACTION);
         }
         
-        return result;
+        return outcome;
     }
     
     // ==================== Helpers ====================
     
+    /**
+     * Records the last action as an event, without rendering it
+     */
+    private void recordLastAction(EventCode code, int arg0, int arg1, int arg2) {
+        lastActionCode = code;
+        lastActionArgs[0] = arg0;
+        lastActionArgs[1] = arg1;
+        lastActionArgs[2] = arg2;
+    }
+    
     /**
      * Counts houses owned by a player
      */
@@ -828,8 +909,9 @@ public class GameLogic {
         Player player = gameState.getPlayer(playerId);
         if (player == null) return 0;
         
-        for (int i = 0; i < 40; i++) {
-            Property prop = player.getOwnedProperties().get(i);
+        ArrayList<Property> owned = player.getOwnedProperties();
+        for (int i = 0; i < owned.size(); i++) {
+            Property prop = owned.get(i);
             if (prop != null && !prop.hasHotel()) {
                 count += prop.getNumberOfHouses();
             }
@@ -845,8 +927,9 @@ public class GameLogic {
         Player player = gameState.getPlayer(playerId);
         if (player == null) return 0;
         
-        for (int i = 0; i < 40; i++) {
-            Property prop = player.getOwnedProperties().get(i);
+        ArrayList<Property> owned = player.getOwnedProperties();
+        for (int i = 0; i < owned.size(); i++) {
+            Property prop = owned.get(i);
             if (prop != null && prop.hasHotel()) {
                 count++;
             }
@@ -861,8 +944,8 @@ public class GameLogic {
     public void passedGo(int playerId) {
         Player player = gameState.getPlayer(playerId);
         if (player != null) {
-            player.passGo();
-            gameState.getBank().payToPlayer(Player.GO_SALARY);
+            gameState.getLedger().collectFromBank(TransactionType.GO_BONUS, playerId, Player.GO_SALARY);
+            player.recordPassGo();
         }
     }
     
@@ -924,14 +1007,29 @@ public class GameLogic {
         return jailManager;
     }
     
+    /**
+     * Renders the last recorded action
+     * @return Description, or an empty string if none
+     */
     public String getLastActionDescription() {
-        return lastActionDescription;
+        if (lastActionCode == null) {
+            return "";
+        }
+        return EventTemplates.getDefault().render(lastActionCode, lastActionArgs, gameState);
     }
     
     public int getLastRentPaid() {
         return lastRentPaid;
     }
     
+    /**
+     * Gets the outcome of the last landing (reused by the next one)
+     * @return Landing outcome
+     */
+    public TurnOutcome getLandingOutcome() {
+        return landingOutcome;
+    }
+    
     public Card getLastCardDrawn() {
         return lastCardDrawn;
     }
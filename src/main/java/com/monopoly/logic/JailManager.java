@@ -3,6 +3,7 @@ package com.monopoly.logic;
 import com.monopoly.model.game.Board;
 import com.monopoly.model.game.GameState;
 import com.monopoly.model.player.Player;
+import com.monopoly.transaction.TransactionType;
 
 /**
  * Manages jail mechanics.
@@ -94,10 +95,23 @@ public class JailManager {
             return false;
         }
         
-        player.payBail();
+        payFine(player);
         return true;
     }
     
+    /**
+     * Pays the fine to the bank and releases the player. Without a game
+     * state the player pays bail directly.
+     */
+    private void payFine(Player player) {
+        if (gameState == null) {
+            player.payBail();
+            return;
+        }
+        gameState.getLedger().payToBank(TransactionType.JAIL_FINE, player.getId(), JAIL_FINE);
+        player.releaseFromJail();
+    }
+    
     /**
      * Releases a player by using a Get Out of Jail Free card
      * @param player The player using the card
@@ -151,7 +165,7 @@ public class JailManager {
         }
         
         if (player.getMoney() >= JAIL_FINE) {
-            player.payBail();
+            payFine(player);
             return true;
         }
         
@@ -1,6 +1,5 @@
 package com.monopoly.logic;
 
-import com.monopoly.datastructures.ArrayList;
 import com.monopoly.datastructures.HashTable;
 import com.monopoly.model.property.ColorGroup;
 import com.monopoly.model.game.Board;
@@ -145,17 +144,7 @@ public class RentCalculator {
             return false;
         }
         
-        ArrayList<Property> groupProperties = gameState.getBoard().getPropertiesInColorGroup(colorGroup);
-        int ownedCount = 0;
-        
-        for (int i = 0; i < groupProperties.size(); i++) {
-            Property prop = groupProperties.get(i);
-            if (prop.getOwnerId() == playerId) {
-                ownedCount++;
-            }
-        }
-        
-        return ownedCount == colorGroup.getPropertyCount();
+        return gameState.getBoard().countOwnedInColorGroup(colorGroup, playerId) == colorGroup.getPropertyCount();
     }
     
     /**
@@ -169,21 +158,7 @@ public class RentCalculator {
             return 0;
         }
         
-        int count = 0;
-        ArrayList<Integer> railroadPositions = gameState.getBoard().getRailroadPositions();
-        
-        for (int i = 0; i < railroadPositions.size(); i++) {
-            int pos = railroadPositions.get(i);
-            Tile tile = gameState.getBoard().getTile(pos);
-            if (tile instanceof RailroadTile) {
-                RailroadTile railroad = (RailroadTile) tile;
-                if (railroad.getOwnerId() == playerId) {
-                    count++;
-                }
-            }
-        }
-        
-        return count;
+        return gameState.getBoard().countOwnedRailroads(playerId);
     }
     
     /**
@@ -197,21 +172,7 @@ public class RentCalculator {
             return 0;
         }
         
-        int count = 0;
-        ArrayList<Integer> utilityPositions = gameState.getBoard().getUtilityPositions();
-        
-        for (int i = 0; i < utilityPositions.size(); i++) {
-            int pos = utilityPositions.get(i);
-            Tile tile = gameState.getBoard().getTile(pos);
-            if (tile instanceof UtilityTile) {
-                UtilityTile utility = (UtilityTile) tile;
-                if (utility.getOwnerId() == playerId) {
-                    count++;
-                }
-            }
-        }
-        
-        return count;
+        return gameState.getBoard().countOwnedUtilities(playerId);
     }
     
     /**
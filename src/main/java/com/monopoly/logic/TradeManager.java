@@ -5,6 +5,9 @@ import com.monopoly.model.game.GameState;
 import com.monopoly.model.game.Trade;
 import com.monopoly.model.player.Player;
 import com.monopoly.model.property.Property;
+import com.monopoly.transaction.AssetTransfers;
+import com.monopoly.transaction.TransactionType;
+import com.monopoly.transaction.UnitOfWork;
 
 /**
  * Manages trade negotiations between players.
@@ -220,52 +223,14 @@ public class TradeManager {
             return false;
         }
         
-        // === Transfer from Initiator to Receiver ===
-        
-        // Transfer money
-        if (trade.getInitiatorMoney() > 0) {
-            initiator.removeMoney(trade.getInitiatorMoney());
-            receiver.addMoney(trade.getInitiatorMoney());
-            gameState.recordTransaction(trade.getInitiatorId(), trade.getReceiverId(), trade.getInitiatorMoney());
-        }
-        
-        // Transfer properties
-        ArrayList<Property> initiatorProps = trade.getInitiatorProperties();
-        for (int i = 0; i < initiatorProps.size(); i++) {
-            Property prop = initiatorProps.get(i);
-            initiator.removeProperty(prop);
-            receiver.addProperty(prop);
-            prop.setOwnerId(trade.getReceiverId());
-        }
-        
-        // Transfer jail cards
-        for (int i = 0; i < trade.getInitiatorJailCards(); i++) {
-            initiator.useGetOutOfJailCard();
-            receiver.addGetOutOfJailCard();
-        }
-        
-        // === Transfer from Receiver to Initiator ===
-        
-        // Transfer money
-        if (trade.getReceiverMoney() > 0) {
-            receiver.removeMoney(trade.getReceiverMoney());
-            initiator.addMoney(trade.getReceiverMoney());
-            gameState.recordTransaction(trade.getReceiverId(), trade.getInitiatorId(), trade.getReceiverMoney());
-        }
-        
-        // Transfer properties
-        ArrayList<Property> receiverProps = trade.getReceiverProperties();
-        for (int i = 0; i < receiverProps.size(); i++) {
-            Property prop = receiverProps.get(i);
-            receiver.removeProperty(prop);
-            initiator.addProperty(prop);
-            prop.setOwnerId(trade.getInitiatorId());
-        }
-        
-        // Transfer jail cards
-        for (int i = 0; i < trade.getReceiverJailCards(); i++) {
-            receiver.useGetOutOfJailCard();
-            initiator.addGetOutOfJailCard();
+        // acceptTrade() validated the whole trade once, so execute directly;
+        // a failure midway still rolls back everything already moved
+        UnitOfWork work = buildTradeWork(trade, initiator, receiver);
+        if (!work.execute()) {
+            // Nothing moved; drop the trade so the game is not stuck on it
+            trade.cancel();
+            gameState.clearActiveTrade();
+            return false;
         }
         
         // Mark trade as complete
@@ -279,6 +244,37 @@ public class TradeManager {
         return true;
     }
     
+    /**
+     * Stages both sides of a trade as one unit of work
+     * @param trade The trade
+     * @param initiator Initiating player
+     * @param receiver Receiving player
+     * @return Unit of work, not yet committed
+     */
+    private UnitOfWork buildTradeWork(Trade trade, Player initiator, Player receiver) {
+        UnitOfWork work = new UnitOfWork("trade", trade.getInitiatorId(), "<->", trade.getReceiverId());
+        
+        // === Transfer from Initiator to Receiver ===
+        work.add(AssetTransfers.money(gameState, TransactionType.TRADE, trade.getInitiatorId(),
+                                      trade.getReceiverId(), trade.getInitiatorMoney()));
+        ArrayList<Property> initiatorProps = trade.getInitiatorProperties();
+        for (int i = 0; i < initiatorProps.size(); i++) {
+            work.add(AssetTransfers.property(initiator, receiver, initiatorProps.get(i)));
+        }
+        work.add(AssetTransfers.jailCards(initiator, receiver, trade.getInitiatorJailCards()));
+        
+        // === Transfer from Receiver to Initiator ===
+        work.add(AssetTransfers.money(gameState, TransactionType.TRADE, trade.getReceiverId(),
+                                      trade.getInitiatorId(), trade.getReceiverMoney()));
+        ArrayList<Property> receiverProps = trade.getReceiverProperties();
+        for (int i = 0; i < receiverProps.size(); i++) {
+            work.add(AssetTransfers.property(receiver, initiator, receiverProps.get(i)));
+        }
+        work.add(AssetTransfers.jailCards(receiver, initiator, trade.getReceiverJailCards()));
+        
+        return work;
+    }
+    
     /**
      * Validates a trade proposal
      * @param trade The trade to validate
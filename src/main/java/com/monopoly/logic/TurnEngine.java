@@ -0,0 +1,800 @@
+package com.monopoly.logic;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.model.card.Card;
+import com.monopoly.model.card.CardType;
+import com.monopoly.model.enums.EventCode;
+import com.monopoly.model.enums.GameStatus;
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.model.game.Auction;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.game.Trade;
+import com.monopoly.model.player.Player;
+import com.monopoly.model.property.Property;
+import com.monopoly.model.tile.ChanceTile;
+import com.monopoly.model.tile.RailroadTile;
+import com.monopoly.model.tile.Tile;
+import com.monopoly.model.tile.UtilityTile;
+import com.monopoly.network.protocol.ClientCommand;
+import com.monopoly.network.protocol.MessageType;
+import com.monopoly.network.protocol.ProtocolHandler;
+
+/**
+ * Turn flow and command dispatch for one game.
+ *
+ * Checks each command against the turn and phase rules, applies it through
+ * the logic managers and moves the turn on. This is the only place the room
+ * rules live: GameController runs live rooms and replays through it, and
+ * the search bot's simulations run their rollouts through it. What happened
+ * is reported to an optional Listener; with none set, no event or message
+ * is built at all.
+ */
+public final class TurnEngine {
+
+    /**
+     * Why a command was refused
+     */
+    public enum Rejection {
+        NOT_IN_GAME("You are not in the game"),
+        NOT_YOUR_TURN("Not your turn"),
+        WRONG_PHASE("Action not allowed in this phase"),
+        ROLL_REFUSED("You cannot roll now"),
+        CANNOT_BUY_PROPERTY("Cannot buy this property"),
+        CANNOT_BUY_RAILROAD("Cannot buy this railroad"),
+        CANNOT_BUY_UTILITY("Cannot buy this utility"),
+        NOTHING_TO_BUY("No property to buy here"),
+        NO_AUCTION("No active auction"),
+        INVALID_BID("Invalid bid"),
+        PROPERTY_NOT_FOUND("Property not found"),
+        CANNOT_BUILD("Cannot build here"),
+        CANNOT_SELL("Cannot sell building"),
+        NOT_OWNER("You don't own this property"),
+        ALREADY_MORTGAGED("Property is already mortgaged"),
+        HAS_BUILDINGS("Must sell all buildings first"),
+        NOT_MORTGAGED("Property is not mortgaged"),
+        NOT_ENOUGH_MONEY("Not enough money"),
+        INVALID_TRADE_PARTICIPANTS("Invalid trade participants"),
+        INVALID_TRADE("Invalid trade proposal"),
+        NO_TRADE("No active trade"),
+        NOT_TRADE_RECEIVER("You are not the trade receiver"),
+        NOT_IN_JAIL("You are not in jail"),
+        CANNOT_PAY_FINE("Not enough money to pay fine"),
+        NO_JAIL_CARD("You don't have a Get Out of Jail Free card"),
+        UNKNOWN_COMMAND("Unknown command");
+
+        // Text sent to the player
+        private final String message;
+
+        Rejection(String message) {
+            this.message = message;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    /**
+     * Receives what accepted commands did, in the order it happened
+     */
+    public interface Listener {
+
+        /**
+         * The current player rolled
+         * @param roll Roll outcome (reused by game logic; read it now)
+         */
+        void rolled(TurnOutcome roll);
+
+        /**
+         * A landing or a card was resolved
+         * @param outcome Outcome (reused by game logic; read it now)
+         */
+        void resolved(TurnOutcome outcome);
+
+        /**
+         * A card was drawn, before it is resolved
+         * @param type Deck drawn from
+         * @param card Card drawn
+         */
+        void cardDrawn(CardType type, Card card);
+
+        /**
+         * An event log entry
+         * @param code Event code
+         * @param args Event arguments, in the code's layout
+         */
+        void event(EventCode code, int... args);
+
+        /**
+         * A declined property went to auction
+         * @param property Property auctioned
+         */
+        void auctionStarted(Property property);
+
+        /**
+         * A bid was accepted
+         * @param playerId Bidder
+         * @param currentBid New high bid
+         */
+        void bidPlaced(int playerId, int currentBid);
+
+        /**
+         * An auction closed with a winner
+         * @param winnerId Winner
+         * @param amount Price paid
+         */
+        void auctionWon(int winnerId, int amount);
+
+        /**
+         * A player could not pay their debt by the end of their turn and went bankrupt
+         * @param playerId The player
+         */
+        void playerBankrupt(int playerId);
+
+        /**
+         * A new turn started
+         * @param playerId Player whose turn it is
+         */
+        void turnStarted(int playerId);
+
+        /**
+         * A command changed the game state
+         */
+        void stateChanged();
+
+        /**
+         * A single player is left
+         * @param winner The winner
+         */
+        void gameOver(Player winner);
+    }
+
+    // Game being played
+    private final GameState gameState;
+    private final GameLogic gameLogic;
+
+    // Phase rules
+    private final ProtocolHandler rules;
+
+    // Logic managers, shared with the game logic
+    private final AuctionManager auctionManager;
+    private final TradeManager tradeManager;
+    private final JailManager jailManager;
+    private final ConstructionManager constructionManager;
+    private final BankruptcyManager bankruptcyManager;
+
+    // Receiver of what happened, or null
+    private Listener listener;
+
+    // Outcome of the last roll, kept for describing a refused one
+    private TurnOutcome lastRoll;
+
+    /**
+     * Creates an engine around a game state
+     * @param gameState The game to play
+     * @param rules Phase rules (read-only, may be shared)
+     */
+    public TurnEngine(GameState gameState, ProtocolHandler rules) {
+        this.gameState = gameState;
+        this.gameLogic = new GameLogic(gameState);
+        this.rules = rules;
+        this.auctionManager = gameLogic.getAuctionManager();
+        this.tradeManager = gameLogic.getTradeManager();
+        this.jailManager = gameLogic.getJailManager();
+        this.constructionManager = gameLogic.getConstructionManager();
+        this.bankruptcyManager = gameLogic.getBankruptcyManager();
+    }
+
+    /**
+     * Sets who is told what accepted commands did
+     * @param listener Listener, or null for nobody
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    // ==================== Commands ====================
+
+    /**
+     * Checks a command and applies it
+     * @param playerId Sending player
+     * @param command Command
+     * @return true if the command was accepted
+     */
+    public boolean apply(int playerId, ClientCommand command) {
+        return validate(playerId, command) == null && execute(playerId, command) == null;
+    }
+
+    /**
+     * Checks that a player may send a command now: they are in the game,
+     * it is their turn (except for bids and trade answers), and the phase
+     * allows it
+     * @param playerId Sending player
+     * @param command Command
+     * @return null if allowed, otherwise why not
+     */
+    public Rejection validate(int playerId, ClientCommand command) {
+        Player player = gameState.getPlayer(playerId);
+        if (gameState.isGameOver() || player == null || player.isBankrupt()) {
+            return Rejection.NOT_IN_GAME;
+        }
+        if (requiresTurn(command.getCommandType()) && playerId != gameState.getCurrentPlayerId()) {
+            return Rejection.NOT_YOUR_TURN;
+        }
+        if (!rules.isValidCommand(command, gameState.getTurnPhase())) {
+            return Rejection.WRONG_PHASE;
+        }
+        return null;
+    }
+
+    /**
+     * Applies a command that passed validate()
+     * @param playerId Sending player
+     * @param command Command
+     * @return null if accepted, otherwise why it was refused
+     */
+    public Rejection execute(int playerId, ClientCommand command) {
+        switch (command.getCommandType()) {
+            case ROLL_DICE:
+                return roll(playerId);
+            case BUY_PROPERTY:
+                return buy(playerId);
+            case DECLINE_BUY:
+                return declineBuy(playerId);
+            case BID:
+                return bid(playerId, command.getIntParameter("amount", 0));
+            case PASS_BID:
+                return passBid(playerId);
+            case BUILD:
+                return build(playerId, command.getIntParameter("propertyId", -1),
+                             "hotel".equalsIgnoreCase(command.getStringParameter("buildingType")));
+            case SELL_BUILDING:
+                return sellBuilding(playerId, command.getIntParameter("propertyId", -1));
+            case MORTGAGE:
+                return mortgage(playerId, command.getIntParameter("propertyId", -1));
+            case UNMORTGAGE:
+                return unmortgage(playerId, command.getIntParameter("propertyId", -1));
+            case PROPOSE_TRADE:
+                return proposeTrade(playerId, command.getIntParameter("receiverId", -1),
+                                    command.getIntParameter("offerMoney", 0),
+                                    command.getIntParameter("requestMoney", 0));
+            case ACCEPT_TRADE:
+                return answerTrade(playerId, true);
+            case DECLINE_TRADE:
+                return answerTrade(playerId, false);
+            case JAIL_PAY_FINE:
+                return payJailFine(playerId);
+            case JAIL_USE_CARD:
+                return useJailCard(playerId);
+            case END_TURN:
+                return endTurn(playerId);
+            default:
+                return Rejection.UNKNOWN_COMMAND;
+        }
+    }
+
+    /**
+     * Checks if a command may only be sent on the sender's turn
+     * @param type Command type
+     * @return false for bids and trade answers
+     */
+    public static boolean requiresTurn(MessageType type) {
+        switch (type) {
+            case BID:
+            case PASS_BID:
+            case ACCEPT_TRADE:
+            case DECLINE_TRADE:
+                return false; // These can be done when it's not your turn
+            default:
+                return true;
+        }
+    }
+
+    private Rejection roll(int playerId) {
+        Player player = gameState.getPlayer(playerId);
+
+        // Roll and move (jail rolls and speeding included)
+        TurnOutcome roll = gameLogic.resolveRoll();
+        lastRoll = roll;
+        if (!roll.isRolled()) {
+            return Rejection.ROLL_REFUSED;
+        }
+        if (listener != null) {
+            listener.rolled(roll);
+        }
+
+        if (player.isInJail()) {
+            player.incrementTurnsInJail();
+        }
+
+        // Resolve the tile the player moved to
+        if (gameState.getTurnPhase() == TurnPhase.LANDED) {
+            resolved(gameLogic.resolveLanding(playerId));
+        }
+        if (gameState.getTurnPhase() == TurnPhase.DRAWING_CARD) {
+            drawCard(player);
+        }
+
+        // Rent or a card can bankrupt the roller; play moves on if others are left
+        if (player.isBankrupt() && !gameState.isGameOver()) {
+            advanceToNextPlayer();
+            return null;
+        }
+
+        settleTurnPhase();
+        stateChanged();
+        checkGameEnd();
+        return null;
+    }
+
+    /**
+     * Draws and executes a card for the tile the player is on
+     */
+    private void drawCard(Player player) {
+        Tile tile = gameState.getBoard().getTile(player.getPosition());
+        CardType cardType = tile instanceof ChanceTile ? CardType.CHANCE : CardType.COMMUNITY_CHEST;
+        Card card = gameLogic.drawCard(player.getId(), cardType);
+        if (card == null) {
+            return;
+        }
+        if (listener != null) {
+            listener.cardDrawn(cardType, card);
+        }
+
+        TurnOutcome outcome = gameLogic.resolveCard(player.getId(), card);
+        resolved(outcome);
+        if (outcome.isMoved()) {
+            resolved(gameLogic.getLandingOutcome());
+        }
+    }
+
+    private Rejection buy(int playerId) {
+        Player player = gameState.getPlayer(playerId);
+        int position = player.getPosition();
+        Property property = gameLogic.getPropertyAtPosition(position);
+        Tile tile = gameState.getBoard().getTile(position);
+
+        if (property != null) {
+            if (!gameLogic.canBuyProperty(playerId, property.getId())) {
+                return Rejection.CANNOT_BUY_PROPERTY;
+            }
+            gameLogic.buyProperty(playerId, property.getId());
+            event(EventCode.BOUGHT, playerId, property.getId(), property.getPrice());
+        } else if (tile instanceof RailroadTile) {
+            if (!gameLogic.buyRailroad(playerId, position)) {
+                return Rejection.CANNOT_BUY_RAILROAD;
+            }
+            event(EventCode.BOUGHT, playerId, position, RailroadTile.PURCHASE_PRICE);
+        } else if (tile instanceof UtilityTile) {
+            if (!gameLogic.buyUtility(playerId, position)) {
+                return Rejection.CANNOT_BUY_UTILITY;
+            }
+            event(EventCode.BOUGHT, playerId, position, UtilityTile.PURCHASE_PRICE);
+        } else {
+            return Rejection.NOTHING_TO_BUY;
+        }
+
+        resumeTurn();
+        stateChanged();
+        return null;
+    }
+
+    private Rejection declineBuy(int playerId) {
+        Player player = gameState.getPlayer(playerId);
+        Property property = gameLogic.getPropertyAtPosition(player.getPosition());
+        if (property == null) {
+            // Railroads and utilities are not auctioned; they stay with the bank
+            event(EventCode.DECLINED, playerId, player.getPosition());
+            resumeTurn();
+            stateChanged();
+            return null;
+        }
+
+        auctionManager.startAuction(property.getId());
+        gameState.setTurnPhase(TurnPhase.AUCTION);
+        if (listener != null) {
+            listener.auctionStarted(property);
+        }
+        event(EventCode.DECLINED_AUCTION, playerId, property.getId());
+        stateChanged();
+        return null;
+    }
+
+    private Rejection bid(int playerId, int amount) {
+        Auction auction = gameState.getActiveAuction();
+        if (auction == null || !auction.isActive()) {
+            return Rejection.NO_AUCTION;
+        }
+        if (!auctionManager.placeBid(playerId, amount)) {
+            return Rejection.INVALID_BID;
+        }
+        if (listener != null) {
+            listener.bidPlaced(playerId, auction.getCurrentBid());
+        }
+        event(EventCode.BID, playerId, amount);
+
+        // A bid from the last bidder still in closes the auction
+        if (!auction.isActive()) {
+            endAuction(auction);
+        }
+        stateChanged();
+        return null;
+    }
+
+    private Rejection passBid(int playerId) {
+        Auction auction = gameState.getActiveAuction();
+        if (auction == null || !auction.isActive()) {
+            return Rejection.NO_AUCTION;
+        }
+        auctionManager.passBid(playerId);
+        event(EventCode.PASSED_BID, playerId);
+
+        if (!auction.isActive() || auctionManager.shouldEndAuction()) {
+            endAuction(auction);
+        }
+        stateChanged();
+        return null;
+    }
+
+    private void endAuction(Auction auction) {
+        int winnerId = auctionManager.endAuction();
+        if (winnerId >= 0) {
+            if (listener != null) {
+                listener.auctionWon(winnerId, auction.getCurrentBid());
+            }
+            event(EventCode.AUCTION_WON, winnerId, auction.getCurrentBid());
+        } else {
+            event(EventCode.AUCTION_NO_WINNER);
+        }
+        resumeTurn();
+    }
+
+    private Rejection build(int playerId, int propertyId, boolean hotel) {
+        if (gameState.getBoard().getProperty(propertyId) == null) {
+            return Rejection.PROPERTY_NOT_FOUND;
+        }
+        boolean built = hotel
+            ? constructionManager.buildHotel(playerId, propertyId)
+            : constructionManager.buildHouse(playerId, propertyId);
+        if (!built) {
+            return Rejection.CANNOT_BUILD;
+        }
+        event(hotel ? EventCode.BUILT_HOTEL : EventCode.BUILT_HOUSE, playerId, propertyId);
+        stateChanged();
+        return null;
+    }
+
+    private Rejection sellBuilding(int playerId, int propertyId) {
+        if (gameState.getBoard().getProperty(propertyId) == null) {
+            return Rejection.PROPERTY_NOT_FOUND;
+        }
+        if (!constructionManager.sellHouse(playerId, propertyId)) {
+            return Rejection.CANNOT_SELL;
+        }
+        event(EventCode.SOLD_BUILDING, playerId, propertyId);
+        settleDebt(playerId);
+        stateChanged();
+        return null;
+    }
+
+    private Rejection mortgage(int playerId, int propertyId) {
+        Property property = gameState.getBoard().getProperty(propertyId);
+        if (property == null) {
+            return Rejection.PROPERTY_NOT_FOUND;
+        }
+        if (property.getOwnerId() != playerId) {
+            return Rejection.NOT_OWNER;
+        }
+        if (property.isMortgaged()) {
+            return Rejection.ALREADY_MORTGAGED;
+        }
+        if (property.hasBuildings()) {
+            return Rejection.HAS_BUILDINGS;
+        }
+        bankruptcyManager.mortgageProperty(playerId, propertyId);
+        event(EventCode.PROPERTY_MORTGAGED, playerId, propertyId, property.getMortgageValue());
+        settleDebt(playerId);
+        stateChanged();
+        return null;
+    }
+
+    private Rejection unmortgage(int playerId, int propertyId) {
+        Property property = gameState.getBoard().getProperty(propertyId);
+        if (property == null) {
+            return Rejection.PROPERTY_NOT_FOUND;
+        }
+        if (property.getOwnerId() != playerId) {
+            return Rejection.NOT_OWNER;
+        }
+        if (!property.isMortgaged()) {
+            return Rejection.NOT_MORTGAGED;
+        }
+        int cost = property.getUnmortgageCost();
+        if (gameState.getPlayer(playerId).getMoney() < cost) {
+            return Rejection.NOT_ENOUGH_MONEY;
+        }
+        bankruptcyManager.unmortgageProperty(playerId, propertyId);
+        event(EventCode.PROPERTY_UNMORTGAGED, playerId, propertyId, cost);
+        stateChanged();
+        return null;
+    }
+
+    private Rejection proposeTrade(int playerId, int receiverId, int offerMoney, int requestMoney) {
+        if (gameState.getPlayer(receiverId) == null) {
+            return Rejection.INVALID_TRADE_PARTICIPANTS;
+        }
+        Trade trade = tradeManager.proposeTrade(playerId, receiverId);
+        if (trade == null) {
+            return Rejection.INVALID_TRADE;
+        }
+        trade.setInitiatorMoney(offerMoney);
+        trade.setReceiverMoney(requestMoney);
+        gameState.setTurnPhase(TurnPhase.TRADING);
+
+        event(EventCode.TRADE_PROPOSED, playerId, receiverId);
+        stateChanged();
+        return null;
+    }
+
+    private Rejection answerTrade(int playerId, boolean accept) {
+        Trade trade = gameState.getActiveTrade();
+        if (trade == null || !trade.isPending()) {
+            return Rejection.NO_TRADE;
+        }
+        if (trade.getReceiverId() != playerId) {
+            return Rejection.NOT_TRADE_RECEIVER;
+        }
+        if (accept) {
+            tradeManager.acceptTrade(playerId);
+            event(EventCode.TRADE_ACCEPTED, playerId);
+        } else {
+            tradeManager.declineTrade(playerId);
+            event(EventCode.TRADE_DECLINED, playerId);
+        }
+        resumeTurn();
+        stateChanged();
+        return null;
+    }
+
+    private Rejection payJailFine(int playerId) {
+        Player player = gameState.getPlayer(playerId);
+        if (!player.isInJail()) {
+            return Rejection.NOT_IN_JAIL;
+        }
+        if (!jailManager.canPayFine(player)) {
+            return Rejection.CANNOT_PAY_FINE;
+        }
+        jailManager.releaseByFine(player);
+        event(EventCode.JAIL_BAIL_PAID, playerId, JailManager.JAIL_FINE);
+        stateChanged();
+        return null;
+    }
+
+    private Rejection useJailCard(int playerId) {
+        Player player = gameState.getPlayer(playerId);
+        if (!player.isInJail()) {
+            return Rejection.NOT_IN_JAIL;
+        }
+        if (!jailManager.canUseCard(player)) {
+            return Rejection.NO_JAIL_CARD;
+        }
+        jailManager.releaseByCard(player);
+        event(EventCode.JAIL_CARD_USED, playerId);
+        stateChanged();
+        return null;
+    }
+
+    private Rejection endTurn(int playerId) {
+        // A player who still cannot cover their debt is out, and their creditor takes what is left
+        if (gameState.getTurnPhase() == TurnPhase.IN_DEBT && !settleDebt(playerId)) {
+            int creditorId = gameState.getDebtCreditorId();
+            gameState.clearDebt();
+            bankruptcyManager.declareBankruptcy(playerId, creditorId);
+            if (listener != null) {
+                listener.playerBankrupt(playerId);
+            }
+            event(EventCode.PLAYER_BANKRUPT, playerId);
+            if (checkGameEnd()) {
+                return null;
+            }
+        }
+        advanceToNextPlayer();
+        return null;
+    }
+
+    /**
+     * Pays an indebted player's debt as soon as their cash covers it, and
+     * lets the turn go on
+     * @return true if the player was in debt and paid it
+     */
+    private boolean settleDebt(int playerId) {
+        if (gameState.getTurnPhase() != TurnPhase.IN_DEBT) {
+            return false;
+        }
+        int amount = gameState.getDebtAmount();
+        if (!gameLogic.settleDebt(playerId)) {
+            return false;
+        }
+        event(EventCode.DEBT_PAID, playerId, amount);
+        resumeTurn();
+        return true;
+    }
+
+    // ==================== Turn flow ====================
+
+    /**
+     * Removes a player who left the game; their turn passes on
+     * @param playerId The player
+     */
+    public void eliminate(int playerId) {
+        Player player = gameState.getPlayer(playerId);
+        if (player == null || gameState.isGameOver()) {
+            return;
+        }
+        bankruptcyManager.declareBankruptcy(playerId, -1);
+        event(EventCode.PLAYER_ELIMINATED, playerId);
+        if (gameState.getCurrentPlayerId() == playerId) {
+            advanceToNextPlayer();
+        }
+        checkGameEnd();
+    }
+
+    /**
+     * Maps the phase left by game logic onto a phase that accepts commands
+     */
+    private void settleTurnPhase() {
+        switch (gameState.getTurnPhase()) {
+            case AWAITING_DECISION:
+                gameState.setTurnPhase(TurnPhase.PROPERTY_DECISION);
+                break;
+            case PROPERTY_DECISION:
+            case IN_DEBT:
+            case GAME_OVER:
+                break;
+            default:
+                resumeTurn();
+                break;
+        }
+    }
+
+    /**
+     * Returns the current player to rolling (before the first roll or after
+     * doubles) or to the end of their turn
+     */
+    private void resumeTurn() {
+        Player current = gameState.getCurrentPlayer();
+        boolean rollAgain = gameState.canRollAgain() && current != null && !current.isInJail();
+        if (!gameState.getDice().hasRolled() || rollAgain) {
+            gameState.setTurnPhase(TurnPhase.PRE_ROLL);
+        } else {
+            gameState.setTurnPhase(TurnPhase.POST_ROLL);
+        }
+    }
+
+    /**
+     * Passes the turn to the next player still in the game
+     */
+    private void advanceToNextPlayer() {
+        // Reset dice and debt for the next turn
+        gameState.getDice().resetDoubles();
+        gameState.getDice().resetForNewTurn();
+        gameState.setCanRollAgain(false);
+        gameState.clearDebt();
+
+        ArrayList<Integer> order = gameState.getPlayerOrder();
+        int currentIdx = -1;
+        for (int i = 0; i < order.size(); i++) {
+            if (order.get(i) == gameState.getCurrentPlayerId()) {
+                currentIdx = i;
+                break;
+            }
+        }
+        for (int step = 1; step <= order.size(); step++) {
+            Player next = gameState.getPlayer(order.get((currentIdx + step) % order.size()));
+            if (next != null && !next.isBankrupt()) {
+                gameState.setCurrentPlayerId(next.getId());
+                gameState.incrementTurnNumber();
+                gameState.setTurnPhase(TurnPhase.PRE_ROLL);
+                if (listener != null) {
+                    listener.turnStarted(next.getId());
+                }
+                stateChanged();
+                return;
+            }
+        }
+        checkGameEnd();
+    }
+
+    /**
+     * Ends the game once a single player is left
+     * @return true if the game is over
+     */
+    private boolean checkGameEnd() {
+        // isGameOver() already holds once one player is left, so look at the status
+        if (gameState.getGameStatus() == GameStatus.FINISHED) {
+            return true;
+        }
+        ArrayList<Integer> order = gameState.getPlayerOrder();
+        Player last = null;
+        for (int i = 0; i < order.size(); i++) {
+            Player player = gameState.getPlayer(order.get(i));
+            if (player != null && !player.isBankrupt()) {
+                if (last != null) {
+                    return false;
+                }
+                last = player;
+            }
+        }
+        if (last == null) {
+            return false;
+        }
+        gameState.setGameOver(true);
+        gameState.setTurnPhase(TurnPhase.GAME_OVER);
+        gameState.setWinner(last);
+        if (listener != null) {
+            listener.gameOver(last);
+        }
+        return true;
+    }
+
+    // ==================== Notification ====================
+
+    private void resolved(TurnOutcome outcome) {
+        if (listener != null) {
+            listener.resolved(outcome);
+        }
+    }
+
+    private void stateChanged() {
+        if (listener != null) {
+            listener.stateChanged();
+        }
+    }
+
+    // One overload per arity, so nothing is allocated without a listener
+    private void event(EventCode code) {
+        if (listener != null) {
+            listener.event(code);
+        }
+    }
+
+    private void event(EventCode code, int a) {
+        if (listener != null) {
+            listener.event(code, a);
+        }
+    }
+
+    private void event(EventCode code, int a, int b) {
+        if (listener != null) {
+            listener.event(code, a, b);
+        }
+    }
+
+    private void event(EventCode code, int a, int b, int c) {
+        if (listener != null) {
+            listener.event(code, a, b, c);
+        }
+    }
+
+    // ==================== Accessors ====================
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public GameLogic getGameLogic() {
+        return gameLogic;
+    }
+
+    public BankruptcyManager getBankruptcyManager() {
+        return bankruptcyManager;
+    }
+
+    /**
+     * Gets the outcome of the last roll, to describe why it was refused
+     * @return Roll outcome, or null before the first roll
+     */
+    public TurnOutcome getLastRoll() {
+        return lastRoll;
+    }
+}
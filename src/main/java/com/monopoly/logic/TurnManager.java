@@ -25,7 +25,7 @@ public class TurnManager {
      */
     public TurnManager(GameState gameState) {
         this.gameState = gameState;
-        this.jailManager = new JailManager();
+        this.jailManager = new JailManager(gameState);
         this.allowedActions = new HashTable<>();
         initializeAllowedActions();
     }
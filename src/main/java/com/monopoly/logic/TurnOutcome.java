@@ -0,0 +1,209 @@
+package com.monopoly.logic;
+
+import com.monopoly.model.enums.EventCode;
+import com.monopoly.model.game.GameState;
+import com.monopoly.util.EventTemplates;
+
+/**
+ * What one step of turn resolution (a roll, a landing or a card) did, as
+ * an EventCode plus numeric arguments. GameLogic keeps one instance per
+ * step and overwrites it on every call, so resolving a turn allocates
+ * nothing; the text is only rendered from the event templates when someone
+ * reads it. The arguments follow the EventCode.Arg.TURN layout.
+ */
+public final class TurnOutcome {
+
+    // Kind of outcome
+    private EventCode code;
+
+    // Player concerned and board position reached
+    private int playerId;
+    private int position;
+
+    // Dice of a roll
+    private int die1;
+    private int die2;
+
+    // Money involved (price, rent, tax, fine, jackpot, card total), dice total
+    // of a move, or jail turns remaining
+    private int amount;
+
+    // Counterparty of a rent payment
+    private int otherPlayerId;
+
+    // Cash of the player when the outcome was recorded
+    private int cash;
+
+    // Card applied (EventTemplates.cardKey), and whether it moved the player
+    private int card;
+    private boolean moved;
+
+    /**
+     * Creates an empty outcome; GameLogic fills it
+     */
+    TurnOutcome() {
+        clear();
+    }
+
+    // ==================== Recording ====================
+
+    /**
+     * Resets every field
+     */
+    void clear() {
+        code = EventCode.INVALID;
+        playerId = -1;
+        position = -1;
+        die1 = 0;
+        die2 = 0;
+        amount = 0;
+        otherPlayerId = -1;
+        cash = 0;
+        card = -1;
+        moved = false;
+    }
+
+    /**
+     * Starts a roll outcome
+     * @param playerId The rolling player (-1 if none)
+     * @param die1 First die
+     * @param die2 Second die
+     * @return This outcome
+     */
+    TurnOutcome roll(int playerId, int die1, int die2) {
+        clear();
+        this.playerId = playerId;
+        this.die1 = die1;
+        this.die2 = die2;
+        return this;
+    }
+
+    /**
+     * Starts a landing outcome
+     * @param playerId The landing player
+     * @param position The tile landed on
+     * @return This outcome
+     */
+    TurnOutcome landing(int playerId, int position) {
+        clear();
+        this.playerId = playerId;
+        this.position = position;
+        return this;
+    }
+
+    TurnOutcome code(EventCode code) {
+        this.code = code;
+        return this;
+    }
+
+    TurnOutcome position(int position) {
+        this.position = position;
+        return this;
+    }
+
+    TurnOutcome amount(int amount) {
+        this.amount = amount;
+        return this;
+    }
+
+    TurnOutcome otherPlayer(int otherPlayerId) {
+        this.otherPlayerId = otherPlayerId;
+        return this;
+    }
+
+    TurnOutcome cash(int cash) {
+        this.cash = cash;
+        return this;
+    }
+
+    TurnOutcome card(int card) {
+        this.card = card;
+        return this;
+    }
+
+    TurnOutcome moved() {
+        this.moved = true;
+        return this;
+    }
+
+    // ==================== Getters ====================
+
+    public EventCode getCode() {
+        return code;
+    }
+
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public int getDie1() {
+        return die1;
+    }
+
+    public int getDie2() {
+        return die2;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public int getOtherPlayerId() {
+        return otherPlayerId;
+    }
+
+    public int getCash() {
+        return cash;
+    }
+
+    public int getCard() {
+        return card;
+    }
+
+    /**
+     * Checks whether a card moved the player, in which case the landing
+     * outcome holds what happened on the new tile
+     * @return true if the player was moved
+     */
+    public boolean isMoved() {
+        return moved;
+    }
+
+    /**
+     * Checks whether the dice were actually rolled
+     * @return false if the roll was refused
+     */
+    public boolean isRolled() {
+        return code != EventCode.NO_PLAYER && code != EventCode.ROLL_NOT_ALLOWED;
+    }
+
+    // ==================== Text ====================
+
+    /**
+     * Copies the arguments into a new array, in EventCode.Arg.TURN layout
+     * @return Event arguments
+     */
+    public int[] eventArgs() {
+        return new int[] { playerId, position, die1, die2, amount, otherPlayerId, cash, card };
+    }
+
+    /**
+     * Renders the outcome with the default templates. Player names are
+     * looked up in the game state at call time.
+     * @param gameState The game state the outcome was recorded in
+     * @return Human-readable description
+     */
+    public String describe(GameState gameState) {
+        return EventTemplates.getDefault().render(code, eventArgs(), gameState);
+    }
+
+    @Override
+    public String toString() {
+        return "TurnOutcome{" + code + ", player=" + playerId + ", position=" + position
+            + ", dice=" + die1 + "+" + die2 + ", amount=" + amount + '}';
+    }
+}
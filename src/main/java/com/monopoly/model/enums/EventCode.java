@@ -0,0 +1,143 @@
+package com.monopoly.model.enums;
+
+/**
+ * Codes of the events shown in the game log.
+ * An EVENT_LOG message carries a code and integer arguments instead of
+ * text; the text comes from a template per code (see EventTemplates), so
+ * clients can render it in their own language and the server only renders
+ * it when text logging is on. Ids are part of the wire format: never reuse
+ * or renumber them.
+ */
+public enum EventCode {
+
+    // ---- Turn outcomes (arguments in TURN layout) ----
+    NO_PLAYER(1, Arg.TURN),
+    ROLL_NOT_ALLOWED(2, Arg.TURN),
+    MOVED(3, Arg.TURN),
+    MOVED_DOUBLES(4, Arg.TURN),
+    SPEEDING(5, Arg.TURN),
+    JAIL_DOUBLES(6, Arg.TURN),
+    JAIL_FINE_PAID(7, Arg.TURN),
+    JAIL_FINE_UNPAID(8, Arg.TURN),
+    STILL_IN_JAIL(9, Arg.TURN),
+    INVALID(10, Arg.TURN),
+    UNOWNED(11, Arg.TURN),
+    OWN_PROPERTY(12, Arg.TURN),
+    MORTGAGED(13, Arg.TURN),
+    RENT_PAID(14, Arg.TURN),
+    RENT_IN_DEBT(15, Arg.TURN),
+    RENT_BANKRUPT(16, Arg.TURN),
+    GO(17, Arg.TURN),
+    JUST_VISITING(18, Arg.TURN),
+    GO_TO_JAIL(19, Arg.TURN),
+    FREE_PARKING(20, Arg.TURN),
+    FREE_PARKING_JACKPOT(21, Arg.TURN),
+    DRAW_CARD(22, Arg.TURN),
+    TAX_PAID(23, Arg.TURN),
+    TAX_UNPAID(24, Arg.TURN),
+    LANDED(25, Arg.TURN),
+    CARD_APPLIED(26, Arg.TURN),
+    CARD_COLLECTED(27, Arg.TURN),
+    CARD_PAID(28, Arg.TURN),
+    CARD_UNPAID(29, Arg.TURN),
+
+    // ---- Player actions ----
+    BOUGHT(40, Arg.PLAYER, Arg.TILE, Arg.NUMBER),
+    DECLINED(41, Arg.PLAYER, Arg.TILE),
+    DECLINED_AUCTION(42, Arg.PLAYER, Arg.TILE),
+    BID(43, Arg.PLAYER, Arg.NUMBER),
+    PASSED_BID(44, Arg.PLAYER),
+    AUCTION_WON(45, Arg.PLAYER, Arg.NUMBER),
+    AUCTION_NO_WINNER(46),
+    BUILT_HOUSE(47, Arg.PLAYER, Arg.TILE),
+    BUILT_HOTEL(48, Arg.PLAYER, Arg.TILE),
+    SOLD_BUILDING(49, Arg.PLAYER, Arg.TILE),
+    PROPERTY_MORTGAGED(50, Arg.PLAYER, Arg.TILE, Arg.NUMBER),
+    PROPERTY_UNMORTGAGED(51, Arg.PLAYER, Arg.TILE, Arg.NUMBER),
+    TRADE_PROPOSED(52, Arg.PLAYER, Arg.PLAYER),
+    TRADE_ACCEPTED(53, Arg.PLAYER),
+    TRADE_DECLINED(54, Arg.PLAYER),
+    JAIL_BAIL_PAID(55, Arg.PLAYER, Arg.NUMBER),
+    JAIL_CARD_USED(56, Arg.PLAYER),
+    PLAYER_BANKRUPT(57, Arg.PLAYER),
+    PLAYER_ELIMINATED(58, Arg.PLAYER),
+    GAME_STARTED(59),
+    DEBT_PAID(60, Arg.PLAYER, Arg.NUMBER);
+
+    /**
+     * How an argument is rendered
+     */
+    public enum Arg {
+        /** Plain number (amounts, counts, dice) */
+        NUMBER,
+        /** Player ID, rendered as the player's name */
+        PLAYER,
+        /** Board position, rendered as the tile name */
+        TILE,
+        /** Card key (see EventTemplates.cardKey), rendered as the card text */
+        CARD;
+
+        /**
+         * Layout shared by turn outcomes: player, position, die 1, die 2,
+         * amount, other player, cash, card
+         */
+        public static final Arg[] TURN = {
+            PLAYER, TILE, NUMBER, NUMBER, NUMBER, PLAYER, NUMBER, CARD
+        };
+    }
+
+    // Lookup by wire id
+    private static final EventCode[] BY_ID;
+
+    static {
+        int max = 0;
+        for (EventCode code : values()) {
+            max = Math.max(max, code.id);
+        }
+        BY_ID = new EventCode[max + 1];
+        for (EventCode code : values()) {
+            BY_ID[code.id] = code;
+        }
+    }
+
+    // Stable wire id
+    private final int id;
+
+    // Kind of each argument
+    private final Arg[] args;
+
+    EventCode(int id, Arg... args) {
+        this.id = id;
+        this.args = args;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the number of arguments the code takes
+     * @return Argument count
+     */
+    public int getArgCount() {
+        return args.length;
+    }
+
+    /**
+     * Gets how an argument is rendered
+     * @param index Argument index
+     * @return Argument kind
+     */
+    public Arg getArg(int index) {
+        return args[index];
+    }
+
+    /**
+     * Gets a code by its wire id
+     * @param id Wire id
+     * @return Code, or null if unknown (e.g. sent by a newer server)
+     */
+    public static EventCode fromId(int id) {
+        return id >= 0 && id < BY_ID.length ? BY_ID[id] : null;
+    }
+}
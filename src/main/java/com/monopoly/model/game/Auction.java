@@ -31,9 +31,13 @@ public class Auction {
         private final long timestamp;
         
         public Bid(int playerId, int amount) {
+            this(playerId, amount, System.currentTimeMillis());
+        }
+        
+        Bid(int playerId, int amount, long timestamp) {
             this.playerId = playerId;
             this.amount = amount;
-            this.timestamp = System.currentTimeMillis();
+            this.timestamp = timestamp;
         }
         
         public int getPlayerId() {
@@ -104,6 +108,41 @@ public class Auction {
         this.endTime = -1;
     }
     
+    /**
+     * Recreates an auction exactly as checkpointed (used by snapshot restore)
+     */
+    Auction(String auctionId, Property property, long startTime, long endTime,
+            AuctionStatus status, int currentHighBid, int currentHighBidder, int currentBidderIndex) {
+        this.auctionId = auctionId;
+        this.property = property;
+        this.eligibleBidders = new ArrayList<>();
+        this.bidHistory = new ArrayList<>();
+        this.playerBids = new HashTable<>();
+        this.playerPassed = new HashTable<>();
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.status = status;
+        this.currentHighBid = currentHighBid;
+        this.currentHighBidder = currentHighBidder;
+        this.currentBidderIndex = currentBidderIndex;
+    }
+    
+    /**
+     * Restores one bidder's standing (used by snapshot restore)
+     */
+    void restoreBidder(int playerId, int highestBid, boolean passed) {
+        eligibleBidders.add(playerId);
+        playerBids.put(playerId, highestBid);
+        playerPassed.put(playerId, passed);
+    }
+    
+    /**
+     * Restores one entry of the bid history (used by snapshot restore)
+     */
+    void restoreBid(int playerId, int amount, long timestamp) {
+        bidHistory.add(new Bid(playerId, amount, timestamp));
+    }
+    
     /**
      * Starts the auction
      * @return true if auction started successfully
@@ -367,7 +406,11 @@ public class Auction {
     public long getEndTime() {
         return endTime;
     }
-    
+
+    int getCurrentBidderIndex() {
+        return currentBidderIndex;
+    }
+
     /**
      * Gets a player's highest bid
      * @param playerId The player ID
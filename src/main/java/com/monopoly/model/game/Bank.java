@@ -316,6 +316,18 @@ public class Bank {
         return unownedProperties.values();
     }
     
+    /**
+     * Restores the supply counters (used by snapshot restore)
+     * @param totalMoney Bank money
+     * @param houses Houses left in the supply
+     * @param hotels Hotels left in the supply
+     */
+    void restoreSupply(int totalMoney, int houses, int hotels) {
+        this.totalMoney = totalMoney;
+        this.availableHouses = houses;
+        this.availableHotels = hotels;
+    }
+    
     /**
      * Resets the bank to starting state
      */
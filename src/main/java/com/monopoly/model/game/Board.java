@@ -51,10 +51,19 @@ public class Board {
     public static final int PARK_PLACE = 37;
     public static final int BOARDWALK = 39;
     
+    // Railroad and utility positions, in board order
+    private static final int[] RAILROAD_POSITIONS = {
+        READING_RAILROAD, PENNSYLVANIA_RAILROAD, B_AND_O_RAILROAD, SHORT_LINE_RAILROAD
+    };
+    private static final int[] UTILITY_POSITIONS = { ELECTRIC_COMPANY, WATER_WORKS };
+    
     // Fields
     private final ArrayList<Tile> tiles;
     private final HashTable<Integer, Property> allProperties; // propertyId -> Property
     
+    // Properties of each color group in board order, indexed by ColorGroup ordinal
+    private final Property[][] colorGroupProperties;
+    
     /**
      * Creates a new Board with standard Monopoly layout
      */
@@ -62,6 +71,7 @@ public class Board {
         this.tiles = new ArrayList<>(BOARD_SIZE);
         this.allProperties = new HashTable<>();
         initializeStandardBoard();
+        this.colorGroupProperties = indexColorGroups();
     }
     
     /**
@@ -223,6 +233,36 @@ public class Board {
         return property;
     }
     
+    /**
+     * Indexes the property tiles by color group, so that group lookups on
+     * the rent path do not scan the board or allocate
+     */
+    private Property[][] indexColorGroups() {
+        int[] sizes = new int[ColorGroup.values().length];
+        for (int i = 0; i < tiles.size(); i++) {
+            Tile tile = tiles.get(i);
+            if (tile instanceof PropertyTile) {
+                sizes[((PropertyTile) tile).getProperty().getColorGroup().ordinal()]++;
+            }
+        }
+        
+        // Railroads and utilities are not property tiles; their groups stay empty
+        Property[][] index = new Property[sizes.length][];
+        for (int g = 0; g < sizes.length; g++) {
+            index[g] = new Property[sizes[g]];
+            sizes[g] = 0;
+        }
+        for (int i = 0; i < tiles.size(); i++) {
+            Tile tile = tiles.get(i);
+            if (tile instanceof PropertyTile) {
+                Property property = ((PropertyTile) tile).getProperty();
+                int g = property.getColorGroup().ordinal();
+                index[g][sizes[g]++] = property;
+            }
+        }
+        return index;
+    }
+    
     /**
      * Gets a tile by position
      * @param position The board position (0-39)
@@ -373,29 +413,71 @@ public class Board {
      * @return ArrayList of properties in that group
      */
     public ArrayList<Property> getPropertiesInColorGroup(ColorGroup colorGroup) {
-        ArrayList<Property> result = new ArrayList<>();
-        for (int i = 0; i < tiles.size(); i++) {
-            Tile tile = tiles.get(i);
-            if (tile instanceof PropertyTile) {
-                Property property = ((PropertyTile) tile).getProperty();
-                if (property.getColorGroup() == colorGroup) {
-                    result.add(property);
-                }
-            }
+        Property[] group = colorGroupProperties[colorGroup.ordinal()];
+        ArrayList<Property> result = new ArrayList<>(group.length);
+        for (int i = 0; i < group.length; i++) {
+            result.add(group[i]);
         }
         return result;
     }
     
+    /**
+     * Counts the properties of a color group held by an owner, without
+     * allocating
+     * @param colorGroup The color group
+     * @param ownerId The owner's ID
+     * @return Number of properties of the group the owner holds
+     */
+    public int countOwnedInColorGroup(ColorGroup colorGroup, int ownerId) {
+        Property[] group = colorGroupProperties[colorGroup.ordinal()];
+        int count = 0;
+        for (int i = 0; i < group.length; i++) {
+            if (group[i].getOwnerId() == ownerId) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Counts the railroads held by an owner, without allocating
+     * @param ownerId The owner's ID
+     * @return Number of railroads owned
+     */
+    public int countOwnedRailroads(int ownerId) {
+        int count = 0;
+        for (int i = 0; i < RAILROAD_POSITIONS.length; i++) {
+            if (((RailroadTile) tiles.get(RAILROAD_POSITIONS[i])).getOwnerId() == ownerId) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Counts the utilities held by an owner, without allocating
+     * @param ownerId The owner's ID
+     * @return Number of utilities owned
+     */
+    public int countOwnedUtilities(int ownerId) {
+        int count = 0;
+        for (int i = 0; i < UTILITY_POSITIONS.length; i++) {
+            if (((UtilityTile) tiles.get(UTILITY_POSITIONS[i])).getOwnerId() == ownerId) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
     /**
      * Gets all railroad positions
      * @return ArrayList of railroad positions
      */
     public ArrayList<Integer> getRailroadPositions() {
-        ArrayList<Integer> positions = new ArrayList<>();
-        positions.add(READING_RAILROAD);
-        positions.add(PENNSYLVANIA_RAILROAD);
-        positions.add(B_AND_O_RAILROAD);
-        positions.add(SHORT_LINE_RAILROAD);
+        ArrayList<Integer> positions = new ArrayList<>(RAILROAD_POSITIONS.length);
+        for (int i = 0; i < RAILROAD_POSITIONS.length; i++) {
+            positions.add(RAILROAD_POSITIONS[i]);
+        }
         return positions;
     }
     
@@ -404,9 +486,10 @@ public class Board {
      * @return ArrayList of utility positions
      */
     public ArrayList<Integer> getUtilityPositions() {
-        ArrayList<Integer> positions = new ArrayList<>();
-        positions.add(ELECTRIC_COMPANY);
-        positions.add(WATER_WORKS);
+        ArrayList<Integer> positions = new ArrayList<>(UTILITY_POSITIONS.length);
+        for (int i = 0; i < UTILITY_POSITIONS.length; i++) {
+            positions.add(UTILITY_POSITIONS[i]);
+        }
         return positions;
     }
     
@@ -1,11 +1,11 @@
 package com.monopoly.model.game;
 
-import java.util.Random;
-
 /**
  * Represents the dice used in the game.
  * Server generates random values (2-12).
  * Handles doubles detection for extra turns and jail release.
+ * The generator is SplitMix64 over a single long so its state can be
+ * checkpointed and restored exactly (java.util.Random hides its seed).
  */
 public class Dice {
 
@@ -18,14 +18,14 @@ public class Dice {
     private int die1;
     private int die2;
     private int consecutiveDoubles;
-    private final Random random;
+    private long rngState;
     private boolean hasRolled;
     
     /**
      * Creates a new Dice instance
      */
     public Dice() {
-        this.random = new Random();
+        this.rngState = System.nanoTime() ^ Double.doubleToLongBits(Math.random());
         this.die1 = 0;
         this.die2 = 0;
         this.consecutiveDoubles = 0;
@@ -37,7 +37,7 @@ public class Dice {
      * @param seed The seed for the random number generator
      */
     public Dice(long seed) {
-        this.random = new Random(seed);
+        this.rngState = seed;
         this.die1 = 0;
         this.die2 = 0;
         this.consecutiveDoubles = 0;
@@ -49,8 +49,8 @@ public class Dice {
      * @return The total of both dice
      */
     public int roll() {
-        die1 = random.nextInt(MAX_VALUE) + MIN_VALUE;
-        die2 = random.nextInt(MAX_VALUE) + MIN_VALUE;
+        die1 = nextFace();
+        die2 = nextFace();
         hasRolled = true;
         
         if (isDoubles()) {
@@ -62,6 +62,54 @@ public class Dice {
         return getTotal();
     }
     
+    /**
+     * Draws one die face (SplitMix64 step, then an unbiased reduction to 1-6)
+     */
+    private int nextFace() {
+        // 2^64 mod 6: values below this would make low faces slightly likelier
+        long threshold = Long.remainderUnsigned(-MAX_VALUE, MAX_VALUE);
+        while (true) {
+            rngState += 0x9E3779B97F4A7C15L;
+            long z = rngState;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            z = z ^ (z >>> 31);
+            if (Long.compareUnsigned(z, threshold) >= 0) {
+                return (int) Long.remainderUnsigned(z, MAX_VALUE) + MIN_VALUE;
+            }
+        }
+    }
+    
+    /**
+     * Gets the generator state (for snapshots)
+     * @return Current RNG state
+     */
+    public long getRngState() {
+        return rngState;
+    }
+    
+    /**
+     * Restores the generator state (from a snapshot)
+     * @param rngState RNG state
+     */
+    public void setRngState(long rngState) {
+        this.rngState = rngState;
+    }
+    
+    /**
+     * Restores the face values and counters exactly (from a snapshot)
+     * @param die1 First die (0 if not rolled)
+     * @param die2 Second die (0 if not rolled)
+     * @param consecutiveDoubles Doubles in a row
+     * @param hasRolled Whether the dice were rolled this turn
+     */
+    void restore(int die1, int die2, int consecutiveDoubles, boolean hasRolled) {
+        this.die1 = die1;
+        this.die2 = die2;
+        this.consecutiveDoubles = consecutiveDoubles;
+        this.hasRolled = hasRolled;
+    }
+    
     /**
      * Sets dice values manually (for testing or network sync)
      * @param value1 First die value
@@ -12,6 +12,8 @@ import com.monopoly.model.enums.GameStatus;
 import com.monopoly.model.enums.TurnPhase;
 import com.monopoly.model.player.Player;
 import com.monopoly.model.property.Property;
+import com.monopoly.transaction.TransactionManager;
+import com.monopoly.transaction.TransactionType;
 
 /**
  * Represents the complete state of the game.
@@ -51,6 +53,9 @@ public class GameState {
     // Financial tracking (Graph: nodes are playerIds, edges are transactions)
     private final Graph<Integer> financialGraph;
     
+    // Money ledger (every transfer between players and the bank)
+    private final TransactionManager ledger;
+    
     // Player rankings (BST by net worth)
     private final BST<PlayerRanking> playerRankings;
     
@@ -58,6 +63,11 @@ public class GameState {
     private int freeParkingJackpot;
     private boolean useFreeParkingJackpot;
     
+    // Debt the current player could not pay yet (type is null when none)
+    private TransactionType debtType;
+    private int debtCreditorId;
+    private int debtAmount;
+    
     // Trade related
     private Trade activeTrade;
     
@@ -82,9 +92,13 @@ public class GameState {
         this.gameStatus = GameStatus.WAITING;
         this.winnerId = -1;
         this.financialGraph = new Graph<>();
+        this.ledger = new TransactionManager(this);
         this.playerRankings = new BST<>();
         this.freeParkingJackpot = 0;
         this.useFreeParkingJackpot = false;
+        this.debtType = null;
+        this.debtCreditorId = -1;
+        this.debtAmount = 0;
         this.activeTrade = null;
         this.activeAuction = null;
         
@@ -565,6 +579,16 @@ public class GameState {
         return card;
     }
     
+    /**
+     * Reshuffles the cards left in both decks, so that a copy of the game
+     * does not know the real draw order
+     * @param seed Shuffle seed
+     */
+    public void shuffleDecks(long seed) {
+        chanceCards.shuffle(seed);
+        communityChestCards.shuffle(~seed);
+    }
+    
     /**
      * Returns a card to its deck
      * @param card The card to return
@@ -597,6 +621,14 @@ public class GameState {
         return financialGraph;
     }
     
+    /**
+     * Gets the money ledger
+     * @return The ledger
+     */
+    public TransactionManager getLedger() {
+        return ledger;
+    }
+    
     // ==================== Player Rankings ====================
     
     /**
@@ -659,6 +691,60 @@ public class GameState {
         this.useFreeParkingJackpot = use;
     }
     
+    // ==================== Pending Debt ====================
+    
+    /**
+     * Records a payment the current player could not make; it is settled
+     * once they raise the cash, or ends in bankruptcy at the end of the turn
+     * @param type What the payment is for
+     * @param creditorId Player owed, or -1 for the bank
+     * @param amount Amount owed
+     */
+    public void setDebt(TransactionType type, int creditorId, int amount) {
+        this.debtType = type;
+        this.debtCreditorId = creditorId;
+        this.debtAmount = amount;
+    }
+    
+    /**
+     * Forgets the pending debt
+     */
+    public void clearDebt() {
+        setDebt(null, -1, 0);
+    }
+    
+    /**
+     * Checks if a debt is pending
+     * @return true if the current player owes money
+     */
+    public boolean hasDebt() {
+        return debtType != null;
+    }
+    
+    /**
+     * Gets what the pending debt is for
+     * @return Transaction type, or null if there is no debt
+     */
+    public TransactionType getDebtType() {
+        return debtType;
+    }
+    
+    /**
+     * Gets who the pending debt is owed to
+     * @return Creditor's player ID, or -1 for the bank
+     */
+    public int getDebtCreditorId() {
+        return debtCreditorId;
+    }
+    
+    /**
+     * Gets the amount of the pending debt
+     * @return Amount owed, 0 if there is no debt
+     */
+    public int getDebtAmount() {
+        return debtAmount;
+    }
+    
     // ==================== Trade Management ====================
     
     public Trade getActiveTrade() {
@@ -705,6 +791,55 @@ public class GameState {
         return new GameStateSnapshot(this);
     }
     
+    /**
+     * Encodes the complete state into a compact binary checkpoint.
+     * Must be called between commands (nothing may mutate the state meanwhile).
+     * @return Checkpoint bytes
+     */
+    public byte[] checkpoint() {
+        return GameStateCodec.encode(this);
+    }
+    
+    /**
+     * Rebuilds a game state from a checkpoint, possibly in another process
+     * @param checkpoint Bytes produced by checkpoint()
+     * @return Restored game state
+     * @throws IllegalArgumentException if the bytes are not a valid checkpoint
+     */
+    public static GameState restore(byte[] checkpoint) {
+        return GameStateCodec.decode(checkpoint);
+    }
+    
+    // Package-private access for GameStateCodec
+    
+    int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+    
+    boolean isUseFreeParkingJackpot() {
+        return useFreeParkingJackpot;
+    }
+    
+    Queue<Card> getChanceDeck() {
+        return chanceCards;
+    }
+    
+    Queue<Card> getCommunityChestDeck() {
+        return communityChestCards;
+    }
+    
+    /**
+     * Restores turn counters exactly (used by snapshot restore)
+     */
+    void restoreProgress(int currentPlayerIndex, int turnNumber, int winnerId,
+                         int freeParkingJackpot, boolean useFreeParkingJackpot) {
+        this.currentPlayerIndex = currentPlayerIndex;
+        this.turnNumber = turnNumber;
+        this.winnerId = winnerId;
+        this.freeParkingJackpot = freeParkingJackpot;
+        this.useFreeParkingJackpot = useFreeParkingJackpot;
+    }
+    
     @Override
     public String toString() {
         return "GameState{" +
@@ -0,0 +1,467 @@
+package com.monopoly.model.game;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.datastructures.Graph;
+import com.monopoly.datastructures.HashTable;
+import com.monopoly.datastructures.Queue;
+import com.monopoly.model.card.Card;
+import com.monopoly.model.card.ChanceCard;
+import com.monopoly.model.card.CommunityChestCard;
+import com.monopoly.model.enums.GameStatus;
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.model.player.Player;
+import com.monopoly.model.player.TokenType;
+import com.monopoly.model.property.Property;
+import com.monopoly.model.tile.PropertyTile;
+import com.monopoly.model.tile.RailroadTile;
+import com.monopoly.model.tile.Tile;
+import com.monopoly.model.tile.UtilityTile;
+import com.monopoly.transaction.TransactionType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Binary checkpoint format for a GameState.
+ * Only mutable state is written: the board layout, card texts and rent
+ * tables are rebuilt from the standard definitions on restore, so a
+ * four-player mid-game snapshot is well under a kilobyte. Tiles are written
+ * in board order and cards by ID, so both sides must run the same board.
+ */
+final class GameStateCodec {
+
+    /** "MSNP" */
+    private static final int MAGIC = 0x4D534E50;
+
+    /** Bumped whenever the layout below changes */
+    private static final int VERSION = 1;
+
+    /** Token byte for a player created without one */
+    private static final int NO_TOKEN = 0xFF;
+
+    /** Debt type byte when nothing is owed */
+    private static final int NO_DEBT = 0xFF;
+
+    private GameStateCodec() {
+    }
+
+    // ==================== Encoding ====================
+
+    /**
+     * Encodes a game state
+     * @param state Game state (must not change during the call)
+     * @return Checkpoint bytes
+     */
+    static byte[] encode(GameState state) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            writeNullableString(out, state.getRoomId());
+
+            // Turn and status
+            out.writeByte(state.getGameStatus().ordinal());
+            out.writeByte(state.getTurnPhase().ordinal());
+            out.writeInt(state.getCurrentPlayerIndex());
+            out.writeInt(state.getTurnNumber());
+            out.writeInt(state.getWinnerId());
+            out.writeBoolean(state.canRollAgain());
+            out.writeInt(state.getFreeParkingJackpot());
+            out.writeBoolean(state.isUseFreeParkingJackpot());
+
+            // Dice
+            Dice dice = state.getDice();
+            out.writeByte(dice.getDie1());
+            out.writeByte(dice.getDie2());
+            out.writeByte(dice.getConsecutiveDoubles());
+            out.writeBoolean(dice.hasRolled());
+            out.writeLong(dice.getRngState());
+
+            // Bank supply
+            Bank bank = state.getBank();
+            out.writeInt(bank.getTotalMoney());
+            out.writeByte(bank.getAvailableHouses());
+            out.writeByte(bank.getAvailableHotels());
+
+            // Players, in turn order
+            ArrayList<Integer> order = state.getPlayerOrder();
+            out.writeByte(order.size());
+            for (int i = 0; i < order.size(); i++) {
+                writePlayer(out, state.getPlayer(order.get(i)));
+            }
+
+            // Ownable tiles, in board order
+            Board board = state.getBoard();
+            for (int position = 0; position < Board.BOARD_SIZE; position++) {
+                writeTile(out, board.getTile(position));
+            }
+
+            // Card decks, top first
+            writeDeck(out, state.getChanceDeck());
+            writeDeck(out, state.getCommunityChestDeck());
+
+            // Money flows between players
+            ArrayList<Graph.Edge<Integer>> edges = state.getFinancialGraph().getAllEdges();
+            out.writeShort(edges.size());
+            for (int i = 0; i < edges.size(); i++) {
+                Graph.Edge<Integer> edge = edges.get(i);
+                out.writeInt(edge.getSource());
+                out.writeInt(edge.getDestination());
+                out.writeInt(edge.getWeight());
+            }
+
+            writeAuction(out, state.getActiveAuction());
+            writeTrade(out, state.getActiveTrade());
+
+            // Ledger accounts, flows and totals
+            state.getLedger().writeState(out);
+
+            // Pending debt
+            out.writeByte(state.hasDebt() ? state.getDebtType().ordinal() : NO_DEBT);
+            out.writeInt(state.getDebtCreditorId());
+            out.writeInt(state.getDebtAmount());
+        } catch (IOException e) {
+            // ByteArrayOutputStream does not throw
+            throw new IllegalStateException("Checkpoint encoding failed", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writePlayer(DataOutputStream out, Player player) throws IOException {
+        out.writeInt(player.getId());
+        out.writeUTF(player.getName());
+        TokenType token = player.getTokenType();
+        out.writeByte(token != null ? token.ordinal() : NO_TOKEN);
+        out.writeInt(player.getMoney());
+        out.writeByte(player.getPosition());
+        out.writeBoolean(player.isInJail());
+        out.writeByte(player.getTurnsInJail());
+        out.writeBoolean(player.isBankrupt());
+        out.writeByte(player.getGetOutOfJailCards());
+        out.writeInt(player.getTotalRentCollected());
+        out.writeInt(player.getTotalRentPaid());
+        out.writeInt(player.getTimesPassedGo());
+        out.writeInt(player.getPropertiesBought());
+    }
+
+    private static void writeTile(DataOutputStream out, Tile tile) throws IOException {
+        if (tile instanceof PropertyTile) {
+            Property property = ((PropertyTile) tile).getProperty();
+            out.writeInt(property.getOwnerId());
+            out.writeByte(property.getNumberOfHouses());
+            out.writeBoolean(property.hasHotel());
+            out.writeBoolean(property.isMortgaged());
+        } else if (tile instanceof RailroadTile) {
+            RailroadTile railroad = (RailroadTile) tile;
+            out.writeInt(railroad.getOwnerId());
+            out.writeBoolean(railroad.isMortgaged());
+        } else if (tile instanceof UtilityTile) {
+            UtilityTile utility = (UtilityTile) tile;
+            out.writeInt(utility.getOwnerId());
+            out.writeBoolean(utility.isMortgaged());
+        }
+    }
+
+    private static void writeDeck(DataOutputStream out, Queue<Card> deck) throws IOException {
+        out.writeByte(deck.size());
+        for (Card card : deck) {
+            out.writeByte(card.getId());
+        }
+    }
+
+    private static void writeAuction(DataOutputStream out, Auction auction) throws IOException {
+        out.writeBoolean(auction != null);
+        if (auction == null) {
+            return;
+        }
+        out.writeUTF(auction.getAuctionId());
+        out.writeByte(auction.getProperty().getId());
+        out.writeLong(auction.getStartTime());
+        out.writeLong(auction.getEndTime());
+        out.writeByte(auction.getStatus().ordinal());
+        out.writeInt(auction.getCurrentHighBid());
+        out.writeInt(auction.getCurrentHighBidder());
+        out.writeInt(auction.getCurrentBidderIndex());
+
+        ArrayList<Integer> bidders = auction.getEligibleBidders();
+        out.writeByte(bidders.size());
+        for (int i = 0; i < bidders.size(); i++) {
+            int playerId = bidders.get(i);
+            out.writeInt(playerId);
+            out.writeInt(auction.getPlayerBid(playerId));
+            out.writeBoolean(auction.hasPlayerPassed(playerId));
+        }
+
+        ArrayList<Auction.Bid> history = auction.getBidHistory();
+        out.writeShort(history.size());
+        for (int i = 0; i < history.size(); i++) {
+            Auction.Bid bid = history.get(i);
+            out.writeInt(bid.getPlayerId());
+            out.writeInt(bid.getAmount());
+            out.writeLong(bid.getTimestamp());
+        }
+    }
+
+    private static void writeTrade(DataOutputStream out, Trade trade) throws IOException {
+        out.writeBoolean(trade != null);
+        if (trade == null) {
+            return;
+        }
+        out.writeInt(trade.getInitiatorId());
+        out.writeInt(trade.getReceiverId());
+        out.writeLong(trade.getCreatedTime());
+        writeNullableString(out, trade.getTradeId());
+        out.writeByte(trade.getStatus().ordinal());
+        out.writeInt(trade.getInitiatorMoney());
+        out.writeByte(trade.getInitiatorJailCards());
+        out.writeInt(trade.getReceiverMoney());
+        out.writeByte(trade.getReceiverJailCards());
+        writePropertyIds(out, trade.getInitiatorProperties());
+        writePropertyIds(out, trade.getReceiverProperties());
+    }
+
+    private static void writePropertyIds(DataOutputStream out, ArrayList<Property> properties) throws IOException {
+        out.writeByte(properties.size());
+        for (int i = 0; i < properties.size(); i++) {
+            out.writeByte(properties.get(i).getId());
+        }
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    // ==================== Decoding ====================
+
+    /**
+     * Decodes a checkpoint
+     * @param checkpoint Bytes produced by encode()
+     * @return Restored game state
+     * @throws IllegalArgumentException if the bytes are not a valid checkpoint
+     */
+    static GameState decode(byte[] checkpoint) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(checkpoint))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a game state checkpoint");
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported checkpoint version " + version);
+            }
+
+            String roomId = readNullableString(in);
+            GameState state = roomId != null ? new GameState(roomId) : new GameState();
+
+            GameStatus status = GameStatus.values()[in.readUnsignedByte()];
+            TurnPhase phase = TurnPhase.values()[in.readUnsignedByte()];
+            int currentPlayerIndex = in.readInt();
+            int turnNumber = in.readInt();
+            int winnerId = in.readInt();
+            boolean canRollAgain = in.readBoolean();
+            int jackpot = in.readInt();
+            boolean useJackpot = in.readBoolean();
+
+            int die1 = in.readUnsignedByte();
+            int die2 = in.readUnsignedByte();
+            int consecutiveDoubles = in.readUnsignedByte();
+            boolean hasRolled = in.readBoolean();
+            long rngState = in.readLong();
+
+            int bankMoney = in.readInt();
+            int houses = in.readUnsignedByte();
+            int hotels = in.readUnsignedByte();
+
+            // Players join while the state is still WAITING; counters are set
+            // after their properties are re-added below
+            int playerCount = in.readUnsignedByte();
+            Player[] players = new Player[playerCount];
+            int[][] counters = new int[playerCount][];
+            boolean[][] flags = new boolean[playerCount][];
+            for (int i = 0; i < playerCount; i++) {
+                int id = in.readInt();
+                String name = in.readUTF();
+                int token = in.readUnsignedByte();
+                players[i] = token == NO_TOKEN
+                        ? new Player(id, name)
+                        : new Player(id, name, TokenType.values()[token]);
+                counters[i] = new int[] {
+                    in.readInt(), in.readUnsignedByte(), 0, 0, 0, 0, 0, 0, 0
+                };
+                flags[i] = new boolean[2];
+                flags[i][0] = in.readBoolean();
+                counters[i][2] = in.readUnsignedByte();
+                flags[i][1] = in.readBoolean();
+                counters[i][3] = in.readUnsignedByte();
+                counters[i][4] = in.readInt();
+                counters[i][5] = in.readInt();
+                counters[i][6] = in.readInt();
+                counters[i][7] = in.readInt();
+                state.addPlayer(players[i]);
+            }
+
+            Board board = state.getBoard();
+            Bank bank = state.getBank();
+            for (int position = 0; position < Board.BOARD_SIZE; position++) {
+                readTile(in, board.getTile(position), state, bank);
+            }
+
+            for (int i = 0; i < playerCount; i++) {
+                int[] c = counters[i];
+                players[i].restoreState(c[0], c[1], flags[i][0], c[2], flags[i][1], c[3],
+                                        c[4], c[5], c[6], c[7]);
+            }
+
+            readDeck(in, state.getChanceDeck(), chanceCardsById());
+            readDeck(in, state.getCommunityChestDeck(), communityChestCardsById());
+
+            int edgeCount = in.readUnsignedShort();
+            for (int i = 0; i < edgeCount; i++) {
+                state.getFinancialGraph().addEdge(in.readInt(), in.readInt(), in.readInt());
+            }
+
+            if (in.readBoolean()) {
+                state.setActiveAuction(readAuction(in, board));
+            }
+            if (in.readBoolean()) {
+                state.setActiveTrade(readTrade(in, board));
+            }
+            state.getLedger().restoreState(in);
+            int debtType = in.readUnsignedByte();
+            int creditorId = in.readInt();
+            int amount = in.readInt();
+            if (debtType != NO_DEBT) {
+                state.setDebt(TransactionType.values()[debtType], creditorId, amount);
+            }
+
+            bank.restoreSupply(bankMoney, houses, hotels);
+            state.getDice().restore(die1, die2, consecutiveDoubles, hasRolled);
+            state.getDice().setRngState(rngState);
+            state.setGameStatus(status);
+            state.setTurnPhase(phase);
+            state.setCanRollAgain(canRollAgain);
+            state.restoreProgress(currentPlayerIndex, turnNumber, winnerId, jackpot, useJackpot);
+
+            for (int i = 0; i < playerCount; i++) {
+                state.updatePlayerRanking(players[i]);
+            }
+            return state;
+        } catch (IOException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Corrupt game state checkpoint", e);
+        }
+    }
+
+    private static void readTile(DataInputStream in, Tile tile, GameState state, Bank bank) throws IOException {
+        if (tile instanceof PropertyTile) {
+            Property property = ((PropertyTile) tile).getProperty();
+            int ownerId = in.readInt();
+            int houses = in.readUnsignedByte();
+            boolean hotel = in.readBoolean();
+            boolean mortgaged = in.readBoolean();
+            property.restoreState(ownerId, houses, hotel, mortgaged);
+            Player owner = ownerId >= 0 ? state.getPlayer(ownerId) : null;
+            if (owner != null) {
+                owner.addProperty(property);
+                bank.removeUnownedProperty(property.getId());
+            }
+        } else if (tile instanceof RailroadTile) {
+            RailroadTile railroad = (RailroadTile) tile;
+            railroad.setOwnerId(in.readInt());
+            if (in.readBoolean()) {
+                railroad.mortgage();
+            }
+        } else if (tile instanceof UtilityTile) {
+            UtilityTile utility = (UtilityTile) tile;
+            utility.setOwnerId(in.readInt());
+            if (in.readBoolean()) {
+                utility.mortgage();
+            }
+        }
+    }
+
+    private static void readDeck(DataInputStream in, Queue<Card> deck, HashTable<Integer, Card> cardsById)
+            throws IOException {
+        deck.clear();
+        int count = in.readUnsignedByte();
+        for (int i = 0; i < count; i++) {
+            int cardId = in.readUnsignedByte();
+            Card card = cardsById.get(cardId);
+            if (card == null) {
+                throw new IllegalArgumentException("Unknown card " + cardId);
+            }
+            deck.enqueue(card);
+        }
+    }
+
+    private static HashTable<Integer, Card> chanceCardsById() {
+        HashTable<Integer, Card> cards = new HashTable<>();
+        ArrayList<ChanceCard> deck = ChanceCard.createStandardDeck();
+        for (int i = 0; i < deck.size(); i++) {
+            cards.put(deck.get(i).getId(), deck.get(i));
+        }
+        return cards;
+    }
+
+    private static HashTable<Integer, Card> communityChestCardsById() {
+        HashTable<Integer, Card> cards = new HashTable<>();
+        ArrayList<CommunityChestCard> deck = CommunityChestCard.createStandardDeck();
+        for (int i = 0; i < deck.size(); i++) {
+            cards.put(deck.get(i).getId(), deck.get(i));
+        }
+        return cards;
+    }
+
+    private static Auction readAuction(DataInputStream in, Board board) throws IOException {
+        String auctionId = in.readUTF();
+        Property property = board.getProperty(in.readUnsignedByte());
+        long startTime = in.readLong();
+        long endTime = in.readLong();
+        Auction.AuctionStatus status = Auction.AuctionStatus.values()[in.readUnsignedByte()];
+        int highBid = in.readInt();
+        int highBidder = in.readInt();
+        int bidderIndex = in.readInt();
+
+        Auction auction = new Auction(auctionId, property, startTime, endTime,
+                                      status, highBid, highBidder, bidderIndex);
+        int bidders = in.readUnsignedByte();
+        for (int i = 0; i < bidders; i++) {
+            auction.restoreBidder(in.readInt(), in.readInt(), in.readBoolean());
+        }
+        int bids = in.readUnsignedShort();
+        for (int i = 0; i < bids; i++) {
+            auction.restoreBid(in.readInt(), in.readInt(), in.readLong());
+        }
+        return auction;
+    }
+
+    private static Trade readTrade(DataInputStream in, Board board) throws IOException {
+        int initiatorId = in.readInt();
+        int receiverId = in.readInt();
+        Trade trade = new Trade(initiatorId, receiverId, in.readLong());
+        trade.setTradeId(readNullableString(in));
+        trade.restoreStatus(Trade.TradeStatus.values()[in.readUnsignedByte()]);
+        trade.setInitiatorMoney(in.readInt());
+        trade.setInitiatorJailCards(in.readUnsignedByte());
+        trade.setReceiverMoney(in.readInt());
+        trade.setReceiverJailCards(in.readUnsignedByte());
+
+        int offered = in.readUnsignedByte();
+        for (int i = 0; i < offered; i++) {
+            trade.addInitiatorProperty(board.getProperty(in.readUnsignedByte()));
+        }
+        int requested = in.readUnsignedByte();
+        for (int i = 0; i < requested; i++) {
+            trade.addReceiverProperty(board.getProperty(in.readUnsignedByte()));
+        }
+        return trade;
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
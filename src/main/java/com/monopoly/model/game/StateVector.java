@@ -0,0 +1,378 @@
+package com.monopoly.model.game;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.datastructures.Graph;
+import com.monopoly.datastructures.Queue;
+import com.monopoly.model.card.Card;
+import com.monopoly.model.enums.GameStatus;
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.model.player.Player;
+import com.monopoly.model.property.Property;
+import com.monopoly.model.tile.PropertyTile;
+import com.monopoly.model.tile.RailroadTile;
+import com.monopoly.model.tile.Tile;
+import com.monopoly.model.tile.UtilityTile;
+import com.monopoly.transaction.TransactionType;
+
+/**
+ * Flat view of the mutable scalars of a GameState as an int array: turn
+ * and dice fields, bank supply, the ledger's transfer count, the pending
+ * debt, every player's counters, every tile's owner and buildings, and the
+ * financial edges between players.
+ * Comparing the vectors taken before and after an action gives exactly the
+ * fields it changed, so history entries only keep those slots and undo is a
+ * write of the old values back into the live objects and the kept vector.
+ * Decks, auctions and trades are not part of the vector; guard slots record
+ * whether they were touched so such actions can be treated as final.
+ */
+public final class StateVector {
+
+    // Turn, dice and bank slots
+    private static final int STATUS = 0;
+    private static final int PHASE = 1;
+    private static final int CURRENT_INDEX = 2;
+    private static final int TURN_NUMBER = 3;
+    private static final int WINNER = 4;
+    private static final int CAN_ROLL_AGAIN = 5;
+    private static final int JACKPOT = 6;
+    private static final int USE_JACKPOT = 7;
+    private static final int DIE1 = 8;
+    private static final int DIE2 = 9;
+    private static final int DOUBLES = 10;
+    private static final int HAS_ROLLED = 11;
+    private static final int RNG_HIGH = 12;
+    private static final int RNG_LOW = 13;
+    private static final int BANK_MONEY = 14;
+    private static final int BANK_HOUSES = 15;
+    private static final int BANK_HOTELS = 16;
+
+    // Guard slots: a change here cannot be written back
+    private static final int PLAYER_COUNT = 17;
+    private static final int CHANCE_SIZE = 18;
+    private static final int CHANCE_TOP = 19;
+    private static final int CHEST_SIZE = 20;
+    private static final int CHEST_TOP = 21;
+    private static final int AUCTION = 22;
+    private static final int TRADE = 23;
+
+    // Ledger sequence, written back by moving the ledger
+    private static final int LEDGER_HIGH = 24;
+    private static final int LEDGER_LOW = 25;
+
+    // Pending debt: type ordinal (-1 for none), creditor, amount
+    private static final int DEBT_TYPE = 26;
+    private static final int DEBT_CREDITOR = 27;
+    private static final int DEBT_AMOUNT = 28;
+
+    /** Slots before the first player block */
+    private static final int GLOBAL_FIELDS = 29;
+
+    /** Slots per player: money, position, jail, turns in jail, bankrupt, cards, four statistics */
+    private static final int PLAYER_FIELDS = 10;
+
+    /** Slots per board position: owner, houses, hotel, mortgaged */
+    private static final int TILE_FIELDS = 4;
+
+    /** Edge slot value when two players never traded money */
+    private static final int NO_EDGE = Integer.MIN_VALUE;
+
+    private StateVector() {} // Prevent instantiation
+
+    // ==================== Capture ====================
+
+    /**
+     * Captures the mutable scalars of a game
+     * @param state Game state
+     * @return State vector
+     */
+    public static int[] capture(GameState state) {
+        ArrayList<Integer> order = state.getPlayerOrder();
+        int players = order.size();
+        int[] vector = new int[length(players)];
+
+        vector[STATUS] = state.getGameStatus().ordinal();
+        vector[PHASE] = state.getTurnPhase().ordinal();
+        vector[CURRENT_INDEX] = state.getCurrentPlayerIndex();
+        vector[TURN_NUMBER] = state.getTurnNumber();
+        vector[WINNER] = state.getWinnerId();
+        vector[CAN_ROLL_AGAIN] = flag(state.canRollAgain());
+        vector[JACKPOT] = state.getFreeParkingJackpot();
+        vector[USE_JACKPOT] = flag(state.isUseFreeParkingJackpot());
+
+        Dice dice = state.getDice();
+        vector[DIE1] = dice.getDie1();
+        vector[DIE2] = dice.getDie2();
+        vector[DOUBLES] = dice.getConsecutiveDoubles();
+        vector[HAS_ROLLED] = flag(dice.hasRolled());
+        vector[RNG_HIGH] = (int) (dice.getRngState() >>> 32);
+        vector[RNG_LOW] = (int) dice.getRngState();
+
+        Bank bank = state.getBank();
+        vector[BANK_MONEY] = bank.getTotalMoney();
+        vector[BANK_HOUSES] = bank.getAvailableHouses();
+        vector[BANK_HOTELS] = bank.getAvailableHotels();
+
+        vector[PLAYER_COUNT] = players;
+        vector[CHANCE_SIZE] = state.getChanceDeck().size();
+        vector[CHANCE_TOP] = topCard(state.getChanceDeck());
+        vector[CHEST_SIZE] = state.getCommunityChestDeck().size();
+        vector[CHEST_TOP] = topCard(state.getCommunityChestDeck());
+        vector[AUCTION] = flag(state.getActiveAuction() != null);
+        vector[TRADE] = flag(state.getActiveTrade() != null);
+        long transfers = state.getLedger().getTransactionCount();
+        vector[LEDGER_HIGH] = (int) (transfers >>> 32);
+        vector[LEDGER_LOW] = (int) transfers;
+        vector[DEBT_TYPE] = state.hasDebt() ? state.getDebtType().ordinal() : -1;
+        vector[DEBT_CREDITOR] = state.getDebtCreditorId();
+        vector[DEBT_AMOUNT] = state.getDebtAmount();
+
+        for (int i = 0; i < players; i++) {
+            Player player = state.getPlayer(order.get(i));
+            int base = GLOBAL_FIELDS + i * PLAYER_FIELDS;
+            vector[base] = player.getMoney();
+            vector[base + 1] = player.getPosition();
+            vector[base + 2] = flag(player.isInJail());
+            vector[base + 3] = player.getTurnsInJail();
+            vector[base + 4] = flag(player.isBankrupt());
+            vector[base + 5] = player.getGetOutOfJailCards();
+            vector[base + 6] = player.getTotalRentCollected();
+            vector[base + 7] = player.getTotalRentPaid();
+            vector[base + 8] = player.getTimesPassedGo();
+            vector[base + 9] = player.getPropertiesBought();
+        }
+
+        Board board = state.getBoard();
+        int tiles = tileBase(players);
+        for (int position = 0; position < Board.BOARD_SIZE; position++) {
+            captureTile(board.getTile(position), vector, tiles + position * TILE_FIELDS);
+        }
+
+        Graph<Integer> graph = state.getFinancialGraph();
+        int edges = edgeBase(players);
+        for (int i = 0; i < players; i++) {
+            for (int j = 0; j < players; j++) {
+                int from = order.get(i);
+                int to = order.get(j);
+                vector[edges + i * players + j] = graph.hasEdge(from, to) ? graph.getEdgeWeight(from, to) : NO_EDGE;
+            }
+        }
+        return vector;
+    }
+
+    /**
+     * Hashes the state vector of a game (64-bit FNV-1a). Equal games hash
+     * equal across runs and JVMs, so the hash can be journaled and compared
+     * by a later replay.
+     * @param state Game state
+     * @return Hash
+     */
+    public static long hash(GameState state) {
+        int[] vector = capture(state);
+        long hash = 0xCBF29CE484222325L;
+        for (int value : vector) {
+            for (int shift = 0; shift < 32; shift += 8) {
+                hash ^= (value >>> shift) & 0xFF;
+                hash *= 0x100000001B3L;
+            }
+        }
+        return hash;
+    }
+
+    private static void captureTile(Tile tile, int[] vector, int base) {
+        if (tile instanceof PropertyTile) {
+            Property property = ((PropertyTile) tile).getProperty();
+            vector[base] = property.getOwnerId();
+            vector[base + 1] = property.getNumberOfHouses();
+            vector[base + 2] = flag(property.hasHotel());
+            vector[base + 3] = flag(property.isMortgaged());
+        } else if (tile instanceof RailroadTile) {
+            RailroadTile railroad = (RailroadTile) tile;
+            vector[base] = railroad.getOwnerId();
+            vector[base + 3] = flag(railroad.isMortgaged());
+        } else if (tile instanceof UtilityTile) {
+            UtilityTile utility = (UtilityTile) tile;
+            vector[base] = utility.getOwnerId();
+            vector[base + 3] = flag(utility.isMortgaged());
+        } else {
+            vector[base] = -1;
+        }
+    }
+
+    /**
+     * Checks whether the change between two vectors can be written back.
+     * It cannot when the players changed, a card was drawn, or an auction
+     * or trade was open on either side.
+     * @param before Vector before the action
+     * @param after Vector after the action
+     * @return true if applying before to the after state restores it
+     */
+    public static boolean isRewindable(int[] before, int[] after) {
+        if (before.length != after.length) {
+            return false;
+        }
+        for (int slot = PLAYER_COUNT; slot < AUCTION; slot++) {
+            if (before[slot] != after[slot]) {
+                return false;
+            }
+        }
+        return before[AUCTION] == 0 && after[AUCTION] == 0 && before[TRADE] == 0 && after[TRADE] == 0;
+    }
+
+    // ==================== Apply ====================
+
+    /**
+     * Writes values into a game. Only the players, tiles and edges that own
+     * one of the slots are touched, and the game is not captured again: the
+     * caller's vector supplies the untouched fields and is updated in place.
+     * @param state Game state with the same players the slots were captured from
+     * @param vector Current vector of the game; receives the new values
+     * @param slots Slot indices
+     * @param values New value of each slot
+     */
+    public static void apply(GameState state, int[] vector, int[] slots, int[] values) {
+        boolean[] dirty = new boolean[vector.length];
+        for (int i = 0; i < slots.length; i++) {
+            vector[slots[i]] = values[i];
+            dirty[slots[i]] = true;
+        }
+
+        ArrayList<Integer> order = state.getPlayerOrder();
+        int players = order.size();
+        Board board = state.getBoard();
+        Bank bank = state.getBank();
+
+        // Tiles first: adding a property to its owner bumps the purchase counter
+        int tiles = tileBase(players);
+        for (int position = 0; position < Board.BOARD_SIZE; position++) {
+            int base = tiles + position * TILE_FIELDS;
+            if (dirty[base] || dirty[base + 1] || dirty[base + 2] || dirty[base + 3]) {
+                applyTile(state, bank, board.getTile(position), vector, base);
+            }
+        }
+
+        for (int i = 0; i < players; i++) {
+            int base = GLOBAL_FIELDS + i * PLAYER_FIELDS;
+            if (anyDirty(dirty, base, PLAYER_FIELDS)) {
+                Player player = state.getPlayer(order.get(i));
+                player.restoreState(vector[base], vector[base + 1], vector[base + 2] != 0, vector[base + 3],
+                                    vector[base + 4] != 0, vector[base + 5], vector[base + 6],
+                                    vector[base + 7], vector[base + 8], vector[base + 9]);
+                state.updatePlayerRanking(player);
+            }
+        }
+
+        int edges = edgeBase(players);
+        for (int i = 0; i < players; i++) {
+            for (int j = 0; j < players; j++) {
+                int slot = edges + i * players + j;
+                if (dirty[slot]) {
+                    if (vector[slot] == NO_EDGE) {
+                        state.getFinancialGraph().removeEdge(order.get(i), order.get(j));
+                    } else {
+                        state.getFinancialGraph().addEdge(order.get(i), order.get(j), vector[slot]);
+                    }
+                }
+            }
+        }
+
+        if (anyDirty(dirty, 0, PLAYER_COUNT)) {
+            bank.restoreSupply(vector[BANK_MONEY], vector[BANK_HOUSES], vector[BANK_HOTELS]);
+            Dice dice = state.getDice();
+            dice.restore(vector[DIE1], vector[DIE2], vector[DOUBLES], vector[HAS_ROLLED] != 0);
+            dice.setRngState(((long) vector[RNG_HIGH] << 32) | (vector[RNG_LOW] & 0xFFFFFFFFL));
+            state.setGameStatus(GameStatus.values()[vector[STATUS]]);
+            state.setTurnPhase(TurnPhase.values()[vector[PHASE]]);
+            state.setCanRollAgain(vector[CAN_ROLL_AGAIN] != 0);
+            state.restoreProgress(vector[CURRENT_INDEX], vector[TURN_NUMBER], vector[WINNER],
+                                  vector[JACKPOT], vector[USE_JACKPOT] != 0);
+        }
+
+        if (anyDirty(dirty, DEBT_TYPE, 3)) {
+            if (vector[DEBT_TYPE] < 0) {
+                state.clearDebt();
+            } else {
+                state.setDebt(TransactionType.values()[vector[DEBT_TYPE]], vector[DEBT_CREDITOR], vector[DEBT_AMOUNT]);
+            }
+        }
+
+        // Take the action's transfers out of (or back into) the ledger's flows and totals
+        if (dirty[LEDGER_HIGH] || dirty[LEDGER_LOW]) {
+            state.getLedger().moveTo(((long) vector[LEDGER_HIGH] << 32) | (vector[LEDGER_LOW] & 0xFFFFFFFFL));
+        }
+
+        // Money was set directly, so the ledger's running balances follow it
+        state.getLedger().rebaseAccounts();
+    }
+
+    private static void applyTile(GameState state, Bank bank, Tile tile, int[] vector, int base) {
+        int ownerId = vector[base];
+        boolean mortgaged = vector[base + 3] != 0;
+        if (tile instanceof PropertyTile) {
+            Property property = ((PropertyTile) tile).getProperty();
+            int previousOwner = property.getOwnerId();
+            if (previousOwner != ownerId) {
+                Player previous = previousOwner >= 0 ? state.getPlayer(previousOwner) : null;
+                if (previous != null) {
+                    previous.removeProperty(property);
+                } else {
+                    bank.removeUnownedProperty(property.getId());
+                }
+                Player owner = ownerId >= 0 ? state.getPlayer(ownerId) : null;
+                if (owner != null) {
+                    owner.addProperty(property);
+                } else {
+                    bank.addUnownedProperty(property);
+                }
+            }
+            property.restoreState(ownerId, vector[base + 1], vector[base + 2] != 0, mortgaged);
+        } else if (tile instanceof RailroadTile) {
+            RailroadTile railroad = (RailroadTile) tile;
+            railroad.setOwnerId(ownerId);
+            if (mortgaged) {
+                railroad.mortgage();
+            } else {
+                railroad.unmortgage();
+            }
+        } else if (tile instanceof UtilityTile) {
+            UtilityTile utility = (UtilityTile) tile;
+            utility.setOwnerId(ownerId);
+            if (mortgaged) {
+                utility.mortgage();
+            } else {
+                utility.unmortgage();
+            }
+        }
+    }
+
+    // ==================== Helpers ====================
+
+    private static int length(int players) {
+        return edgeBase(players) + players * players;
+    }
+
+    private static int tileBase(int players) {
+        return GLOBAL_FIELDS + players * PLAYER_FIELDS;
+    }
+
+    private static int edgeBase(int players) {
+        return tileBase(players) + Board.BOARD_SIZE * TILE_FIELDS;
+    }
+
+    private static boolean anyDirty(boolean[] dirty, int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            if (dirty[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int topCard(Queue<Card> deck) {
+        Card top = deck.isEmpty() ? null : deck.peek();
+        return top != null ? top.getId() : -1;
+    }
+
+    private static int flag(boolean value) {
+        return value ? 1 : 0;
+    }
+}
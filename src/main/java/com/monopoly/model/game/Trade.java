@@ -46,6 +46,13 @@ public class Trade {
      * @param receiverId The player receiving the trade offer
      */
     public Trade(int initiatorId, int receiverId) {
+        this(initiatorId, receiverId, System.currentTimeMillis());
+    }
+    
+    /**
+     * Creates a trade with a known creation time (used by snapshot restore)
+     */
+    Trade(int initiatorId, int receiverId, long createdTime) {
         this.initiatorId = initiatorId;
         this.receiverId = receiverId;
         this.initiatorProperties = new ArrayList<>();
@@ -55,7 +62,7 @@ public class Trade {
         this.initiatorJailCards = 0;
         this.receiverJailCards = 0;
         this.status = TradeStatus.PENDING;
-        this.createdTime = System.currentTimeMillis();
+        this.createdTime = createdTime;
         this.tradeId = "trade_" + initiatorId + "_" + receiverId + "_" + createdTime;
     }
     
@@ -299,6 +306,13 @@ public class Trade {
         this.tradeId = tradeId;
     }
     
+    /**
+     * Restores the status (used by snapshot restore)
+     */
+    void restoreStatus(TradeStatus status) {
+        this.status = status;
+    }
+    
     /**
      * Gets the total value being offered by the initiator
      * @return Total value
@@ -280,6 +280,18 @@ public class Player implements Serializable {
         return false;
     }
 
+    /**
+     * Gives up a card without using it (trades, bankruptcy).
+     * @return false if the player has none
+     */
+    public boolean removeGetOutOfJailCard() {
+        if (getOutOfJailCards > 0) {
+            getOutOfJailCards--;
+            return true;
+        }
+        return false;
+    }
+
     public boolean hasGetOutOfJailCard() {
         return getOutOfJailCards > 0;
     }
@@ -322,6 +334,22 @@ public class Player implements Serializable {
         property.setOwnerId(-1);
     }
 
+    /**
+     * Reverts addProperty(), including the purchase count.
+     */
+    public void revokeProperty(Property property) {
+        removeProperty(property);
+        propertiesBought--;
+    }
+
+    /**
+     * Reverts removeProperty() without counting a purchase.
+     */
+    public void restoreProperty(Property property) {
+        ownedProperties.put(property.getId(), property);
+        property.setOwnerId(this.id);
+    }
+
     public boolean ownsProperty(int propertyId) {
         return ownedProperties.containsKey(propertyId);
     }
@@ -411,11 +439,38 @@ public class Player implements Serializable {
         return propertiesBought;
     }
 
+    /**
+     * Restores counters exactly as they were checkpointed. Owned properties
+     * must be re-added first, since addProperty() counts purchases.
+     */
+    public void restoreState(int money, int position, boolean inJail, int turnsInJail,
+                             boolean bankrupt, int getOutOfJailCards,
+                             int totalRentCollected, int totalRentPaid,
+                             int timesPassedGo, int propertiesBought) {
+        this.money = money;
+        this.position = position;
+        this.inJail = inJail;
+        this.turnsInJail = turnsInJail;
+        this.bankrupt = bankrupt;
+        this.getOutOfJailCards = getOutOfJailCards;
+        this.totalRentCollected = totalRentCollected;
+        this.totalRentPaid = totalRentPaid;
+        this.timesPassedGo = timesPassedGo;
+        this.propertiesBought = propertiesBought;
+    }
+
     /**
      * Handles passing GO and collecting salary.
      */
     public void passGo() {
         addMoney(GO_SALARY);
+        recordPassGo();
+    }
+
+    /**
+     * Counts a pass of GO whose salary was paid separately (through the ledger).
+     */
+    public void recordPassGo() {
         timesPassedGo++;
     }
 
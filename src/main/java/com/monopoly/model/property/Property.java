@@ -105,6 +105,16 @@ public class Property implements Serializable {
         hasHotel = false;
     }
 
+    /**
+     * Restores ownership and buildings exactly (used by snapshot restore).
+     */
+    public void restoreState(int ownerId, int numberOfHouses, boolean hasHotel, boolean mortgaged) {
+        this.ownerId = ownerId;
+        this.numberOfHouses = numberOfHouses;
+        this.hasHotel = hasHotel;
+        this.mortgaged = mortgaged;
+    }
+
     // === Getters ===
 
     public int getId() {
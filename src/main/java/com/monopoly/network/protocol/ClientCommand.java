@@ -131,7 +131,8 @@ public class ClientCommand extends Message {
         // Serialize parameters
         // Note: Since we can't iterate HashTable easily, we serialize known parameter keys
         String[] knownKeys = {"playerName", "propertyId", "amount", "targetPlayerId", 
-                              "buildingType", "offeredMoney", "requestedMoney"};
+                              "buildingType", "offeredMoney", "requestedMoney",
+                              "resumeToken", "lastSequence"};
         boolean first = true;
         for (String key : knownKeys) {
             Object value = parameters.get(key);
@@ -208,7 +209,8 @@ public class ClientCommand extends Message {
      */
     private static void parseParameters(String paramsJson, ClientCommand command) {
         String[] keys = {"playerName", "propertyId", "amount", "targetPlayerId", 
-                         "buildingType", "offeredMoney", "requestedMoney"};
+                         "buildingType", "offeredMoney", "requestedMoney",
+                         "resumeToken", "lastSequence"};
         
         for (String key : keys) {
             String value = extractJsonField(paramsJson, key);
@@ -301,6 +303,18 @@ public class ClientCommand extends Message {
         return cmd;
     }
     
+    /**
+     * Creates a SELL_BUILDING command
+     * @param playerId Player ID
+     * @param propertyId Property ID
+     * @return ClientCommand
+     */
+    public static ClientCommand createSellBuilding(int playerId, int propertyId) {
+        ClientCommand cmd = new ClientCommand(MessageType.SELL_BUILDING, playerId);
+        cmd.setParameter("propertyId", propertyId);
+        return cmd;
+    }
+    
     /**
      * Creates a MORTGAGE command
      * @param playerId Player ID
@@ -313,6 +327,36 @@ public class ClientCommand extends Message {
         return cmd;
     }
     
+    /**
+     * Creates an UNMORTGAGE command
+     * @param playerId Player ID
+     * @param propertyId Property ID
+     * @return ClientCommand
+     */
+    public static ClientCommand createUnmortgage(int playerId, int propertyId) {
+        ClientCommand cmd = new ClientCommand(MessageType.UNMORTGAGE, playerId);
+        cmd.setParameter("propertyId", propertyId);
+        return cmd;
+    }
+    
+    /**
+     * Creates an ACCEPT_TRADE command
+     * @param playerId Player ID
+     * @return ClientCommand
+     */
+    public static ClientCommand createAcceptTrade(int playerId) {
+        return new ClientCommand(MessageType.ACCEPT_TRADE, playerId);
+    }
+    
+    /**
+     * Creates a DECLINE_TRADE command
+     * @param playerId Player ID
+     * @return ClientCommand
+     */
+    public static ClientCommand createDeclineTrade(int playerId) {
+        return new ClientCommand(MessageType.DECLINE_TRADE, playerId);
+    }
+    
     /**
      * Creates an END_TURN command
      * @param playerId Player ID
@@ -349,6 +393,90 @@ public class ClientCommand extends Message {
         return new ClientCommand(MessageType.DISCONNECT, playerId);
     }
     
+    /**
+     * Creates a SPECTATE command
+     * @param roomId Room to watch
+     * @return ClientCommand
+     */
+    public static ClientCommand createSpectate(String roomId) {
+        ClientCommand cmd = new ClientCommand(MessageType.SPECTATE, -1);
+        cmd.setRoomId(roomId);
+        return cmd;
+    }
+    
+    /**
+     * Creates a RESUME command
+     * @param resumeToken Token issued at HELLO
+     * @param lastSequence Last event sequence the client processed
+     * @return ClientCommand
+     */
+    public static ClientCommand createResume(String resumeToken, long lastSequence) {
+        ClientCommand cmd = new ClientCommand(MessageType.RESUME, -1);
+        cmd.setParameter("resumeToken", resumeToken);
+        cmd.setParameter("lastSequence", lastSequence);
+        return cmd;
+    }
+    
+    /**
+     * Creates a PONG command (heartbeat reply)
+     * @param playerId Player ID
+     * @return ClientCommand
+     */
+    public static ClientCommand createPong(int playerId) {
+        return new ClientCommand(MessageType.PONG, playerId);
+    }
+    
+    /**
+     * Creates a CREATE_ROOM command
+     * @param playerId Player ID
+     * @return ClientCommand
+     */
+    public static ClientCommand createCreateRoom(int playerId) {
+        return new ClientCommand(MessageType.CREATE_ROOM, playerId);
+    }
+    
+    /**
+     * Creates a JOIN_ROOM command
+     * @param playerId Player ID
+     * @param roomId Room to join
+     * @return ClientCommand
+     */
+    public static ClientCommand createJoinRoom(int playerId, String roomId) {
+        ClientCommand cmd = new ClientCommand(MessageType.JOIN_ROOM, playerId);
+        cmd.setRoomId(roomId);
+        return cmd;
+    }
+    
+    /**
+     * Creates a START_GAME command
+     * @param playerId Player ID
+     * @return ClientCommand
+     */
+    public static ClientCommand createStartGame(int playerId) {
+        return new ClientCommand(MessageType.START_GAME, playerId);
+    }
+    
+    /**
+     * Creates an ADD_BOT command
+     * @param playerId Player ID
+     * @return ClientCommand
+     */
+    public static ClientCommand createAddBot(int playerId) {
+        return new ClientCommand(MessageType.ADD_BOT, playerId);
+    }
+    
+    /**
+     * Creates an ADD_BOT command for a given bot strength
+     * @param playerId Player ID
+     * @param difficulty "easy" or "hard"
+     * @return ClientCommand
+     */
+    public static ClientCommand createAddBot(int playerId, String difficulty) {
+        ClientCommand cmd = new ClientCommand(MessageType.ADD_BOT, playerId);
+        cmd.setParameter("difficulty", difficulty);
+        return cmd;
+    }
+    
     @Override
     public String toString() {
         return "ClientCommand{" +
@@ -156,6 +156,13 @@ public abstract class Message {
             case REDO:
             case END_TURN:
             case DISCONNECT:
+            case SPECTATE:
+            case RESUME:
+            case PONG:
+            case CREATE_ROOM:
+            case JOIN_ROOM:
+            case START_GAME:
+            case ADD_BOT:
                 return true;
             default:
                 return false;
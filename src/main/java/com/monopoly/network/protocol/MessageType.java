@@ -27,6 +27,13 @@ public enum MessageType {
     REDO,               // Request redo
     END_TURN,           // Finish turn
     DISCONNECT,         // Client disconnecting
+    SPECTATE,           // Watch a room without playing
+    RESUME,             // Reclaim a session after reconnecting
+    PONG,               // Heartbeat reply
+    CREATE_ROOM,        // Open a new room and move into it
+    JOIN_ROOM,          // Move into an existing room
+    START_GAME,         // Start the game in the current room
+    ADD_BOT,            // Fill a seat of the current room with a computer player
     
     // Server -> Client events
     STATE_UPDATE,       // Full or delta game state
@@ -45,6 +52,10 @@ public enum MessageType {
     PLAYER_BANKRUPT,    // Player went bankrupt
     DICE_RESULT,        // Result of dice roll
     CARD_DRAWN,         // Card was drawn
-    JAIL_STATUS         // Jail status update
+    JAIL_STATUS,        // Jail status update
+    SESSION_TOKEN,      // Resume token issued at HELLO
+    SESSION_RESUMED,    // Session reclaimed after reconnect
+    PING,               // Heartbeat probe for idle connections
+    ROOM_JOINED         // Moved into a room (roomId on the event)
 
 }
@@ -1,5 +1,6 @@
 package com.monopoly.network.protocol;
 
+import com.monopoly.model.enums.EventCode;
 import com.monopoly.model.enums.TurnPhase;
 import com.monopoly.datastructures.HashTable;
 
@@ -76,6 +77,13 @@ public class ProtocolHandler {
         payingRent.put(MessageType.SELL_BUILDING, true);
         allowedActions.put(TurnPhase.PAYING_RENT, payingRent);
         
+        // IN_DEBT phase (raise money, or end the turn bankrupt)
+        HashTable<MessageType, Boolean> inDebt = new HashTable<>();
+        inDebt.put(MessageType.MORTGAGE, true);
+        inDebt.put(MessageType.SELL_BUILDING, true);
+        inDebt.put(MessageType.END_TURN, true);
+        allowedActions.put(TurnPhase.IN_DEBT, inDebt);
+        
         // CARD_ACTION phase
         HashTable<MessageType, Boolean> cardAction = new HashTable<>();
         // Auto-handled
@@ -179,6 +187,13 @@ public class ProtocolHandler {
             case JAIL_USE_CARD:
             case END_TURN:
             case DISCONNECT:
+            case SPECTATE:
+            case RESUME:
+            case PONG:
+            case CREATE_ROOM:
+            case JOIN_ROOM:
+            case START_GAME:
+            case ADD_BOT:
                 return true;
             default:
                 return false;
@@ -374,6 +389,16 @@ public class ProtocolHandler {
         return ServerEvent.createEventLog(description);
     }
     
+    /**
+     * Creates a structured EVENT_LOG event
+     * @param code Event code
+     * @param args Event arguments
+     * @return ServerEvent
+     */
+    public ServerEvent createEventLogEvent(EventCode code, int[] args) {
+        return ServerEvent.createEventLog(code, args);
+    }
+    
     /**
      * Creates an ERROR event
      * @param error Error message
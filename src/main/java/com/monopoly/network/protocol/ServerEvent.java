@@ -1,6 +1,7 @@
 package com.monopoly.network.protocol;
 
 import com.monopoly.datastructures.HashTable;
+import com.monopoly.model.enums.EventCode;
 
 /**
  * Represents an event sent from server to client.
@@ -104,6 +105,16 @@ public class ServerEvent extends Message {
         }
     }
     
+    /**
+     * Gets data as an int array
+     * @param key Key
+     * @return Array, or an empty array if absent
+     */
+    public int[] getIntArrayData(String key) {
+        Object value = data.get(key);
+        return value instanceof int[] ? (int[]) value : new int[0];
+    }
+    
     /**
      * Gets data as Boolean
      * @param key Key
@@ -179,7 +190,7 @@ public class ServerEvent extends Message {
                               "propertyId", "propertyName", "die1", "die2", "total", "isDoubles",
                               "winnerId", "winnerName", "currentBid", "highestBidderId",
                               "cardType", "cardDescription", "turnsRemaining", "reason",
-                              "currentPlayerId", "gameState"};
+                              "currentPlayerId", "resumeToken", "resynced", "code", "args", "gameState"};
         
         boolean first = true;
         for (String key : knownKeys) {
@@ -192,6 +203,14 @@ public class ServerEvent extends Message {
                     json.append("\"").append(escapeJson(value.toString())).append("\"");
                 } else if (value instanceof Number || value instanceof Boolean) {
                     json.append(value);
+                } else if (value instanceof int[]) {
+                    int[] values = (int[]) value;
+                    json.append('[');
+                    for (int i = 0; i < values.length; i++) {
+                        if (i > 0) json.append(',');
+                        json.append(values[i]);
+                    }
+                    json.append(']');
                 } else {
                     json.append("\"").append(escapeJson(value.toString())).append("\"");
                 }
@@ -260,11 +279,13 @@ public class ServerEvent extends Message {
                         "propertyId", "propertyName", "die1", "die2", "total", "isDoubles",
                         "winnerId", "winnerName", "currentBid", "highestBidderId",
                         "cardType", "cardDescription", "turnsRemaining", "reason",
-                        "currentPlayerId"};
+                        "currentPlayerId", "resumeToken", "resynced", "code", "args"};
         
         for (String key : keys) {
             String value = extractJsonField(dataJson, key);
-            if (value != null) {
+            if (value != null && value.startsWith("[")) {
+                event.setData(key, parseIntArray(value));
+            } else if (value != null) {
                 // Try to parse as number
                 try {
                     event.setData(key, Integer.parseInt(value));
@@ -280,6 +301,22 @@ public class ServerEvent extends Message {
         }
     }
     
+    /**
+     * Parses a JSON array of integers such as [1,-2,3]
+     */
+    private static int[] parseIntArray(String json) {
+        String body = json.substring(1, json.length() - 1).trim();
+        if (body.isEmpty()) {
+            return new int[0];
+        }
+        String[] parts = body.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Integer.parseInt(parts[i].trim());
+        }
+        return values;
+    }
+    
     // ==================== Factory Methods ====================
     
     /**
@@ -302,6 +339,20 @@ public class ServerEvent extends Message {
         return new ServerEvent(MessageType.EVENT_LOG, "description", description);
     }
     
+    /**
+     * Creates a structured EVENT_LOG event; clients render the text from
+     * their own template for the code
+     * @param code Event code
+     * @param args Event arguments
+     * @return ServerEvent
+     */
+    public static ServerEvent createEventLog(EventCode code, int[] args) {
+        ServerEvent event = new ServerEvent(MessageType.EVENT_LOG);
+        event.setData("code", code.getId());
+        event.setData("args", args);
+        return event;
+    }
+    
     /**
      * Creates an ERROR event
      * @param errorMessage Error message
@@ -468,6 +519,56 @@ public class ServerEvent extends Message {
         return event;
     }
     
+    /**
+     * Creates a SESSION_TOKEN event
+     * @param playerId Player ID the session belongs to
+     * @param resumeToken Token to present on RESUME
+     * @return ServerEvent
+     */
+    public static ServerEvent createSessionToken(int playerId, String resumeToken) {
+        ServerEvent event = new ServerEvent(MessageType.SESSION_TOKEN);
+        event.setData("playerId", playerId);
+        event.setData("resumeToken", resumeToken);
+        event.setTargetPlayerId(playerId);
+        return event;
+    }
+    
+    /**
+     * Creates a SESSION_RESUMED event
+     * @param playerId Player ID of the resumed session
+     * @param resynced true if a full snapshot follows instead of a replay
+     * @return ServerEvent
+     */
+    public static ServerEvent createSessionResumed(int playerId, boolean resynced) {
+        ServerEvent event = new ServerEvent(MessageType.SESSION_RESUMED);
+        event.setData("playerId", playerId);
+        event.setData("resynced", resynced);
+        event.setTargetPlayerId(playerId);
+        return event;
+    }
+    
+    /**
+     * Creates a PING event (heartbeat probe)
+     * @return ServerEvent
+     */
+    public static ServerEvent createPing() {
+        return new ServerEvent(MessageType.PING);
+    }
+
+    /**
+     * Creates a ROOM_JOINED event
+     * @param playerId Player who moved
+     * @param roomId Room they are now in
+     * @return ServerEvent
+     */
+    public static ServerEvent createRoomJoined(int playerId, String roomId) {
+        ServerEvent event = new ServerEvent(MessageType.ROOM_JOINED);
+        event.setData("playerId", playerId);
+        event.setRoomId(roomId);
+        event.setTargetPlayerId(playerId);
+        return event;
+    }
+    
     @Override
     public String toString() {
         return "ServerEvent{" +
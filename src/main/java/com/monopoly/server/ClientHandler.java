@@ -5,10 +5,13 @@ import com.monopoly.network.protocol.Message;
 import com.monopoly.network.protocol.MessageType;
 import com.monopoly.network.protocol.ProtocolHandler;
 import com.monopoly.network.protocol.ServerEvent;
+import com.monopoly.util.Logger;
+import com.monopoly.util.Tracer;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.net.Socket;
 
@@ -18,15 +21,28 @@ import java.net.Socket;
  */
 public class ClientHandler implements Runnable {
 
+    // Shared logger
+    private static final Logger LOG = Logger.getInstance();
+
+    // Shared tracer
+    private static final Tracer TRACER = Tracer.getInstance();
+
     // Socket and streams
     private final Socket socket;
     private BufferedReader inputStream;
     private PrintWriter outputStream;
+    private OutputStream rawOutputStream;
     
-    // Player info
-    private final int playerId;
+    // Guards writes from room threads and spectator I/O threads
+    private final Object writeLock = new Object();
+    
+    // Player info (rebound when a session is resumed)
+    private volatile int playerId;
     private String playerName;
     
+    // Resumable session, opened at HELLO
+    private volatile PlayerSession session;
+    
     // Server reference
     private final Server server;
     
@@ -36,6 +52,12 @@ public class ClientHandler implements Runnable {
     // Connection state
     private volatile boolean isConnected;
     private volatile boolean isRunning;
+    private volatile boolean spectating;
+    private volatile boolean leaving;
+    
+    // Liveness tracking for the connection reaper
+    private volatile long lastActivityMillis;
+    private volatile long lastPingMillis;
     
     /**
      * Creates a new client handler
@@ -51,22 +73,23 @@ public class ClientHandler implements Runnable {
         this.isConnected = true;
         this.isRunning = true;
         this.playerName = "Player " + playerId;
+        this.lastActivityMillis = System.currentTimeMillis();
+        this.lastPingMillis = 0;
         
         try {
             this.inputStream = new BufferedReader(
                 new InputStreamReader(socket.getInputStream()));
-            this.outputStream = new PrintWriter(
-                socket.getOutputStream(), true);
+            this.rawOutputStream = socket.getOutputStream();
+            this.outputStream = new PrintWriter(rawOutputStream, true);
         } catch (IOException e) {
-            System.err.println("Error creating streams for player " + playerId + 
-                              ": " + e.getMessage());
+            LOG.error("Error creating streams for player {}: {}", playerId, e.getMessage());
             isConnected = false;
         }
     }
     
     @Override
     public void run() {
-        System.out.println("ClientHandler started for player " + playerId);
+        LOG.info("ClientHandler started for player {}", playerId);
         
         try {
             // Main message loop
@@ -80,6 +103,10 @@ public class ClientHandler implements Runnable {
                     break;
                 }
                 
+                // Any inbound traffic proves the connection is alive
+                lastActivityMillis = System.currentTimeMillis();
+                server.getMetrics().addBytesIn(line.length() + 1);
+                
                 // Add to buffer
                 messageBuffer.append(line);
                 
@@ -92,8 +119,7 @@ public class ClientHandler implements Runnable {
             }
         } catch (IOException e) {
             if (isRunning) {
-                System.err.println("Error reading from player " + playerId + 
-                                  ": " + e.getMessage());
+                LOG.error("Error reading from player {}: {}", playerId, e.getMessage());
             }
         } finally {
             disconnect();
@@ -146,6 +172,10 @@ public class ClientHandler implements Runnable {
         }
         
         ClientCommand command = (ClientCommand) message;
+        if (TRACER.isEnabled()) {
+            TRACER.record(Tracer.TraceEvent.COMMAND_RECEIVED, server.getPlayerRoom(playerId), playerId,
+                          command.getCommandType().ordinal(), rawMessage.length());
+        }
         handleCommand(command);
     }
     
@@ -169,6 +199,34 @@ public class ClientHandler implements Runnable {
                 handleDisconnect();
                 break;
                 
+            case SPECTATE:
+                handleSpectate(command);
+                break;
+                
+            case RESUME:
+                handleResume(command);
+                break;
+                
+            case PONG:
+                // Activity already recorded by the read loop
+                break;
+                
+            case CREATE_ROOM:
+                handleCreateRoom(command);
+                break;
+                
+            case JOIN_ROOM:
+                handleJoinRoom(command);
+                break;
+                
+            case START_GAME:
+                handleStartGame();
+                break;
+                
+            case ADD_BOT:
+                handleAddBot(command);
+                break;
+                
             case ROLL_DICE:
             case BUY_PROPERTY:
             case DECLINE_BUY:
@@ -185,7 +243,9 @@ public class ClientHandler implements Runnable {
             case JAIL_USE_CARD:
             case END_TURN:
                 // Forward to game controller
-                if (controller != null) {
+                if (spectating) {
+                    sendError("Spectators cannot send game commands");
+                } else if (controller != null) {
                     controller.processCommand(playerId, command);
                 } else {
                     sendError("Not in a game room");
@@ -208,7 +268,7 @@ public class ClientHandler implements Runnable {
             this.playerName = name.trim();
         }
         
-        System.out.println("Player " + playerId + " joined as: " + playerName);
+        LOG.info("Player {} joined as: {}", playerId, playerName);
         
         // Get room and notify
         String roomId = server.getPlayerRoom(playerId);
@@ -221,13 +281,113 @@ public class ClientHandler implements Runnable {
         // Send welcome event
         ServerEvent welcomeEvent = ServerEvent.createPlayerJoined(playerId, playerName);
         server.broadcastToRoom(roomId, welcomeEvent);
+        
+        // Issue the resume token used to reclaim this seat after a drop
+        PlayerSession newSession = server.openSession(this);
+        sendMessage(ServerEvent.createSessionToken(playerId, newSession.getResumeToken()));
+    }
+    
+    /**
+     * Handles RESUME command (reclaim a dropped session)
+     * @param command Resume command
+     */
+    private void handleResume(ClientCommand command) {
+        String token = command.getStringParameter("resumeToken");
+        long lastSequence = command.getIntParameter("lastSequence", 0);
+        
+        if (!server.resumeSession(this, token, lastSequence)) {
+            sendError("Session cannot be resumed");
+            return;
+        }
+        
+        LOG.info("Player {} resumed session from seq {}", playerId, lastSequence);
+    }
+    
+    /**
+     * Handles SPECTATE command (watch a room instead of playing)
+     * @param command Spectate command
+     */
+    private void handleSpectate(ClientCommand command) {
+        String roomId = command.getRoomId();
+        if (roomId == null || !server.spectateRoom(playerId, roomId)) {
+            sendError("Cannot spectate room: " + roomId);
+            return;
+        }
+        
+        LOG.info("Player {} is spectating {}", playerId, roomId);
+    }
+    
+    /**
+     * Handles CREATE_ROOM command (open a new room and move into it)
+     * @param command Create room command
+     */
+    private void handleCreateRoom(ClientCommand command) {
+        if (spectating) {
+            sendError("Spectators cannot create rooms");
+            return;
+        }
+        
+        String roomId = server.createRoom(playerId, command.getRoomId());
+        if (roomId == null) {
+            sendError("Cannot create room: " + command.getRoomId());
+            return;
+        }
+        
+        LOG.info("Player {} created {}", playerId, roomId);
+        sendMessage(ServerEvent.createRoomJoined(playerId, roomId));
+        server.broadcastToRoom(roomId, ServerEvent.createPlayerJoined(playerId, playerName));
+    }
+    
+    /**
+     * Handles JOIN_ROOM command
+     * @param command Join room command
+     */
+    private void handleJoinRoom(ClientCommand command) {
+        String roomId = command.getRoomId();
+        if (spectating || roomId == null || !server.joinRoom(playerId, roomId)) {
+            sendError("Cannot join room: " + roomId);
+            return;
+        }
+        
+        LOG.info("Player {} joined {}", playerId, roomId);
+        sendMessage(ServerEvent.createRoomJoined(playerId, roomId));
+        server.broadcastToRoom(roomId, ServerEvent.createPlayerJoined(playerId, playerName));
+    }
+    
+    /**
+     * Handles START_GAME command (start the game in the player's room)
+     */
+    private void handleStartGame() {
+        String roomId = server.getPlayerRoom(playerId);
+        if (spectating || roomId == null || !server.startGame(roomId)) {
+            sendError("Cannot start game in room: " + roomId);
+            return;
+        }
+        
+        LOG.info("Player {} started the game in {}", playerId, roomId);
+    }
+    
+    /**
+     * Handles ADD_BOT command (seat a bot in the player's room)
+     */
+    private void handleAddBot(ClientCommand command) {
+        String roomId = server.getPlayerRoom(playerId);
+        String difficulty = command.getStringParameter("difficulty");
+        int botId = spectating || roomId == null ? -1 : server.addBot(roomId, difficulty);
+        if (botId < 0) {
+            sendError("Cannot add a bot to room: " + roomId);
+            return;
+        }
+        
+        LOG.info("Player {} added bot {} to {}", playerId, botId, roomId);
     }
     
     /**
      * Handles DISCONNECT command
      */
     private void handleDisconnect() {
-        System.out.println("Player " + playerId + " requested disconnect");
+        LOG.info("Player {} requested disconnect", playerId);
+        leaving = true;
         isRunning = false;
     }
     
@@ -241,12 +401,65 @@ public class ClientHandler implements Runnable {
         }
         
         try {
+            long encoding = System.nanoTime();
+            long started = TRACER.start();
             String json = protocolHandler.serializeMessage(message);
-            outputStream.println(json);
-            outputStream.flush();
+            server.getMetrics().recordSerialization(System.nanoTime() - encoding);
+            String roomId = started != 0 ? server.getPlayerRoom(playerId) : null;
+            TRACER.span(Tracer.TraceEvent.SERIALIZATION, roomId, playerId, Tracer.NO_CODE, started);
+            PlayerSession current = session;
+            if (current != null) {
+                // Stamped with a sequence number and kept for replay
+                current.deliver(json);
+            } else {
+                writeLine(json);
+            }
+            if (started != 0) {
+                TRACER.record(Tracer.TraceEvent.BYTES_SENT, roomId, playerId, Tracer.NO_CODE, json.length() + 1);
+            }
         } catch (Exception e) {
-            System.err.println("Error sending to player " + playerId + 
-                              ": " + e.getMessage());
+            LOG.error("Error sending to player {}: {}", playerId, e.getMessage());
+        }
+    }
+    
+    /**
+     * Writes a serialized line to this client as-is
+     * @param line Serialized message
+     * @return false if the connection is gone
+     */
+    public boolean writeLine(String line) {
+        if (!isConnected || outputStream == null) {
+            return false;
+        }
+        
+        server.getMetrics().addBytesOut(line.length() + 1);
+        synchronized (writeLock) {
+            outputStream.println(line);
+            outputStream.flush();
+            return !outputStream.checkError();
+        }
+    }
+    
+    /**
+     * Writes an already encoded frame to this client
+     * @param frame Encoded message bytes, including the delimiter
+     * @return false if the connection is gone
+     */
+    public boolean writeFrame(byte[] frame) {
+        if (!isConnected || rawOutputStream == null) {
+            return false;
+        }
+        
+        try {
+            synchronized (writeLock) {
+                rawOutputStream.write(frame);
+                rawOutputStream.flush();
+            }
+            server.getMetrics().addBytesOut(frame.length);
+            return true;
+        } catch (IOException e) {
+            LOG.error("Error sending frame to player {}: {}", playerId, e.getMessage());
+            return false;
         }
     }
     
@@ -271,7 +484,7 @@ public class ClientHandler implements Runnable {
         isRunning = false;
         
         // Notify server
-        server.onClientDisconnect(playerId);
+        server.onClientDisconnect(this);
         
         // Close streams
         try {
@@ -285,11 +498,10 @@ public class ClientHandler implements Runnable {
                 socket.close();
             }
         } catch (IOException e) {
-            System.err.println("Error closing connection for player " + playerId + 
-                              ": " + e.getMessage());
+            LOG.error("Error closing connection for player {}: {}", playerId, e.getMessage());
         }
         
-        System.out.println("Player " + playerId + " disconnected");
+        LOG.info("Player {} disconnected", playerId);
     }
     
     /**
@@ -308,6 +520,62 @@ public class ClientHandler implements Runnable {
         return playerId;
     }
     
+    /**
+     * Gets the time of the last inbound line
+     * @return Epoch milliseconds
+     */
+    public long getLastActivityMillis() {
+        return lastActivityMillis;
+    }
+    
+    /**
+     * Gets the time the last PING was sent
+     * @return Epoch milliseconds, or 0 if never pinged
+     */
+    public long getLastPingMillis() {
+        return lastPingMillis;
+    }
+    
+    /**
+     * Records that a PING was sent
+     * @param timeMillis Epoch milliseconds
+     */
+    void markPinged(long timeMillis) {
+        this.lastPingMillis = timeMillis;
+    }
+    
+    /**
+     * Rebinds this connection to a resumed player identity
+     * @param newPlayerId Player ID of the resumed session
+     */
+    void rebind(int newPlayerId) {
+        this.playerId = newPlayerId;
+    }
+    
+    /**
+     * Gets the resumable session
+     * @return Session or null before HELLO
+     */
+    public PlayerSession getSession() {
+        return session;
+    }
+    
+    /**
+     * Sets the resumable session
+     * @param session Session
+     */
+    void setSession(PlayerSession session) {
+        this.session = session;
+    }
+    
+    /**
+     * Checks if the client asked to leave (no resume expected)
+     * @return true after a DISCONNECT command
+     */
+    public boolean isLeaving() {
+        return leaving;
+    }
+    
     /**
      * Gets the player name
      * @return Player name
@@ -332,6 +600,22 @@ public class ClientHandler implements Runnable {
         return isConnected;
     }
     
+    /**
+     * Checks if this connection is watching a room
+     * @return true if spectating
+     */
+    public boolean isSpectating() {
+        return spectating;
+    }
+    
+    /**
+     * Marks this connection as a spectator
+     * @param spectating true if spectating
+     */
+    public void setSpectating(boolean spectating) {
+        this.spectating = spectating;
+    }
+    
     /**
      * Gets the socket
      * @return Socket
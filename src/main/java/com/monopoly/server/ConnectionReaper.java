@@ -0,0 +1,254 @@
+package com.monopoly.server;
+
+import com.monopoly.network.protocol.ProtocolHandler;
+import com.monopoly.network.protocol.ServerEvent;
+import com.monopoly.util.Constants;
+import com.monopoly.util.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Detects idle and half-open connections without a thread per connection.
+ * Connections sit in a timing wheel keyed by the time they next need a
+ * look; each tick of the shared scheduler scans only the current bucket.
+ * A connection idle for HEARTBEAT_INTERVAL_MS is sent a PING, and one idle
+ * for CONNECTION_TIMEOUT_MS is closed, which releases its handler thread
+ * and (through the normal disconnect path) its room seat.
+ */
+public class ConnectionReaper {
+
+    // Shared logger
+    private static final Logger LOG = Logger.getInstance();
+
+    /** Wheel resolution */
+    public static final long TICK_MS = 1000;
+
+    /** Number of wheel buckets (must cover CONNECTION_TIMEOUT_MS) */
+    public static final int WHEEL_SIZE = 64;
+
+    /** Idle time before a PING is sent */
+    public static final long PING_AFTER_MS = Constants.HEARTBEAT_INTERVAL_MS;
+
+    /** Idle time before a connection is considered dead */
+    public static final long REAP_AFTER_MS = Constants.CONNECTION_TIMEOUT_MS;
+
+    // Timing wheel of connections waiting for their next check
+    private final Bucket[] wheel;
+
+    // Shared housekeeping scheduler
+    private final ScheduledExecutorService scheduler;
+
+    // Used to encode PING frames
+    private final ProtocolHandler protocolHandler;
+
+    // CPU time source for the scan cost metric
+    private final ThreadMXBean threadBean;
+
+    // Wheel position, only advanced by the scheduler thread
+    private volatile long currentTick;
+
+    // Periodic tick task
+    private ScheduledFuture<?> tickTask;
+
+    // Metrics
+    private final AtomicLong registeredCount;
+    private final AtomicLong reapedCount;
+    private final AtomicLong pingsSent;
+    private final AtomicLong scanCount;
+    private final AtomicLong entriesScanned;
+    private final AtomicLong scanCpuNanos;
+
+    /**
+     * Creates a reaper
+     * @param scheduler Shared scheduler that runs the ticks
+     * @param protocolHandler Protocol handler for encoding PINGs
+     */
+    public ConnectionReaper(ScheduledExecutorService scheduler, ProtocolHandler protocolHandler) {
+        this.scheduler = scheduler;
+        this.protocolHandler = protocolHandler;
+        this.wheel = new Bucket[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.threadBean = ManagementFactory.getThreadMXBean();
+        this.currentTick = System.currentTimeMillis() / TICK_MS;
+        this.registeredCount = new AtomicLong();
+        this.reapedCount = new AtomicLong();
+        this.pingsSent = new AtomicLong();
+        this.scanCount = new AtomicLong();
+        this.entriesScanned = new AtomicLong();
+        this.scanCpuNanos = new AtomicLong();
+    }
+
+    /**
+     * Starts ticking on the shared scheduler
+     */
+    public synchronized void start() {
+        if (tickTask == null) {
+            tickTask = scheduler.scheduleAtFixedRate(this::tick, TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops ticking
+     */
+    public synchronized void stop() {
+        if (tickTask != null) {
+            tickTask.cancel(false);
+            tickTask = null;
+        }
+    }
+
+    /**
+     * Starts watching a connection
+     * @param handler Client handler
+     */
+    public void register(ClientHandler handler) {
+        registeredCount.incrementAndGet();
+        scheduleCheck(handler, handler.getLastActivityMillis() + PING_AFTER_MS);
+    }
+
+    /**
+     * Puts a connection in the bucket for the given deadline
+     */
+    private void scheduleCheck(ClientHandler handler, long deadlineMillis) {
+        long tick = Math.max(deadlineMillis / TICK_MS, currentTick + 1);
+        tick = Math.min(tick, currentTick + WHEEL_SIZE - 1);
+        wheel[(int) (tick % WHEEL_SIZE)].connections.add(handler);
+    }
+
+    /**
+     * Advances the wheel to the current time, scanning each bucket passed
+     */
+    private void tick() {
+        long cpuStart = cpuTime();
+        long now = System.currentTimeMillis();
+        long targetTick = now / TICK_MS;
+        int scanned = 0;
+
+        try {
+            // Catch up at most one full turn if the scheduler was delayed
+            long firstTick = Math.max(currentTick + 1, targetTick - WHEEL_SIZE + 1);
+            for (long t = firstTick; t <= targetTick; t++) {
+                currentTick = t;
+                scanned += scanBucket(wheel[(int) (t % WHEEL_SIZE)].connections, now);
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Connection reaper error: {}", e.getMessage());
+        }
+
+        scanCount.incrementAndGet();
+        entriesScanned.addAndGet(scanned);
+        scanCpuNanos.addAndGet(cpuTime() - cpuStart);
+    }
+
+    /**
+     * Checks every connection in a bucket
+     * @return Number of entries scanned
+     */
+    private int scanBucket(ConcurrentLinkedQueue<ClientHandler> bucket, long now) {
+        int scanned = 0;
+        int pending = bucket.size();
+        ClientHandler handler;
+        // Only entries present at the start; re-added ones land in later buckets
+        while (scanned < pending && (handler = bucket.poll()) != null) {
+            scanned++;
+            if (!handler.isConnected()) {
+                continue;
+            }
+
+            long lastActivity = handler.getLastActivityMillis();
+            long idle = now - lastActivity;
+
+            if (idle >= REAP_AFTER_MS) {
+                reapedCount.incrementAndGet();
+                LOG.info("Reaping idle connection of player {} (idle {} ms)", handler.getPlayerId(), idle);
+                handler.stop();
+            } else if (idle >= PING_AFTER_MS) {
+                if (handler.getLastPingMillis() < lastActivity) {
+                    handler.markPinged(now);
+                    handler.writeLine(protocolHandler.serializeMessage(ServerEvent.createPing()));
+                    pingsSent.incrementAndGet();
+                }
+                scheduleCheck(handler, lastActivity + REAP_AFTER_MS);
+            } else {
+                scheduleCheck(handler, lastActivity + PING_AFTER_MS);
+            }
+        }
+        return scanned;
+    }
+
+    /**
+     * Gets the CPU time of the scheduler thread, falling back to wall time
+     */
+    private long cpuTime() {
+        if (threadBean.isCurrentThreadCpuTimeSupported()) {
+            return threadBean.getCurrentThreadCpuTime();
+        }
+        return System.nanoTime();
+    }
+
+    // ==================== Metrics ====================
+
+    public long getRegisteredCount() {
+        return registeredCount.get();
+    }
+
+    public long getReapedCount() {
+        return reapedCount.get();
+    }
+
+    public long getPingsSent() {
+        return pingsSent.get();
+    }
+
+    public long getScanCount() {
+        return scanCount.get();
+    }
+
+    public long getEntriesScanned() {
+        return entriesScanned.get();
+    }
+
+    public long getScanCpuNanos() {
+        return scanCpuNanos.get();
+    }
+
+    /**
+     * Gets the number of connections currently in the wheel
+     * @return Watched connection count
+     */
+    public int getWatchedCount() {
+        int count = 0;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            count += wheel[i].connections.size();
+        }
+        return count;
+    }
+
+    /**
+     * One slot of the timing wheel
+     */
+    private static final class Bucket {
+
+        // Connections due in this slot's tick
+        final ConcurrentLinkedQueue<ClientHandler> connections = new ConcurrentLinkedQueue<>();
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionReaper{" +
+                "watched=" + getWatchedCount() +
+                ", reaped=" + reapedCount.get() +
+                ", pings=" + pingsSent.get() +
+                ", scans=" + scanCount.get() +
+                ", scanCpuMs=" + (scanCpuNanos.get() / 1_000_000) +
+                '}';
+    }
+}
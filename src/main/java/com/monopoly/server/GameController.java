@@ -1,28 +1,45 @@
 package com.monopoly.server;
 
+import com.monopoly.model.card.Card;
+import com.monopoly.model.card.CardType;
 import com.monopoly.model.player.Player;
 import com.monopoly.model.player.PlayerToken;
 import com.monopoly.model.property.Property;
+import com.monopoly.model.enums.EventCode;
 import com.monopoly.model.enums.TurnPhase;
 import com.monopoly.datastructures.ArrayList;
 import com.monopoly.datastructures.HashTable;
-import com.monopoly.model.game.Auction;
+import com.monopoly.analytics.TurnStatsWriter;
+import com.monopoly.bot.BotStrategy;
+import com.monopoly.bot.PropertyValuation;
+import com.monopoly.history.ArchivedGame;
+import com.monopoly.history.CommandOutcome;
+import com.monopoly.history.GameArchive;
+import com.monopoly.history.GameJournal;
+import com.monopoly.history.JournalRecord;
+import com.monopoly.history.JournalStore;
 import com.monopoly.model.game.GameState;
-import com.monopoly.model.game.Trade;
-import com.monopoly.logic.AuctionManager;
-import com.monopoly.logic.BankruptcyManager;
-import com.monopoly.logic.ConstructionManager;
-import com.monopoly.logic.GameLogic;
-import com.monopoly.logic.JailManager;
-import com.monopoly.logic.RentCalculator;
-import com.monopoly.logic.TradeManager;
-import com.monopoly.logic.TurnManager;
+import com.monopoly.model.game.StateVector;
+import com.monopoly.server.metrics.ServerMetrics;
+import com.monopoly.logic.TurnEngine;
+import com.monopoly.logic.TurnOutcome;
 import com.monopoly.network.protocol.ClientCommand;
 import com.monopoly.network.protocol.Message;
 import com.monopoly.network.protocol.MessageType;
 import com.monopoly.network.protocol.ProtocolHandler;
 import com.monopoly.network.protocol.ServerEvent;
 import com.monopoly.network.serialization.Serializer;
+import com.monopoly.util.EventTemplates;
+import com.monopoly.util.Logger;
+import com.monopoly.util.Tracer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Main game controller on the server side.
@@ -31,6 +48,18 @@ import com.monopoly.network.serialization.Serializer;
  */
 public class GameController {
 
+    /** Commands a bot seat may send in one turn before it is made to move on */
+    public static final int MAX_BOT_COMMANDS_PER_TURN = 100;
+    
+    // Bot commands processed per executor task before the thread is yielded
+    private static final int BOT_BATCH = 32;
+    
+    // Shared logger
+    private static final Logger LOG = Logger.getInstance();
+
+    // Shared tracer
+    private static final Tracer TRACER = Tracer.getInstance();
+
     // Room identification
     private final String roomId;
     
@@ -40,15 +69,9 @@ public class GameController {
     // Game state
     private GameState gameState;
     
-    // Logic managers
-    private GameLogic gameLogic;
-    private TurnManager turnManager;
-    private AuctionManager auctionManager;
-    private TradeManager tradeManager;
-    private JailManager jailManager;
-    private ConstructionManager constructionManager;
-    private BankruptcyManager bankruptcyManager;
-    private RentCalculator rentCalculator;
+    // Room rules, and what this room does with their events
+    private TurnEngine engine;
+    private final RoomEvents roomEvents;
     
     // Protocol and serialization
     private final ProtocolHandler protocolHandler;
@@ -59,6 +82,13 @@ public class GameController {
     private final HashTable<Integer, String> playerNames;
     private final ArrayList<Integer> playerOrder;
     
+    // Spectator fan-out
+    private final SpectatorHub spectatorHub;
+    
+    // Server metrics, and this room's counters (created with the first live command)
+    private final ServerMetrics metrics;
+    private ServerMetrics.RoomCounters roomMetrics;
+    
     // Available tokens
     private final ArrayList<PlayerToken> availableTokens;
     
@@ -66,6 +96,48 @@ public class GameController {
     private boolean gameStarted;
     private boolean gameEnded;
     
+    // Durable record of the game (null when journaling is off)
+    private GameJournal journal;
+    
+    // Set while re-running journaled commands
+    private boolean replaying;
+    
+    // Turn number at the last snapshot
+    private int snapshotTurn;
+    
+    // Turn number at the last journaled state hash
+    private int hashedTurn;
+    
+    // Cards drawn by the command being processed
+    private final ArrayList<Integer> cardsDrawn;
+    
+    // Turn statistics sink for replays (live rooms use the server's)
+    private TurnStatsWriter statsWriter;
+    
+    // Turn being tracked for statistics (-1 before the first command)
+    private int statsTurn;
+    private int statsPlayerId;
+    private int statsRentBefore;
+    private int statsCardType;
+    private int statsCardId;
+    
+    // Computer-controlled seats (playerId -> strategy)
+    private final HashTable<Integer, BotStrategy> botSeats;
+    
+    // Valuations shared by the bot seats (rebuilt when the game state is replaced)
+    private PropertyValuation valuation;
+    
+    // Set while a bot task is queued or running
+    private boolean botsScheduled;
+    private boolean runningBots;
+    
+    // Set when the command being processed for a bot was rejected
+    private boolean commandRejected;
+    
+    // Bot commands sent in the current turn
+    private int botTurn;
+    private int botCommands;
+    
     /**
      * Creates a new game controller for a room
      * @param roomId Room ID
@@ -80,6 +152,8 @@ public class GameController {
         this.playerHandlers = new HashTable<>();
         this.playerNames = new HashTable<>();
         this.playerOrder = new ArrayList<>();
+        this.spectatorHub = new SpectatorHub(roomId, protocolHandler, server.getSpectatorExecutor());
+        this.metrics = server.getMetrics();
         
         this.availableTokens = new ArrayList<>();
         for (PlayerToken token : PlayerToken.values()) {
@@ -88,6 +162,10 @@ public class GameController {
         
         this.gameStarted = false;
         this.gameEnded = false;
+        this.cardsDrawn = new ArrayList<>();
+        this.statsTurn = -1;
+        this.botSeats = new HashTable<>();
+        this.roomEvents = new RoomEvents();
     }
     
     /**
@@ -108,31 +186,28 @@ public class GameController {
             gameState.addPlayer(player);
         }
         
-        // Initialize game logic
-        gameLogic = new GameLogic(gameState);
-        
-        // Get managers from game logic
-        turnManager = new TurnManager(gameState);
-        auctionManager = new AuctionManager(gameState);
-        tradeManager = new TradeManager(gameState);
-        jailManager = new JailManager(gameState);
-        constructionManager = new ConstructionManager(gameState);
-        bankruptcyManager = new BankruptcyManager(gameState);
-        rentCalculator = new RentCalculator(gameState);
+        createManagers();
         
         // Set first player
         if (playerOrder.size() > 0) {
             gameState.setCurrentPlayerId(playerOrder.get(0));
         }
         
-        System.out.println("Game initialized for room " + roomId + 
-                          " with " + playerOrder.size() + " players");
+        LOG.info("Game initialized for room {} with {} players", roomId, playerOrder.size());
+    }
+    
+    /**
+     * Creates the room rules around the current game state
+     */
+    private void createManagers() {
+        engine = new TurnEngine(gameState, protocolHandler);
+        engine.setListener(roomEvents);
     }
     
     /**
      * Starts the game
      */
-    public void startGame() {
+    public synchronized void startGame() {
         if (gameStarted) {
             return;
         }
@@ -140,6 +215,16 @@ public class GameController {
         initializeGame();
         gameStarted = true;
         gameState.setGameStarted(true);
+        gameState.setTurnPhase(TurnPhase.PRE_ROLL);
+        
+        JournalStore journals = server.getJournalStore();
+        if (journals != null) {
+            try {
+                attachJournal(journals.open(roomId));
+            } catch (IOException e) {
+                LOG.warn("Room {} runs without a journal: {}", roomId, e.getMessage());
+            }
+        }
         
         // Broadcast game start
         ServerEvent startEvent = ServerEvent.createGameStart();
@@ -153,7 +238,8 @@ public class GameController {
         ServerEvent turnEvent = ServerEvent.createTurnStart(currentPlayerId);
         broadcastToAll(turnEvent);
         
-        System.out.println("Game started in room " + roomId);
+        LOG.info("Game started in room {}", roomId);
+        scheduleBots();
     }
     
     /**
@@ -161,759 +247,837 @@ public class GameController {
      * @param playerId Player ID
      * @param command Client command
      */
-    public void processCommand(int playerId, ClientCommand command) {
+    public synchronized void processCommand(int playerId, ClientCommand command) {
         if (!gameStarted || gameEnded) {
             sendError(playerId, "Game is not active");
             return;
         }
         
         MessageType type = command.getCommandType();
+        long received = System.nanoTime();
+        long started = TRACER.start();
         
-        // Validate it's the player's turn for turn-based actions
-        if (requiresTurn(type) && playerId != gameState.getCurrentPlayerId()) {
-            sendError(playerId, "Not your turn");
+        // Validate the player, their turn and the phase
+        TurnEngine.Rejection rejection = engine.validate(playerId, command);
+        if (rejection != null) {
+            sendError(playerId, describe(rejection));
             return;
         }
         
-        // Validate action is allowed in current phase
-        TurnPhase phase = gameState.getTurnPhase();
-        if (!protocolHandler.isValidCommand(command, phase)) {
-            sendError(playerId, "Action not allowed in phase: " + phase);
-            return;
-        }
+        TRACER.span(Tracer.TraceEvent.VALIDATION, roomId, playerId, type.ordinal(), started);
+        started = TRACER.start();
         
         // Handle command
+        cardsDrawn.clear();
+        if (statsTurn < 0) {
+            trackTurnStats();
+        }
         try {
-            switch (type) {
-                case ROLL_DICE:
-                    handleRollDice(playerId);
-                    break;
-                case BUY_PROPERTY:
-                    handleBuyProperty(playerId);
-                    break;
-                case DECLINE_BUY:
-                    handleDeclineBuy(playerId);
-                    break;
-                case BID:
-                    handleBid(playerId, command.getIntParameter("amount", 0));
-                    break;
-                case PASS_BID:
-                    handlePassBid(playerId);
-                    break;
-                case BUILD:
-                    handleBuild(playerId, 
-                               command.getIntParameter("propertyId", -1),
-                               command.getStringParameter("buildingType"));
-                    break;
-                case SELL_BUILDING:
-                    handleSellBuilding(playerId,
-                                      command.getIntParameter("propertyId", -1));
-                    break;
-                case MORTGAGE:
-                    handleMortgage(playerId,
-                                  command.getIntParameter("propertyId", -1));
-                    break;
-                case UNMORTGAGE:
-                    handleUnmortgage(playerId,
-                                    command.getIntParameter("propertyId", -1));
-                    break;
-                case PROPOSE_TRADE:
-                    handleProposeTrade(playerId, command);
-                    break;
-                case ACCEPT_TRADE:
-                    handleAcceptTrade(playerId);
-                    break;
-                case DECLINE_TRADE:
-                    handleDeclineTrade(playerId);
-                    break;
-                case JAIL_PAY_FINE:
-                    handleJailPayFine(playerId);
-                    break;
-                case JAIL_USE_CARD:
-                    handleJailUseCard(playerId);
-                    break;
-                case END_TURN:
-                    handleEndTurn(playerId);
-                    break;
-                default:
-                    sendError(playerId, "Unknown command");
-                    break;
+            rejection = engine.execute(playerId, command);
+            if (rejection != null) {
+                sendError(playerId, describe(rejection));
             }
         } catch (Exception e) {
             sendError(playerId, "Error processing command: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Room " + roomId + " failed to process a command from player " + playerId, e);
         }
+        TRACER.span(Tracer.TraceEvent.LOGIC, roomId, playerId, type.ordinal(), started);
+        
+        journalCommand(playerId, command);
+        snapshotIfDue();
+        recordTurnStats();
+        recordMetrics(type, received);
+        scheduleBots();
     }
     
     /**
-     * Checks if command requires it to be player's turn
+     * Records the processing time of a live command
+     * @param type Command type
+     * @param received nanoTime when processing started
      */
-    private boolean requiresTurn(MessageType type) {
-        switch (type) {
-            case BID:
-            case PASS_BID:
-            case ACCEPT_TRADE:
-            case DECLINE_TRADE:
-                return false; // These can be done when it's not your turn
-            default:
-                return true;
+    private void recordMetrics(MessageType type, long received) {
+        if (replaying) {
+            return;
+        }
+        metrics.recordCommand(type, System.nanoTime() - received);
+        if (roomMetrics == null) {
+            roomMetrics = metrics.room(roomId);
+            roomMetrics.setBacklog(spectatorHub::getBacklog);
         }
+        roomMetrics.commandProcessed();
     }
     
     /**
-     * Handles roll dice command
+     * Gets the text sent to a player for a refused command
+     * @param rejection Why the command was refused
+     * @return Error message
      */
-    private void handleRollDice(int playerId) {
-        Player player = gameState.getPlayer(playerId);
-        if (player == null) return;
-        
-        // Roll dice using game logic
-        GameLogic.RollResult rollResult = gameLogic.rollAndMove();
-        
-        int die1 = rollResult.getDie1();
-        int die2 = rollResult.getDie2();
-        
-        // Broadcast dice result
-        ServerEvent diceEvent = ServerEvent.createDiceResult(die1, die2);
-        broadcastToAll(diceEvent);
-        
-        // Process the roll through game logic
-        // The game logic will handle movement, landing, rent, cards, etc.
-        
-        // Check for jail
-        if (player.isInJail()) {
-            boolean released = jailManager.attemptReleaseByDoubles(player, rollResult.isDoubles());
-            if (released) {
-                broadcastEventLog(player.getName() + " rolled doubles and is released from jail!");
-            } else {
-                player.incrementTurnsInJail();
-                broadcastEventLog(player.getName() + " stays in jail.");
-                gameState.setTurnPhase(TurnPhase.POST_ROLL);
-            }
-        } else {
-            // Normal movement handled by rollAndMove
-            String result = gameLogic.handleTileLanding(playerId);
-            if (result != null && !result.isEmpty()) {
-                broadcastEventLog(result);
-            }
-        }
-        
-        // Check for doubles (three doubles = jail)
-        if (rollResult.isDoubles() && !player.isInJail()) {
-            if (rollResult.getConsecutiveDoubles() >= 3) {
-                jailManager.sendToJail(player);
-                broadcastEventLog(player.getName() + " rolled three doubles and goes to jail!");
-            } else {
-                broadcastEventLog(player.getName() + " rolled doubles and gets another turn!");
-            }
+    private String describe(TurnEngine.Rejection rejection) {
+        switch (rejection) {
+            case WRONG_PHASE:
+                return "Action not allowed in phase: " + gameState.getTurnPhase();
+            case ROLL_REFUSED:
+                return engine.getLastRoll().describe(gameState);
+            default:
+                return rejection.getMessage();
         }
-        
-        broadcastStateUpdate();
-        checkGameEnd();
     }
     
     /**
-     * Handles buy property command
+     * Wraps up a game the rules have ended: closes the journal, archives
+     * the result and announces the winner
+     * @param winner The winner
      */
-    private void handleBuyProperty(int playerId) {
-        Player player = gameState.getPlayer(playerId);
-        if (player == null) return;
-        
-        Property property = gameLogic.getPropertyAtPosition(player.getPosition());
-        if (property == null) {
-            sendError(playerId, "No property to buy here");
-            return;
+    private void endGame(Player winner) {
+        gameEnded = true;
+        if (journal != null) {
+            server.getJournalStore().close(roomId);
+            journal = null;
         }
         
-        if (!gameLogic.canBuyProperty(playerId, property.getId())) {
-            sendError(playerId, "Cannot buy this property");
-            return;
+        // Hand the result to the archive's writer thread
+        GameArchive archive = server.getGameArchive();
+        if (archive != null && !replaying) {
+            archive.archive(ArchivedGame.capture(gameState, System.currentTimeMillis()));
         }
         
-        gameLogic.buyProperty(playerId, property.getId());
-        broadcastEventLog(player.getName() + " bought " + property.getName() + 
-                         " for $" + property.getPrice());
+        ServerEvent endEvent = ServerEvent.createGameEnd(winner.getId(), winner.getName());
+        broadcastToAll(endEvent);
         
-        gameState.setTurnPhase(TurnPhase.POST_ROLL);
-        broadcastStateUpdate();
+        LOG.info("Game ended in room {}. Winner: {}", roomId, winner.getName());
     }
     
     /**
-     * Handles decline buy command (starts auction)
+     * Broadcasts state update to all players
      */
-    private void handleDeclineBuy(int playerId) {
-        Player player = gameState.getPlayer(playerId);
-        if (player == null) return;
-        
-        Property property = gameLogic.getPropertyAtPosition(player.getPosition());
-        if (property == null) {
-            sendError(playerId, "No property here");
+    private void broadcastStateUpdate() {
+        if (replaying) {
             return;
         }
-        
-        // Start auction
-        auctionManager.startAuction(property.getId());
-        gameState.setTurnPhase(TurnPhase.AUCTION);
-        
-        ServerEvent auctionEvent = ServerEvent.createAuctionStart(
-            property.getId(), property.getName());
-        broadcastToAll(auctionEvent);
-        
-        broadcastEventLog(player.getName() + " declined to buy " + property.getName() + 
-                         ". Auction started!");
-        broadcastStateUpdate();
+        long started = System.nanoTime();
+        String stateJson = serializer.serializeGameState(gameState);
+        metrics.recordSerialization(System.nanoTime() - started);
+        TRACER.span(Tracer.TraceEvent.SERIALIZATION, roomId, -1, Tracer.NO_CODE, started);
+        ServerEvent event = ServerEvent.createStateUpdate(stateJson);
+        broadcastToAll(event);
     }
     
     /**
-     * Handles bid command
+     * Broadcasts an event log entry as a code plus arguments. Nothing is
+     * built during a replay; the text is rendered only when debug logging
+     * is on.
+     * @param code Event code
+     * @param args Event arguments, in the code's layout
      */
-    private void handleBid(int playerId, int amount) {
-        Player player = gameState.getPlayer(playerId);
-        if (player == null) return;
-        
-        Auction auction = gameState.getActiveAuction();
-        if (auction == null || !auction.isActive()) {
-            sendError(playerId, "No active auction");
+    private void logEvent(EventCode code, int... args) {
+        if (replaying) {
             return;
         }
-        
-        boolean success = auctionManager.placeBid(playerId, amount);
-        if (!success) {
-            sendError(playerId, "Invalid bid");
-            return;
+        broadcastToAll(ServerEvent.createEventLog(code, args));
+        if (LOG.isEnabled(Logger.LogLevel.DEBUG)) {
+            LOG.debug("[{}] {}", roomId, EventTemplates.getDefault().render(code, args, gameState));
         }
-        
-        ServerEvent updateEvent = ServerEvent.createAuctionUpdate(
-            auction.getCurrentBid(), playerId);
-        broadcastToAll(updateEvent);
-        
-        broadcastEventLog(player.getName() + " bids $" + amount);
-        broadcastStateUpdate();
     }
     
     /**
-     * Handles pass bid command
+     * Broadcasts a turn outcome to the event log
+     * @param outcome Outcome recorded by game logic
      */
-    private void handlePassBid(int playerId) {
-        Player player = gameState.getPlayer(playerId);
-        if (player == null) return;
-        
-        Auction auction = gameState.getActiveAuction();
-        if (auction == null || !auction.isActive()) {
-            sendError(playerId, "No active auction");
-            return;
-        }
-        
-        auctionManager.passBid(playerId);
-        broadcastEventLog(player.getName() + " passed on the auction");
-        
-        // Check if auction ended
-        if (!auction.isActive() || auctionManager.shouldEndAuction()) {
-            endAuction();
+    private void logOutcome(TurnOutcome outcome) {
+        if (!replaying) {
+            logEvent(outcome.getCode(), outcome.eventArgs());
         }
-        
-        broadcastStateUpdate();
     }
     
     /**
-     * Ends the current auction
+     * Broadcasts a message to all players in this room
+     * @param message Message to broadcast
      */
-    private void endAuction() {
-        Auction auction = gameState.getActiveAuction();
-        if (auction == null) return;
-        
-        int winnerId = auctionManager.endAuction();
-        
-        if (winnerId >= 0) {
-            Player winner = gameState.getPlayer(winnerId);
-            ServerEvent endEvent = ServerEvent.createAuctionEnd(
-                winnerId, auction.getCurrentBid());
-            broadcastToAll(endEvent);
-            
-            String winnerName = winner != null ? winner.getName() : "Player " + winnerId;
-            broadcastEventLog(winnerName + " wins the auction for $" + 
-                             auction.getCurrentBid());
-        } else {
-            broadcastEventLog("Auction ended with no winner");
+    public void broadcastToAll(Message message) {
+        if (replaying) {
+            // Nobody is listening to a replay; skip the encoding work
+            return;
+        }
+        long started = System.nanoTime();
+        int recipients = 0;
+        for (int i = 0; i < playerOrder.size(); i++) {
+            int playerId = playerOrder.get(i);
+            ClientHandler handler = playerHandlers.get(playerId);
+            if (handler != null && handler.isConnected()) {
+                handler.sendMessage(message);
+                recipients++;
+            } else if (!isBot(playerId)) {
+                // Kept for replay if the player resumes
+                server.recordForResume(playerId, message);
+            }
         }
         
-        gameState.setTurnPhase(TurnPhase.POST_ROLL);
+        // Encoded and written later by the spectator I/O threads
+        spectatorHub.publish(message);
+        metrics.recordBroadcast(recipients + spectatorHub.getSpectatorCount(), System.nanoTime() - started);
     }
     
     /**
-     * Handles build command
+     * Sends an error to a specific player
+     * @param playerId Player ID
+     * @param errorMessage Error message
      */
-    private void handleBuild(int playerId, int propertyId, String buildingType) {
-        Player player = gameState.getPlayer(playerId);
-        if (player == null) return;
-        
-        Property property = gameState.getBoard().getProperty(propertyId);
-        if (property == null) {
-            sendError(playerId, "Property not found");
+    private void sendError(int playerId, String errorMessage) {
+        if (isBot(playerId)) {
+            commandRejected = true;
             return;
         }
-        
-        boolean isHotel = "hotel".equalsIgnoreCase(buildingType);
-        boolean success;
-        
-        if (isHotel) {
-            success = constructionManager.buildHotel(playerId, propertyId);
-        } else {
-            success = constructionManager.buildHouse(playerId, propertyId);
-        }
-        
-        if (!success) {
-            sendError(playerId, "Cannot build here");
-            return;
+        ClientHandler handler = playerHandlers.get(playerId);
+        if (handler != null) {
+            handler.sendError(errorMessage);
         }
-        
-        String building = isHotel ? "hotel" : "house";
-        broadcastEventLog(player.getName() + " built a " + building + " on " + property.getName());
-        broadcastStateUpdate();
     }
     
     /**
-     * Handles sell building command
+     * Adds a player to this room
+     * @param playerId Player ID
+     * @param handler Client handler
      */
-    private void handleSellBuilding(int playerId, int propertyId) {
-        Player player = gameState.getPlayer(playerId);
-        if (player == null) return;
+    public void addPlayer(int playerId, ClientHandler handler) {
+        playerHandlers.put(playerId, handler);
+        playerOrder.add(playerId);
+        LOG.info("Player {} added to room {}", playerId, roomId);
+    }
+    
+    /**
+     * Removes a player from this room
+     * @param playerId Player ID
+     */
+    public void removePlayer(int playerId) {
+        playerHandlers.put(playerId, null);
         
-        Property property = gameState.getBoard().getProperty(propertyId);
-        if (property == null) {
-            sendError(playerId, "Property not found");
-            return;
+        // Remove from order list
+        for (int i = 0; i < playerOrder.size(); i++) {
+            if (playerOrder.get(i) == playerId) {
+                playerOrder.remove(i);
+                break;
+            }
         }
-        
-        boolean success = constructionManager.sellHouse(playerId, propertyId);
-        if (!success) {
-            sendError(playerId, "Cannot sell building");
+    }
+    
+    /**
+     * Drops the connection of a player whose seat is held for resume
+     * @param playerId Player ID
+     */
+    public void detachPlayer(int playerId) {
+        playerHandlers.put(playerId, null);
+    }
+    
+    /**
+     * Binds a resumed connection to a held seat
+     * @param playerId Player ID
+     * @param handler New client handler
+     */
+    public void reattachPlayer(int playerId, ClientHandler handler) {
+        playerHandlers.put(playerId, handler);
+    }
+    
+    /**
+     * Sends the full game state to one player
+     * @param playerId Player ID
+     */
+    public void sendStateTo(int playerId) {
+        ClientHandler handler = playerHandlers.get(playerId);
+        if (handler == null || gameState == null) {
             return;
         }
-        
-        broadcastEventLog(player.getName() + " sold a building on " + property.getName());
-        broadcastStateUpdate();
+        long started = System.nanoTime();
+        String stateJson = serializer.serializeGameState(gameState);
+        metrics.recordSerialization(System.nanoTime() - started);
+        handler.sendMessage(ServerEvent.createStateUpdate(stateJson));
     }
     
     /**
-     * Handles mortgage command
+     * Checks if a player holds a seat in a running game
+     * @param playerId Player ID
+     * @return true if still playing
      */
-    private void handleMortgage(int playerId, int propertyId) {
+    public boolean isActivePlayer(int playerId) {
+        if (!gameStarted || gameEnded || gameState == null) {
+            return false;
+        }
         Player player = gameState.getPlayer(playerId);
-        if (player == null) return;
-        
-        Property property = gameState.getBoard().getProperty(propertyId);
-        if (property == null) {
-            sendError(playerId, "Property not found");
-            return;
+        return player != null && !player.isBankrupt();
+    }
+    
+    /**
+     * Gets the display name of a player in this room
+     * @param playerId Player ID
+     * @return Player name
+     */
+    public String getPlayerName(int playerId) {
+        String name = playerNames.get(playerId);
+        return name != null ? name : "Player " + playerId;
+    }
+    
+    /**
+     * Adds a spectator to this room; in a running game it starts from a
+     * fresh snapshot of the state
+     * @param playerId Connection ID
+     * @param handler Client handler
+     */
+    public synchronized void addSpectator(int playerId, ClientHandler handler) {
+        ServerEvent snapshot = null;
+        if (gameStarted && gameState != null) {
+            snapshot = ServerEvent.createStateUpdate(serializer.serializeGameState(gameState));
         }
+        spectatorHub.subscribe(playerId, handler, snapshot);
+        LOG.info("Spectator {} watching room {}", playerId, roomId);
+    }
+    
+    /**
+     * Removes a spectator from this room
+     * @param playerId Connection ID
+     * @return true if the connection was spectating this room
+     */
+    public boolean removeSpectator(int playerId) {
+        return spectatorHub.unsubscribe(playerId);
+    }
+    
+    /**
+     * Gets the number of spectators
+     * @return Spectator count
+     */
+    public int getSpectatorCount() {
+        return spectatorHub.getSpectatorCount();
+    }
+    
+    /**
+     * Called when a player joins with a name
+     * @param playerId Player ID
+     * @param playerName Player name
+     */
+    public void onPlayerJoined(int playerId, String playerName) {
+        playerNames.put(playerId, playerName);
         
-        if (property.getOwnerId() != playerId) {
-            sendError(playerId, "You don't own this property");
-            return;
+        ClientHandler handler = playerHandlers.get(playerId);
+        if (handler != null) {
+            handler.setPlayerName(playerName);
         }
-        
-        if (property.isMortgaged()) {
-            sendError(playerId, "Property is already mortgaged");
-            return;
+    }
+    
+    /**
+     * Called when a player disconnects
+     * @param playerId Player ID
+     */
+    public synchronized void onPlayerDisconnect(int playerId) {
+        if (gameStarted && !gameEnded) {
+            appendToJournal(JournalRecord.DISCONNECT, playerId, new byte[0]);
         }
+        removePlayer(playerId);
         
-        if (property.getNumberOfHouses() > 0 || property.hasHotel()) {
-            sendError(playerId, "Must sell all buildings first");
-            return;
+        if (gameStarted && !gameEnded) {
+            // Bankrupt the player; their turn passes on
+            engine.eliminate(playerId);
         }
-        
-        property.mortgage();
-        player.addMoney(property.getMortgageValue());
-        
-        broadcastEventLog(player.getName() + " mortgaged " + property.getName() + 
-                         " for $" + property.getMortgageValue());
-        broadcastStateUpdate();
+        scheduleBots();
     }
     
+    // ==================== Room events ====================
+    
     /**
-     * Handles unmortgage command
+     * Turns what the rules did into broadcasts, event log entries and
+     * journal bookkeeping
      */
-    private void handleUnmortgage(int playerId, int propertyId) {
-        Player player = gameState.getPlayer(playerId);
-        if (player == null) return;
+    private final class RoomEvents implements TurnEngine.Listener {
         
-        Property property = gameState.getBoard().getProperty(propertyId);
-        if (property == null) {
-            sendError(playerId, "Property not found");
-            return;
+        @Override
+        public void rolled(TurnOutcome roll) {
+            if (!replaying) {
+                broadcastToAll(ServerEvent.createDiceResult(roll.getDie1(), roll.getDie2()));
+            }
+            logOutcome(roll);
         }
         
-        if (property.getOwnerId() != playerId) {
-            sendError(playerId, "You don't own this property");
-            return;
+        @Override
+        public void resolved(TurnOutcome outcome) {
+            logOutcome(outcome);
         }
         
-        if (!property.isMortgaged()) {
-            sendError(playerId, "Property is not mortgaged");
-            return;
+        @Override
+        public void cardDrawn(CardType type, Card card) {
+            cardsDrawn.add(card.getId());
+            statsCardType = type.ordinal();
+            statsCardId = card.getId();
+            broadcastToAll(ServerEvent.createCardDrawn(type.name(), card.getDescription()));
         }
         
-        int cost = (int) (property.getMortgageValue() * 1.1);
-        if (player.getMoney() < cost) {
-            sendError(playerId, "Not enough money");
-            return;
+        @Override
+        public void event(EventCode code, int... args) {
+            logEvent(code, args);
         }
         
-        player.subtractMoney(cost);
-        property.unmortgage();
-        
-        broadcastEventLog(player.getName() + " unmortgaged " + property.getName() + 
-                         " for $" + cost);
-        broadcastStateUpdate();
-    }
-    
-    /**
-     * Handles propose trade command
-     */
-    private void handleProposeTrade(int playerId, ClientCommand command) {
-        Player initiator = gameState.getPlayer(playerId);
-        int receiverId = command.getIntParameter("receiverId", -1);
-        Player receiver = gameState.getPlayer(receiverId);
+        @Override
+        public void auctionStarted(Property property) {
+            broadcastToAll(ServerEvent.createAuctionStart(property.getId(), property.getName()));
+        }
         
-        if (initiator == null || receiver == null) {
-            sendError(playerId, "Invalid trade participants");
-            return;
+        @Override
+        public void bidPlaced(int playerId, int currentBid) {
+            broadcastToAll(ServerEvent.createAuctionUpdate(currentBid, playerId));
         }
         
-        // Set trade offers from command parameters
-        int initiatorMoney = command.getIntParameter("offerMoney", 0);
-        int receiverMoney = command.getIntParameter("requestMoney", 0);
+        @Override
+        public void auctionWon(int winnerId, int amount) {
+            broadcastToAll(ServerEvent.createAuctionEnd(winnerId, amount));
+        }
         
-        // Validate and set as active
-        Trade trade = tradeManager.proposeTrade(playerId, receiverId);
-        if (trade == null) {
-            sendError(playerId, "Invalid trade proposal");
-            return;
+        @Override
+        public void playerBankrupt(int playerId) {
+            broadcastToAll(ServerEvent.createPlayerBankrupt(playerId));
         }
         
-        trade.setInitiatorMoney(initiatorMoney);
-        trade.setReceiverMoney(receiverMoney);
+        @Override
+        public void turnStarted(int playerId) {
+            broadcastToAll(ServerEvent.createTurnStart(playerId));
+        }
         
-        gameState.setTurnPhase(TurnPhase.TRADING);
+        @Override
+        public void stateChanged() {
+            broadcastStateUpdate();
+        }
         
-        broadcastEventLog(initiator.getName() + " proposed a trade to " + receiver.getName());
-        broadcastStateUpdate();
+        @Override
+        public void gameOver(Player winner) {
+            endGame(winner);
+        }
     }
     
+    // ==================== Bot seats ====================
+    
     /**
-     * Handles accept trade command
+     * Seats a computer-controlled player before the game starts
+     * @param playerId Player ID
+     * @param name Display name
+     * @param strategy Strategy that plays the seat
+     * @return true if seated
      */
-    private void handleAcceptTrade(int playerId) {
-        Trade trade = gameState.getActiveTrade();
-        if (trade == null || !trade.isPending()) {
-            sendError(playerId, "No active trade");
-            return;
-        }
-        
-        if (trade.getReceiverId() != playerId) {
-            sendError(playerId, "You are not the trade receiver");
-            return;
+    public synchronized boolean addBot(int playerId, String name, BotStrategy strategy) {
+        if (gameStarted || playerOrder.size() >= Server.MAX_PLAYERS) {
+            return false;
         }
-        
-        tradeManager.acceptTrade(playerId);
-        
-        Player receiver = gameState.getPlayer(playerId);
-        String receiverName = receiver != null ? receiver.getName() : "Player " + playerId;
-        broadcastEventLog(receiverName + " accepted the trade!");
-        gameState.setTurnPhase(TurnPhase.POST_ROLL);
-        broadcastStateUpdate();
+        addPlayer(playerId, null);
+        onPlayerJoined(playerId, name);
+        botSeats.put(playerId, strategy);
+        return true;
     }
     
     /**
-     * Handles decline trade command
+     * Checks if a seat is played by a bot
+     * @param playerId Player ID
+     * @return true for bot seats
      */
-    private void handleDeclineTrade(int playerId) {
-        Trade trade = gameState.getActiveTrade();
-        if (trade == null || !trade.isPending()) {
-            sendError(playerId, "No active trade");
-            return;
-        }
-        
-        if (trade.getReceiverId() != playerId) {
-            sendError(playerId, "You are not the trade receiver");
-            return;
-        }
-        
-        tradeManager.declineTrade(playerId);
-        
-        Player receiver = gameState.getPlayer(playerId);
-        String receiverName = receiver != null ? receiver.getName() : "Player " + playerId;
-        broadcastEventLog(receiverName + " declined the trade");
-        gameState.setTurnPhase(TurnPhase.POST_ROLL);
-        broadcastStateUpdate();
+    public boolean isBot(int playerId) {
+        return botSeats.get(playerId) != null;
     }
     
     /**
-     * Handles jail pay fine command
+     * Checks if a human player is still in the game
      */
-    private void handleJailPayFine(int playerId) {
-        Player player = gameState.getPlayer(playerId);
-        if (player == null) return;
-        
-        if (!player.isInJail()) {
-            sendError(playerId, "You are not in jail");
-            return;
-        }
-        
-        if (!jailManager.canPayFine(player)) {
-            sendError(playerId, "Not enough money to pay fine");
-            return;
+    private boolean hasHumanPlayer() {
+        for (int i = 0; i < playerOrder.size(); i++) {
+            int playerId = playerOrder.get(i);
+            Player player = gameState.getPlayer(playerId);
+            if (!isBot(playerId) && player != null && !player.isBankrupt()) {
+                return true;
+            }
         }
-        
-        jailManager.releaseByFine(player);
-        broadcastEventLog(player.getName() + " paid $50 to get out of jail");
-        broadcastStateUpdate();
+        return false;
     }
     
     /**
-     * Handles jail use card command
+     * Queues a bot task on the server's bot threads unless one is already
+     * queued or running
      */
-    private void handleJailUseCard(int playerId) {
-        Player player = gameState.getPlayer(playerId);
-        if (player == null) return;
-        
-        if (!player.isInJail()) {
-            sendError(playerId, "You are not in jail");
+    private void scheduleBots() {
+        if (replaying || runningBots || botsScheduled || botSeats.isEmpty() || !gameStarted || gameEnded) {
             return;
         }
-        
-        if (!jailManager.canUseCard(player)) {
-            sendError(playerId, "You don't have a Get Out of Jail Free card");
-            return;
+        botsScheduled = true;
+        try {
+            server.getBotExecutor().execute(this::runBots);
+        } catch (RejectedExecutionException e) {
+            // Server is shutting down
+            botsScheduled = false;
         }
-        
-        jailManager.releaseByCard(player);
-        broadcastEventLog(player.getName() + " used a Get Out of Jail Free card");
-        broadcastStateUpdate();
     }
     
     /**
-     * Handles end turn command
+     * Lets the bot seats act until none has anything to do. A batch of
+     * commands is processed per call; the rest is queued again so that one
+     * room cannot hold a bot thread. Bots stop once no human is left.
      */
-    private void handleEndTurn(int playerId) {
-        if (playerId != gameState.getCurrentPlayerId()) {
-            sendError(playerId, "Not your turn");
+    synchronized void runBots() {
+        botsScheduled = false;
+        if (replaying || botSeats.isEmpty() || !gameStarted || gameEnded) {
             return;
         }
-        
-        advanceToNextPlayer();
+        runningBots = true;
+        try {
+            for (int i = 0; i < BOT_BATCH; i++) {
+                if (gameEnded || !hasHumanPlayer() || !stepBots()) {
+                    return;
+                }
+            }
+        } finally {
+            runningBots = false;
+        }
+        scheduleBots();
     }
     
     /**
-     * Advances to the next player
+     * Processes the next command of the first bot seat that has one. A
+     * rejected command is replaced by the phase's fallback, as is every
+     * command past MAX_BOT_COMMANDS_PER_TURN.
+     * @return true if a bot command was accepted
      */
-    private void advanceToNextPlayer() {
-        // Reset dice doubles counter
-        gameState.getDice().resetDoubles();
+    private boolean stepBots() {
+        if (valuation == null || valuation.getGameState() != gameState) {
+            valuation = new PropertyValuation(gameState);
+        }
+        valuation.refresh();
         
-        // Find next active player
-        int currentIdx = -1;
         for (int i = 0; i < playerOrder.size(); i++) {
-            if (playerOrder.get(i) == gameState.getCurrentPlayerId()) {
-                currentIdx = i;
-                break;
+            int playerId = playerOrder.get(i);
+            BotStrategy strategy = botSeats.get(playerId);
+            if (strategy == null) {
+                continue;
             }
-        }
-        
-        // Find next non-bankrupt player
-        int nextIdx = (currentIdx + 1) % playerOrder.size();
-        int attempts = 0;
-        while (attempts < playerOrder.size()) {
-            int nextPlayerId = playerOrder.get(nextIdx);
-            Player nextPlayer = gameState.getPlayer(nextPlayerId);
-            if (nextPlayer != null && !nextPlayer.isBankrupt()) {
-                break;
+            ClientCommand command = strategy.decide(valuation, playerId);
+            if (command == null) {
+                continue;
             }
-            nextIdx = (nextIdx + 1) % playerOrder.size();
-            attempts++;
-        }
-        
-        if (attempts >= playerOrder.size()) {
-            // All players bankrupt except winner
-            checkGameEnd();
-            return;
+            
+            if (botTurn != gameState.getTurnNumber()) {
+                botTurn = gameState.getTurnNumber();
+                botCommands = 0;
+            }
+            if (++botCommands > MAX_BOT_COMMANDS_PER_TURN) {
+                command = BotStrategy.fallback(gameState, playerId);
+            }
+            if (command != null && processBotCommand(playerId, command)) {
+                return true;
+            }
+            
+            ClientCommand fallback = BotStrategy.fallback(gameState, playerId);
+            if (fallback != null && processBotCommand(playerId, fallback)) {
+                return true;
+            }
+            LOG.warn("Bot {} in room {} has no valid command in phase {}",
+                     playerId, roomId, gameState.getTurnPhase());
         }
-        
-        int nextPlayerId = playerOrder.get(nextIdx);
-        gameState.setCurrentPlayerId(nextPlayerId);
-        gameState.incrementTurnNumber();
-        gameState.setTurnPhase(TurnPhase.PRE_ROLL);
-        
-        ServerEvent turnEvent = ServerEvent.createTurnStart(nextPlayerId);
-        broadcastToAll(turnEvent);
-        
-        broadcastStateUpdate();
+        return false;
     }
     
     /**
-     * Checks if game should end
+     * Processes a command on behalf of a bot seat
+     * @return true if the command was accepted
      */
-    private void checkGameEnd() {
-        Player winner = checkWinCondition();
-        if (winner != null) {
-            endGame(winner.getId());
+    private boolean processBotCommand(int playerId, ClientCommand command) {
+        commandRejected = false;
+        processCommand(playerId, command);
+        return !commandRejected;
+    }
+    
+    // ==================== Journal ====================
+    
+    /**
+     * Starts journaling this room. The current checkpoint is written first,
+     * so replay can start from it.
+     * @param journal Room journal
+     */
+    public synchronized void attachJournal(GameJournal journal) {
+        resumeJournal(journal);
+        appendToJournal(JournalRecord.GENESIS, -1, checkpoint());
+    }
+    
+    /**
+     * Continues journaling a room rebuilt from its own journal
+     * @param journal Room journal, positioned after the replayed records
+     */
+    public synchronized void resumeJournal(GameJournal journal) {
+        this.journal = journal;
+        this.snapshotTurn = gameState != null ? gameState.getTurnNumber() : 0;
+        this.hashedTurn = snapshotTurn;
+    }
+    
+    /**
+     * Snapshots the room every SNAPSHOT_INTERVAL_TURNS turns. The journal
+     * rolls to a new segment here and the snapshot is written in the
+     * background, after which the older segments are deleted.
+     */
+    private void snapshotIfDue() {
+        if (journal == null || replaying || gameEnded
+                || gameState.getTurnNumber() - snapshotTurn < JournalStore.SNAPSHOT_INTERVAL_TURNS) {
+            return;
+        }
+        snapshotTurn = gameState.getTurnNumber();
+        try {
+            long sequence = journal.getLastSequence();
+            journal.rollover();
+            server.getJournalStore().snapshot(journal, sequence, server.exportRoom(this));
+        } catch (IOException | RuntimeException e) {
+            LOG.error("Journal of room {} failed, disabling it: {}", roomId, e.getMessage());
+            journal = null;
         }
     }
     
     /**
-     * Checks win condition
-     * @return Winner or null
+     * Journals an accepted command with its outcome
      */
-    private Player checkWinCondition() {
-        // Count non-bankrupt players
-        ArrayList<Player> activePlayers = new ArrayList<>();
-        ArrayList<Player> allPlayers = gameState.getAllPlayers();
-        
-        for (int i = 0; i < allPlayers.size(); i++) {
-            Player player = allPlayers.get(i);
-            if (!player.isBankrupt()) {
-                activePlayers.add(player);
-            }
+    private void journalCommand(int playerId, ClientCommand command) {
+        if (journal == null || replaying) {
+            return;
         }
-        
-        // If only one player remains, they win
-        if (activePlayers.size() == 1) {
-            return activePlayers.get(0);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(protocolHandler.serializeMessage(command));
+            CommandOutcome.capture(gameState, cardsDrawn).write(out);
+        } catch (IOException e) {
+            throw new IllegalStateException("Command encoding failed", e);
+        }
+        appendToJournal(JournalRecord.COMMAND, playerId, bytes.toByteArray());
+        
+        // A state hash at every turn boundary lets replay pinpoint divergence
+        if (gameState.getTurnNumber() != hashedTurn) {
+            hashedTurn = gameState.getTurnNumber();
+            ByteBuffer hash = ByteBuffer.allocate(12);
+            hash.putInt(hashedTurn);
+            hash.putLong(StateVector.hash(gameState));
+            appendToJournal(JournalRecord.CHECKSUM, -1, hash.array());
         }
-        
-        return null;
     }
     
     /**
-     * Ends the game
-     * @param winnerId Winner's ID
+     * Sets where a replay of this room writes its turn statistics
+     * @param statsWriter Writer, or null
      */
-    private void endGame(int winnerId) {
-        gameEnded = true;
-        gameState.setGameOver(true);
-        gameState.setTurnPhase(TurnPhase.GAME_OVER);
-        
-        Player winner = gameState.getPlayer(winnerId);
-        if (winner != null) {
-            gameState.setWinner(winner);
+    public void setStatsWriter(TurnStatsWriter statsWriter) {
+        this.statsWriter = statsWriter;
+    }
+    
+    /**
+     * Writes a statistics row when a turn has just ended: where the player
+     * ended up, their money, the rent they paid and the card they drew
+     */
+    private void recordTurnStats() {
+        TurnStatsWriter writer = statsWriter != null ? statsWriter : (replaying ? null : server.getStatsWriter());
+        if (writer == null || gameState == null) {
+            return;
         }
-        
-        ServerEvent endEvent = ServerEvent.createGameEnd(winnerId, 
-            winner != null ? winner.getName() : "Unknown");
-        broadcastToAll(endEvent);
-        
-        System.out.println("Game ended in room " + roomId + ". Winner: " + 
-                          (winner != null ? winner.getName() : "Unknown"));
+        int turn = gameState.getTurnNumber();
+        if (turn == statsTurn) {
+            return;
+        }
+        Player ended = gameState.getPlayer(statsPlayerId);
+        if (ended != null) {
+            try {
+                writer.append(roomId, statsTurn, statsPlayerId, ended.getPosition(), ended.getMoney(),
+                              ended.getTotalRentPaid() - statsRentBefore, statsCardType, statsCardId);
+            } catch (IOException e) {
+                LOG.error("Turn statistics of room {} failed: {}", roomId, e.getMessage());
+            }
+        }
+        trackTurnStats();
     }
     
     /**
-     * Broadcasts state update to all players
+     * Starts tracking the turn in progress for statistics
      */
-    private void broadcastStateUpdate() {
-        String stateJson = serializer.serializeGameState(gameState);
-        ServerEvent event = ServerEvent.createStateUpdate(stateJson);
-        broadcastToAll(event);
+    private void trackTurnStats() {
+        Player current = gameState.getCurrentPlayer();
+        statsTurn = gameState.getTurnNumber();
+        statsPlayerId = current != null ? current.getId() : -1;
+        statsRentBefore = current != null ? current.getTotalRentPaid() : 0;
+        statsCardType = -1;
+        statsCardId = -1;
     }
     
     /**
-     * Broadcasts an event log message
-     * @param description Event description
+     * Appends a record; a failing journal is dropped rather than stopping the game
      */
-    private void broadcastEventLog(String description) {
-        ServerEvent event = ServerEvent.createEventLog(description);
-        broadcastToAll(event);
+    private void appendToJournal(byte type, int playerId, byte[] body) {
+        if (journal == null || replaying) {
+            return;
+        }
+        try {
+            journal.append(type, playerId, body);
+        } catch (IOException | RuntimeException e) {
+            LOG.error("Journal of room {} failed, disabling it: {}", roomId, e.getMessage());
+            journal = null;
+        }
     }
     
     /**
-     * Broadcasts a message to all players in this room
-     * @param message Message to broadcast
+     * Rebuilds a room by replaying its journal from the last checkpoint.
+     * Every command's outcome is checked against the recorded one.
+     * @param server Server that will host the room
+     * @param records Journal records in order
+     * @return Rebuilt controller
+     * @throws IllegalStateException if the journal has no checkpoint or replay diverges
      */
-    public void broadcastToAll(Message message) {
-        for (int i = 0; i < playerOrder.size(); i++) {
-            int playerId = playerOrder.get(i);
-            ClientHandler handler = playerHandlers.get(playerId);
-            if (handler != null && handler.isConnected()) {
-                handler.sendMessage(message);
+    public static GameController replay(Server server, ArrayList<JournalRecord> records) {
+        int start = -1;
+        for (int i = records.size() - 1; i >= 0 && start < 0; i--) {
+            if (records.get(i).getType() == JournalRecord.GENESIS) {
+                start = i;
             }
         }
+        if (start < 0) {
+            throw new IllegalStateException("Journal has no checkpoint to replay from");
+        }
+        
+        ArrayList<JournalRecord> tail = new ArrayList<>();
+        for (int i = start + 1; i < records.size(); i++) {
+            tail.add(records.get(i));
+        }
+        return replay(server, records.get(start).getBody(), tail);
     }
     
     /**
-     * Sends an error to a specific player
-     * @param playerId Player ID
-     * @param errorMessage Error message
+     * Rebuilds a room from a checkpoint and the journal records after it
+     * @param server Server that will host the room
+     * @param checkpoint Bytes produced by checkpoint()
+     * @param tail Records journaled after the checkpoint, in order
+     * @return Rebuilt controller
+     * @throws IllegalStateException if replay diverges
      */
-    private void sendError(int playerId, String errorMessage) {
-        ClientHandler handler = playerHandlers.get(playerId);
-        if (handler != null) {
-            handler.sendError(errorMessage);
+    public static GameController replay(Server server, byte[] checkpoint, ArrayList<JournalRecord> tail) {
+        GameController controller = restore(server, checkpoint);
+        controller.setReplaying(true);
+        for (int i = 0; i < tail.size(); i++) {
+            controller.replayRecord(tail.get(i));
         }
+        controller.setReplaying(false);
+        return controller;
     }
     
     /**
-     * Adds a player to this room
-     * @param playerId Player ID
-     * @param handler Client handler
+     * Switches replay mode: no journaling and no broadcasts
+     * @param replaying true while re-running journaled records
      */
-    public void addPlayer(int playerId, ClientHandler handler) {
-        playerHandlers.put(playerId, handler);
-        playerOrder.add(playerId);
-        System.out.println("Player " + playerId + " added to room " + roomId);
+    synchronized void setReplaying(boolean replaying) {
+        this.replaying = replaying;
     }
     
     /**
-     * Removes a player from this room
-     * @param playerId Player ID
+     * Re-applies one journal record
+     * @param record Journal record
+     * @throws IllegalStateException if the outcome or state hash differs from the recorded one
      */
-    public void removePlayer(int playerId) {
-        playerHandlers.put(playerId, null);
+    synchronized void replayRecord(JournalRecord record) {
+        if (record.getType() == JournalRecord.DISCONNECT) {
+            onPlayerDisconnect(record.getPlayerId());
+            return;
+        }
+        if (record.getType() == JournalRecord.CHECKSUM) {
+            ByteBuffer recorded = ByteBuffer.wrap(record.getBody());
+            int turn = recorded.getInt();
+            long expected = recorded.getLong();
+            long actual = StateVector.hash(gameState);
+            if (turn != gameState.getTurnNumber() || expected != actual) {
+                throw new IllegalStateException("State hash mismatch at journal seq " + record.getSequence() +
+                                                " (turn " + turn + ")");
+            }
+            return;
+        }
+        if (record.getType() != JournalRecord.COMMAND) {
+            return;
+        }
         
-        // Remove from order list
-        for (int i = 0; i < playerOrder.size(); i++) {
-            if (playerOrder.get(i) == playerId) {
-                playerOrder.remove(i);
-                break;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record.getBody()))) {
+            Message message = protocolHandler.parseMessage(in.readUTF());
+            CommandOutcome expected = CommandOutcome.read(in);
+            if (!(message instanceof ClientCommand)) {
+                throw new IllegalStateException("Unreadable command at journal seq " + record.getSequence());
             }
+            
+            processCommand(record.getPlayerId(), (ClientCommand) message);
+            CommandOutcome actual = CommandOutcome.capture(gameState, cardsDrawn);
+            if (!expected.equals(actual)) {
+                throw new IllegalStateException("Replay diverged at journal seq " + record.getSequence() +
+                                                ": expected " + expected + ", got " + actual);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupt command at journal seq " + record.getSequence(), e);
         }
     }
     
+    // ==================== Checkpoint ====================
+    
     /**
-     * Called when a player joins with a name
-     * @param playerId Player ID
-     * @param playerName Player name
+     * Captures the room between commands: seats, names and the full game
+     * state. Connections and spectators are not part of the checkpoint.
+     * @return Checkpoint bytes
      */
-    public void onPlayerJoined(int playerId, String playerName) {
-        playerNames.put(playerId, playerName);
-        
-        ClientHandler handler = playerHandlers.get(playerId);
-        if (handler != null) {
-            handler.setPlayerName(playerName);
+    public synchronized byte[] checkpoint() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(roomId);
+            out.writeBoolean(gameStarted);
+            out.writeBoolean(gameEnded);
+            out.writeByte(playerOrder.size());
+            for (int i = 0; i < playerOrder.size(); i++) {
+                int playerId = playerOrder.get(i);
+                out.writeInt(playerId);
+                out.writeUTF(getPlayerName(playerId));
+            }
+            byte[] state = gameState != null ? gameState.checkpoint() : new byte[0];
+            out.writeInt(state.length);
+            out.write(state);
+        } catch (IOException e) {
+            throw new IllegalStateException("Room checkpoint failed", e);
         }
+        return bytes.toByteArray();
     }
     
     /**
-     * Called when a player disconnects
-     * @param playerId Player ID
+     * Rebuilds a room from a checkpoint. Every seat starts detached and is
+     * bound again when its player resumes.
+     * @param server Server that will host the room
+     * @param checkpoint Bytes produced by checkpoint()
+     * @return Restored controller
+     * @throws IllegalArgumentException if the bytes are not a valid checkpoint
      */
-    public void onPlayerDisconnect(int playerId) {
-        removePlayer(playerId);
-        
-        if (gameStarted && !gameEnded) {
-            // Mark player as bankrupt
-            Player player = gameState.getPlayer(playerId);
-            if (player != null) {
-                bankruptcyManager.declareBankruptcy(playerId, -1);
-                broadcastEventLog(player.getName() + " has disconnected and is eliminated");
-                
-                // If it was their turn, advance
-                if (gameState.getCurrentPlayerId() == playerId) {
-                    advanceToNextPlayer();
-                }
-                
-                checkGameEnd();
+    public static GameController restore(Server server, byte[] checkpoint) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(checkpoint))) {
+            GameController controller = new GameController(in.readUTF(), server);
+            controller.gameStarted = in.readBoolean();
+            controller.gameEnded = in.readBoolean();
+            int players = in.readUnsignedByte();
+            for (int i = 0; i < players; i++) {
+                int playerId = in.readInt();
+                controller.playerOrder.add(playerId);
+                controller.playerNames.put(playerId, in.readUTF());
+                controller.playerHandlers.put(playerId, null);
+            }
+            byte[] state = new byte[in.readInt()];
+            in.readFully(state);
+            if (state.length > 0) {
+                controller.gameState = GameState.restore(state);
+                controller.createManagers();
             }
+            return controller;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Corrupt room checkpoint", e);
+        }
+    }
+    
+    /**
+     * Gets the seated player IDs in join order
+     * @return Player IDs
+     */
+    public ArrayList<Integer> getPlayerIds() {
+        ArrayList<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < playerOrder.size(); i++) {
+            ids.add(playerOrder.get(i));
         }
+        return ids;
     }
     
     /**
@@ -948,6 +1112,14 @@ public class GameController {
         return roomId;
     }
     
+    /**
+     * Gets the spectator hub
+     * @return Spectator hub
+     */
+    public SpectatorHub getSpectatorHub() {
+        return spectatorHub;
+    }
+    
     /**
      * Gets the game state
      * @return Game state
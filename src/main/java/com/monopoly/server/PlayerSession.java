@@ -0,0 +1,256 @@
+package com.monopoly.server;
+
+import com.monopoly.datastructures.ArrayList;
+
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Resumable session of one player.
+ * Every outbound line is stamped with a per-player sequence number and kept
+ * in a bounded ring, so a client that reconnects with its resume token and
+ * last seen sequence can be sent only the lines it missed. The ring is
+ * bounded both by entry count and by total characters; a client that has
+ * fallen behind the oldest retained line gets a fresh snapshot instead.
+ */
+public class PlayerSession {
+
+    /** Maximum lines kept for replay */
+    public static final int HISTORY_CAPACITY = 128;
+
+    /** Maximum characters kept for replay */
+    public static final int HISTORY_MAX_CHARS = 512 * 1024;
+
+    // Player this session belongs to
+    private final int playerId;
+
+    // Secret presented by the client on RESUME
+    private final String resumeToken;
+
+    // Stamped lines indexed by sequence % HISTORY_CAPACITY
+    private final String[] history;
+
+    // Sequence assigned to the next line (starts at 1)
+    private long nextSequence;
+
+    // Oldest sequence still in the ring
+    private long oldestSequence;
+
+    // Characters currently held in the ring
+    private int historyChars;
+
+    // Live connection, or null while detached
+    private ClientHandler handler;
+
+    // When the connection dropped (-1 while attached)
+    private long detachedAt;
+
+    // Pending grace-period expiry
+    private ScheduledFuture<?> expiry;
+
+    /**
+     * Creates a session attached to a connection
+     * @param playerId Player ID
+     * @param resumeToken Resume token
+     * @param handler Current connection
+     */
+    public PlayerSession(int playerId, String resumeToken, ClientHandler handler) {
+        this.playerId = playerId;
+        this.resumeToken = resumeToken;
+        this.history = new String[HISTORY_CAPACITY];
+        this.nextSequence = 1;
+        this.oldestSequence = 1;
+        this.historyChars = 0;
+        this.handler = handler;
+        this.detachedAt = -1;
+    }
+
+    /**
+     * Creates a detached session carried over from another node. Numbering
+     * continues after the last line sent there; that history itself is not
+     * carried over, so a client that missed anything gets a snapshot.
+     * @param playerId Player ID
+     * @param resumeToken Resume token issued by the previous node
+     * @param lastSequence Last sequence sent by the previous node
+     */
+    public PlayerSession(int playerId, String resumeToken, long lastSequence) {
+        this(playerId, resumeToken, null);
+        this.nextSequence = lastSequence + 1;
+        this.oldestSequence = nextSequence;
+        this.detachedAt = System.currentTimeMillis();
+    }
+
+    // ==================== Delivery ====================
+
+    /**
+     * Stamps, records and (if attached) writes an outbound line
+     * @param json Serialized message
+     */
+    public synchronized void deliver(String json) {
+        String line = stamp(nextSequence, json);
+        record(line);
+        if (handler != null) {
+            handler.writeLine(line);
+        }
+    }
+
+    /**
+     * Inserts the sequence number as the first field of the JSON object
+     */
+    private static String stamp(long sequence, String json) {
+        if (json == null || !json.startsWith("{")) {
+            return json;
+        }
+        return "{\"seq\":" + sequence + "," + json.substring(1);
+    }
+
+    /**
+     * Appends a stamped line, evicting the oldest entries past the bounds
+     */
+    private void record(String line) {
+        int length = line != null ? line.length() : 0;
+        while (oldestSequence < nextSequence
+                && (nextSequence - oldestSequence >= HISTORY_CAPACITY
+                    || historyChars + length > HISTORY_MAX_CHARS)) {
+            evictOldest();
+        }
+        history[slot(nextSequence)] = line;
+        historyChars += length;
+        nextSequence++;
+    }
+
+    /**
+     * Drops the oldest retained line
+     */
+    private void evictOldest() {
+        int slot = slot(oldestSequence);
+        String line = history[slot];
+        if (line != null) {
+            historyChars -= line.length();
+        }
+        history[slot] = null;
+        oldestSequence++;
+    }
+
+    /**
+     * Maps a sequence number to a ring slot
+     */
+    private static int slot(long sequence) {
+        return (int) (sequence % HISTORY_CAPACITY);
+    }
+
+    // ==================== Resumption ====================
+
+    /**
+     * Gets the lines after a sequence number
+     * @param lastSequence Last sequence the client processed
+     * @return Missed lines in order, or null if some were already evicted
+     */
+    public synchronized ArrayList<String> replaySince(long lastSequence) {
+        ArrayList<String> missed = new ArrayList<>();
+        long from = Math.max(lastSequence + 1, 1);
+        if (from < oldestSequence) {
+            return null;
+        }
+        for (long seq = from; seq < nextSequence; seq++) {
+            missed.add(history[slot(seq)]);
+        }
+        return missed;
+    }
+
+    /**
+     * Attaches a new connection and writes the missed lines to it.
+     * Runs under the session lock so no live line can overtake the replay.
+     * @param newHandler Reconnected client
+     * @param lastSequence Last sequence the client processed
+     * @return true if the replay was complete, false if a snapshot is needed
+     */
+    public synchronized boolean resume(ClientHandler newHandler, long lastSequence) {
+        if (lastSequence >= nextSequence) {
+            // The client saw lines this copy of the session never had (it
+            // was restored from an older snapshot): number on after them
+            // and let the client take a fresh snapshot
+            while (oldestSequence < nextSequence) {
+                evictOldest();
+            }
+            nextSequence = lastSequence + 1;
+            oldestSequence = nextSequence;
+            attach(newHandler);
+            return false;
+        }
+        ArrayList<String> missed = replaySince(lastSequence);
+        if (missed != null) {
+            for (int i = 0; i < missed.size(); i++) {
+                newHandler.writeLine(missed.get(i));
+            }
+        }
+        attach(newHandler);
+        return missed != null;
+    }
+
+    /**
+     * Binds the session to a live connection
+     * @param newHandler Client handler
+     */
+    public synchronized void attach(ClientHandler newHandler) {
+        this.handler = newHandler;
+        this.detachedAt = -1;
+        if (expiry != null) {
+            expiry.cancel(false);
+            expiry = null;
+        }
+    }
+
+    /**
+     * Unbinds the session after the connection dropped
+     */
+    public synchronized void detach() {
+        this.handler = null;
+        this.detachedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Sets the pending expiry task
+     * @param expiry Scheduled expiry
+     */
+    synchronized void setExpiry(ScheduledFuture<?> expiry) {
+        if (this.expiry != null) {
+            this.expiry.cancel(false);
+        }
+        this.expiry = expiry;
+    }
+
+    // ==================== Getters ====================
+
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    public String getResumeToken() {
+        return resumeToken;
+    }
+
+    public synchronized boolean isDetached() {
+        return handler == null;
+    }
+
+    public synchronized long getDetachedAt() {
+        return detachedAt;
+    }
+
+    public synchronized long getLastSequence() {
+        return nextSequence - 1;
+    }
+
+    public synchronized long getOldestSequence() {
+        return oldestSequence;
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerSession{" +
+                "playerId=" + playerId +
+                ", lastSeq=" + getLastSequence() +
+                ", detached=" + isDetached() +
+                '}';
+    }
+}
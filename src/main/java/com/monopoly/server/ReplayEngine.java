@@ -0,0 +1,399 @@
+package com.monopoly.server;
+
+import com.monopoly.analytics.TurnStatsWriter;
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.history.GameJournal;
+import com.monopoly.history.JournalRecord;
+import com.monopoly.model.game.GameState;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Re-runs recorded games headlessly. A recording is a room journal: a
+ * checkpoint (which carries the dice generator's state) followed by the
+ * accepted commands with their recorded outcomes and a state hash at every
+ * turn boundary. Replay feeds the commands through the game logic with all
+ * broadcasting switched off and stops at the first outcome or hash that
+ * differs, so a rule change can be regression-tested against a pile of
+ * archived games. A Stepper replays one record at a time for playback.
+ */
+public class ReplayEngine {
+
+    /**
+     * A recorded game loaded from a journal directory
+     */
+    public static class Recording {
+
+        // Journal directory name (the room ID)
+        private final String name;
+
+        // Room checkpoint replay starts from
+        private final byte[] checkpoint;
+
+        // Player sessions stored with a snapshot (empty when starting from a GENESIS)
+        private final ArrayList<PlayerSession> sessions;
+
+        // Records after the checkpoint, in order
+        private final ArrayList<JournalRecord> records;
+
+        Recording(String name, byte[] checkpoint, ArrayList<PlayerSession> sessions,
+                  ArrayList<JournalRecord> records) {
+            this.name = name;
+            this.checkpoint = checkpoint;
+            this.sessions = sessions;
+            this.records = records;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public byte[] getCheckpoint() {
+            return checkpoint;
+        }
+
+        public ArrayList<PlayerSession> getSessions() {
+            return sessions;
+        }
+
+        public ArrayList<JournalRecord> getRecords() {
+            return records;
+        }
+    }
+
+    /**
+     * Outcome of verifying one recording
+     */
+    public static class Result {
+
+        // Recording name
+        private final String name;
+
+        // Records applied before the end or the divergence
+        private final int recordsReplayed;
+
+        // Turn number reached
+        private final int turnNumber;
+
+        // Why replay diverged, or null if it matched throughout
+        private final String divergence;
+
+        // Wall time spent replaying
+        private final long elapsedNanos;
+
+        Result(String name, int recordsReplayed, int turnNumber, String divergence, long elapsedNanos) {
+            this.name = name;
+            this.recordsReplayed = recordsReplayed;
+            this.turnNumber = turnNumber;
+            this.divergence = divergence;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getRecordsReplayed() {
+            return recordsReplayed;
+        }
+
+        public int getTurnNumber() {
+            return turnNumber;
+        }
+
+        public String getDivergence() {
+            return divergence;
+        }
+
+        public boolean isMatch() {
+            return divergence == null;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return name + ": " + (isMatch() ? "ok" : "DIVERGED (" + divergence + ")") +
+                   ", " + recordsReplayed + " records, turn " + turnNumber +
+                   ", " + (elapsedNanos / 1_000_000) + " ms";
+        }
+    }
+
+    /**
+     * Replays a recording one record at a time
+     */
+    public static class Stepper {
+
+        // Room being replayed
+        private final GameController room;
+
+        // Records to apply
+        private final ArrayList<JournalRecord> records;
+
+        // Index of the next record
+        private int position;
+
+        Stepper(GameController room, ArrayList<JournalRecord> records) {
+            this.room = room;
+            this.records = records;
+            this.position = 0;
+        }
+
+        /**
+         * Applies the next record
+         * @return false if the recording is exhausted
+         * @throws IllegalStateException if the replay diverges
+         */
+        public boolean step() {
+            if (position >= records.size()) {
+                return false;
+            }
+            room.replayRecord(records.get(position++));
+            return true;
+        }
+
+        /**
+         * Applies records until the turn number changes or the recording ends
+         * @return false if the recording is exhausted
+         */
+        public boolean stepTurn() {
+            int turn = getGameState().getTurnNumber();
+            boolean more = step();
+            while (more && getGameState().getTurnNumber() == turn) {
+                more = step();
+            }
+            return more;
+        }
+
+        public boolean hasNext() {
+            return position < records.size();
+        }
+
+        public int getPosition() {
+            return position;
+        }
+
+        public int getRecordCount() {
+            return records.size();
+        }
+
+        public GameController getRoom() {
+            return room;
+        }
+
+        public GameState getGameState() {
+            return room.getGameState();
+        }
+    }
+
+    // Server hosting the replayed rooms (never started)
+    private final Server host;
+
+    /**
+     * Creates an engine
+     * @param host Server the replayed rooms are attached to; it need not be started
+     */
+    public ReplayEngine(Server host) {
+        this.host = host;
+    }
+
+    // ==================== Loading ====================
+
+    /**
+     * Loads a room journal. Replay starts from the newest snapshot, or from
+     * a GENESIS checkpoint journaled after it.
+     * @param directory Room journal directory
+     * @return Recording, or null if the journal has nothing to start from
+     * @throws IOException if the journal cannot be read
+     */
+    public static Recording load(Path directory) throws IOException {
+        JournalRecord snapshot = GameJournal.readSnapshot(directory);
+        ArrayList<JournalRecord> tail = GameJournal.readAfter(directory, snapshot != null ? snapshot.getSequence() : 0);
+        String name = directory.getFileName().toString();
+
+        int genesis = -1;
+        for (int i = 0; i < tail.size(); i++) {
+            if (tail.get(i).getType() == JournalRecord.GENESIS) {
+                genesis = i;
+            }
+        }
+        if (genesis >= 0) {
+            ArrayList<JournalRecord> records = new ArrayList<>();
+            for (int i = genesis + 1; i < tail.size(); i++) {
+                records.add(tail.get(i));
+            }
+            return new Recording(name, tail.get(genesis).getBody(), new ArrayList<>(), records);
+        }
+        if (snapshot == null) {
+            return null;
+        }
+        ArrayList<PlayerSession> sessions = new ArrayList<>();
+        byte[] checkpoint = Server.decodeExport(snapshot.getBody(), sessions);
+        return new Recording(name, checkpoint, sessions, tail);
+    }
+
+    // ==================== Replay ====================
+
+    /**
+     * Starts a step-by-step replay
+     * @param recording Recording
+     * @return Stepper positioned before the first record
+     */
+    public Stepper open(Recording recording) {
+        GameController room = GameController.restore(host, recording.getCheckpoint());
+        room.setReplaying(true);
+        return new Stepper(room, recording.getRecords());
+    }
+
+    /**
+     * Replays a whole recording at full speed and checks every outcome and
+     * state hash on the way
+     * @param recording Recording
+     * @return Result
+     */
+    public Result verify(Recording recording) {
+        return export(recording, null);
+    }
+
+    /**
+     * Verifies a recording like verify() and writes a statistics row for
+     * every turn it replays
+     * @param recording Recording
+     * @param writer Stats writer (may be shared between threads), or null
+     * @return Result
+     */
+    public Result export(Recording recording, TurnStatsWriter writer) {
+        long started = System.nanoTime();
+        Stepper stepper;
+        try {
+            stepper = open(recording);
+        } catch (IllegalArgumentException e) {
+            return new Result(recording.getName(), 0, 0, e.getMessage(), System.nanoTime() - started);
+        }
+        stepper.getRoom().setStatsWriter(writer);
+        String divergence = null;
+        try {
+            while (stepper.step()) {
+                // Each step verifies itself and writes its turn's row
+            }
+        } catch (IllegalStateException e) {
+            divergence = e.getMessage();
+        }
+        GameState state = stepper.getGameState();
+        return new Result(recording.getName(), stepper.getPosition(), state != null ? state.getTurnNumber() : 0,
+                          divergence, System.nanoTime() - started);
+    }
+    
+    /**
+     * Verifies many recorded games in parallel
+     * @param directories Room journal directories
+     * @param threads Worker threads
+     * @return One result per directory, in order
+     */
+    public ArrayList<Result> verifyAll(ArrayList<Path> directories, int threads) {
+        return exportAll(directories, threads, null);
+    }
+
+    /**
+     * Verifies many recorded games in parallel and exports their turn
+     * statistics into one writer
+     * @param directories Room journal directories
+     * @param threads Worker threads
+     * @param writer Stats writer, or null
+     * @return One result per directory, in order
+     */
+    public ArrayList<Result> exportAll(ArrayList<Path> directories, int threads, TurnStatsWriter writer) {
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, threads));
+        ArrayList<Future<Result>> pending = new ArrayList<>();
+        for (int i = 0; i < directories.size(); i++) {
+            Path directory = directories.get(i);
+            pending.add(workers.submit(() -> {
+                Recording recording = load(directory);
+                if (recording == null) {
+                    return new Result(directory.getFileName().toString(), 0, 0, "no checkpoint", 0);
+                }
+                return export(recording, writer);
+            }));
+        }
+
+        ArrayList<Result> results = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            String name = directories.get(i).getFileName().toString();
+            try {
+                results.add(pending.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(new Result(name, 0, 0, "interrupted", 0));
+            } catch (ExecutionException e) {
+                results.add(new Result(name, 0, 0, String.valueOf(e.getCause().getMessage()), 0));
+            }
+        }
+        workers.shutdown();
+        return results;
+    }
+
+    /**
+     * Verifies every recorded game under a journal root and prints a summary
+     * @param args Journal root directory, optional thread count, optional
+     *             --stats file to export per-turn statistics
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayEngine <journal-dir> [threads] [--stats file]");
+            System.exit(2);
+        }
+        Path root = Paths.get(args[0]);
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path statsFile = null;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("--stats") && i + 1 < args.length) {
+                statsFile = Paths.get(args[++i]);
+            } else {
+                threads = Integer.parseInt(args[i]);
+            }
+        }
+
+        ArrayList<Path> directories = new ArrayList<>();
+        File[] entries = root.toFile().listFiles(File::isDirectory);
+        if (entries != null) {
+            for (File entry : entries) {
+                directories.add(entry.toPath());
+            }
+        }
+
+        Server host = new Server(0);
+        long started = System.currentTimeMillis();
+        ArrayList<Result> results;
+        if (statsFile == null) {
+            results = new ReplayEngine(host).verifyAll(directories, threads);
+        } else {
+            try (TurnStatsWriter writer = new TurnStatsWriter(statsFile)) {
+                results = new ReplayEngine(host).exportAll(directories, threads, writer);
+                System.out.println("Exported " + writer.getRowCount() + " turn(s) to " + statsFile);
+            } catch (IOException e) {
+                System.err.println("Stats export failed: " + e.getMessage());
+                System.exit(1);
+                return;
+            }
+        }
+        int diverged = 0;
+        for (int i = 0; i < results.size(); i++) {
+            if (!results.get(i).isMatch()) {
+                diverged++;
+                System.out.println(results.get(i));
+            }
+        }
+        System.out.println("Replayed " + results.size() + " game(s) in " +
+                          (System.currentTimeMillis() - started) + " ms, " + diverged + " diverged");
+        System.exit(diverged == 0 ? 0 : 1);
+    }
+}
@@ -2,15 +2,37 @@ package com.monopoly.server;
 
 import com.monopoly.datastructures.ArrayList;
 import com.monopoly.datastructures.HashTable;
+import com.monopoly.analytics.LandingModel;
+import com.monopoly.ai.MctsStrategy;
+import com.monopoly.bot.BotStrategy;
+import com.monopoly.bot.ExpectedValueStrategy;
+import com.monopoly.analytics.TurnStatsWriter;
+import com.monopoly.history.GameArchive;
+import com.monopoly.history.JournalStore;
 import com.monopoly.network.protocol.Message;
 import com.monopoly.network.protocol.ServerEvent;
 import com.monopoly.network.protocol.ProtocolHandler;
+import com.monopoly.server.cluster.ClusterNode;
+import com.monopoly.server.cluster.RoomDirectory;
+import com.monopoly.server.metrics.ServerMetrics;
+import com.monopoly.util.Logger;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -20,6 +42,9 @@ import java.util.concurrent.TimeUnit;
  */
 public class Server {
 
+    // Shared logger
+    private static final Logger LOG = Logger.getInstance();
+
     /** Default server port */
     public static final int DEFAULT_PORT = 12345;
     
@@ -32,6 +57,12 @@ public class Server {
     /** Maximum concurrent rooms */
     public static final int MAX_ROOMS = 10;
     
+    /** Threads shared by all rooms for spectator writes */
+    public static final int SPECTATOR_IO_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    
+    /** Threads shared by all rooms for bot decisions */
+    public static final int BOT_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+    
     // Server socket
     private ServerSocket serverSocket;
     
@@ -53,6 +84,27 @@ public class Server {
     // Thread pool for client handlers
     private final ExecutorService executorService;
     
+    // Thread pool for spectator fan-out
+    private final ExecutorService spectatorExecutor;
+    
+    // Thread pool for bot seats
+    private final ExecutorService botExecutor;
+    
+    // Fork-join pool for the rollouts of hard bots
+    private final ForkJoinPool searchPool;
+    
+    // Single scheduler for timers (reaper ticks, session expiry)
+    private final ScheduledExecutorService housekeeping;
+    
+    // Resumable player sessions
+    private final SessionManager sessionManager;
+    
+    // Idle and half-open connection detection
+    private final ConnectionReaper connectionReaper;
+    
+    // Latency histograms, traffic counters and gauges
+    private final ServerMetrics metrics;
+    
     // Server state
     private volatile boolean isRunning;
     
@@ -65,6 +117,19 @@ public class Server {
     // Lobby room (waiting for game start)
     private GameController lobbyRoom;
     
+    // Room journals (null when journaling is off)
+    private volatile JournalStore journalStore;
+    
+    // Finished-game archive (null when archiving is off)
+    private volatile GameArchive gameArchive;
+    
+    // Per-turn statistics export (null when off)
+    private volatile TurnStatsWriter statsWriter;
+    
+    // Cluster membership (null when running standalone)
+    private volatile ClusterNode clusterNode;
+    private volatile RoomDirectory roomDirectory;
+    
     /**
      * Creates a new server with default port
      */
@@ -83,6 +148,39 @@ public class Server {
         this.playerRooms = new HashTable<>();
         this.protocolHandler = new ProtocolHandler();
         this.executorService = Executors.newCachedThreadPool();
+        this.spectatorExecutor = Executors.newFixedThreadPool(SPECTATOR_IO_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "spectator-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.botExecutor = Executors.newFixedThreadPool(BOT_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "bot-seat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.searchPool = new ForkJoinPool(BOT_THREADS, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("bot-search-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+        this.housekeeping = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "server-housekeeping");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sessionManager = new SessionManager(housekeeping);
+        this.connectionReaper = new ConnectionReaper(housekeeping, protocolHandler);
+        this.metrics = new ServerMetrics();
+        metrics.registerGauge("rooms", gameRooms::size);
+        metrics.registerGauge("connections", clientHandlers::size);
+        metrics.registerGauge("spectator_io_queue",
+                              () -> ((ThreadPoolExecutor) spectatorExecutor).getQueue().size());
+        metrics.registerGauge("reaper_reaped", connectionReaper::getReapedCount);
+        metrics.registerGauge("reaper_pings", connectionReaper::getPingsSent);
+        metrics.registerGauge("reaper_scans", connectionReaper::getScanCount);
+        metrics.registerGauge("reaper_entries_scanned", connectionReaper::getEntriesScanned);
+        metrics.registerGauge("reaper_scan_cpu_ns", connectionReaper::getScanCpuNanos);
         this.isRunning = false;
         this.nextPlayerId = 1;
         this.roomCounter = 1;
@@ -105,6 +203,9 @@ public class Server {
      * @return Room ID
      */
     private synchronized String getNextRoomId() {
+        if (clusterNode != null) {
+            return "room_" + clusterNode.getNodeId() + "_" + (roomCounter++);
+        }
         return "room_" + (roomCounter++);
     }
     
@@ -121,19 +222,26 @@ public class Server {
      */
     public void start() {
         if (isRunning) {
-            System.out.println("Server is already running");
+            LOG.warn("Server is already running");
             return;
         }
         
+        // Precompute landing odds before bots and clients query them
+        long modelStart = System.nanoTime();
+        LandingModel model = LandingModel.standard();
+        LOG.info("Landing model ready in {} ms ({} iterations)",
+                 (System.nanoTime() - modelStart) / 1_000_000, model.getIterations());
+        
         try {
             serverSocket = new ServerSocket(port);
             isRunning = true;
-            System.out.println("Monopoly Server started on port " + port);
-            System.out.println("Waiting for connections...");
+            connectionReaper.start();
+            LOG.info("Monopoly Server started on port {}", port);
+            LOG.info("Waiting for connections...");
             
             acceptConnections();
         } catch (IOException e) {
-            System.err.println("Failed to start server: " + e.getMessage());
+            LOG.error("Failed to start server: {}", e.getMessage());
         }
     }
     
@@ -147,7 +255,7 @@ public class Server {
                 handleNewConnection(clientSocket);
             } catch (IOException e) {
                 if (isRunning) {
-                    System.err.println("Error accepting connection: " + e.getMessage());
+                    LOG.error("Error accepting connection: {}", e.getMessage());
                 }
             }
         }
@@ -159,9 +267,16 @@ public class Server {
      */
     private void handleNewConnection(Socket socket) {
         int playerId = getNextPlayerId();
-        System.out.println("New connection from " + socket.getInetAddress() + 
-                          " assigned ID: " + playerId);
-        
+        LOG.info("New connection from {} assigned ID: {}", socket.getInetAddress(), playerId);
+
+        // A command answers with several small events; without this, Nagle
+        // holds each one back until the client's delayed ACK (~40 ms)
+        try {
+            socket.setTcpNoDelay(true);
+        } catch (IOException e) {
+            LOG.warn("Could not disable Nagle for player {}: {}", playerId, e.getMessage());
+        }
+
         // Create client handler
         ClientHandler handler = new ClientHandler(socket, playerId, this);
         clientHandlers.put(playerId, handler);
@@ -172,6 +287,7 @@ public class Server {
         
         // Start handler thread
         executorService.submit(handler);
+        connectionReaper.register(handler);
     }
     
     /**
@@ -193,9 +309,9 @@ public class Server {
     public void broadcastToAll(Message message) {
         ArrayList<Integer> playerIds = new ArrayList<>();
         // Get all player IDs
-        for (int i = 1; i < nextPlayerId; i++) {
-            if (clientHandlers.get(i) != null) {
-                playerIds.add(i);
+        for (HashTable.Entry<Integer, ClientHandler> entry : clientHandlers) {
+            if (entry.getValue() != null) {
+                playerIds.add(entry.getKey());
             }
         }
         
@@ -216,12 +332,57 @@ public class Server {
         }
     }
     
+    /**
+     * Handles a dropped or closed connection.
+     * Players in a running game keep their seat for a grace period so they
+     * can resume; everyone else is removed immediately.
+     * @param handler Client handler that closed
+     */
+    public void onClientDisconnect(ClientHandler handler) {
+        int playerId = handler.getPlayerId();
+        if (clientHandlers.get(playerId) != handler) {
+            // Superseded by a resumed connection
+            return;
+        }
+        
+        if (!handler.isLeaving() && holdForResume(playerId)) {
+            return;
+        }
+        
+        onClientDisconnect(playerId);
+    }
+    
+    /**
+     * Keeps a dropped player's seat while their session can still be resumed
+     * @param playerId Player ID
+     * @return true if the seat is being held
+     */
+    private boolean holdForResume(int playerId) {
+        PlayerSession session = sessionManager.getSession(playerId);
+        String roomId = playerRooms.get(playerId);
+        GameController room = roomId != null ? gameRooms.get(roomId) : null;
+        
+        if (session == null || room == null || !room.isActivePlayer(playerId)) {
+            return false;
+        }
+        
+        LOG.info("Player {} dropped, holding seat for resume", playerId);
+        clientHandlers.put(playerId, null);
+        room.detachPlayer(playerId);
+        sessionManager.hold(session, () -> onClientDisconnect(playerId));
+        
+        ServerEvent event = ServerEvent.createPlayerLeft(playerId, "Connection lost, waiting to reconnect");
+        broadcastToRoom(roomId, event);
+        return true;
+    }
+    
     /**
      * Handles client disconnection
      * @param playerId Player ID
      */
     public void onClientDisconnect(int playerId) {
-        System.out.println("Player " + playerId + " disconnected");
+        LOG.info("Player {} disconnected", playerId);
+        sessionManager.close(playerId);
         
         // Remove from handler map
         ClientHandler handler = clientHandlers.get(playerId);
@@ -233,6 +394,11 @@ public class Server {
         String roomId = playerRooms.get(playerId);
         if (roomId != null) {
             GameController room = gameRooms.get(roomId);
+            if (room != null && room.removeSpectator(playerId)) {
+                // Spectators leave silently
+                playerRooms.put(playerId, null);
+                return;
+            }
             if (room != null) {
                 room.onPlayerDisconnect(playerId);
             }
@@ -273,6 +439,7 @@ public class Server {
         
         // Add to new room
         newRoom.addPlayer(playerId, handler);
+        newRoom.onPlayerJoined(playerId, handler.getPlayerName());
         playerRooms.put(playerId, newRoomId);
     }
     
@@ -282,8 +449,29 @@ public class Server {
      * @return New room ID
      */
     public String createRoom(int playerId) {
-        String roomId = getNextRoomId();
-        GameController room = createNewRoom(roomId);
+        return createRoom(playerId, null);
+    }
+    
+    /**
+     * Creates a new game room with a given ID (chosen by the cluster router)
+     * and moves the player to it
+     * @param playerId Creator's player ID
+     * @param requestedRoomId Room ID, or null to generate one
+     * @return New room ID, or null if the room cannot be created here
+     */
+    public String createRoom(int playerId, String requestedRoomId) {
+        String roomId = requestedRoomId != null ? requestedRoomId : getNextRoomId();
+        synchronized (gameRooms) {
+            if (gameRooms.get(roomId) != null) {
+                return null;
+            }
+            createNewRoom(roomId);
+        }
+        
+        RoomDirectory directory = roomDirectory;
+        if (directory != null) {
+            directory.assignRoom(roomId, clusterNode.getNodeId());
+        }
         movePlayerToRoom(playerId, roomId);
         return roomId;
     }
@@ -309,6 +497,628 @@ public class Server {
         }
         
         movePlayerToRoom(playerId, roomId);
+        sendRoster(clientHandlers.get(playerId), room);
+        return true;
+    }
+    
+    /**
+     * Sends a connection one PLAYER_JOINED per seat already in a room, so
+     * its event log can name players who joined before it. The lines are
+     * unsequenced: they are resent on every join or resume, never replayed.
+     * @param handler Connection to inform
+     * @param room Room whose seats to list
+     */
+    private void sendRoster(ClientHandler handler, GameController room) {
+        if (handler == null) {
+            return;
+        }
+        ArrayList<Integer> ids = room.getPlayerIds();
+        for (int i = 0; i < ids.size(); i++) {
+            int id = ids.get(i);
+            if (id != handler.getPlayerId()) {
+                ServerEvent joined = ServerEvent.createPlayerJoined(id, room.getPlayerName(id));
+                handler.writeLine(protocolHandler.serializeMessage(joined));
+            }
+        }
+    }
+    
+    /**
+     * Seats a bot in a room that has not started
+     * @param roomId Room ID
+     * @return Bot's player ID, or -1 if the room cannot take a bot
+     */
+    public int addBot(String roomId) {
+        return addBot(roomId, null);
+    }
+    
+    /**
+     * Seats a bot of a given strength in a room that has not started
+     * @param roomId Room ID
+     * @param difficulty "hard" for a search bot, anything else for the expected-value bot
+     * @return Bot's player ID, or -1 if the room cannot take a bot
+     */
+    public int addBot(String roomId, String difficulty) {
+        GameController room = gameRooms.get(roomId);
+        if (room == null || room.isGameStarted() || room.getPlayerCount() >= MAX_PLAYERS) {
+            return -1;
+        }
+        
+        int playerId = getNextPlayerId();
+        String name = "Bot " + playerId;
+        BotStrategy strategy = "hard".equalsIgnoreCase(difficulty)
+            ? new MctsStrategy(searchPool)
+            : new ExpectedValueStrategy();
+        if (!room.addBot(playerId, name, strategy)) {
+            return -1;
+        }
+        broadcastToRoom(roomId, ServerEvent.createPlayerJoined(playerId, name));
+        return playerId;
+    }
+    
+    // ==================== Journal ====================
+    
+    /**
+     * Journals every game started on this server under a directory
+     * @param directory Journal root (one subdirectory per room)
+     */
+    public void enableJournal(Path directory) {
+        this.journalStore = new JournalStore(directory);
+        LOG.info("Journaling rooms to {}", directory);
+    }
+    
+    /**
+     * Gets the journal store
+     * @return Store, or null when journaling is off
+     */
+    public JournalStore getJournalStore() {
+        return journalStore;
+    }
+    
+    /**
+     * Archives every game that finishes on this server under a directory
+     * @param directory Archive directory
+     */
+    public void enableArchive(Path directory) {
+        try {
+            this.gameArchive = new GameArchive(directory);
+            LOG.info("Archiving finished games to {} ({} archived)", directory, gameArchive.getGameCount());
+        } catch (IOException e) {
+            LOG.error("Could not open game archive {}: {}", directory, e.getMessage());
+        }
+    }
+    
+    /**
+     * Gets the finished-game archive
+     * @return Archive, or null when archiving is off
+     */
+    public GameArchive getGameArchive() {
+        return gameArchive;
+    }
+    
+    /**
+     * Exports per-turn statistics of every game on this server to a file
+     * @param file Columnar stats file (replaced)
+     */
+    public void enableStats(Path file) {
+        try {
+            this.statsWriter = new TurnStatsWriter(file);
+            LOG.info("Exporting turn statistics to {}", file);
+        } catch (IOException e) {
+            LOG.error("Could not open stats file {}: {}", file, e.getMessage());
+        }
+    }
+    
+    /**
+     * Gets the turn statistics writer
+     * @return Writer, or null when the export is off
+     */
+    public TurnStatsWriter getStatsWriter() {
+        return statsWriter;
+    }
+    
+    /**
+     * Rebuilds every unfinished game found in the journal directory, for a
+     * restart after a crash. Each room loads its latest snapshot and replays
+     * only the records after it; rooms are recovered in parallel. Seats are
+     * held for the resume grace period, so players come back with their
+     * resume tokens.
+     * @return Number of rooms recovered
+     */
+    public int recoverRooms() {
+        JournalStore journals = journalStore;
+        if (journals == null) {
+            return 0;
+        }
+        ArrayList<String> roomIds = journals.listRooms();
+        if (roomIds.isEmpty()) {
+            return 0;
+        }
+        
+        long started = System.currentTimeMillis();
+        int threads = Math.min(roomIds.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService recovery = Executors.newFixedThreadPool(threads);
+        ArrayList<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < roomIds.size(); i++) {
+            String roomId = roomIds.get(i);
+            results.add(recovery.submit(() -> recoverRoom(roomId)));
+        }
+        
+        int recovered = 0;
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                if (results.get(i).get()) {
+                    recovered++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                LOG.error("Cannot recover room {}: {}", roomIds.get(i), e.getCause().getMessage());
+            }
+        }
+        recovery.shutdown();
+        
+        LOG.info("Recovered {} of {} journaled room(s) in {} ms",
+                 recovered, roomIds.size(), System.currentTimeMillis() - started);
+        return recovered;
+    }
+    
+    /**
+     * Rebuilds one room from its snapshot and journal tail
+     * @param roomId Room ID
+     * @return true if a running game was recovered
+     */
+    private boolean recoverRoom(String roomId) throws IOException {
+        JournalStore journals = journalStore;
+        Path directory = journals.roomDirectory(roomId);
+        reserveRoomId(roomId);
+        
+        ReplayEngine.Recording recording = ReplayEngine.load(directory);
+        if (recording == null) {
+            return false;
+        }
+        GameController room = GameController.replay(this, recording.getCheckpoint(), recording.getRecords());
+        ArrayList<PlayerSession> sessions = recording.getSessions();
+        if (!room.isGameStarted() || room.isGameEnded()) {
+            return false;
+        }
+        
+        ArrayList<Integer> playerIds = room.getPlayerIds();
+        synchronized (this) {
+            for (int i = 0; i < playerIds.size(); i++) {
+                nextPlayerId = Math.max(nextPlayerId, playerIds.get(i) + 1);
+            }
+        }
+        if (!installRoom(room, sessions)) {
+            return false;
+        }
+        room.resumeJournal(journals.open(roomId));
+        RoomDirectory directoryService = roomDirectory;
+        if (directoryService != null) {
+            directoryService.assignRoom(roomId, clusterNode.getNodeId());
+        }
+        return true;
+    }
+    
+    /**
+     * Keeps generated room IDs clear of a recovered room's ID
+     */
+    private synchronized void reserveRoomId(String roomId) {
+        int separator = roomId.lastIndexOf('_');
+        if (separator < 0) {
+            return;
+        }
+        try {
+            roomCounter = Math.max(roomCounter, Integer.parseInt(roomId.substring(separator + 1)) + 1);
+        } catch (NumberFormatException e) {
+            // Not a generated ID
+        }
+    }
+    
+    // ==================== Cluster ====================
+    
+    /**
+     * Joins this server to a cluster. The node is registered in the
+     * directory, rooms created here are recorded as owned by it, resume
+     * tokens carry its ID so the router can send reconnects back here, and
+     * player IDs come from the node's own block so migrated rooms never clash.
+     * @param self This node's address
+     * @param directory Shared room directory
+     */
+    public void enableCluster(ClusterNode self, RoomDirectory directory) {
+        this.clusterNode = self;
+        this.roomDirectory = directory;
+        sessionManager.setTokenPrefix(self.getNodeId());
+        synchronized (this) {
+            nextPlayerId = Math.max(nextPlayerId, self.getPlayerIdBase());
+        }
+        directory.registerNode(self);
+        LOG.info("Cluster node {} registered", self);
+    }
+    
+    /**
+     * Starts draining this node for a deploy. The node stops receiving new
+     * rooms, its idle rooms (nobody seated or watching, no game running)
+     * are released, and rooms with a game in progress are migrated: each is
+     * checkpointed into the directory and its players are disconnected, so
+     * their clients resume through the router on the room's new node.
+     * @return Room IDs still live on this node (rooms that failed to migrate)
+     */
+    public ArrayList<String> drain() {
+        ArrayList<String> remaining = new ArrayList<>();
+        RoomDirectory directory = roomDirectory;
+        if (directory == null) {
+            return remaining;
+        }
+        
+        directory.markDraining(clusterNode.getNodeId());
+        ArrayList<String> owned = directory.getRoomsOwnedBy(clusterNode.getNodeId());
+        for (int i = 0; i < owned.size(); i++) {
+            String roomId = owned.get(i);
+            GameController room = gameRooms.get(roomId);
+            if (room == null || isIdle(room)) {
+                if (room != null) {
+                    gameRooms.remove(roomId);
+                    metrics.removeRoom(roomId);
+                }
+                directory.removeRoom(roomId);
+            } else if (!migrateRoom(room)) {
+                remaining.add(roomId);
+            }
+        }
+        
+        LOG.info("Node {} draining, {} live room(s) left", clusterNode.getNodeId(), remaining.size());
+        return remaining;
+    }
+    
+    /**
+     * Parks a live room in the directory and lets go of its players
+     * @param room Room to migrate
+     * @return true if the room left this node
+     */
+    private boolean migrateRoom(GameController room) {
+        String roomId = room.getRoomId();
+        synchronized (gameRooms) {
+            // Commands arriving from now on find no room; the checkpoint
+            // waits for the one in flight
+            gameRooms.remove(roomId);
+        }
+        metrics.removeRoom(roomId);
+        
+        byte[] snapshot;
+        try {
+            snapshot = exportRoom(room);
+        } catch (RuntimeException e) {
+            LOG.error("Cannot checkpoint room {}: {}", roomId, e.getMessage());
+            gameRooms.put(roomId, room);
+            return false;
+        }
+        
+        ArrayList<Integer> playerIds = room.getPlayerIds();
+        ArrayList<String> tokens = new ArrayList<>();
+        for (int i = 0; i < playerIds.size(); i++) {
+            PlayerSession session = sessionManager.getSession(playerIds.get(i));
+            if (session != null) {
+                tokens.add(session.getResumeToken());
+            }
+        }
+        roomDirectory.migrateRoom(roomId, snapshot, tokens);
+        
+        // The new owner journals the room from here on
+        JournalStore journals = journalStore;
+        if (journals != null) {
+            journals.discard(roomId);
+        }
+        
+        // Drop the connections; clients reconnect with their resume tokens
+        for (int i = 0; i < playerIds.size(); i++) {
+            int playerId = playerIds.get(i);
+            sessionManager.close(playerId);
+            playerRooms.put(playerId, null);
+            ClientHandler handler = clientHandlers.get(playerId);
+            clientHandlers.put(playerId, null);
+            if (handler != null) {
+                handler.stop();
+            }
+        }
+        room.getSpectatorHub().close();
+        
+        LOG.info("Room {} migrated ({} bytes)", roomId, snapshot.length);
+        return true;
+    }
+    
+    /**
+     * Checkpoints a room together with its players' session positions
+     * @param room Room to export
+     * @return Snapshot bytes
+     */
+    public byte[] exportRoom(GameController room) {
+        byte[] checkpoint = room.checkpoint();
+        ArrayList<Integer> playerIds = room.getPlayerIds();
+        
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(checkpoint.length + 256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(checkpoint.length);
+            out.write(checkpoint);
+            out.writeByte(playerIds.size());
+            for (int i = 0; i < playerIds.size(); i++) {
+                PlayerSession session = sessionManager.getSession(playerIds.get(i));
+                out.writeBoolean(session != null);
+                if (session != null) {
+                    out.writeInt(session.getPlayerId());
+                    out.writeUTF(session.getResumeToken());
+                    out.writeLong(session.getLastSequence());
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Room export failed", e);
+        }
+        return bytes.toByteArray();
+    }
+    
+    /**
+     * Restores an exported room on this node. Seats are held detached for
+     * the resume grace period, like seats of players who dropped.
+     * @param snapshot Bytes produced by exportRoom()
+     * @return Room ID, or null if the room clashes with local rooms or players
+     */
+    public String importRoom(byte[] snapshot) {
+        GameController room;
+        ArrayList<PlayerSession> sessions = new ArrayList<>();
+        try {
+            room = GameController.restore(this, decodeExport(snapshot, sessions));
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.error("Cannot import room: {}", e.getMessage());
+            return null;
+        }
+        
+        String roomId = room.getRoomId();
+        if (!installRoom(room, sessions)) {
+            return null;
+        }
+        JournalStore journals = journalStore;
+        if (journals != null && room.isGameStarted() && !room.isGameEnded()) {
+            try {
+                room.attachJournal(journals.open(roomId));
+            } catch (IOException e) {
+                LOG.warn("Room {} runs without a journal: {}", roomId, e.getMessage());
+            }
+        }
+        LOG.info("Room {} imported with {} player(s)", roomId, room.getPlayerIds().size());
+        return roomId;
+    }
+    
+    /**
+     * Splits exported bytes into the room checkpoint and detached sessions
+     * @param snapshot Bytes produced by exportRoom()
+     * @param sessions Receives the players' sessions
+     * @return Room checkpoint
+     */
+    static byte[] decodeExport(byte[] snapshot, ArrayList<PlayerSession> sessions) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot))) {
+            byte[] checkpoint = new byte[in.readInt()];
+            in.readFully(checkpoint);
+            int count = in.readUnsignedByte();
+            for (int i = 0; i < count; i++) {
+                if (in.readBoolean()) {
+                    sessions.add(new PlayerSession(in.readInt(), in.readUTF(), in.readLong()));
+                }
+            }
+            return checkpoint;
+        }
+    }
+    
+    /**
+     * Registers a restored room and holds its players' seats
+     * @param room Restored room
+     * @param sessions Sessions of its players
+     * @return false if the room or one of its players already exists here
+     */
+    private boolean installRoom(GameController room, ArrayList<PlayerSession> sessions) {
+        String roomId = room.getRoomId();
+        ArrayList<Integer> playerIds = room.getPlayerIds();
+        synchronized (gameRooms) {
+            if (gameRooms.get(roomId) != null) {
+                return false;
+            }
+            for (int i = 0; i < playerIds.size(); i++) {
+                if (clientHandlers.get(playerIds.get(i)) != null || playerRooms.get(playerIds.get(i)) != null) {
+                    LOG.error("Cannot install room {}: player {} already exists here",
+                              roomId, playerIds.get(i));
+                    return false;
+                }
+            }
+            gameRooms.put(roomId, room);
+            for (int i = 0; i < playerIds.size(); i++) {
+                playerRooms.put(playerIds.get(i), roomId);
+            }
+        }
+        
+        for (int i = 0; i < sessions.size(); i++) {
+            PlayerSession session = sessions.get(i);
+            int playerId = session.getPlayerId();
+            sessionManager.adopt(session);
+            sessionManager.hold(session, () -> onClientDisconnect(playerId));
+        }
+        return true;
+    }
+    
+    /**
+     * Restores a room parked by a draining node when one of its players
+     * resumes here
+     * @param token Resume token that is not known locally
+     */
+    private void claimMigratedRoom(String token) {
+        RoomDirectory directory = roomDirectory;
+        if (directory == null || directory.isDraining(clusterNode.getNodeId())) {
+            return;
+        }
+        String roomId = directory.getSessionRoom(token);
+        if (roomId == null || gameRooms.get(roomId) != null) {
+            return;
+        }
+        byte[] snapshot = directory.claimRoom(roomId, clusterNode.getNodeId());
+        if (snapshot != null && importRoom(snapshot) == null) {
+            // Put it back for another node rather than losing the game
+            directory.migrateRoom(roomId, snapshot, new ArrayList<>());
+        }
+    }
+    
+    /**
+     * Checks if a room can be dropped without affecting anyone
+     */
+    private boolean isIdle(GameController room) {
+        return room.getPlayerCount() == 0 && room.getSpectatorCount() == 0 && !room.isGameStarted();
+    }
+    
+    /**
+     * Gets this node's cluster address
+     * @return Node, or null when standalone
+     */
+    public ClusterNode getClusterNode() {
+        return clusterNode;
+    }
+    
+    /**
+     * Gets the shared room directory
+     * @return Directory, or null when standalone
+     */
+    public RoomDirectory getRoomDirectory() {
+        return roomDirectory;
+    }
+    
+    /**
+     * Opens a resumable session for a connection that said HELLO
+     * @param handler Client handler
+     * @return New session
+     */
+    public PlayerSession openSession(ClientHandler handler) {
+        PlayerSession session = sessionManager.open(handler.getPlayerId(), handler);
+        handler.setSession(session);
+        return session;
+    }
+    
+    /**
+     * Rebinds a fresh connection to a dropped player's session.
+     * The connection gives up the temporary ID it was assigned on accept,
+     * receives the events it missed (or a snapshot if too far behind) and
+     * takes the player's seat back.
+     * @param handler Reconnected client
+     * @param token Resume token
+     * @param lastSequence Last sequence the client processed
+     * @return true if resumed
+     */
+    public boolean resumeSession(ClientHandler handler, String token, long lastSequence) {
+        PlayerSession session = sessionManager.findByToken(token);
+        if (session == null && roomDirectory != null) {
+            claimMigratedRoom(token);
+            session = sessionManager.findByToken(token);
+        }
+        if (session == null) {
+            return false;
+        }
+        
+        int playerId = session.getPlayerId();
+        String roomId = playerRooms.get(playerId);
+        GameController room = roomId != null ? gameRooms.get(roomId) : null;
+        if (room == null) {
+            return false;
+        }
+        
+        // Release the temporary identity of the new connection
+        int tempId = handler.getPlayerId();
+        String tempRoomId = playerRooms.get(tempId);
+        if (tempRoomId != null) {
+            GameController tempRoom = gameRooms.get(tempRoomId);
+            if (tempRoom != null) {
+                tempRoom.removePlayer(tempId);
+            }
+            playerRooms.put(tempId, null);
+        }
+        clientHandlers.put(tempId, null);
+        sessionManager.close(tempId);
+        
+        // Take over from a stale connection that has not noticed the drop yet
+        ClientHandler stale = clientHandlers.get(playerId);
+        handler.rebind(playerId);
+        clientHandlers.put(playerId, handler);
+        if (stale != null && stale != handler) {
+            stale.stop();
+        }
+        
+        handler.setPlayerName(room.getPlayerName(playerId));
+        handler.setSession(session);
+        room.reattachPlayer(playerId, handler);
+        
+        sendRoster(handler, room);
+        boolean replayed = session.resume(handler, lastSequence);
+        handler.sendMessage(ServerEvent.createSessionResumed(playerId, !replayed));
+        if (!replayed) {
+            room.sendStateTo(playerId);
+        }
+        
+        broadcastToRoom(roomId, ServerEvent.createPlayerJoined(playerId, handler.getPlayerName()));
+        return true;
+    }
+    
+    /**
+     * Records a room event for a player whose connection is down
+     * @param playerId Player ID
+     * @param message Message they would have received
+     */
+    public void recordForResume(int playerId, Message message) {
+        PlayerSession session = sessionManager.getSession(playerId);
+        if (session != null && session.isDetached()) {
+            session.deliver(protocolHandler.serializeMessage(message));
+        }
+    }
+    
+    /**
+     * Gets the connection reaper
+     * @return Connection reaper
+     */
+    public ConnectionReaper getConnectionReaper() {
+        return connectionReaper;
+    }
+    
+    /**
+     * Gets the session manager
+     * @return Session manager
+     */
+    public SessionManager getSessionManager() {
+        return sessionManager;
+    }
+    
+    /**
+     * Subscribes a connection to a room as a spectator
+     * @param playerId Connection ID
+     * @param roomId Room to watch
+     * @return true if successful; false while the caller holds a seat in a running game
+     */
+    public boolean spectateRoom(int playerId, String roomId) {
+        GameController room = gameRooms.get(roomId);
+        ClientHandler handler = clientHandlers.get(playerId);
+        if (room == null || handler == null) {
+            return false;
+        }
+        
+        // Leave the current room (players stop counting toward its seats);
+        // a seat in a running game is only given up by leaving the game
+        String currentRoomId = playerRooms.get(playerId);
+        if (currentRoomId != null) {
+            GameController currentRoom = gameRooms.get(currentRoomId);
+            if (currentRoom != null && currentRoom.isActivePlayer(playerId)) {
+                return false;
+            }
+            if (currentRoom != null && !currentRoom.removeSpectator(playerId)) {
+                currentRoom.removePlayer(playerId);
+            }
+        }
+        
+        handler.setSpectating(true);
+        playerRooms.put(playerId, roomId);
+        sendRoster(handler, room);
+        room.addSpectator(playerId, handler);
         return true;
     }
     
@@ -343,6 +1153,30 @@ public class Server {
         return protocolHandler;
     }
     
+    /**
+     * Gets the executor used for spectator writes
+     * @return Spectator executor
+     */
+    public ExecutorService getSpectatorExecutor() {
+        return spectatorExecutor;
+    }
+    
+    /**
+     * Gets the executor that runs bot seats
+     * @return Bot executor
+     */
+    public ExecutorService getBotExecutor() {
+        return botExecutor;
+    }
+    
+    /**
+     * Gets the metrics registry
+     * @return Server metrics
+     */
+    public ServerMetrics getMetrics() {
+        return metrics;
+    }
+    
     /**
      * Gets a game controller by room ID
      * @param roomId Room ID
@@ -375,8 +1209,8 @@ public class Server {
      */
     public int getConnectedPlayerCount() {
         int count = 0;
-        for (int i = 1; i < nextPlayerId; i++) {
-            if (clientHandlers.get(i) != null) {
+        for (HashTable.Entry<Integer, ClientHandler> entry : clientHandlers) {
+            if (entry.getValue() != null) {
                 count++;
             }
         }
@@ -400,17 +1234,52 @@ public class Server {
         }
         
         isRunning = false;
-        System.out.println("Stopping server...");
+        LOG.info("Stopping server...");
+        
+        // Hand live rooms to other nodes before their players are cut off
+        if (roomDirectory != null) {
+            drain();
+        }
         
         // Close all client connections
-        for (int i = 1; i < nextPlayerId; i++) {
-            ClientHandler handler = clientHandlers.get(i);
+        ArrayList<ClientHandler> handlers = clientHandlers.values();
+        for (int i = 0; i < handlers.size(); i++) {
+            ClientHandler handler = handlers.get(i);
             if (handler != null) {
                 handler.stop();
             }
         }
         
-        // Shutdown executor
+        // Leave the cluster so the router stops sending clients here
+        RoomDirectory directory = roomDirectory;
+        if (directory != null) {
+            directory.removeNode(clusterNode.getNodeId());
+        }
+        
+        // Commit and close room journals
+        if (journalStore != null) {
+            journalStore.shutdown();
+        }
+        
+        // Write out finished games still queued
+        if (gameArchive != null) {
+            gameArchive.close();
+        }
+        if (statsWriter != null) {
+            try {
+                statsWriter.close();
+            } catch (IOException e) {
+                LOG.error("Could not close stats file: {}", e.getMessage());
+            }
+        }
+        
+        // Shutdown executors
+        metrics.stop();
+        connectionReaper.stop();
+        housekeeping.shutdownNow();
+        spectatorExecutor.shutdownNow();
+        botExecutor.shutdownNow();
+        searchPool.shutdownNow();
         executorService.shutdown();
         try {
             if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
@@ -426,10 +1295,10 @@ public class Server {
                 serverSocket.close();
             }
         } catch (IOException e) {
-            System.err.println("Error closing server socket: " + e.getMessage());
+            LOG.error("Error closing server socket: {}", e.getMessage());
         }
         
-        System.out.println("Server stopped");
+        LOG.info("Server stopped");
     }
     
     /**
@@ -439,6 +1308,16 @@ public class Server {
     public int getPort() {
         return port;
     }
+
+    /**
+     * Gets the port the server is actually listening on (differs from
+     * getPort() when the server was created with port 0)
+     * @return Bound port, or -1 if not listening
+     */
+    public int getLocalPort() {
+        ServerSocket socket = serverSocket;
+        return socket != null && isRunning ? socket.getLocalPort() : -1;
+    }
     
     /**
      * Main entry point
@@ -452,7 +1331,7 @@ public class Server {
             try {
                 port = Integer.parseInt(args[0]);
             } catch (NumberFormatException e) {
-                System.err.println("Invalid port number, using default: " + DEFAULT_PORT);
+                LOG.warn("Invalid port number, using default: {}", DEFAULT_PORT);
             }
         }
         
@@ -460,7 +1339,7 @@ public class Server {
         
         // Add shutdown hook
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            System.out.println("\nShutdown signal received");
+            LOG.info("Shutdown signal received");
             server.stop();
         }));
         
@@ -1,32 +1,124 @@
 package com.monopoly.server;
 
+import com.monopoly.server.cluster.ClusterNode;
+import com.monopoly.server.cluster.FileRoomDirectory;
+import com.monopoly.server.cluster.InProcessRoomDirectory;
+import com.monopoly.server.cluster.RoomDirectory;
+import com.monopoly.server.cluster.RoomRouter;
+import com.monopoly.server.cluster.RouterServer;
+import com.monopoly.util.Logger;
+import com.monopoly.util.Tracer;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
 /**
  * Entry point for starting the Monopoly server.
  * Can be run independently to host a game.
  */
 public class ServerMain {
 
+    // Shared logger
+    private static final Logger LOG = Logger.getInstance();
+
     /** Default server port */
     public static final int DEFAULT_PORT = Server.DEFAULT_PORT;
     
+    /** Interval between metrics file dumps */
+    public static final long METRICS_DUMP_INTERVAL_MS = 10_000;
+    
     /**
      * Main entry point for server
-     * @param args Command line arguments: [port]
+     * @param args Command line arguments: [port] [--node id@host:port]
+     *             [--directory memory|file:path] [--journal dir] [--archive dir] [--stats file] [--router]
+     *             [--local-cluster N] [--log file] [--trace file]
+     *             [--metrics-port N] [--metrics-file file]
      */
     public static void main(String[] args) {
         int port = DEFAULT_PORT;
+        String portArg = null;
+        String nodeSpec = null;
+        String directorySpec = "memory";
+        String journalDir = null;
+        String archiveDir = null;
+        String statsFile = null;
+        String logFile = null;
+        String traceFile = null;
+        int metricsPort = -1;
+        String metricsFile = null;
+        boolean routerMode = false;
+        int localNodes = 0;
         
         // Parse command line arguments
-        if (args.length > 0) {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--node":
+                    nodeSpec = i + 1 < args.length ? args[++i] : null;
+                    break;
+                case "--directory":
+                    directorySpec = i + 1 < args.length ? args[++i] : directorySpec;
+                    break;
+                case "--journal":
+                    journalDir = i + 1 < args.length ? args[++i] : null;
+                    break;
+                case "--archive":
+                    archiveDir = i + 1 < args.length ? args[++i] : null;
+                    break;
+                case "--stats":
+                    statsFile = i + 1 < args.length ? args[++i] : null;
+                    break;
+                case "--log":
+                    logFile = i + 1 < args.length ? args[++i] : null;
+                    break;
+                case "--trace":
+                    traceFile = i + 1 < args.length ? args[++i] : null;
+                    break;
+                case "--metrics-port":
+                    try {
+                        metricsPort = Integer.parseInt(args[++i]);
+                    } catch (RuntimeException e) {
+                        LOG.warn("--metrics-port needs a port number");
+                    }
+                    break;
+                case "--metrics-file":
+                    metricsFile = i + 1 < args.length ? args[++i] : null;
+                    break;
+                case "--router":
+                    routerMode = true;
+                    break;
+                case "--local-cluster":
+                    try {
+                        localNodes = Integer.parseInt(args[++i]);
+                    } catch (RuntimeException e) {
+                        LOG.warn("--local-cluster needs a node count");
+                    }
+                    break;
+                default:
+                    portArg = args[i];
+                    break;
+            }
+        }
+        
+        if (portArg != null) {
             try {
-                port = Integer.parseInt(args[0]);
+                port = Integer.parseInt(portArg);
                 if (port < 1024 || port > 65535) {
-                    System.err.println("Port must be between 1024 and 65535");
-                    System.err.println("Using default port: " + DEFAULT_PORT);
+                    LOG.warn("Port must be between 1024 and 65535, using default: {}", DEFAULT_PORT);
                     port = DEFAULT_PORT;
                 }
             } catch (NumberFormatException e) {
-                System.err.println("Invalid port number, using default: " + DEFAULT_PORT);
+                LOG.warn("Invalid port number, using default: {}", DEFAULT_PORT);
+            }
+        }
+        
+        if (logFile != null) {
+            LOG.enableFileLogging(logFile);
+        }
+        if (traceFile != null) {
+            try {
+                Tracer.getInstance().enable(Paths.get(traceFile));
+            } catch (IOException e) {
+                LOG.error("Could not open trace file {}: {}", traceFile, e.getMessage());
             }
         }
         
@@ -35,14 +127,48 @@ public class ServerMain {
         System.out.println("=================================");
         System.out.println();
         
+        if (localNodes > 0) {
+            runLocalCluster(port, localNodes);
+            return;
+        }
+        
+        if (routerMode) {
+            runRouter(port, createDirectory(directorySpec));
+            return;
+        }
+        
         // Create server
         Server server = new Server(port);
+        if (nodeSpec != null) {
+            server.enableCluster(ClusterNode.parse(nodeSpec), createDirectory(directorySpec));
+        }
+        if (journalDir != null) {
+            server.enableJournal(Paths.get(journalDir));
+            server.recoverRooms();
+        }
+        if (archiveDir != null) {
+            server.enableArchive(Paths.get(archiveDir));
+        }
+        if (statsFile != null) {
+            server.enableStats(Paths.get(statsFile));
+        }
+        if (metricsPort >= 0) {
+            try {
+                server.getMetrics().startHttp(metricsPort);
+            } catch (IOException e) {
+                LOG.error("Could not serve metrics on port {}: {}", metricsPort, e.getMessage());
+            }
+        }
+        if (metricsFile != null) {
+            server.getMetrics().startDump(Paths.get(metricsFile), METRICS_DUMP_INTERVAL_MS);
+        }
         
         // Add shutdown hook
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            System.out.println();
-            System.out.println("Shutdown signal received...");
+            LOG.info("Shutdown signal received...");
             server.stop();
+            Tracer.getInstance().disable();
+            LOG.flush();
         }));
         
         // Print instructions
@@ -58,4 +184,61 @@ public class ServerMain {
         // Start server (blocking)
         server.start();
     }
+    
+    // ==================== Cluster Modes ====================
+    
+    /**
+     * Creates the room directory named on the command line
+     * @param spec "memory" or "file:path"
+     * @return Room directory
+     */
+    private static RoomDirectory createDirectory(String spec) {
+        if (spec.startsWith("file:")) {
+            return new FileRoomDirectory(Paths.get(spec.substring("file:".length())));
+        }
+        if (!spec.equals("memory")) {
+            LOG.warn("Unknown directory '{}', using in-process directory", spec);
+        }
+        return new InProcessRoomDirectory();
+    }
+    
+    /**
+     * Runs a router in front of the nodes registered in a directory (blocking)
+     * @param port Port clients connect to
+     * @param directory Shared room directory
+     */
+    private static void runRouter(int port, RoomDirectory directory) {
+        RouterServer router = new RouterServer(port, new RoomRouter(directory));
+        Runtime.getRuntime().addShutdownHook(new Thread(router::stop));
+        router.start();
+    }
+    
+    /**
+     * Runs several nodes and a router in one process for local testing.
+     * Nodes listen on port+1..port+N and the router on port.
+     * @param port Router port
+     * @param nodeCount Number of nodes
+     */
+    private static void runLocalCluster(int port, int nodeCount) {
+        RoomDirectory directory = new InProcessRoomDirectory();
+        Server[] servers = new Server[nodeCount];
+        
+        for (int i = 0; i < nodeCount; i++) {
+            int nodePort = port + 1 + i;
+            servers[i] = new Server(nodePort);
+            servers[i].enableCluster(new ClusterNode("node" + (i + 1), "localhost", nodePort), directory);
+            Thread thread = new Thread(servers[i]::start, "cluster-node-" + (i + 1));
+            thread.setDaemon(true);
+            thread.start();
+        }
+        
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            for (Server server : servers) {
+                server.stop();
+            }
+        }));
+        
+        LOG.info("Local cluster: {} node(s) on ports {}-{}, router on {}", nodeCount, port + 1, port + nodeCount, port);
+        runRouter(port, directory);
+    }
 }
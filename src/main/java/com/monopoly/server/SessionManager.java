@@ -0,0 +1,160 @@
+package com.monopoly.server;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issues resume tokens and tracks player sessions across reconnects.
+ * A dropped player keeps their seat for RESUME_GRACE_MS; if no RESUME
+ * arrives in time the expiry callback removes them the old way.
+ */
+public class SessionManager {
+
+    /** How long a dropped player's seat is held */
+    public static final long RESUME_GRACE_MS = 60000;
+
+    /** Random bytes in a resume token */
+    private static final int TOKEN_BYTES = 16;
+
+    // Sessions by resume token
+    private final ConcurrentHashMap<String, PlayerSession> sessionsByToken;
+
+    // Sessions by player ID
+    private final ConcurrentHashMap<Integer, PlayerSession> sessionsByPlayer;
+
+    // Shared housekeeping scheduler that runs grace-period expiries
+    private final ScheduledExecutorService expiryScheduler;
+
+    // Token source
+    private final SecureRandom random;
+    
+    // Node ID prepended to tokens in cluster mode so routers can find the owner
+    private volatile String tokenPrefix;
+
+    /**
+     * Creates a session manager
+     * @param expiryScheduler Scheduler used for grace-period expiries
+     */
+    public SessionManager(ScheduledExecutorService expiryScheduler) {
+        this.sessionsByToken = new ConcurrentHashMap<>();
+        this.sessionsByPlayer = new ConcurrentHashMap<>();
+        this.expiryScheduler = expiryScheduler;
+        this.random = new SecureRandom();
+        this.tokenPrefix = null;
+    }
+    
+    /**
+     * Sets the prefix of new tokens (the node ID in cluster mode)
+     * @param tokenPrefix Prefix, or null for bare tokens
+     */
+    public void setTokenPrefix(String tokenPrefix) {
+        this.tokenPrefix = tokenPrefix;
+    }
+
+    /**
+     * Opens (or replaces) the session of a player
+     * @param playerId Player ID
+     * @param handler Current connection
+     * @return New session
+     */
+    public PlayerSession open(int playerId, ClientHandler handler) {
+        PlayerSession session = new PlayerSession(playerId, newToken(), handler);
+        PlayerSession previous = sessionsByPlayer.put(playerId, session);
+        if (previous != null) {
+            sessionsByToken.remove(previous.getResumeToken());
+            previous.setExpiry(null);
+        }
+        sessionsByToken.put(session.getResumeToken(), session);
+        return session;
+    }
+
+    /**
+     * Registers an existing session, e.g. one restored from another node
+     * @param session Session to adopt
+     */
+    public void adopt(PlayerSession session) {
+        sessionsByPlayer.put(session.getPlayerId(), session);
+        sessionsByToken.put(session.getResumeToken(), session);
+    }
+
+    /**
+     * Detaches a session and starts its grace period
+     * @param session Session whose connection dropped
+     * @param onExpire Called if the player does not come back in time
+     */
+    public void hold(PlayerSession session, Runnable onExpire) {
+        session.detach();
+        session.setExpiry(expiryScheduler.schedule(() -> {
+            if (session.isDetached() && sessionsByPlayer.get(session.getPlayerId()) == session) {
+                onExpire.run();
+            }
+        }, RESUME_GRACE_MS, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Closes the session of a player
+     * @param playerId Player ID
+     */
+    public void close(int playerId) {
+        PlayerSession session = sessionsByPlayer.remove(playerId);
+        if (session != null) {
+            sessionsByToken.remove(session.getResumeToken());
+            session.setExpiry(null);
+        }
+    }
+
+    /**
+     * Gets a session by player
+     * @param playerId Player ID
+     * @return Session or null
+     */
+    public PlayerSession getSession(int playerId) {
+        return sessionsByPlayer.get(playerId);
+    }
+
+    /**
+     * Gets a session by resume token
+     * @param token Resume token
+     * @return Session or null
+     */
+    public PlayerSession findByToken(String token) {
+        if (token == null) {
+            return null;
+        }
+        return sessionsByToken.get(token);
+    }
+
+    /**
+     * Gets the number of sessions waiting for a reconnect
+     * @return Detached session count
+     */
+    public int getDetachedCount() {
+        int count = 0;
+        for (PlayerSession session : sessionsByPlayer.values()) {
+            if (session.isDetached()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Generates a new random hex token
+     */
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        StringBuilder token = new StringBuilder(TOKEN_BYTES * 2 + 16);
+        String prefix = tokenPrefix;
+        if (prefix != null) {
+            token.append(prefix).append('.');
+        }
+        for (byte b : bytes) {
+            token.append(Character.forDigit((b >> 4) & 0xF, 16));
+            token.append(Character.forDigit(b & 0xF, 16));
+        }
+        return token.toString();
+    }
+}
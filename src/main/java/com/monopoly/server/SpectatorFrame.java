@@ -0,0 +1,142 @@
+package com.monopoly.server;
+
+import com.monopoly.network.protocol.Message;
+import com.monopoly.network.protocol.MessageType;
+import com.monopoly.network.protocol.ProtocolHandler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A single room message held in the spectator cache.
+ * The frame is encoded at most once, by the first spectator I/O thread that
+ * needs it, and the bytes are then shared by every watcher of the room.
+ * A reference count covers the cache slot plus any writer currently sending
+ * the frame; the encoded bytes are dropped when the count reaches zero.
+ */
+public class SpectatorFrame {
+
+    /**
+     * Frame kinds. A snapshot carries the full game state, a delta carries
+     * an event that only makes sense on top of the preceding snapshot.
+     */
+    public enum Kind {
+        SNAPSHOT,
+        DELTA
+    }
+
+    // Position in the room's publish order (starts at 1)
+    private final long sequence;
+
+    // Snapshot or delta
+    private final Kind kind;
+
+    // Source message, released together with the bytes
+    private Message message;
+
+    // Encoded wire form, created lazily
+    private volatile byte[] encoded;
+
+    // Cache slot + in-flight writers
+    private final AtomicInteger refCount;
+
+    /**
+     * Creates a frame owned by the cache slot it is stored in
+     * @param sequence Publish sequence number
+     * @param message Message to share with spectators
+     */
+    public SpectatorFrame(long sequence, Message message) {
+        this.sequence = sequence;
+        this.kind = message.getMessageType() == MessageType.STATE_UPDATE ? Kind.SNAPSHOT : Kind.DELTA;
+        this.message = message;
+        this.refCount = new AtomicInteger(1);
+    }
+
+    /**
+     * Takes a reference if the frame is still alive
+     * @return true if the caller now holds a reference
+     */
+    public boolean tryRetain() {
+        while (true) {
+            int count = refCount.get();
+            if (count <= 0) {
+                return false;
+            }
+            if (refCount.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Drops a reference, freeing the encoded bytes on the last one
+     */
+    public void release() {
+        if (refCount.decrementAndGet() == 0) {
+            synchronized (this) {
+                encoded = null;
+                message = null;
+            }
+        }
+    }
+
+    /**
+     * Gets the encoded frame, encoding it on first use.
+     * Callers must hold a reference.
+     * @param protocolHandler Protocol handler used for encoding
+     * @return Wire bytes, or null if the frame was already released
+     */
+    public byte[] getEncoded(ProtocolHandler protocolHandler) {
+        byte[] bytes = encoded;
+        if (bytes != null) {
+            return bytes;
+        }
+        synchronized (this) {
+            if (encoded == null && message != null) {
+                encoded = protocolHandler.serializeMessage(message).getBytes(StandardCharsets.UTF_8);
+            }
+            return encoded;
+        }
+    }
+
+    /**
+     * Gets the sequence number
+     * @return Sequence number
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the frame kind
+     * @return Snapshot or delta
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Checks if this frame is a full snapshot
+     * @return true for snapshots
+     */
+    public boolean isSnapshot() {
+        return kind == Kind.SNAPSHOT;
+    }
+
+    /**
+     * Gets the current reference count
+     * @return Reference count
+     */
+    public int getRefCount() {
+        return refCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "SpectatorFrame{" +
+                "seq=" + sequence +
+                ", kind=" + kind +
+                ", refs=" + refCount.get() +
+                '}';
+    }
+}
@@ -0,0 +1,257 @@
+package com.monopoly.server;
+
+import com.monopoly.network.protocol.Message;
+import com.monopoly.network.protocol.ProtocolHandler;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fan-out tier for the spectators of one room.
+ * The room publishes every broadcast once into a fixed-size ring of shared
+ * frames; spectator sessions drain the ring on the server's spectator I/O
+ * threads, so the room thread never encodes or writes anything for watchers.
+ * A session that falls too far behind jumps straight to the newest snapshot.
+ */
+public class SpectatorHub {
+
+    /** Number of frames kept in the cache */
+    public static final int CACHE_CAPACITY = 256;
+
+    /** Backlog after which a spectator skips to the newest snapshot */
+    public static final int MAX_LAG_FRAMES = 64;
+
+    // Room this hub belongs to
+    private final String roomId;
+
+    // Encodes frames on first use
+    private final ProtocolHandler protocolHandler;
+
+    // Shared spectator I/O threads
+    private final ExecutorService ioExecutor;
+
+    // Frame ring indexed by sequence % CACHE_CAPACITY
+    private final AtomicReferenceArray<SpectatorFrame> frames;
+
+    // Last published sequence (0 = nothing published yet)
+    private volatile long headSequence;
+
+    // Sequence of the newest snapshot frame (0 = none)
+    private volatile long snapshotSequence;
+
+    // Connected spectators (playerId -> session)
+    private final ConcurrentHashMap<Integer, SpectatorSession> sessions;
+
+    // Set while a wake-up pass is queued
+    private final AtomicBoolean wakePending;
+
+    /**
+     * Creates a hub for a room
+     * @param roomId Room ID
+     * @param protocolHandler Protocol handler for encoding frames
+     * @param ioExecutor Executor that runs spectator writes
+     */
+    public SpectatorHub(String roomId, ProtocolHandler protocolHandler, ExecutorService ioExecutor) {
+        this.roomId = roomId;
+        this.protocolHandler = protocolHandler;
+        this.ioExecutor = ioExecutor;
+        this.frames = new AtomicReferenceArray<>(CACHE_CAPACITY);
+        this.headSequence = 0;
+        this.snapshotSequence = 0;
+        this.sessions = new ConcurrentHashMap<>();
+        this.wakePending = new AtomicBoolean(false);
+    }
+
+    // ==================== Publishing ====================
+
+    /**
+     * Publishes a room message to all spectators.
+     * Costs one frame allocation on the caller; encoding and socket writes
+     * happen later on the spectator I/O threads.
+     * @param message Message broadcast to the room
+     */
+    public synchronized void publish(Message message) {
+        if (message == null) {
+            return;
+        }
+
+        long sequence = headSequence + 1;
+        SpectatorFrame frame = new SpectatorFrame(sequence, message);
+        SpectatorFrame evicted = frames.getAndSet(slot(sequence), frame);
+        if (evicted != null) {
+            evicted.release();
+        }
+
+        if (frame.isSnapshot()) {
+            snapshotSequence = sequence;
+        }
+        headSequence = sequence;
+
+        if (!sessions.isEmpty() && wakePending.compareAndSet(false, true)) {
+            ioExecutor.execute(this::wakeSessions);
+        }
+    }
+
+    /**
+     * Schedules every session that has frames to send
+     */
+    private void wakeSessions() {
+        wakePending.set(false);
+        for (SpectatorSession session : sessions.values()) {
+            session.schedule();
+        }
+    }
+
+    // ==================== Subscriptions ====================
+
+    /**
+     * Adds a spectator. The first game frame it receives is a snapshot: the
+     * given one, published for it, or the newest cached one; deltas are
+     * never sent before their base state.
+     * @param playerId Connection ID of the spectator
+     * @param handler Client handler used for writing
+     * @param snapshot Current full state, or null before the game starts
+     */
+    public void subscribe(int playerId, ClientHandler handler, Message snapshot) {
+        SpectatorSession session;
+        synchronized (this) {
+            if (snapshot != null) {
+                publish(snapshot);
+            }
+            session = new SpectatorSession(this, handler, startSequence(), snapshotSequence > 0);
+        }
+        SpectatorSession previous = sessions.put(playerId, session);
+        if (previous != null) {
+            previous.close();
+        }
+        session.schedule();
+    }
+
+    /**
+     * Removes a spectator
+     * @param playerId Connection ID of the spectator
+     * @return true if the connection was spectating this room
+     */
+    public boolean unsubscribe(int playerId) {
+        SpectatorSession session = sessions.remove(playerId);
+        if (session == null) {
+            return false;
+        }
+        session.close();
+        return true;
+    }
+
+    /**
+     * Checks if a connection is spectating this room
+     * @param playerId Connection ID
+     * @return true if subscribed
+     */
+    public boolean isSubscribed(int playerId) {
+        return sessions.containsKey(playerId);
+    }
+
+    /**
+     * Releases every cached frame and drops all sessions
+     */
+    public synchronized void close() {
+        for (SpectatorSession session : sessions.values()) {
+            session.close();
+        }
+        sessions.clear();
+        for (int i = 0; i < CACHE_CAPACITY; i++) {
+            SpectatorFrame frame = frames.getAndSet(i, null);
+            if (frame != null) {
+                frame.release();
+            }
+        }
+    }
+
+    // ==================== Reader Side ====================
+
+    /**
+     * Gets the sequence a new reader should start from
+     * @return Newest snapshot sequence while it is cached, the next frame
+     *         once it has been evicted, or the oldest cached frame before
+     *         any snapshot
+     */
+    long startSequence() {
+        long head = headSequence;
+        long snapshot = snapshotSequence;
+        if (snapshot > 0) {
+            return head - snapshot < CACHE_CAPACITY ? snapshot : head + 1;
+        }
+        return Math.max(1, head - CACHE_CAPACITY + 1);
+    }
+
+    /**
+     * Takes a reference to the frame with the given sequence
+     * @param sequence Sequence number
+     * @return Retained frame, or null if it was evicted
+     */
+    SpectatorFrame acquire(long sequence) {
+        SpectatorFrame frame = frames.get(slot(sequence));
+        if (frame == null || frame.getSequence() != sequence || !frame.tryRetain()) {
+            return null;
+        }
+        return frame;
+    }
+
+    /**
+     * Maps a sequence number to a ring slot
+     */
+    private int slot(long sequence) {
+        return (int) (sequence % CACHE_CAPACITY);
+    }
+
+    // ==================== Getters ====================
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public ProtocolHandler getProtocolHandler() {
+        return protocolHandler;
+    }
+
+    ExecutorService getIoExecutor() {
+        return ioExecutor;
+    }
+
+    public long getHeadSequence() {
+        return headSequence;
+    }
+
+    public long getSnapshotSequence() {
+        return snapshotSequence;
+    }
+
+    public int getSpectatorCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Gets the outbound backlog: frames the furthest-behind spectator has
+     * not been sent yet
+     * @return Frames pending (0 when every spectator is caught up)
+     */
+    public long getBacklog() {
+        long head = headSequence;
+        long backlog = 0;
+        for (SpectatorSession session : sessions.values()) {
+            backlog = Math.max(backlog, head - session.getCursor() + 1);
+        }
+        return backlog;
+    }
+
+    @Override
+    public String toString() {
+        return "SpectatorHub{" +
+                "roomId='" + roomId + '\'' +
+                ", head=" + headSequence +
+                ", snapshot=" + snapshotSequence +
+                ", spectators=" + sessions.size() +
+                '}';
+    }
+}
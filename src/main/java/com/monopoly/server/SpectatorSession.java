@@ -0,0 +1,161 @@
+package com.monopoly.server;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Delivery cursor of one spectator over its room's frame cache.
+ * Runs on the shared spectator I/O threads; at most one run per session is
+ * queued at a time, and each run writes a bounded number of frames before
+ * yielding so that one slow socket cannot starve the other watchers.
+ */
+class SpectatorSession implements Runnable {
+
+    /** Frames written per scheduling slot */
+    private static final int MAX_FRAMES_PER_RUN = 32;
+
+    // Hub that owns the frame cache
+    private final SpectatorHub hub;
+
+    // Connection of the spectator
+    private final ClientHandler handler;
+
+    // Next sequence to send (only written by the running I/O thread)
+    private volatile long cursor;
+
+    // True while a run is queued or executing
+    private final AtomicBoolean scheduled;
+
+    // Set when the spectator leaves
+    private volatile boolean closed;
+
+    // Set while deltas are held back until the next snapshot
+    private boolean awaitingSnapshot;
+
+    /**
+     * Creates a session
+     * @param hub Room hub
+     * @param handler Spectator connection
+     * @param startSequence First sequence to deliver
+     * @param needsSnapshot true if nothing is sent before the first snapshot
+     */
+    SpectatorSession(SpectatorHub hub, ClientHandler handler, long startSequence, boolean needsSnapshot) {
+        this.hub = hub;
+        this.handler = handler;
+        this.cursor = startSequence;
+        this.scheduled = new AtomicBoolean(false);
+        this.closed = false;
+        this.awaitingSnapshot = needsSnapshot;
+    }
+
+    /**
+     * Queues this session on the I/O executor unless it is already queued
+     */
+    void schedule() {
+        if (closed || !scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            hub.getIoExecutor().execute(this);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            drain();
+        } finally {
+            scheduled.set(false);
+        }
+
+        // Frames published while we were draining
+        if (!closed && cursor <= hub.getHeadSequence()) {
+            schedule();
+        }
+    }
+
+    /**
+     * Writes pending frames, skipping to the newest snapshot when lagging
+     */
+    private void drain() {
+        int written = 0;
+        while (!closed && written < MAX_FRAMES_PER_RUN) {
+            long head = hub.getHeadSequence();
+            if (cursor > head) {
+                return;
+            }
+
+            if (head - cursor >= SpectatorHub.MAX_LAG_FRAMES) {
+                skipToSnapshot();
+            }
+
+            SpectatorFrame frame = hub.acquire(cursor);
+            if (frame == null) {
+                // Evicted under us; resume from the newest snapshot, or hold
+                // deltas back until one is published
+                if (!skipToSnapshot()) {
+                    awaitingSnapshot = true;
+                    cursor++;
+                }
+                continue;
+            }
+            if (awaitingSnapshot && !frame.isSnapshot()) {
+                frame.release();
+                cursor++;
+                continue;
+            }
+            awaitingSnapshot = false;
+
+            try {
+                byte[] bytes = frame.getEncoded(hub.getProtocolHandler());
+                if (bytes != null && !handler.writeFrame(bytes)) {
+                    closed = true;
+                    return;
+                }
+            } finally {
+                frame.release();
+            }
+
+            cursor++;
+            written++;
+        }
+    }
+
+    /**
+     * Moves the cursor forward to the newest snapshot
+     * @return true if the cursor moved
+     */
+    private boolean skipToSnapshot() {
+        long snapshot = hub.getSnapshotSequence();
+        if (snapshot > cursor) {
+            cursor = snapshot;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Stops delivery to this spectator
+     */
+    void close() {
+        closed = true;
+    }
+
+    /**
+     * Gets the number of frames not yet delivered
+     * @return Backlog size
+     */
+    long getBacklog() {
+        return Math.max(0, hub.getHeadSequence() - cursor + 1);
+    }
+    
+    /**
+     * Gets the next sequence this spectator will be sent
+     * @return Cursor sequence
+     */
+    long getCursor() {
+        return cursor;
+    }
+}
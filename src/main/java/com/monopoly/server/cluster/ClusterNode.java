@@ -0,0 +1,92 @@
+package com.monopoly.server.cluster;
+
+/**
+ * Address of one server process in a clustered deployment.
+ */
+public class ClusterNode {
+
+    /** Player IDs reserved per node */
+    public static final int PLAYER_ID_BLOCK_SIZE = 1 << 16;
+
+    /** Number of player ID blocks (keeps IDs below Integer.MAX_VALUE) */
+    private static final int PLAYER_ID_BLOCKS = Integer.MAX_VALUE / PLAYER_ID_BLOCK_SIZE - 1;
+
+    // Unique node name
+    private final String nodeId;
+
+    // Where clients (or the router) can reach it
+    private final String host;
+    private final int port;
+
+    /**
+     * Creates a node address
+     * @param nodeId Unique node name
+     * @param host Host name
+     * @param port Port number
+     */
+    public ClusterNode(String nodeId, String host, int port) {
+        if (nodeId == null || nodeId.isEmpty() || nodeId.indexOf(' ') >= 0 || nodeId.indexOf('.') >= 0) {
+            throw new IllegalArgumentException("Invalid node id: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.host = host;
+        this.port = port;
+    }
+
+    /**
+     * Parses a node spec of the form id@host:port
+     * @param spec Node spec
+     * @return Parsed node
+     */
+    public static ClusterNode parse(String spec) {
+        int at = spec.indexOf('@');
+        int colon = spec.lastIndexOf(':');
+        if (at <= 0 || colon <= at) {
+            throw new IllegalArgumentException("Expected id@host:port, got: " + spec);
+        }
+        return new ClusterNode(spec.substring(0, at),
+                               spec.substring(at + 1, colon),
+                               Integer.parseInt(spec.substring(colon + 1)));
+    }
+
+    /**
+     * Gets the first player ID this node hands out. Each node numbers its
+     * players from its own block so a room migrated in from another node
+     * keeps its player IDs without clashing with local ones.
+     * @return First player ID
+     */
+    public int getPlayerIdBase() {
+        long block = (ConsistentHashRing.hash(nodeId) >>> 1) % PLAYER_ID_BLOCKS;
+        return (int) (block * PLAYER_ID_BLOCK_SIZE) + 1;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof ClusterNode)) return false;
+        ClusterNode other = (ClusterNode) obj;
+        return nodeId.equals(other.nodeId) && host.equals(other.host) && port == other.port;
+    }
+
+    @Override
+    public int hashCode() {
+        return nodeId.hashCode() * 31 + port;
+    }
+
+    @Override
+    public String toString() {
+        return nodeId + "@" + host + ":" + port;
+    }
+}
@@ -0,0 +1,168 @@
+package com.monopoly.server.cluster;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.datastructures.HashTable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Consistent-hash ring that maps room IDs to cluster nodes.
+ * Each node is placed at several virtual points so load stays even and
+ * adding or removing a node only moves the rooms adjacent to its points.
+ * Lookups binary-search an immutable sorted array and need no locking.
+ */
+public class ConsistentHashRing {
+
+    /** Virtual points per node */
+    public static final int DEFAULT_VIRTUAL_NODES = 128;
+
+    /** Node index is packed into the low bits of each point */
+    private static final int INDEX_BITS = 8;
+    private static final int MAX_NODES = 1 << INDEX_BITS;
+
+    /**
+     * Immutable view used by readers
+     */
+    private static final class Snapshot {
+        // Sorted points: (hash >>> 9) << INDEX_BITS | nodeIndex
+        final long[] points;
+        final ClusterNode[] nodes;
+
+        Snapshot(long[] points, ClusterNode[] nodes) {
+            this.points = points;
+            this.nodes = nodes;
+        }
+    }
+
+    // Points per node
+    private final int virtualNodes;
+
+    // Current members (nodeId -> node), guarded by this
+    private final HashTable<String, ClusterNode> members;
+
+    // Published ring
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates an empty ring with the default number of virtual nodes
+     */
+    public ConsistentHashRing() {
+        this(DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * Creates an empty ring
+     * @param virtualNodes Points per node
+     */
+    public ConsistentHashRing(int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+        this.members = new HashTable<>();
+        this.snapshot = new Snapshot(new long[0], new ClusterNode[0]);
+    }
+
+    /**
+     * Adds or replaces a node
+     * @param node Node to add
+     */
+    public synchronized void addNode(ClusterNode node) {
+        members.put(node.getNodeId(), node);
+        rebuild();
+    }
+
+    /**
+     * Removes a node
+     * @param nodeId Node ID
+     */
+    public synchronized void removeNode(String nodeId) {
+        if (members.remove(nodeId) != null) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Replaces the whole membership at once
+     * @param nodes New members
+     */
+    public synchronized void setNodes(ArrayList<ClusterNode> nodes) {
+        members.clear();
+        for (int i = 0; i < nodes.size(); i++) {
+            members.put(nodes.get(i).getNodeId(), nodes.get(i));
+        }
+        rebuild();
+    }
+
+    /**
+     * Recomputes the sorted point array from the members
+     */
+    private void rebuild() {
+        ArrayList<ClusterNode> nodes = members.values();
+        if (nodes.size() > MAX_NODES) {
+            throw new IllegalStateException("Ring supports at most " + MAX_NODES + " nodes");
+        }
+
+        ClusterNode[] nodeArray = new ClusterNode[nodes.size()];
+        long[] points = new long[nodes.size() * virtualNodes];
+        int p = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            nodeArray[i] = nodes.get(i);
+            for (int v = 0; v < virtualNodes; v++) {
+                long h = hash(nodeArray[i].getNodeId() + "#" + v);
+                points[p++] = ((h >>> 9) << INDEX_BITS) | i;
+            }
+        }
+        Arrays.sort(points);
+        snapshot = new Snapshot(points, nodeArray);
+    }
+
+    /**
+     * Finds the node that owns a key
+     * @param key Room ID or other key
+     * @return Owning node, or null if the ring is empty
+     */
+    public ClusterNode nodeFor(String key) {
+        Snapshot current = snapshot;
+        long[] points = current.points;
+        if (points.length == 0) {
+            return null;
+        }
+
+        long target = (hash(key) >>> 9) << INDEX_BITS;
+        int index = Arrays.binarySearch(points, target);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        if (index >= points.length) {
+            index = 0; // wrap around
+        }
+        return current.nodes[(int) (points[index] & (MAX_NODES - 1))];
+    }
+
+    /**
+     * Gets the number of member nodes
+     * @return Node count
+     */
+    public int size() {
+        return snapshot.nodes.length;
+    }
+
+    /**
+     * 64-bit FNV-1a followed by the MurmurHash3 finalizer
+     * @param key Key to hash
+     * @return Well-mixed 64-bit hash
+     */
+    static long hash(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long h = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
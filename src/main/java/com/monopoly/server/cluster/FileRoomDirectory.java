@@ -0,0 +1,291 @@
+package com.monopoly.server.cluster;
+
+import com.monopoly.datastructures.ArrayList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+
+/**
+ * Room directory stored in a small text file, shared by server processes
+ * on the same machine. Every operation reads the file under an OS file
+ * lock and, for updates, rewrites it before releasing the lock.
+ *
+ * File format, one entry per line:
+ *   node &lt;nodeId&gt; &lt;host&gt; &lt;port&gt;
+ *   drain &lt;nodeId&gt;
+ *   room &lt;roomId&gt; &lt;nodeId&gt;
+ *   snapshot &lt;roomId&gt; &lt;base64&gt;
+ *   session &lt;token&gt; &lt;roomId&gt;
+ */
+public class FileRoomDirectory implements RoomDirectory {
+
+    // Directory file
+    private final Path file;
+
+    /**
+     * Creates a directory backed by a file (created on first write)
+     * @param file Directory file
+     */
+    public FileRoomDirectory(Path file) {
+        this.file = file;
+    }
+
+    // ==================== Nodes ====================
+
+    @Override
+    public void registerNode(ClusterNode node) {
+        update(entries -> {
+            removeMatching(entries, "node", node.getNodeId());
+            removeMatching(entries, "drain", node.getNodeId());
+            entries.add("node " + node.getNodeId() + " " + node.getHost() + " " + node.getPort());
+        });
+    }
+
+    @Override
+    public void removeNode(String nodeId) {
+        update(entries -> {
+            removeMatching(entries, "node", nodeId);
+            removeMatching(entries, "drain", nodeId);
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                String[] parts = entries.get(i).split(" ");
+                if (parts[0].equals("room") && parts.length > 2 && parts[2].equals(nodeId)) {
+                    entries.remove(i);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void markDraining(String nodeId) {
+        update(entries -> {
+            if (find(entries, "node", nodeId) != null && find(entries, "drain", nodeId) == null) {
+                entries.add("drain " + nodeId);
+            }
+        });
+    }
+
+    @Override
+    public boolean isDraining(String nodeId) {
+        return find(read(), "drain", nodeId) != null;
+    }
+
+    @Override
+    public ClusterNode getNode(String nodeId) {
+        String[] parts = find(read(), "node", nodeId);
+        return parts != null ? toNode(parts) : null;
+    }
+
+    @Override
+    public ArrayList<ClusterNode> getNodes() {
+        ArrayList<String> entries = read();
+        ArrayList<ClusterNode> nodes = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            String[] parts = entries.get(i).split(" ");
+            if (parts[0].equals("node") && parts.length == 4) {
+                nodes.add(toNode(parts));
+            }
+        }
+        return nodes;
+    }
+
+    // ==================== Rooms ====================
+
+    @Override
+    public void assignRoom(String roomId, String nodeId) {
+        update(entries -> {
+            removeMatching(entries, "room", roomId);
+            entries.add("room " + roomId + " " + nodeId);
+        });
+    }
+
+    @Override
+    public void removeRoom(String roomId) {
+        update(entries -> {
+            removeMatching(entries, "room", roomId);
+            removeMatching(entries, "snapshot", roomId);
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                String[] parts = entries.get(i).split(" ");
+                if (parts[0].equals("session") && parts.length > 2 && parts[2].equals(roomId)) {
+                    entries.remove(i);
+                }
+            }
+        });
+    }
+
+    @Override
+    public String getRoomOwner(String roomId) {
+        String[] parts = find(read(), "room", roomId);
+        return parts != null && parts.length > 2 ? parts[2] : null;
+    }
+
+    @Override
+    public ArrayList<String> getRoomsOwnedBy(String nodeId) {
+        ArrayList<String> entries = read();
+        ArrayList<String> owned = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            String[] parts = entries.get(i).split(" ");
+            if (parts[0].equals("room") && parts.length > 2 && parts[2].equals(nodeId)) {
+                owned.add(parts[1]);
+            }
+        }
+        return owned;
+    }
+
+    // ==================== Migration ====================
+
+    @Override
+    public void migrateRoom(String roomId, byte[] snapshot, ArrayList<String> sessionTokens) {
+        String encoded = Base64.getEncoder().encodeToString(snapshot);
+        update(entries -> {
+            removeMatching(entries, "room", roomId);
+            removeMatching(entries, "snapshot", roomId);
+            entries.add("snapshot " + roomId + " " + encoded);
+            for (int i = 0; i < sessionTokens.size(); i++) {
+                removeMatching(entries, "session", sessionTokens.get(i));
+                entries.add("session " + sessionTokens.get(i) + " " + roomId);
+            }
+        });
+    }
+
+    @Override
+    public byte[] claimRoom(String roomId, String nodeId) {
+        String[] claimed = new String[1];
+        update(entries -> {
+            String[] parts = find(entries, "snapshot", roomId);
+            if (parts != null && parts.length > 2) {
+                claimed[0] = parts[2];
+                removeMatching(entries, "snapshot", roomId);
+                removeMatching(entries, "room", roomId);
+                entries.add("room " + roomId + " " + nodeId);
+            }
+        });
+        return claimed[0] != null ? Base64.getDecoder().decode(claimed[0]) : null;
+    }
+
+    @Override
+    public String getSessionRoom(String token) {
+        String[] parts = find(read(), "session", token);
+        return parts != null && parts.length > 2 ? parts[2] : null;
+    }
+
+    // ==================== File Access ====================
+
+    /**
+     * Modification applied under the exclusive lock
+     */
+    private interface Mutation {
+        void apply(ArrayList<String> entries);
+    }
+
+    /**
+     * Reads all entries under a shared lock
+     */
+    private synchronized ArrayList<String> read() {
+        if (!file.toFile().exists()) {
+            return new ArrayList<>();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            FileLock lock = channel.lock(0, Long.MAX_VALUE, true);
+            try {
+                return readEntries(channel);
+            } finally {
+                lock.release();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read room directory " + file, e);
+        }
+    }
+
+    /**
+     * Reads, modifies and rewrites the file under an exclusive lock
+     */
+    private synchronized void update(Mutation mutation) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                ArrayList<String> entries = readEntries(channel);
+                mutation.apply(entries);
+
+                StringBuilder content = new StringBuilder();
+                for (int i = 0; i < entries.size(); i++) {
+                    content.append(entries.get(i)).append('\n');
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8));
+                channel.truncate(0);
+                channel.position(0);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } finally {
+                lock.release();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot update room directory " + file, e);
+        }
+    }
+
+    /**
+     * Reads the whole file as non-empty lines
+     */
+    private static ArrayList<String> readEntries(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+        channel.position(0);
+        while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+            // keep reading
+        }
+        String content = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        ArrayList<String> entries = new ArrayList<>();
+        for (String line : content.split("\n")) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty()) {
+                entries.add(trimmed);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Finds the first entry of a kind with the given key
+     */
+    private static String[] find(ArrayList<String> entries, String kind, String key) {
+        for (int i = 0; i < entries.size(); i++) {
+            String[] parts = entries.get(i).split(" ");
+            if (parts[0].equals(kind) && parts.length > 1 && parts[1].equals(key)) {
+                return parts;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes all entries of a kind with the given key
+     */
+    private static void removeMatching(ArrayList<String> entries, String kind, String key) {
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            String[] parts = entries.get(i).split(" ");
+            if (parts[0].equals(kind) && parts.length > 1 && parts[1].equals(key)) {
+                entries.remove(i);
+            }
+        }
+    }
+
+    /**
+     * Converts a node entry to a ClusterNode
+     */
+    private static ClusterNode toNode(String[] parts) {
+        return new ClusterNode(parts[1], parts[2], Integer.parseInt(parts[3]));
+    }
+
+    public Path getFile() {
+        return file;
+    }
+}
@@ -0,0 +1,135 @@
+package com.monopoly.server.cluster;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.datastructures.HashTable;
+
+/**
+ * Room directory shared by nodes running in the same JVM.
+ * Used for local testing, where several Server instances and a router
+ * are started side by side.
+ */
+public class InProcessRoomDirectory implements RoomDirectory {
+
+    // Registered nodes (nodeId -> node)
+    private final HashTable<String, ClusterNode> nodes;
+
+    // Draining node IDs
+    private final HashTable<String, Boolean> draining;
+
+    // Room assignments (roomId -> nodeId)
+    private final HashTable<String, String> rooms;
+
+    // Parked snapshots of migrating rooms (roomId -> snapshot)
+    private final HashTable<String, byte[]> snapshots;
+
+    // Migrated sessions (resume token -> roomId)
+    private final HashTable<String, String> sessions;
+
+    /**
+     * Creates an empty directory
+     */
+    public InProcessRoomDirectory() {
+        this.nodes = new HashTable<>();
+        this.draining = new HashTable<>();
+        this.rooms = new HashTable<>();
+        this.snapshots = new HashTable<>();
+        this.sessions = new HashTable<>();
+    }
+
+    @Override
+    public synchronized void registerNode(ClusterNode node) {
+        nodes.put(node.getNodeId(), node);
+        draining.remove(node.getNodeId());
+    }
+
+    @Override
+    public synchronized void removeNode(String nodeId) {
+        nodes.remove(nodeId);
+        draining.remove(nodeId);
+        ArrayList<String> owned = getRoomsOwnedBy(nodeId);
+        for (int i = 0; i < owned.size(); i++) {
+            rooms.remove(owned.get(i));
+        }
+    }
+
+    @Override
+    public synchronized void markDraining(String nodeId) {
+        if (nodes.containsKey(nodeId)) {
+            draining.put(nodeId, true);
+        }
+    }
+
+    @Override
+    public synchronized boolean isDraining(String nodeId) {
+        return draining.containsKey(nodeId);
+    }
+
+    @Override
+    public synchronized ClusterNode getNode(String nodeId) {
+        return nodes.get(nodeId);
+    }
+
+    @Override
+    public synchronized ArrayList<ClusterNode> getNodes() {
+        return nodes.values();
+    }
+
+    @Override
+    public synchronized void assignRoom(String roomId, String nodeId) {
+        rooms.put(roomId, nodeId);
+    }
+
+    @Override
+    public synchronized void removeRoom(String roomId) {
+        rooms.remove(roomId);
+        snapshots.remove(roomId);
+        ArrayList<String> tokens = new ArrayList<>();
+        for (HashTable.Entry<String, String> entry : sessions) {
+            if (roomId.equals(entry.getValue())) {
+                tokens.add(entry.getKey());
+            }
+        }
+        for (int i = 0; i < tokens.size(); i++) {
+            sessions.remove(tokens.get(i));
+        }
+    }
+
+    @Override
+    public synchronized String getRoomOwner(String roomId) {
+        return rooms.get(roomId);
+    }
+
+    @Override
+    public synchronized ArrayList<String> getRoomsOwnedBy(String nodeId) {
+        ArrayList<String> owned = new ArrayList<>();
+        for (HashTable.Entry<String, String> entry : rooms) {
+            if (nodeId.equals(entry.getValue())) {
+                owned.add(entry.getKey());
+            }
+        }
+        return owned;
+    }
+
+    @Override
+    public synchronized void migrateRoom(String roomId, byte[] snapshot, ArrayList<String> sessionTokens) {
+        rooms.remove(roomId);
+        snapshots.put(roomId, snapshot);
+        for (int i = 0; i < sessionTokens.size(); i++) {
+            sessions.put(sessionTokens.get(i), roomId);
+        }
+    }
+
+    @Override
+    public synchronized byte[] claimRoom(String roomId, String nodeId) {
+        byte[] snapshot = snapshots.remove(roomId);
+        if (snapshot != null) {
+            rooms.put(roomId, nodeId);
+        }
+        return snapshot;
+    }
+
+    @Override
+    public synchronized String getSessionRoom(String token) {
+        return sessions.get(token);
+    }
+}
@@ -0,0 +1,102 @@
+package com.monopoly.server.cluster;
+
+import com.monopoly.datastructures.ArrayList;
+
+/**
+ * Shared registry of cluster nodes and the rooms they own.
+ * Implementations must be safe to use from several threads, and (for the
+ * file-backed one) from several processes on the same machine.
+ */
+public interface RoomDirectory {
+
+    /**
+     * Registers a node (or updates its address)
+     * @param node Node to register
+     */
+    void registerNode(ClusterNode node);
+
+    /**
+     * Removes a node and every room assignment pointing at it
+     * @param nodeId Node ID
+     */
+    void removeNode(String nodeId);
+
+    /**
+     * Marks a node as draining: it keeps its rooms but gets no new ones
+     * @param nodeId Node ID
+     */
+    void markDraining(String nodeId);
+
+    /**
+     * Checks if a node is draining
+     * @param nodeId Node ID
+     * @return true if draining
+     */
+    boolean isDraining(String nodeId);
+
+    /**
+     * Gets a registered node
+     * @param nodeId Node ID
+     * @return Node or null
+     */
+    ClusterNode getNode(String nodeId);
+
+    /**
+     * Gets all registered nodes, draining ones included
+     * @return Nodes
+     */
+    ArrayList<ClusterNode> getNodes();
+
+    /**
+     * Records which node owns a room
+     * @param roomId Room ID
+     * @param nodeId Owning node
+     */
+    void assignRoom(String roomId, String nodeId);
+
+    /**
+     * Forgets a room, along with any parked snapshot and session entries
+     * @param roomId Room ID
+     */
+    void removeRoom(String roomId);
+
+    /**
+     * Gets the owner of a room
+     * @param roomId Room ID
+     * @return Node ID or null if unassigned
+     */
+    String getRoomOwner(String roomId);
+
+    /**
+     * Gets the rooms assigned to a node
+     * @param nodeId Node ID
+     * @return Room IDs
+     */
+    ArrayList<String> getRoomsOwnedBy(String nodeId);
+
+    /**
+     * Parks a live room for another node to pick up: drops its owner (so the
+     * router places it on the ring again), stores its snapshot and remembers
+     * which room each resume token belongs to
+     * @param roomId Room ID
+     * @param snapshot Room snapshot
+     * @param sessionTokens Resume tokens of the seated players
+     */
+    void migrateRoom(String roomId, byte[] snapshot, ArrayList<String> sessionTokens);
+
+    /**
+     * Takes a parked snapshot and assigns the room to a node, atomically,
+     * so only one node ever restores it
+     * @param roomId Room ID
+     * @param nodeId Node taking the room
+     * @return Snapshot, or null if none is parked
+     */
+    byte[] claimRoom(String roomId, String nodeId);
+
+    /**
+     * Gets the room a migrated session belongs to
+     * @param token Resume token
+     * @return Room ID or null
+     */
+    String getSessionRoom(String token);
+}
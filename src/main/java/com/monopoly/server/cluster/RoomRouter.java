@@ -0,0 +1,143 @@
+package com.monopoly.server.cluster;
+
+import com.monopoly.datastructures.ArrayList;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which node owns a room.
+ * Rooms already recorded in the directory stay where they are; new rooms
+ * go to the consistent-hash owner among the nodes that are not draining.
+ * The ring is rebuilt from the directory at most once per REFRESH_MS.
+ */
+public class RoomRouter {
+
+    /** How long a directory read is trusted */
+    public static final long REFRESH_MS = 1000;
+
+    /** Key used to place connections that never name a room */
+    public static final String LOBBY_KEY = "lobby";
+
+    // Shared directory
+    private final RoomDirectory directory;
+
+    // Ring over the nodes accepting new rooms
+    private final ConsistentHashRing ring;
+
+    // Last ring refresh
+    private volatile long refreshedAt;
+
+    // Source of unique room IDs
+    private final AtomicLong roomCounter;
+    private final String roomIdPrefix;
+
+    /**
+     * Creates a router
+     * @param directory Shared room directory
+     */
+    public RoomRouter(RoomDirectory directory) {
+        this.directory = directory;
+        this.ring = new ConsistentHashRing();
+        this.refreshedAt = 0;
+        this.roomCounter = new AtomicLong();
+        this.roomIdPrefix = "room_" + Long.toString(System.currentTimeMillis(), 36) + "_";
+    }
+
+    /**
+     * Rebuilds the ring if the cached membership is stale
+     */
+    private void refresh() {
+        long now = System.currentTimeMillis();
+        if (now - refreshedAt < REFRESH_MS) {
+            return;
+        }
+        synchronized (this) {
+            if (now - refreshedAt < REFRESH_MS) {
+                return;
+            }
+            ArrayList<ClusterNode> nodes = directory.getNodes();
+            ArrayList<ClusterNode> active = new ArrayList<>();
+            for (int i = 0; i < nodes.size(); i++) {
+                if (!directory.isDraining(nodes.get(i).getNodeId())) {
+                    active.add(nodes.get(i));
+                }
+            }
+            ring.setNodes(active);
+            refreshedAt = now;
+        }
+    }
+
+    /**
+     * Forces the next lookup to re-read the directory
+     */
+    public void invalidate() {
+        refreshedAt = 0;
+    }
+
+    /**
+     * Finds the node that owns (or should own) a room
+     * @param roomId Room ID
+     * @return Owning node, or null if no node is available
+     */
+    public ClusterNode ownerOf(String roomId) {
+        String assigned = directory.getRoomOwner(roomId);
+        if (assigned != null) {
+            ClusterNode node = directory.getNode(assigned);
+            if (node != null) {
+                return node;
+            }
+        }
+        refresh();
+        return ring.nodeFor(roomId);
+    }
+
+    /**
+     * Finds the node for connections that are not tied to a room yet
+     * @return Lobby node, or null if no node is available
+     */
+    public ClusterNode lobbyNode() {
+        refresh();
+        return ring.nodeFor(LOBBY_KEY);
+    }
+
+    /**
+     * Finds the node holding a resume token's session: the current owner of
+     * its room if the room was migrated, otherwise the node that issued it
+     * @param token Resume token of the form nodeId.hex
+     * @return Node, or null if unknown
+     */
+    public ClusterNode nodeForToken(String token) {
+        if (token == null) {
+            return null;
+        }
+        String migratedRoom = directory.getSessionRoom(token);
+        if (migratedRoom != null) {
+            if (directory.getRoomOwner(migratedRoom) == null) {
+                // Parked by a node that just started draining: place it on a fresh ring
+                invalidate();
+            }
+            return ownerOf(migratedRoom);
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        return directory.getNode(token.substring(0, dot));
+    }
+
+    /**
+     * Generates a room ID that is unique across the cluster
+     * @return New room ID
+     */
+    public String newRoomId() {
+        return roomIdPrefix + roomCounter.incrementAndGet();
+    }
+
+    /**
+     * Gets the directory
+     * @return Room directory
+     */
+    public RoomDirectory getDirectory() {
+        return directory;
+    }
+}
@@ -0,0 +1,258 @@
+package com.monopoly.server.cluster;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.network.protocol.ClientCommand;
+import com.monopoly.network.protocol.MessageType;
+import com.monopoly.util.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Lightweight front door for a cluster of game servers.
+ * A client connects here and says HELLO as usual; the router holds those
+ * lines until the first command that names a destination (CREATE_ROOM,
+ * JOIN_ROOM, SPECTATE or RESUME), opens a connection to the owning node,
+ * replays what it held and then just copies bytes both ways. Clients that
+ * send nothing routable within ROUTE_WAIT_MS go to the lobby node.
+ * A connection stays pinned to the node it was routed to; moving to a room
+ * on another node means reconnecting through the router.
+ */
+public class RouterServer {
+
+    // Shared logger
+    private static final Logger LOG = Logger.getInstance();
+
+    /** How long to wait for a routable command before using the lobby node */
+    public static final int ROUTE_WAIT_MS = 2000;
+
+    /** Lines held per connection before routing is forced */
+    public static final int MAX_HELD_LINES = 16;
+
+    // Listening port
+    private final int port;
+
+    // Routing decisions
+    private final RoomRouter router;
+
+    // One thread per direction per proxied connection
+    private final ExecutorService executorService;
+
+    // Server socket
+    private ServerSocket serverSocket;
+
+    // Router state
+    private volatile boolean isRunning;
+
+    /**
+     * Creates a router
+     * @param port Port to listen on
+     * @param router Room router
+     */
+    public RouterServer(int port, RoomRouter router) {
+        this.port = port;
+        this.router = router;
+        this.executorService = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "router-pipe");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts accepting connections (blocking)
+     */
+    public void start() {
+        try {
+            serverSocket = new ServerSocket(port);
+            isRunning = true;
+            LOG.info("Cluster router started on port {}", port);
+        } catch (IOException e) {
+            LOG.error("Failed to start router: {}", e.getMessage());
+            return;
+        }
+
+        while (isRunning) {
+            try {
+                Socket client = serverSocket.accept();
+                executorService.submit(() -> route(client));
+            } catch (IOException e) {
+                if (isRunning) {
+                    LOG.error("Router accept error: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops the router and drops all proxied connections
+     */
+    public void stop() {
+        isRunning = false;
+        try {
+            if (serverSocket != null && !serverSocket.isClosed()) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            LOG.error("Error closing router socket: {}", e.getMessage());
+        }
+        executorService.shutdownNow();
+    }
+
+    // ==================== Connection Routing ====================
+
+    /**
+     * Picks a backend for a new connection and starts piping
+     * @param client Client socket
+     */
+    private void route(Socket client) {
+        Socket backend = null;
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(client.getInputStream()));
+            ArrayList<String> held = new ArrayList<>();
+            ClusterNode target = null;
+
+            client.setSoTimeout(ROUTE_WAIT_MS);
+            try {
+                while (target == null && held.size() < MAX_HELD_LINES) {
+                    String line = reader.readLine();
+                    if (line == null) {
+                        client.close();
+                        return;
+                    }
+                    if (line.trim().isEmpty()) {
+                        continue;
+                    }
+                    ClientCommand command = ClientCommand.fromJson(line.trim());
+                    if (command != null && command.getCommandType() == MessageType.CREATE_ROOM
+                            && command.getRoomId() == null) {
+                        // Pick the room ID here so the command lands on its owner
+                        command.setRoomId(router.newRoomId());
+                        line = command.serialize();
+                    }
+                    held.add(line);
+                    target = targetOf(command);
+                }
+            } catch (SocketTimeoutException e) {
+                // Nothing routable yet
+            }
+            client.setSoTimeout(0);
+
+            if (target == null) {
+                target = router.lobbyNode();
+            }
+            if (target == null) {
+                LOG.warn("No cluster node available for {}", client.getInetAddress());
+                client.close();
+                return;
+            }
+
+            backend = new Socket(target.getHost(), target.getPort());
+            PrintWriter backendWriter = new PrintWriter(backend.getOutputStream(), true);
+            for (int i = 0; i < held.size(); i++) {
+                backendWriter.println(held.get(i));
+            }
+
+            Socket backendSocket = backend;
+            executorService.submit(() -> pipe(backendSocket, client));
+            forwardLines(reader, backendWriter, client, backend);
+        } catch (IOException e) {
+            LOG.error("Router connection error: {}", e.getMessage());
+            closeQuietly(client);
+            closeQuietly(backend);
+        }
+    }
+
+    /**
+     * Gets the node a command must be sent to
+     * @param command Parsed command (may be null)
+     * @return Target node, or null if the command does not name one
+     */
+    private ClusterNode targetOf(ClientCommand command) {
+        if (command == null) {
+            return null;
+        }
+        switch (command.getCommandType()) {
+            case CREATE_ROOM:
+            case JOIN_ROOM:
+            case SPECTATE:
+                return command.getRoomId() != null ? router.ownerOf(command.getRoomId()) : null;
+            case RESUME:
+                return router.nodeForToken(command.getStringParameter("resumeToken"));
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Copies client lines to the backend until either side closes
+     */
+    private void forwardLines(BufferedReader reader, PrintWriter writer, Socket client, Socket backend) {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                writer.println(line);
+                if (writer.checkError()) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            // Either side closed
+        } finally {
+            closeQuietly(client);
+            closeQuietly(backend);
+        }
+    }
+
+    /**
+     * Copies raw bytes from one socket to another until either side closes
+     */
+    private void pipe(Socket from, Socket to) {
+        byte[] buffer = new byte[8192];
+        try {
+            InputStream in = from.getInputStream();
+            OutputStream out = to.getOutputStream();
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                out.flush();
+            }
+        } catch (IOException e) {
+            // Either side closed
+        } finally {
+            closeQuietly(from);
+            closeQuietly(to);
+        }
+    }
+
+    /**
+     * Closes a socket ignoring errors
+     */
+    private static void closeQuietly(Socket socket) {
+        if (socket == null) {
+            return;
+        }
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Already closed
+        }
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public boolean isRunning() {
+        return isRunning;
+    }
+}
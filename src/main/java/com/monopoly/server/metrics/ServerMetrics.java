@@ -0,0 +1,360 @@
+package com.monopoly.server.metrics;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.network.protocol.MessageType;
+import com.monopoly.util.Logger;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Metrics registry of one server.
+ * Hot-path recording only touches preallocated atomics: command latency
+ * histograms indexed by MessageType ordinal, broadcast and serializer
+ * histograms, byte counters, and a counter object per room that the room
+ * looks up once when it is created. Gauges such as outbound backlogs are
+ * read only when the metrics are rendered. The plain-text rendering is
+ * served over HTTP on the loopback interface and/or dumped to a file
+ * periodically.
+ */
+public class ServerMetrics {
+
+    // Shared logger
+    private static final Logger LOG = Logger.getInstance();
+
+    /** Interval at which per-room command rates are computed */
+    public static final long RATE_INTERVAL_MS = 1000;
+
+    /**
+     * Counters of one room
+     */
+    public static class RoomCounters {
+        // Commands processed so far
+        private final AtomicLong commands = new AtomicLong();
+
+        // Commands per second over the last rate interval
+        private volatile double rate;
+        private long lastCommands;
+
+        // Outbound backlog of the room (spectator frames not yet written)
+        private volatile LongSupplier backlog;
+
+        /**
+         * Counts one processed command
+         */
+        public void commandProcessed() {
+            commands.incrementAndGet();
+        }
+
+        /**
+         * Sets the gauge reporting the room's outbound backlog
+         * @param backlog Backlog supplier
+         */
+        public void setBacklog(LongSupplier backlog) {
+            this.backlog = backlog;
+        }
+
+        public long getCommands() {
+            return commands.get();
+        }
+
+        public double getRate() {
+            return rate;
+        }
+    }
+
+    // Latency of processCommand per command type
+    private final LatencyHistogram[] commandLatency;
+
+    // Fan-out of room broadcasts: time per broadcast and recipients reached
+    private final LatencyHistogram broadcastLatency;
+    private final LongAdder broadcastRecipients;
+
+    // Time spent in Serializer / message encoding
+    private final LatencyHistogram serializerLatency;
+
+    // Socket traffic (LongAdder cells are created once under contention, not per call)
+    private final LongAdder bytesIn;
+    private final LongAdder bytesOut;
+
+    // Counters per live room
+    private final ConcurrentHashMap<String, RoomCounters> rooms;
+
+    // Server-wide gauges by name
+    private final ConcurrentHashMap<String, LongSupplier> gauges;
+
+    // Creation time, for uptime
+    private final long startedAt;
+
+    // Exporters (null until started)
+    private ScheduledExecutorService scheduler;
+    private HttpServer httpServer;
+
+    public ServerMetrics() {
+        this.commandLatency = new LatencyHistogram[MessageType.values().length];
+        for (int i = 0; i < commandLatency.length; i++) {
+            commandLatency[i] = new LatencyHistogram();
+        }
+        this.broadcastLatency = new LatencyHistogram();
+        this.broadcastRecipients = new LongAdder();
+        this.serializerLatency = new LatencyHistogram();
+        this.bytesIn = new LongAdder();
+        this.bytesOut = new LongAdder();
+        this.rooms = new ConcurrentHashMap<>();
+        this.gauges = new ConcurrentHashMap<>();
+        this.startedAt = System.currentTimeMillis();
+    }
+
+    // ==================== Recording ====================
+
+    /**
+     * Records the processing time of a command
+     * @param type Command type
+     * @param nanos Duration
+     */
+    public void recordCommand(MessageType type, long nanos) {
+        commandLatency[type.ordinal()].record(nanos);
+    }
+
+    /**
+     * Records one room broadcast
+     * @param recipients Connections the message was handed to
+     * @param nanos Duration
+     */
+    public void recordBroadcast(int recipients, long nanos) {
+        broadcastLatency.record(nanos);
+        broadcastRecipients.add(recipients);
+    }
+
+    /**
+     * Records time spent serializing a message or game state
+     * @param nanos Duration
+     */
+    public void recordSerialization(long nanos) {
+        serializerLatency.record(nanos);
+    }
+
+    public void addBytesIn(long bytes) {
+        bytesIn.add(bytes);
+    }
+
+    public void addBytesOut(long bytes) {
+        bytesOut.add(bytes);
+    }
+
+    /**
+     * Gets the counters of a room, creating them on first use.
+     * Rooms call this once and keep the result.
+     * @param roomId Room ID
+     * @return Room counters
+     */
+    public RoomCounters room(String roomId) {
+        return rooms.computeIfAbsent(roomId, id -> new RoomCounters());
+    }
+
+    /**
+     * Drops the counters of a closed room
+     * @param roomId Room ID
+     */
+    public void removeRoom(String roomId) {
+        rooms.remove(roomId);
+    }
+
+    /**
+     * Registers a server-wide gauge read at render time
+     * @param name Metric name
+     * @param gauge Value supplier
+     */
+    public void registerGauge(String name, LongSupplier gauge) {
+        gauges.put(name, gauge);
+    }
+
+    // ==================== Reading ====================
+
+    /**
+     * Gets the latency histogram of a command type
+     * @param type Command type
+     * @return Histogram
+     */
+    public LatencyHistogram getCommandLatency(MessageType type) {
+        return commandLatency[type.ordinal()];
+    }
+
+    public LatencyHistogram getBroadcastLatency() {
+        return broadcastLatency;
+    }
+
+    public LatencyHistogram getSerializerLatency() {
+        return serializerLatency;
+    }
+
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    /**
+     * Updates the per-room command rates
+     */
+    private void updateRates() {
+        for (RoomCounters counters : rooms.values()) {
+            long commands = counters.commands.get();
+            counters.rate = (commands - counters.lastCommands) * 1000.0 / RATE_INTERVAL_MS;
+            counters.lastCommands = commands;
+        }
+    }
+
+    /**
+     * Renders all metrics as plain text, one "name value" per line
+     * @return Metrics text
+     */
+    public String render() {
+        StringBuilder text = new StringBuilder(4096);
+        text.append("uptime_seconds ").append((System.currentTimeMillis() - startedAt) / 1000).append('\n');
+        text.append("bytes_in ").append(bytesIn.sum()).append('\n');
+        text.append("bytes_out ").append(bytesOut.sum()).append('\n');
+        for (Map.Entry<String, LongSupplier> gauge : gauges.entrySet()) {
+            text.append(gauge.getKey()).append(' ').append(gauge.getValue().getAsLong()).append('\n');
+        }
+
+        MessageType[] types = MessageType.values();
+        for (int i = 0; i < types.length; i++) {
+            if (commandLatency[i].getCount() > 0) {
+                appendHistogram(text, "command_latency{type=\"" + types[i] + "\"}", commandLatency[i]);
+            }
+        }
+        appendHistogram(text, "broadcast_latency", broadcastLatency);
+        text.append("broadcast_recipients ").append(broadcastRecipients.sum()).append('\n');
+        appendHistogram(text, "serializer_latency", serializerLatency);
+
+        ArrayList<String> roomIds = new ArrayList<>();
+        for (String roomId : rooms.keySet()) {
+            roomIds.add(roomId);
+        }
+        for (int i = 0; i < roomIds.size(); i++) {
+            RoomCounters counters = rooms.get(roomIds.get(i));
+            if (counters == null) {
+                continue;
+            }
+            String label = "{room=\"" + roomIds.get(i) + "\"}";
+            text.append("room_commands").append(label).append(' ').append(counters.getCommands()).append('\n');
+            text.append("room_commands_per_second").append(label).append(' ')
+                .append(String.format("%.1f", counters.getRate())).append('\n');
+            LongSupplier backlog = counters.backlog;
+            if (backlog != null) {
+                text.append("room_outbound_backlog").append(label).append(' ').append(backlog.getAsLong()).append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Appends count, mean, percentiles and max of a histogram (microseconds)
+     */
+    private static void appendHistogram(StringBuilder text, String name, LatencyHistogram histogram) {
+        text.append(name).append("_count ").append(histogram.getCount()).append('\n');
+        text.append(name).append("_mean_us ").append(String.format("%.1f", histogram.getMean() / 1000.0)).append('\n');
+        text.append(name).append("_p50_us ").append(histogram.getPercentile(50) / 1000).append('\n');
+        text.append(name).append("_p99_us ").append(histogram.getPercentile(99) / 1000).append('\n');
+        text.append(name).append("_p999_us ").append(histogram.getPercentile(99.9) / 1000).append('\n');
+        text.append(name).append("_max_us ").append(histogram.getMax() / 1000).append('\n');
+    }
+
+    // ==================== Exporters ====================
+
+    /**
+     * Starts the background thread computing room rates (and dumps)
+     */
+    private synchronized ScheduledExecutorService scheduler() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleAtFixedRate(this::updateRates, RATE_INTERVAL_MS, RATE_INTERVAL_MS,
+                                          TimeUnit.MILLISECONDS);
+        }
+        return scheduler;
+    }
+
+    /**
+     * Serves the metrics as text/plain at /metrics on the loopback interface
+     * @param port Port (0 picks a free one)
+     * @return Bound port
+     * @throws IOException if the port cannot be bound
+     */
+    public synchronized int startHttp(int port) throws IOException {
+        scheduler();
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        httpServer.createContext("/metrics", exchange -> {
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        httpServer.start();
+        int bound = httpServer.getAddress().getPort();
+        LOG.info("Serving metrics on http://localhost:{}/metrics", bound);
+        return bound;
+    }
+
+    /**
+     * Rewrites a file with the rendered metrics at a fixed interval
+     * @param file Dump file (replaced atomically)
+     * @param intervalMs Interval between dumps
+     */
+    public void startDump(Path file, long intervalMs) {
+        scheduler().scheduleAtFixedRate(() -> dump(file), intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        LOG.info("Dumping metrics to {} every {} ms", file, intervalMs);
+    }
+
+    /**
+     * Writes the rendered metrics to a file
+     * @param file Dump file
+     */
+    public void dump(Path file) {
+        try {
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(temp, render().getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.error("Could not dump metrics to {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Stops the HTTP endpoint and the dump thread
+     */
+    public synchronized void stop() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpServer = null;
+        }
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.monopoly.transaction;
+
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+import com.monopoly.model.property.Property;
+
+/**
+ * Atomic operations that move assets between players, for use in a
+ * UnitOfWork. Each operation records what it did so its rollback is the
+ * exact inverse.
+ */
+public final class AssetTransfers {
+
+    private AssetTransfers() {
+    }
+
+    // ==================== Factories ====================
+
+    /**
+     * Moves money through the ledger. Rollback is a compensating transfer
+     * the other way, so the ledger keeps both entries.
+     * @param gameState Game state
+     * @param type What the money is for
+     * @param fromId Payer (a player ID or Transaction.BANK_ID)
+     * @param toId Receiver (a player ID or Transaction.BANK_ID)
+     * @param amount Amount
+     * @return Operation
+     */
+    public static AtomicOperation money(GameState gameState, TransactionType type, int fromId, int toId, int amount) {
+        return new MoneyTransfer(gameState, type, fromId, toId, amount);
+    }
+
+    /**
+     * Hands a property from one player to another
+     * @param from Current owner
+     * @param to New owner
+     * @param property Property
+     * @return Operation
+     */
+    public static AtomicOperation property(Player from, Player to, Property property) {
+        return new PropertyTransfer(from, to, property);
+    }
+
+    /**
+     * Hands Get Out of Jail Free cards from one player to another. The
+     * giver is not released from jail.
+     * @param from Giving player
+     * @param to Receiving player
+     * @param count Number of cards
+     * @return Operation
+     */
+    public static AtomicOperation jailCards(Player from, Player to, int count) {
+        return new JailCardTransfer(from, to, count);
+    }
+
+    // ==================== Operations ====================
+
+    private static final class MoneyTransfer implements AtomicOperation {
+
+        private final GameState gameState;
+        private final TransactionType type;
+        private final int fromId;
+        private final int toId;
+        private final int amount;
+
+        MoneyTransfer(GameState gameState, TransactionType type, int fromId, int toId, int amount) {
+            this.gameState = gameState;
+            this.type = type;
+            this.fromId = fromId;
+            this.toId = toId;
+            this.amount = amount;
+        }
+
+        @Override
+        public boolean validate() {
+            if (fromId == Transaction.BANK_ID) {
+                return true;
+            }
+            Player payer = gameState.getPlayer(fromId);
+            return payer != null && payer.canAfford(amount);
+        }
+
+        @Override
+        public boolean execute() {
+            return gameState.getLedger().transfer(type, fromId, toId, amount, Transaction.NO_PROPERTY);
+        }
+
+        @Override
+        public void rollback() {
+            gameState.getLedger().transfer(type, toId, fromId, amount, Transaction.NO_PROPERTY);
+        }
+
+        @Override
+        public String getDescription() {
+            return "pay $" + amount + " from " + fromId + " to " + toId;
+        }
+    }
+
+    private static final class PropertyTransfer implements AtomicOperation {
+
+        private final Player from;
+        private final Player to;
+        private final Property property;
+
+        PropertyTransfer(Player from, Player to, Property property) {
+            this.from = from;
+            this.to = to;
+            this.property = property;
+        }
+
+        @Override
+        public boolean validate() {
+            return property != null && property.getOwnerId() == from.getId();
+        }
+
+        @Override
+        public boolean execute() {
+            if (property.getOwnerId() != from.getId()) {
+                return false;
+            }
+            from.removeProperty(property);
+            to.addProperty(property);
+            return true;
+        }
+
+        @Override
+        public void rollback() {
+            to.revokeProperty(property);
+            from.restoreProperty(property);
+        }
+
+        @Override
+        public String getDescription() {
+            return "give " + property.getName() + " from " + from.getId() + " to " + to.getId();
+        }
+    }
+
+    private static final class JailCardTransfer implements AtomicOperation {
+
+        private final Player from;
+        private final Player to;
+        private final int count;
+
+        JailCardTransfer(Player from, Player to, int count) {
+            this.from = from;
+            this.to = to;
+            this.count = count;
+        }
+
+        @Override
+        public boolean validate() {
+            return from.getGetOutOfJailCards() >= count;
+        }
+
+        @Override
+        public boolean execute() {
+            if (from.getGetOutOfJailCards() < count) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                from.removeGetOutOfJailCard();
+                to.addGetOutOfJailCard();
+            }
+            return true;
+        }
+
+        @Override
+        public void rollback() {
+            for (int i = 0; i < count; i++) {
+                to.removeGetOutOfJailCard();
+                from.addGetOutOfJailCard();
+            }
+        }
+
+        @Override
+        public String getDescription() {
+            return "give " + count + " jail card(s) from " + from.getId() + " to " + to.getId();
+        }
+    }
+}
@@ -2,13 +2,32 @@ package com.monopoly.transaction;
 
 /**
  * Represents an atomic operation that can be executed and rolled back.
- * Used for ensuring transactions are all-or-nothing.
+ * Used for ensuring transactions are all-or-nothing: a UnitOfWork validates
+ * every operation up front, executes them in order and, if one fails,
+ * rolls back the ones already executed in reverse order.
  */
 public interface AtomicOperation {
 
-    // TODO: Define execute() - performs the operation
-    // TODO: Define rollback() - undoes the operation
-    // TODO: Define validate() - checks if operation can be executed
-    // TODO: Define getDescription() - human-readable description
+    /**
+     * Checks if the operation can be executed against the current state
+     * @return true if it can
+     */
+    boolean validate();
 
+    /**
+     * Performs the operation
+     * @return false if it could not be applied (nothing was changed)
+     */
+    boolean execute();
+
+    /**
+     * Undoes a successful execute()
+     */
+    void rollback();
+
+    /**
+     * Gets a human-readable description
+     * @return Description
+     */
+    String getDescription();
 }
@@ -2,25 +2,104 @@ package com.monopoly.transaction;
 
 /**
  * Represents a single transaction in the game.
- * Transactions must be atomic (all-or-nothing).
+ * A transaction is one completed transfer of money between two accounts
+ * (a player or the bank). The ledger stores transactions in flat arrays
+ * and only materializes Transaction objects when they are queried.
  */
 public class Transaction {
 
-    // TODO: Implement transactionId field
-    // TODO: Implement transactionType field (enum TransactionType)
-    // TODO: Implement fromPlayerId field (can be BANK_ID for bank)
-    // TODO: Implement toPlayerId field (can be BANK_ID for bank)
-    // TODO: Implement amount field
-    // TODO: Implement relatedPropertyId field (optional, for property transactions)
-    // TODO: Implement timestamp field
-    // TODO: Implement isCompleted field
-    // TODO: Implement isReversed field
-    
-    // TODO: Implement constructor
-    // TODO: Implement getters for all fields
-    // TODO: Implement execute() - performs the transaction
-    // TODO: Implement reverse() - undoes the transaction
-    // TODO: Implement validate() - checks if transaction is valid
-    // TODO: Implement toString()
+    /** Account ID of the bank */
+    public static final int BANK_ID = -1;
 
+    /** Related property ID when the transfer is not about a property */
+    public static final int NO_PROPERTY = -1;
+
+    // Ledger sequence (starts at 1)
+    private final long transactionId;
+
+    // What the money was for
+    private final TransactionType transactionType;
+
+    // Paying and receiving accounts (BANK_ID for the bank)
+    private final int fromPlayerId;
+    private final int toPlayerId;
+
+    // Amount moved
+    private final int amount;
+
+    // Property the transfer concerns, or NO_PROPERTY
+    private final int relatedPropertyId;
+
+    // Wall-clock time of the transfer
+    private final long timestamp;
+
+    /**
+     * Creates a transaction record
+     * @param transactionId Ledger sequence
+     * @param transactionType Type
+     * @param fromPlayerId Payer account
+     * @param toPlayerId Receiver account
+     * @param amount Amount
+     * @param relatedPropertyId Property ID or NO_PROPERTY
+     * @param timestamp Time of the transfer
+     */
+    public Transaction(long transactionId, TransactionType transactionType, int fromPlayerId,
+                       int toPlayerId, int amount, int relatedPropertyId, long timestamp) {
+        this.transactionId = transactionId;
+        this.transactionType = transactionType;
+        this.fromPlayerId = fromPlayerId;
+        this.toPlayerId = toPlayerId;
+        this.amount = amount;
+        this.relatedPropertyId = relatedPropertyId;
+        this.timestamp = timestamp;
+    }
+
+    // ==================== Getters ====================
+
+    public long getTransactionId() {
+        return transactionId;
+    }
+
+    public TransactionType getTransactionType() {
+        return transactionType;
+    }
+
+    public int getFromPlayerId() {
+        return fromPlayerId;
+    }
+
+    public int getToPlayerId() {
+        return toPlayerId;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public int getRelatedPropertyId() {
+        return relatedPropertyId;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public boolean isFromBank() {
+        return fromPlayerId == BANK_ID;
+    }
+
+    public boolean isToBank() {
+        return toPlayerId == BANK_ID;
+    }
+
+    @Override
+    public String toString() {
+        return "Transaction{" +
+                "id=" + transactionId +
+                ", type=" + transactionType +
+                ", from=" + (isFromBank() ? "bank" : String.valueOf(fromPlayerId)) +
+                ", to=" + (isToBank() ? "bank" : String.valueOf(toPlayerId)) +
+                ", amount=" + amount +
+                '}';
+    }
 }
@@ -1,25 +1,474 @@
 package com.monopoly.transaction;
 
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.datastructures.HashTable;
+import com.monopoly.model.game.Bank;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
- * Manages all transactions in the game.
- * Ensures transactions are atomic (all-or-nothing).
+ * Money ledger of one game.
+ * Every transfer moves the money on the players and the bank and is
+ * recorded into a preallocated ring buffer of primitive columns, so
+ * recording allocates nothing. Running balances, pairwise flows and
+ * per-type totals are updated with each transfer, which makes flow and
+ * total queries O(1).
+ * Transfers come from the room thread only (commands are serialized), so
+ * the ledger has a single writer and takes no locks; a transfer is
+ * published by a volatile write of its sequence and readers only look at
+ * entries up to the published sequence.
  */
 public class TransactionManager {
 
-    // TODO: Implement gameState field
-    // TODO: Implement transactionHistory field (for logging)
-    // TODO: Implement financialGraph field (Graph for tracking interactions)
-    
-    // TODO: Implement constructor(GameState gameState)
-    // TODO: Implement transferMoney(int fromId, int toId, int amount) - returns success
-    // TODO: Implement buyProperty(int playerId, int propertyId) - atomic buy
-    // TODO: Implement payRent(int payerId, int ownerId, int amount) - atomic rent payment
-    // TODO: Implement collectFromBank(int playerId, int amount)
-    // TODO: Implement payToBank(int playerId, int amount)
-    // TODO: Implement executeTrade(TradeProposal trade) - atomic trade execution
-    // TODO: Implement validateTransaction(Transaction transaction)
-    // TODO: Implement recordTransaction(Transaction transaction)
-    // TODO: Implement getTransactionHistory()
-    // TODO: Implement updateFinancialGraph(int fromId, int toId, int amount)
+    /** Transactions kept in the ring buffer (power of two) */
+    public static final int HISTORY_CAPACITY = 4096;
+
+    /** Initial number of account slots (the bank plus players) */
+    private static final int INITIAL_ACCOUNTS = 9;
+
+    // Game whose money this ledger moves
+    private final GameState gameState;
+
+    // Ring buffer columns, indexed by sequence & (HISTORY_CAPACITY - 1)
+    private final byte[] types;
+    private final int[] fromIds;
+    private final int[] toIds;
+    private final int[] amounts;
+    private final int[] propertyIds;
+    private final long[] timestamps;
+
+    // Last published sequence (0 before the first transfer)
+    private volatile long published;
+
+    // First sequence held in the ring buffer (later than 1 after a restore)
+    private long firstRetained;
+
+    // Account slot of each account ID, assigned on first use
+    private final HashTable<Integer, Integer> accountSlots;
+    private int accountCount;
+
+    // Running balance per account slot
+    private long[] balances;
+
+    // Sequence of the transfer that opened each account slot
+    private long[] openedAt;
+
+    // Money moved from one slot to another, cumulative
+    private long[][] flows;
+
+    // Money moved per transaction type, cumulative
+    private final long[] totalsByType;
+    private final int[] countsByType;
+
+    /**
+     * Creates an empty ledger for a game
+     * @param gameState Game state
+     */
+    public TransactionManager(GameState gameState) {
+        this.gameState = gameState;
+        this.types = new byte[HISTORY_CAPACITY];
+        this.fromIds = new int[HISTORY_CAPACITY];
+        this.toIds = new int[HISTORY_CAPACITY];
+        this.amounts = new int[HISTORY_CAPACITY];
+        this.propertyIds = new int[HISTORY_CAPACITY];
+        this.timestamps = new long[HISTORY_CAPACITY];
+        this.published = 0;
+        this.firstRetained = 1;
+        this.accountSlots = new HashTable<>();
+        this.balances = new long[INITIAL_ACCOUNTS];
+        this.openedAt = new long[INITIAL_ACCOUNTS];
+        this.flows = new long[INITIAL_ACCOUNTS][INITIAL_ACCOUNTS];
+        this.totalsByType = new long[TransactionType.values().length];
+        this.countsByType = new int[TransactionType.values().length];
+        this.accountCount = 0;
+    }
+
+    // ==================== Transfers ====================
+
+    /**
+     * Moves money between two accounts and records it
+     * @param type What the money is for
+     * @param fromId Payer (a player ID or Transaction.BANK_ID)
+     * @param toId Receiver (a player ID or Transaction.BANK_ID)
+     * @param amount Amount; zero or less is a no-op
+     * @param propertyId Related property or Transaction.NO_PROPERTY
+     * @return false if the payer is a player who cannot afford the amount (nothing moves)
+     */
+    public boolean transfer(TransactionType type, int fromId, int toId, int amount, int propertyId) {
+        if (amount <= 0) {
+            return true;
+        }
+        Player payer = fromId == Transaction.BANK_ID ? null : gameState.getPlayer(fromId);
+        Player receiver = toId == Transaction.BANK_ID ? null : gameState.getPlayer(toId);
+        if ((fromId != Transaction.BANK_ID && payer == null) || (toId != Transaction.BANK_ID && receiver == null)) {
+            throw new IllegalArgumentException("Unknown account in transfer " + fromId + " -> " + toId);
+        }
+
+        // Open both accounts before moving money, so they start from the old balances
+        int fromSlot = slotOf(fromId);
+        int toSlot = slotOf(toId);
+
+        Bank bank = gameState.getBank();
+        if (payer != null) {
+            if (!payer.subtractMoney(amount)) {
+                return false;
+            }
+        } else {
+            bank.payToPlayer(amount);
+        }
+        if (receiver != null) {
+            receiver.addMoney(amount);
+        } else {
+            bank.receiveFromPlayer(amount);
+        }
+        if (payer != null && receiver != null) {
+            gameState.recordTransaction(fromId, toId, amount);
+        }
+
+        record(type, fromSlot, toSlot, fromId, toId, amount, propertyId);
+        return true;
+    }
+
+    /**
+     * Player pays the bank
+     * @param type What the money is for
+     * @param playerId Payer
+     * @param amount Amount
+     * @return false if the player cannot afford it
+     */
+    public boolean payToBank(TransactionType type, int playerId, int amount) {
+        return transfer(type, playerId, Transaction.BANK_ID, amount, Transaction.NO_PROPERTY);
+    }
+
+    /**
+     * Bank pays a player
+     * @param type What the money is for
+     * @param playerId Receiver
+     * @param amount Amount
+     */
+    public void collectFromBank(TransactionType type, int playerId, int amount) {
+        transfer(type, Transaction.BANK_ID, playerId, amount, Transaction.NO_PROPERTY);
+    }
+
+    /**
+     * Writes a transfer into the ring buffer and the running totals
+     */
+    private void record(TransactionType type, int fromSlot, int toSlot, int fromId, int toId,
+                        int amount, int propertyId) {
+        long sequence = published + 1;
+        int index = (int) (sequence & (HISTORY_CAPACITY - 1));
+        types[index] = (byte) type.ordinal();
+        fromIds[index] = fromId;
+        toIds[index] = toId;
+        amounts[index] = amount;
+        propertyIds[index] = propertyId;
+        timestamps[index] = System.currentTimeMillis();
+
+        balances[fromSlot] -= amount;
+        balances[toSlot] += amount;
+        flows[fromSlot][toSlot] += amount;
+        totalsByType[type.ordinal()] += amount;
+        countsByType[type.ordinal()]++;
+
+        // Publish last: readers see the whole entry once they see the sequence
+        published = sequence;
+    }
+
+    // ==================== Accounts ====================
+
+    /**
+     * Gets the slot of an account, opening it with its current money
+     */
+    private int slotOf(int accountId) {
+        Integer slot = accountSlots.get(accountId);
+        if (slot != null) {
+            return slot;
+        }
+        if (accountCount == balances.length) {
+            growAccounts();
+        }
+        slot = accountCount++;
+        accountSlots.put(accountId, slot);
+        balances[slot] = currentMoney(accountId);
+        openedAt[slot] = published + 1;
+        return slot;
+    }
+
+    /**
+     * Doubles the account columns
+     */
+    private void growAccounts() {
+        int size = balances.length * 2;
+        long[] grownBalances = new long[size];
+        System.arraycopy(balances, 0, grownBalances, 0, balances.length);
+        long[] grownOpenedAt = new long[size];
+        System.arraycopy(openedAt, 0, grownOpenedAt, 0, openedAt.length);
+        long[][] grownFlows = new long[size][size];
+        for (int i = 0; i < flows.length; i++) {
+            System.arraycopy(flows[i], 0, grownFlows[i], 0, flows[i].length);
+        }
+        balances = grownBalances;
+        openedAt = grownOpenedAt;
+        flows = grownFlows;
+    }
+
+    /**
+     * Reads the money an account holds right now
+     */
+    private long currentMoney(int accountId) {
+        if (accountId == Transaction.BANK_ID) {
+            return gameState.getBank().getTotalMoney();
+        }
+        Player player = gameState.getPlayer(accountId);
+        return player != null ? player.getMoney() : 0;
+    }
+
+    /**
+     * Rebases every open account on the money it holds right now. Used
+     * after money was set directly (undo), which bypasses the ledger.
+     * Flows and totals are kept.
+     */
+    public void rebaseAccounts() {
+        for (HashTable.Entry<Integer, Integer> entry : accountSlots) {
+            balances[entry.getValue()] = currentMoney(entry.getKey());
+        }
+    }
+
+    /**
+     * Moves the ledger back or forward to an earlier published sequence,
+     * taking transfers out of (or back into) the flows, totals and counts.
+     * Used by undo and redo; the ring buffer still holds the entries since
+     * nothing is recorded between an undo and its redo. Balances are not
+     * moved, call rebaseAccounts() once the money is back in place.
+     * @param sequence Target sequence
+     * @throws IllegalStateException if the transfers are no longer held
+     */
+    public void moveTo(long sequence) {
+        if (sequence < firstRetained - 1 || sequence < published - HISTORY_CAPACITY) {
+            throw new IllegalStateException("Transfer " + sequence + " is no longer held by the ledger");
+        }
+        while (published > sequence) {
+            int index = (int) (published & (HISTORY_CAPACITY - 1));
+            int fromSlot = accountSlots.get(fromIds[index]);
+            int toSlot = accountSlots.get(toIds[index]);
+            flows[fromSlot][toSlot] -= amounts[index];
+            totalsByType[types[index]] -= amounts[index];
+            countsByType[types[index]]--;
+            published--;
+        }
+        // Close accounts opened by the transfers taken out; slots are opened in order
+        while (accountCount > 0 && openedAt[accountCount - 1] > published) {
+            accountCount--;
+            for (HashTable.Entry<Integer, Integer> entry : accountSlots) {
+                if (entry.getValue() == accountCount) {
+                    accountSlots.remove(entry.getKey());
+                    break;
+                }
+            }
+            balances[accountCount] = 0;
+        }
+        while (published < sequence) {
+            int index = (int) ((published + 1) & (HISTORY_CAPACITY - 1));
+            int fromSlot = slotOf(fromIds[index]);
+            int toSlot = slotOf(toIds[index]);
+            flows[fromSlot][toSlot] += amounts[index];
+            totalsByType[types[index]] += amounts[index];
+            countsByType[types[index]]++;
+            published++;
+        }
+    }
+
+    // ==================== Invariants ====================
+
+    /**
+     * Checks that an account's running balance matches the money it holds
+     * @param accountId Player ID or Transaction.BANK_ID
+     * @return true if consistent (accounts never used are consistent)
+     */
+    public boolean checkAccount(int accountId) {
+        Integer slot = accountSlots.get(accountId);
+        return slot == null || balances[slot] == currentMoney(accountId);
+    }
+
+    /**
+     * Checks every open account's running balance against the money it
+     * holds, which catches money moved around the ledger. Walks the open
+     * accounts: the bank plus one per player.
+     * @return true if every open account is consistent
+     */
+    public boolean isBalanced() {
+        for (HashTable.Entry<Integer, Integer> entry : accountSlots) {
+            if (balances[entry.getValue()] != currentMoney(entry.getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Gets the money that went from one account to another, minus what
+     * went back
+     * @param fromId First account
+     * @param toId Second account
+     * @return Net flow from the first to the second account
+     */
+    public long getNetFlow(int fromId, int toId) {
+        Integer from = accountSlots.get(fromId);
+        Integer to = accountSlots.get(toId);
+        if (from == null || to == null) {
+            return 0;
+        }
+        return flows[from][to] - flows[to][from];
+    }
+
+    /**
+     * Gets the total amount moved by transfers of a type
+     * @param type Transaction type
+     * @return Total amount
+     */
+    public long getTotal(TransactionType type) {
+        return totalsByType[type.ordinal()];
+    }
+
+    /**
+     * Gets the number of transfers of a type
+     * @param type Transaction type
+     * @return Count
+     */
+    public int getCount(TransactionType type) {
+        return countsByType[type.ordinal()];
+    }
+
+    /**
+     * Gets the running balance of an account
+     * @param accountId Player ID or Transaction.BANK_ID
+     * @return Balance, or the current money if the account was never used
+     */
+    public long getBalance(int accountId) {
+        Integer slot = accountSlots.get(accountId);
+        return slot != null ? balances[slot] : currentMoney(accountId);
+    }
+
+    /**
+     * Gets the most recent transfers, oldest first
+     * @param max Maximum number to return (at most HISTORY_CAPACITY)
+     * @return Transactions
+     */
+    public ArrayList<Transaction> getRecentTransactions(int max) {
+        long last = published;
+        long first = Math.max(firstRetained, last - Math.min(max, HISTORY_CAPACITY) + 1);
+        ArrayList<Transaction> recent = new ArrayList<>();
+        for (long sequence = first; sequence <= last; sequence++) {
+            int index = (int) (sequence & (HISTORY_CAPACITY - 1));
+            recent.add(new Transaction(sequence, TransactionType.values()[types[index]], fromIds[index],
+                                       toIds[index], amounts[index], propertyIds[index], timestamps[index]));
+        }
+        return recent;
+    }
+
+    /**
+     * Gets the number of transfers recorded so far
+     * @return Transaction count
+     */
+    public long getTransactionCount() {
+        return published;
+    }
+
+    // ==================== Checkpoint ====================
+
+    /**
+     * Writes the accounts, flows, per-type totals and transfer count.
+     * The ring buffer is not written; a restored ledger starts its history
+     * at the next transfer.
+     * @param out Checkpoint stream
+     * @throws IOException if the stream fails
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeLong(published);
+
+        int[] accountIds = new int[accountCount];
+        for (HashTable.Entry<Integer, Integer> entry : accountSlots) {
+            accountIds[entry.getValue()] = entry.getKey();
+        }
+        out.writeByte(accountCount);
+        for (int slot = 0; slot < accountCount; slot++) {
+            out.writeInt(accountIds[slot]);
+            out.writeLong(balances[slot]);
+        }
+
+        int nonZero = 0;
+        for (int from = 0; from < accountCount; from++) {
+            for (int to = 0; to < accountCount; to++) {
+                if (flows[from][to] != 0) {
+                    nonZero++;
+                }
+            }
+        }
+        out.writeShort(nonZero);
+        for (int from = 0; from < accountCount; from++) {
+            for (int to = 0; to < accountCount; to++) {
+                if (flows[from][to] != 0) {
+                    out.writeByte(from);
+                    out.writeByte(to);
+                    out.writeLong(flows[from][to]);
+                }
+            }
+        }
+
+        out.writeByte(totalsByType.length);
+        for (int i = 0; i < totalsByType.length; i++) {
+            out.writeLong(totalsByType[i]);
+            out.writeInt(countsByType[i]);
+        }
+    }
+
+    /**
+     * Replaces this ledger's accounts, flows and totals with ones written
+     * by writeState()
+     * @param in Checkpoint stream
+     * @throws IOException if the stream fails or holds unknown types
+     */
+    public void restoreState(DataInput in) throws IOException {
+        long sequence = in.readLong();
+
+        accountSlots.clear();
+        int accounts = in.readUnsignedByte();
+        int size = INITIAL_ACCOUNTS;
+        while (size < accounts) {
+            size *= 2;
+        }
+        balances = new long[size];
+        openedAt = new long[size];
+        flows = new long[size][size];
+        for (int slot = 0; slot < accounts; slot++) {
+            accountSlots.put(in.readInt(), slot);
+            balances[slot] = in.readLong();
+        }
+        accountCount = accounts;
+
+        int nonZero = in.readUnsignedShort();
+        for (int i = 0; i < nonZero; i++) {
+            int from = in.readUnsignedByte();
+            int to = in.readUnsignedByte();
+            flows[from][to] = in.readLong();
+        }
+
+        int typeCount = in.readUnsignedByte();
+        if (typeCount != totalsByType.length) {
+            throw new IOException("Ledger has " + typeCount + " transaction types, expected " + totalsByType.length);
+        }
+        for (int i = 0; i < typeCount; i++) {
+            totalsByType[i] = in.readLong();
+            countsByType[i] = in.readInt();
+        }
 
+        firstRetained = sequence + 1;
+        published = sequence;
+    }
 }
@@ -19,6 +19,7 @@ public enum TransactionType {
     TRADE,
     JAIL_FINE,
     AUCTION_PAYMENT,
-    PLAYER_TO_PLAYER
+    PLAYER_TO_PLAYER,
+    BANKRUPTCY
 
 }
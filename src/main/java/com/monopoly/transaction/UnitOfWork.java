@@ -0,0 +1,129 @@
+package com.monopoly.transaction;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.util.Logger;
+
+/**
+ * Groups operations so they take effect together or not at all.
+ * Every operation is validated once before anything changes; then they
+ * are executed in order, and a failure rolls back the executed ones
+ * through their recorded inverses, newest first. A unit of work is
+ * itself an operation, so units can be nested.
+ */
+public class UnitOfWork implements AtomicOperation {
+
+    // Shared logger
+    private static final Logger LOG = Logger.getInstance();
+
+    // What the unit does, for logs and errors (built on first use)
+    private String description;
+    
+    // Parts of a description between two parties, kept until it is needed
+    private final String action;
+    private final int firstId;
+    private final String link;
+    private final int secondId;
+
+    // Operations in execution order
+    private final ArrayList<AtomicOperation> operations;
+
+    // Number of operations executed so far (rolled back in reverse)
+    private int executed;
+
+    /**
+     * Creates an empty unit of work
+     * @param description What the unit does
+     */
+    public UnitOfWork(String description) {
+        this(description, -1, null, -1);
+        this.description = description;
+    }
+    
+    /**
+     * Creates an empty unit of work between two parties. The description
+     * ("action first link second") is only built if a log or error asks
+     * for it, so committing allocates no text.
+     * @param action What the unit does
+     * @param firstId First party
+     * @param link Separator between the parties
+     * @param secondId Second party
+     */
+    public UnitOfWork(String action, int firstId, String link, int secondId) {
+        this.action = action;
+        this.firstId = firstId;
+        this.link = link;
+        this.secondId = secondId;
+        this.operations = new ArrayList<>();
+        this.executed = 0;
+    }
+
+    /**
+     * Adds an operation to run after the ones already added
+     * @param operation Operation
+     * @return This unit, for chaining
+     */
+    public UnitOfWork add(AtomicOperation operation) {
+        operations.add(operation);
+        return this;
+    }
+
+    /**
+     * Validates and executes all operations
+     * @return true if every operation was applied; false if nothing was
+     */
+    public boolean commit() {
+        if (!validate()) {
+            return false;
+        }
+        return execute();
+    }
+
+    @Override
+    public boolean validate() {
+        for (int i = 0; i < operations.size(); i++) {
+            if (!operations.get(i).validate()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean execute() {
+        executed = 0;
+        try {
+            while (executed < operations.size()) {
+                if (!operations.get(executed).execute()) {
+                    LOG.error("Rolling back {}: {} failed",
+                              getDescription(), operations.get(executed).getDescription());
+                    rollback();
+                    return false;
+                }
+                executed++;
+            }
+        } catch (RuntimeException e) {
+            rollback();
+            throw e;
+        }
+        return true;
+    }
+
+    @Override
+    public void rollback() {
+        while (executed > 0) {
+            operations.get(--executed).rollback();
+        }
+    }
+
+    @Override
+    public String getDescription() {
+        if (description == null) {
+            description = action + " " + firstId + " " + link + " " + secondId;
+        }
+        return description;
+    }
+
+    public int size() {
+        return operations.size();
+    }
+}
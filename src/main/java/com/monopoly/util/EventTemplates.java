@@ -0,0 +1,214 @@
+package com.monopoly.util;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.datastructures.HashTable;
+import com.monopoly.model.card.Card;
+import com.monopoly.model.card.ChanceCard;
+import com.monopoly.model.card.CommunityChestCard;
+import com.monopoly.model.enums.EventCode;
+import com.monopoly.model.game.Board;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.function.IntFunction;
+
+/**
+ * Text templates of the game log, one per EventCode, loaded from the
+ * i18n/event_log resource bundle of a locale. A template refers to the
+ * event's arguments as {0}, {1}, ...; each is rendered according to the
+ * code's argument kind (player name, tile name, card text or number).
+ * Tile names and card texts come from the standard board and decks, player
+ * names from the caller.
+ */
+public final class EventTemplates {
+
+    /** Resource bundle holding the templates */
+    public static final String BUNDLE = "i18n.event_log";
+
+    // Shared logger
+    private static final Logger LOG = Logger.getInstance();
+
+    // Loaded tables by locale
+    private static final HashTable<Locale, EventTemplates> BY_LOCALE = new HashTable<>();
+
+    // Standard board, for tile names
+    private static final Board BOARD = new Board();
+
+    // Card texts by card key
+    private static final HashTable<Integer, String> CARDS = indexCards();
+
+    // Template per code, indexed by ordinal (null if the bundle has none)
+    private final String[] templates;
+
+    private EventTemplates(String[] templates) {
+        this.templates = templates;
+    }
+
+    /**
+     * Gets the templates of the default locale
+     * @return Templates
+     */
+    public static EventTemplates getDefault() {
+        return forLocale(Locale.getDefault());
+    }
+
+    /**
+     * Gets the templates of a locale, loading them on first use
+     * @param locale Locale
+     * @return Templates (falling back to the base bundle)
+     */
+    public static synchronized EventTemplates forLocale(Locale locale) {
+        EventTemplates cached = BY_LOCALE.get(locale);
+        if (cached == null) {
+            cached = load(locale);
+            BY_LOCALE.put(locale, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Loads the templates of a locale
+     */
+    private static EventTemplates load(Locale locale) {
+        EventCode[] codes = EventCode.values();
+        String[] templates = new String[codes.length];
+        try {
+            ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE, locale);
+            for (int i = 0; i < codes.length; i++) {
+                if (bundle.containsKey(codes[i].name())) {
+                    templates[i] = bundle.getString(codes[i].name());
+                }
+            }
+        } catch (MissingResourceException e) {
+            LOG.warn("No event log templates for {}: {}", locale, e.getMessage());
+        }
+        return new EventTemplates(templates);
+    }
+
+    // ==================== Rendering ====================
+
+    /**
+     * Renders an event
+     * @param code Event code
+     * @param args Event arguments
+     * @param playerNames Player name by ID (may return null)
+     * @return Text of the event
+     */
+    public String render(EventCode code, int[] args, IntFunction<String> playerNames) {
+        String template = templates[code.ordinal()];
+        StringBuilder text = new StringBuilder(64);
+        if (template == null) {
+            // Unknown to this bundle: show the raw event rather than nothing
+            text.append(code.name());
+            for (int i = 0; i < args.length; i++) {
+                text.append(i == 0 ? ' ' : ',').append(args[i]);
+            }
+            return text.toString();
+        }
+
+        int i = 0;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            int close = c == '{' ? template.indexOf('}', i) : -1;
+            if (close < 0) {
+                text.append(c);
+                i++;
+                continue;
+            }
+            int index = parseIndex(template, i + 1, close);
+            if (index < 0 || index >= args.length || index >= code.getArgCount()) {
+                text.append(template, i, close + 1);
+            } else {
+                appendArg(text, code.getArg(index), args[index], playerNames);
+            }
+            i = close + 1;
+        }
+        return text.toString();
+    }
+
+    /**
+     * Renders an event with the player names of a game
+     * @param code Event code
+     * @param args Event arguments
+     * @param gameState Game the event happened in
+     * @return Text of the event
+     */
+    public String render(EventCode code, int[] args, GameState gameState) {
+        return render(code, args, playerId -> {
+            Player player = gameState.getPlayer(playerId);
+            return player != null ? player.getName() : null;
+        });
+    }
+
+    /**
+     * Appends one argument rendered according to its kind
+     */
+    private static void appendArg(StringBuilder text, EventCode.Arg kind, int value,
+                                  IntFunction<String> playerNames) {
+        switch (kind) {
+            case PLAYER:
+                String name = playerNames.apply(value);
+                text.append(name != null ? name : "Player " + value);
+                break;
+            case TILE:
+                text.append(value >= 0 && value < Board.BOARD_SIZE ? BOARD.getTile(value).getName() : "?");
+                break;
+            case CARD:
+                String card = CARDS.get(value);
+                text.append(card != null ? card : "?");
+                break;
+            default:
+                text.append(value);
+                break;
+        }
+    }
+
+    /**
+     * Parses the digits of a placeholder
+     * @return Argument index, or -1 if not a number
+     */
+    private static int parseIndex(String template, int start, int end) {
+        if (start == end) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            char c = template.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    // ==================== Cards ====================
+
+    /**
+     * Packs a card into a single event argument
+     * @param card The card
+     * @return Card key
+     */
+    public static int cardKey(Card card) {
+        return card.getCardType().ordinal() * 1000 + card.getId();
+    }
+
+    /**
+     * Indexes the texts of the standard decks by card key
+     */
+    private static HashTable<Integer, String> indexCards() {
+        HashTable<Integer, String> cards = new HashTable<>();
+        ArrayList<ChanceCard> chance = ChanceCard.createStandardDeck();
+        for (int i = 0; i < chance.size(); i++) {
+            cards.put(cardKey(chance.get(i)), chance.get(i).getDescription());
+        }
+        ArrayList<CommunityChestCard> chest = CommunityChestCard.createStandardDeck();
+        for (int i = 0; i < chest.size(); i++) {
+            cards.put(cardKey(chest.get(i)), chest.get(i).getDescription());
+        }
+        return cards;
+    }
+}
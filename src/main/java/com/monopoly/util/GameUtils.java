@@ -16,7 +16,6 @@ public final class GameUtils {
     // TODO: Implement clamp(int value, int min, int max)
     // TODO: Implement randomInt(int min, int max)
     // TODO: Implement shuffleArray(T[] array) - Fisher-Yates shuffle
-    // TODO: Implement deepCopy(Object object) - for game state snapshots
     // TODO: Implement getCurrentTimestamp()
     // TODO: Implement formatTimestamp(long timestamp)
 
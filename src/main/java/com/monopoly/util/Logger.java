@@ -1,30 +1,489 @@
 package com.monopoly.util;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
 /**
  * Simple logging utility for the game.
  * Logs to console and optionally to file.
+ *
+ * Logging threads never format or write anything: they claim a slot in a
+ * ring buffer with one atomic increment, store the level, the format
+ * string and its arguments, and publish the slot. A single background
+ * thread formats published entries ({} placeholders are replaced only
+ * then) and writes them in batches to the console and, when enabled, to a
+ * rotating log file. A disabled level is rejected by one comparison
+ * before any work; the one- and two-argument overloads avoid even the
+ * varargs array. Arguments are formatted later on the writer thread, so
+ * callers should pass values that do not change afterwards.
  */
 public class Logger {
 
-    // TODO: Implement LOG_LEVEL enum (DEBUG, INFO, WARN, ERROR)
-    // TODO: Implement instance field (singleton)
-    // TODO: Implement currentLevel field
-    // TODO: Implement logToFile field
-    // TODO: Implement logFilePath field
-    
-    // TODO: Implement getInstance()
-    // TODO: Implement setLevel(LogLevel level)
-    // TODO: Implement enableFileLogging(String filePath)
-    // TODO: Implement disableFileLogging()
-    // TODO: Implement debug(String message)
-    // TODO: Implement debug(String format, Object... args)
-    // TODO: Implement info(String message)
-    // TODO: Implement info(String format, Object... args)
-    // TODO: Implement warn(String message)
-    // TODO: Implement warn(String format, Object... args)
-    // TODO: Implement error(String message)
-    // TODO: Implement error(String message, Throwable t)
-    // TODO: Implement formatMessage(LogLevel level, String message)
-    // TODO: Implement writeToFile(String message)
+    /**
+     * Severity of a log entry
+     */
+    public enum LogLevel {
+        DEBUG, INFO, WARN, ERROR, OFF
+    }
+
+    /** Ring buffer capacity (power of two) */
+    public static final int BUFFER_SIZE = 8192;
+
+    /** Default size at which the log file is rotated */
+    public static final long DEFAULT_MAX_FILE_BYTES = 16L * 1024 * 1024;
+
+    /** Default number of rotated files kept (file.1 .. file.N) */
+    public static final int DEFAULT_MAX_FILES = 5;
+
+    /** Entries formatted and written per batch */
+    private static final int BATCH_SIZE = 256;
+
+    /** Idle wait of the writer thread */
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    // Singleton instance
+    private static final Logger instance = new Logger();
+
+    // Lowest level written (ordinal, read on every call)
+    private volatile int currentLevel;
+
+    // Whether entries are echoed to the console
+    private volatile boolean logToConsole;
+
+    // Ring buffer slots, indexed by sequence & (BUFFER_SIZE - 1)
+    private final LogLevel[] levels;
+    private final String[] formats;
+    private final Object[][] arguments;
+    private final Throwable[] throwables;
+    private final String[] threadNames;
+    private final long[] timestamps;
+
+    // Sequence published in each slot (a slot is readable once it holds its sequence)
+    private final AtomicLongArray published;
+
+    // Next sequence to claim (producers)
+    private final AtomicLong claimed;
+
+    // Last sequence taken out of the ring (its slot may be reused)
+    private volatile long consumed;
+
+    // Last sequence whose line reached the console and the file
+    private volatile long written;
+
+    // Log file (null when file logging is off); only the writer thread writes it
+    private volatile Path logFilePath;
+    private FileChannel logFile;
+    private Path openPath;
+    private long fileBytes;
+    private volatile long maxFileBytes;
+    private volatile int maxFiles;
+
+    // Pending file bytes of the current batch
+    private final ByteBuffer fileBuffer;
+
+    // Background writer
+    private final Thread writer;
+
+    private Logger() {
+        this.currentLevel = LogLevel.INFO.ordinal();
+        this.logToConsole = true;
+        this.levels = new LogLevel[BUFFER_SIZE];
+        this.formats = new String[BUFFER_SIZE];
+        this.arguments = new Object[BUFFER_SIZE][];
+        this.throwables = new Throwable[BUFFER_SIZE];
+        this.threadNames = new String[BUFFER_SIZE];
+        this.timestamps = new long[BUFFER_SIZE];
+        this.published = new AtomicLongArray(BUFFER_SIZE);
+        for (int i = 0; i < BUFFER_SIZE; i++) {
+            published.set(i, -1);
+        }
+        this.claimed = new AtomicLong(0);
+        this.consumed = -1;
+        this.written = -1;
+        this.fileBuffer = ByteBuffer.allocateDirect(256 * 1024);
+        this.maxFileBytes = DEFAULT_MAX_FILE_BYTES;
+        this.maxFiles = DEFAULT_MAX_FILES;
+
+        this.writer = new Thread(this::drainLoop, "logger");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "logger-flush"));
+    }
+
+    /**
+     * Gets the logger
+     * @return Shared instance
+     */
+    public static Logger getInstance() {
+        return instance;
+    }
+
+    // ==================== Configuration ====================
+
+    /**
+     * Sets the lowest level that is written
+     * @param level Level (OFF disables logging)
+     */
+    public void setLevel(LogLevel level) {
+        this.currentLevel = level.ordinal();
+    }
+
+    public LogLevel getLevel() {
+        return LogLevel.values()[currentLevel];
+    }
+
+    /**
+     * Checks if a level is written
+     * @param level Level
+     * @return true if entries at this level are kept
+     */
+    public boolean isEnabled(LogLevel level) {
+        return level.ordinal() >= currentLevel;
+    }
+
+    public void setConsoleEnabled(boolean enabled) {
+        this.logToConsole = enabled;
+    }
+
+    /**
+     * Also writes entries to a file, rotated at DEFAULT_MAX_FILE_BYTES
+     * @param filePath Log file
+     */
+    public void enableFileLogging(String filePath) {
+        enableFileLogging(filePath, DEFAULT_MAX_FILE_BYTES, DEFAULT_MAX_FILES);
+    }
+
+    /**
+     * Also writes entries to a file
+     * @param filePath Log file
+     * @param maxBytes Size at which the file is rotated
+     * @param keepFiles Rotated files kept
+     */
+    public void enableFileLogging(String filePath, long maxBytes, int keepFiles) {
+        this.maxFileBytes = maxBytes;
+        this.maxFiles = Math.max(1, keepFiles);
+        this.logFilePath = Paths.get(filePath);
+    }
+
+    public void disableFileLogging() {
+        this.logFilePath = null;
+    }
+
+    // ==================== Logging ====================
+
+    public void debug(String message) {
+        if (LogLevel.DEBUG.ordinal() >= currentLevel) {
+            enqueue(LogLevel.DEBUG, message, null, null);
+        }
+    }
+
+    public void debug(String format, Object arg) {
+        if (LogLevel.DEBUG.ordinal() >= currentLevel) {
+            enqueue(LogLevel.DEBUG, format, new Object[] {arg}, null);
+        }
+    }
+
+    public void debug(String format, Object arg1, Object arg2) {
+        if (LogLevel.DEBUG.ordinal() >= currentLevel) {
+            enqueue(LogLevel.DEBUG, format, new Object[] {arg1, arg2}, null);
+        }
+    }
+
+    public void debug(String format, Object... args) {
+        if (LogLevel.DEBUG.ordinal() >= currentLevel) {
+            enqueue(LogLevel.DEBUG, format, args, null);
+        }
+    }
+
+    public void info(String message) {
+        if (LogLevel.INFO.ordinal() >= currentLevel) {
+            enqueue(LogLevel.INFO, message, null, null);
+        }
+    }
+
+    public void info(String format, Object arg) {
+        if (LogLevel.INFO.ordinal() >= currentLevel) {
+            enqueue(LogLevel.INFO, format, new Object[] {arg}, null);
+        }
+    }
+
+    public void info(String format, Object arg1, Object arg2) {
+        if (LogLevel.INFO.ordinal() >= currentLevel) {
+            enqueue(LogLevel.INFO, format, new Object[] {arg1, arg2}, null);
+        }
+    }
+
+    public void info(String format, Object... args) {
+        if (LogLevel.INFO.ordinal() >= currentLevel) {
+            enqueue(LogLevel.INFO, format, args, null);
+        }
+    }
+
+    public void warn(String message) {
+        if (LogLevel.WARN.ordinal() >= currentLevel) {
+            enqueue(LogLevel.WARN, message, null, null);
+        }
+    }
+
+    public void warn(String format, Object arg) {
+        if (LogLevel.WARN.ordinal() >= currentLevel) {
+            enqueue(LogLevel.WARN, format, new Object[] {arg}, null);
+        }
+    }
+
+    public void warn(String format, Object arg1, Object arg2) {
+        if (LogLevel.WARN.ordinal() >= currentLevel) {
+            enqueue(LogLevel.WARN, format, new Object[] {arg1, arg2}, null);
+        }
+    }
+
+    public void warn(String format, Object... args) {
+        if (LogLevel.WARN.ordinal() >= currentLevel) {
+            enqueue(LogLevel.WARN, format, args, null);
+        }
+    }
+
+    public void error(String message) {
+        if (LogLevel.ERROR.ordinal() >= currentLevel) {
+            enqueue(LogLevel.ERROR, message, null, null);
+        }
+    }
+
+    public void error(String message, Throwable t) {
+        if (LogLevel.ERROR.ordinal() >= currentLevel) {
+            enqueue(LogLevel.ERROR, message, null, t);
+        }
+    }
+
+    public void error(String format, Object arg) {
+        if (LogLevel.ERROR.ordinal() >= currentLevel) {
+            enqueue(LogLevel.ERROR, format, new Object[] {arg}, null);
+        }
+    }
+
+    public void error(String format, Object arg1, Object arg2) {
+        if (LogLevel.ERROR.ordinal() >= currentLevel) {
+            enqueue(LogLevel.ERROR, format, new Object[] {arg1, arg2}, null);
+        }
+    }
+
+    public void error(String format, Object... args) {
+        if (LogLevel.ERROR.ordinal() >= currentLevel) {
+            enqueue(LogLevel.ERROR, format, args, null);
+        }
+    }
+
+    /**
+     * Claims a slot, fills it and publishes it. When the buffer is full the
+     * caller waits for the writer rather than dropping the entry.
+     */
+    private void enqueue(LogLevel level, String format, Object[] args, Throwable t) {
+        long sequence = claimed.getAndIncrement();
+        while (sequence - consumed > BUFFER_SIZE) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS / 10);
+        }
+        int index = (int) (sequence & (BUFFER_SIZE - 1));
+        levels[index] = level;
+        formats[index] = format;
+        arguments[index] = args;
+        throwables[index] = t;
+        threadNames[index] = Thread.currentThread().getName();
+        timestamps[index] = System.currentTimeMillis();
+        published.lazySet(index, sequence);
+    }
+
+    /**
+     * Waits until everything logged so far has been written
+     */
+    public void flush() {
+        long target = claimed.get() - 1;
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (written < target && writer.isAlive() && System.nanoTime() < deadline) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(IDLE_PARK_NANOS / 10);
+        }
+    }
+
+    // ==================== Writer ====================
+
+    /**
+     * Body of the writer thread: drains published entries in batches
+     */
+    private void drainLoop() {
+        StringBuilder console = new StringBuilder(8192);
+        StringBuilder errors = new StringBuilder(1024);
+        while (true) {
+            console.setLength(0);
+            errors.setLength(0);
+            int drained = 0;
+            long next = consumed + 1;
+            int index = (int) (next & (BUFFER_SIZE - 1));
+            while (drained < BATCH_SIZE && published.get(index) == next) {
+                String line = formatMessage(index);
+                (levels[index].ordinal() >= LogLevel.WARN.ordinal() ? errors : console).append(line);
+                writeToFile(line);
+                formats[index] = null;
+                arguments[index] = null;
+                throwables[index] = null;
+                consumed = next;
+                drained++;
+                next++;
+                index = (int) (next & (BUFFER_SIZE - 1));
+            }
+            if (drained == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            if (logToConsole) {
+                if (console.length() > 0) {
+                    System.out.print(console);
+                    System.out.flush();
+                }
+                if (errors.length() > 0) {
+                    System.err.print(errors);
+                    System.err.flush();
+                }
+            }
+            flushFile();
+            written = consumed;
+        }
+    }
+
+    /**
+     * Formats one entry: time, level, thread and message with {}
+     * placeholders replaced
+     */
+    private String formatMessage(int index) {
+        StringBuilder line = new StringBuilder(96);
+        TIME_FORMAT.formatTo(Instant.ofEpochMilli(timestamps[index]), line);
+        line.append(' ').append(levels[index]).append(" [").append(threadNames[index]).append("] ");
+
+        String format = String.valueOf(formats[index]);
+        Object[] args = arguments[index];
+        int argument = 0;
+        int start = 0;
+        int placeholder;
+        while (args != null && argument < args.length && (placeholder = format.indexOf("{}", start)) >= 0) {
+            line.append(format, start, placeholder).append(args[argument++]);
+            start = placeholder + 2;
+        }
+        line.append(format, start, format.length());
+        if (args != null && argument < args.length && args[args.length - 1] instanceof Throwable) {
+            throwables[index] = (Throwable) args[args.length - 1];
+        }
+        line.append(System.lineSeparator());
+
+        if (throwables[index] != null) {
+            StringWriter trace = new StringWriter();
+            throwables[index].printStackTrace(new PrintWriter(trace));
+            line.append(trace);
+        }
+        return line.toString();
+    }
+
+    /**
+     * Adds a line to the file batch (writer thread only)
+     */
+    private void writeToFile(String line) {
+        if (logFilePath == null) {
+            return;
+        }
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > fileBuffer.remaining()) {
+            flushFile();
+        }
+        if (bytes.length <= fileBuffer.remaining()) {
+            fileBuffer.put(bytes);
+        }
+    }
+
+    /**
+     * Writes the file batch with one channel write, rotating first if the
+     * file is full (writer thread only)
+     */
+    private void flushFile() {
+        Path path = logFilePath;
+        if (path == null) {
+            closeFile();
+            fileBuffer.clear();
+            return;
+        }
+        if (fileBuffer.position() == 0) {
+            return;
+        }
+        try {
+            if (!path.equals(openPath)) {
+                closeFile();
+                openFile(path);
+            } else if (fileBytes + fileBuffer.position() > maxFileBytes) {
+                rotate(path);
+            }
+            fileBuffer.flip();
+            while (fileBuffer.hasRemaining()) {
+                fileBytes += logFile.write(fileBuffer);
+            }
+        } catch (IOException e) {
+            System.err.println("Logger: cannot write " + path + ": " + e.getMessage());
+            logFilePath = null;
+            closeFile();
+        } finally {
+            fileBuffer.clear();
+        }
+    }
+
+    private void openFile(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        logFile = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                   StandardOpenOption.APPEND);
+        openPath = path;
+        fileBytes = logFile.size();
+    }
+
+    /**
+     * Shifts file.N-1 to file.N ... file to file.1 and starts a new file
+     */
+    private void rotate(Path path) throws IOException {
+        closeFile();
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            Path older = Paths.get(path + "." + i);
+            if (Files.exists(older)) {
+                Files.move(older, Paths.get(path + "." + (i + 1)), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(path, Paths.get(path + ".1"), StandardCopyOption.REPLACE_EXISTING);
+        openFile(path);
+    }
 
+    private void closeFile() {
+        if (logFile != null) {
+            try {
+                logFile.close();
+            } catch (IOException e) {
+                // Nothing useful to do with a failed close
+            }
+            logFile = null;
+            openPath = null;
+        }
+    }
 }
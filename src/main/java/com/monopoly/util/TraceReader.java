@@ -0,0 +1,224 @@
+package com.monopoly.util;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.datastructures.HashTable;
+import com.monopoly.datastructures.Heap;
+import com.monopoly.network.protocol.MessageType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Offline reader for trace files written by Tracer.
+ * Groups records by room and orders each room's records by time, giving
+ * one timeline per room. Run main() to print the timelines.
+ */
+public class TraceReader {
+
+    /** Room name used for records without a room */
+    public static final String NO_ROOM = "(no room)";
+
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSSSSS").withZone(ZoneId.systemDefault());
+
+    /**
+     * One decoded trace record
+     */
+    public static class TraceRecord implements Comparable<TraceRecord> {
+        private final long timeNanos;
+        private final long value;
+        private final int threadId;
+        private final int playerId;
+        private final Tracer.TraceEvent event;
+        private final int code;
+
+        public TraceRecord(long timeNanos, long value, int threadId, int playerId,
+                           Tracer.TraceEvent event, int code) {
+            this.timeNanos = timeNanos;
+            this.value = value;
+            this.threadId = threadId;
+            this.playerId = playerId;
+            this.event = event;
+            this.code = code;
+        }
+
+        public long getTimeNanos() {
+            return timeNanos;
+        }
+
+        public long getValue() {
+            return value;
+        }
+
+        public int getThreadId() {
+            return threadId;
+        }
+
+        public int getPlayerId() {
+            return playerId;
+        }
+
+        public Tracer.TraceEvent getEvent() {
+            return event;
+        }
+
+        public int getCode() {
+            return code;
+        }
+
+        @Override
+        public int compareTo(TraceRecord other) {
+            return Long.compare(timeNanos, other.timeNanos);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder line = new StringBuilder(80);
+            TIME_FORMAT.formatTo(Instant.ofEpochSecond(0, timeNanos), line);
+            line.append(String.format(" t%-4d player %-3d %-16s", threadId, playerId, event));
+            if (code != Tracer.NO_CODE) {
+                line.append(' ').append(event == Tracer.TraceEvent.COMMAND_RECEIVED ||
+                                        event == Tracer.TraceEvent.VALIDATION ||
+                                        event == Tracer.TraceEvent.LOGIC
+                                        ? commandName(code) : String.valueOf(code));
+            }
+            if (event == Tracer.TraceEvent.COMMAND_RECEIVED || event == Tracer.TraceEvent.BYTES_SENT) {
+                line.append(' ').append(value).append(" bytes");
+            } else {
+                line.append(String.format(" %.3f ms", value / 1_000_000.0));
+            }
+            return line.toString();
+        }
+    }
+
+    // Records per room name
+    private final HashTable<String, Heap<TraceRecord>> rooms;
+
+    /**
+     * Reads a whole trace file
+     * @param file Trace file
+     * @throws IOException if it cannot be read or is not a trace file
+     */
+    public TraceReader(Path file) throws IOException {
+        this.rooms = new HashTable<>();
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < 8 || buffer.getInt() != Tracer.FILE_MAGIC) {
+            throw new IOException("Not a trace file: " + file);
+        }
+        int version = buffer.getInt();
+        if (version != Tracer.VERSION) {
+            throw new IOException("Unsupported trace version " + version);
+        }
+
+        HashTable<Integer, String> roomNames = new HashTable<>();
+        Tracer.TraceEvent[] events = Tracer.TraceEvent.values();
+        // A crash can cut the last block short; everything before it is kept
+        while (buffer.remaining() >= 8) {
+            int magic = buffer.getInt();
+            if (magic == Tracer.ROOM_MAGIC) {
+                int key = buffer.getInt();
+                if (buffer.remaining() < 2) {
+                    break;
+                }
+                int length = buffer.getShort();
+                if (buffer.remaining() < length) {
+                    break;
+                }
+                byte[] name = new byte[length];
+                buffer.get(name);
+                roomNames.put(key, new String(name, StandardCharsets.UTF_8));
+            } else if (magic == Tracer.RECORD_MAGIC) {
+                int count = buffer.getInt();
+                if (count < 0 || buffer.remaining() < (long) count * Tracer.RECORD_BYTES) {
+                    break;
+                }
+                for (int i = 0; i < count; i++) {
+                    long time = buffer.getLong();
+                    long value = buffer.getLong();
+                    int thread = buffer.getInt();
+                    int roomKey = buffer.getInt();
+                    int player = buffer.getInt();
+                    int event = buffer.getShort();
+                    int code = buffer.getShort();
+                    if (event < 0 || event >= events.length) {
+                        continue;
+                    }
+                    String room = roomKey < 0 ? NO_ROOM : roomNames.getOrDefault(roomKey, "room#" + roomKey);
+                    Heap<TraceRecord> timeline = rooms.get(room);
+                    if (timeline == null) {
+                        timeline = new Heap<>(false);
+                        rooms.put(room, timeline);
+                    }
+                    timeline.insert(new TraceRecord(time, value, thread, player, events[event], code));
+                }
+            } else {
+                throw new IOException("Corrupt trace block at " + (buffer.position() - 4));
+            }
+        }
+    }
+
+    /**
+     * Gets the rooms that appear in the trace
+     * @return Room names
+     */
+    public ArrayList<String> getRooms() {
+        return rooms.keys();
+    }
+
+    /**
+     * Gets the timeline of a room
+     * @param roomId Room name
+     * @return Records in time order (empty if the room is not traced)
+     */
+    public ArrayList<TraceRecord> getTimeline(String roomId) {
+        Heap<TraceRecord> timeline = rooms.get(roomId);
+        return timeline == null ? new ArrayList<>() : timeline.toSortedList();
+    }
+
+    /**
+     * Names a command type code
+     */
+    private static String commandName(int code) {
+        MessageType[] types = MessageType.values();
+        return code >= 0 && code < types.length ? types[code].name() : String.valueOf(code);
+    }
+
+    /**
+     * Prints the timeline of every room in a trace file
+     * @param args Trace file, optional room ID to print only that room
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: TraceReader <trace-file> [room]");
+            System.exit(2);
+        }
+        TraceReader reader;
+        try {
+            reader = new TraceReader(Paths.get(args[0]));
+        } catch (IOException e) {
+            System.err.println("Cannot read trace: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        ArrayList<String> roomIds = reader.getRooms();
+        for (int i = 0; i < roomIds.size(); i++) {
+            String roomId = roomIds.get(i);
+            if (args.length > 1 && !args[1].equals(roomId)) {
+                continue;
+            }
+            ArrayList<TraceRecord> timeline = reader.getTimeline(roomId);
+            System.out.println("== " + roomId + " (" + timeline.size() + " records)");
+            for (int j = 0; j < timeline.size(); j++) {
+                System.out.println(timeline.get(j));
+            }
+        }
+    }
+}
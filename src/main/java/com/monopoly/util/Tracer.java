@@ -0,0 +1,310 @@
+package com.monopoly.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Binary event tracing for post-mortems.
+ * Each thread appends fixed-size records to its own buffer, so tracing
+ * threads never contend with each other; a full buffer is written to the
+ * trace file as one block. A background thread also writes partly filled
+ * buffers every FLUSH_INTERVAL_MS so a crash loses at most that much.
+ * When tracing is off every call returns after one volatile read.
+ *
+ * File layout (little-endian): [int FILE_MAGIC][int VERSION] followed by
+ * blocks. A room block [int ROOM_MAGIC][int key][short length][UTF-8 name]
+ * names a room key and is always written before any record using it. A
+ * record block is [int RECORD_MAGIC][int count] followed by count records
+ * of RECORD_BYTES: [long epoch nanos][long value][int thread][int room key]
+ * [int player][short event][short code]. TraceReader turns the file into a
+ * timeline per room.
+ */
+public class Tracer {
+
+    /**
+     * Kind of a trace record. Durations are in nanoseconds.
+     */
+    public enum TraceEvent {
+        /** A command was read; value = message length, code = command type */
+        COMMAND_RECEIVED,
+        /** Turn and phase checks of a command; value = duration */
+        VALIDATION,
+        /** Game logic of a command; value = duration */
+        LOGIC,
+        /** Encoding of an outgoing message or state; value = duration */
+        SERIALIZATION,
+        /** A message was written to a client; value = bytes */
+        BYTES_SENT
+    }
+
+    /** File magic ("MTRC") */
+    public static final int FILE_MAGIC = 0x4D545243;
+
+    /** Room name block magic ("ROOM") */
+    public static final int ROOM_MAGIC = 0x524F4F4D;
+
+    /** Record block magic ("RECS") */
+    public static final int RECORD_MAGIC = 0x52454353;
+
+    /** Format version */
+    public static final int VERSION = 1;
+
+    /** Bytes per record */
+    public static final int RECORD_BYTES = 32;
+
+    /** Records buffered per thread before a block is written */
+    public static final int RECORDS_PER_BUFFER = 1024;
+
+    /** Interval of the background flush */
+    public static final long FLUSH_INTERVAL_MS = 1000;
+
+    /** Code of a record that has none */
+    public static final int NO_CODE = -1;
+
+    // Singleton instance
+    private static final Tracer instance = new Tracer();
+
+    // Whether records are kept (checked first by every call)
+    private volatile boolean enabled;
+
+    // Trace file; block writes are serialized on fileLock
+    private final Object fileLock = new Object();
+    private FileChannel channel;
+
+    // Room keys handed out so far
+    private final ConcurrentHashMap<String, Integer> roomKeys;
+    private final AtomicInteger nextRoomKey;
+
+    // Buffers of every thread that traced since tracing was enabled
+    private final ConcurrentLinkedQueue<ThreadBuffer> buffers;
+    private final ThreadLocal<ThreadBuffer> localBuffer;
+
+    // Clock base converting System.nanoTime to epoch nanoseconds
+    private final long baseEpochNanos;
+    private final long baseNanoTime;
+
+    // Background flush
+    private ScheduledExecutorService flusher;
+
+    /**
+     * Records of one thread, written as a block when full
+     */
+    private final class ThreadBuffer {
+        final Thread owner;
+        final int threadId;
+        final ByteBuffer records;
+        int count;
+
+        ThreadBuffer(Thread owner) {
+            this.owner = owner;
+            this.threadId = (int) owner.getId();
+            this.records = ByteBuffer.allocate(8 + RECORDS_PER_BUFFER * RECORD_BYTES)
+                                     .order(ByteOrder.LITTLE_ENDIAN);
+            records.position(8);
+        }
+
+        synchronized void add(TraceEvent event, int roomKey, int playerId, int code, long value) {
+            records.putLong(baseEpochNanos + (System.nanoTime() - baseNanoTime))
+                   .putLong(value)
+                   .putInt(threadId)
+                   .putInt(roomKey)
+                   .putInt(playerId)
+                   .putShort((short) event.ordinal())
+                   .putShort((short) code);
+            if (++count == RECORDS_PER_BUFFER) {
+                flush();
+            }
+        }
+
+        synchronized void flush() {
+            if (count == 0) {
+                return;
+            }
+            records.putInt(0, RECORD_MAGIC).putInt(4, count).flip();
+            writeBlock(records);
+            records.clear().position(8);
+            count = 0;
+        }
+    }
+
+    private Tracer() {
+        this.roomKeys = new ConcurrentHashMap<>();
+        this.nextRoomKey = new AtomicInteger(0);
+        this.buffers = new ConcurrentLinkedQueue<>();
+        this.localBuffer = ThreadLocal.withInitial(() -> {
+            ThreadBuffer buffer = new ThreadBuffer(Thread.currentThread());
+            buffers.add(buffer);
+            return buffer;
+        });
+        this.baseEpochNanos = System.currentTimeMillis() * 1_000_000L;
+        this.baseNanoTime = System.nanoTime();
+    }
+
+    /**
+     * Gets the tracer
+     * @return Shared instance
+     */
+    public static Tracer getInstance() {
+        return instance;
+    }
+
+    // ==================== Configuration ====================
+
+    /**
+     * Starts tracing into a file, replacing any existing trace there
+     * @param file Trace file
+     * @throws IOException if the file cannot be created
+     */
+    public synchronized void enable(Path file) throws IOException {
+        disable();
+        FileChannel opened = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                              StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(FILE_MAGIC).putInt(VERSION).flip();
+        while (header.hasRemaining()) {
+            opened.write(header);
+        }
+        synchronized (fileLock) {
+            channel = opened;
+        }
+        roomKeys.clear();
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "tracer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        enabled = true;
+    }
+
+    /**
+     * Stops tracing, writing out every buffered record and closing the file
+     */
+    public synchronized void disable() {
+        if (!enabled) {
+            return;
+        }
+        enabled = false;
+        flusher.shutdownNow();
+        flusher = null;
+        flush();
+        synchronized (fileLock) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // Nothing left to write
+            }
+            channel = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ==================== Recording ====================
+
+    /**
+     * Reads the trace clock, for timing a span
+     * @return Current nanoTime, or 0 when tracing is off
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time elapsed since start()
+     * @param event Span kind
+     * @param roomId Room the work belongs to
+     * @param playerId Player involved
+     * @param code Event-specific code (e.g. command type ordinal), or NO_CODE
+     * @param startNanos Value returned by start()
+     */
+    public void span(TraceEvent event, String roomId, int playerId, int code, long startNanos) {
+        if (enabled && startNanos != 0) {
+            record(event, roomId, playerId, code, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Records an event
+     * @param event Event kind
+     * @param roomId Room the event belongs to (null if none)
+     * @param playerId Player involved
+     * @param code Event-specific code, or NO_CODE
+     * @param value Event-specific value
+     */
+    public void record(TraceEvent event, String roomId, int playerId, int code, long value) {
+        if (!enabled) {
+            return;
+        }
+        localBuffer.get().add(event, roomKey(roomId), playerId, code, value);
+    }
+
+    /**
+     * Gets the key of a room, writing its name block on first use
+     */
+    private int roomKey(String roomId) {
+        if (roomId == null) {
+            return -1;
+        }
+        Integer key = roomKeys.get(roomId);
+        if (key != null) {
+            return key;
+        }
+        return roomKeys.computeIfAbsent(roomId, id -> {
+            int assigned = nextRoomKey.getAndIncrement();
+            byte[] name = id.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer block = ByteBuffer.allocate(10 + name.length).order(ByteOrder.LITTLE_ENDIAN);
+            block.putInt(ROOM_MAGIC).putInt(assigned).putShort((short) name.length).put(name).flip();
+            writeBlock(block);
+            return assigned;
+        });
+    }
+
+    /**
+     * Writes every thread's buffered records and drops buffers of threads
+     * that have ended
+     */
+    public void flush() {
+        Iterator<ThreadBuffer> iterator = buffers.iterator();
+        while (iterator.hasNext()) {
+            ThreadBuffer buffer = iterator.next();
+            buffer.flush();
+            if (!buffer.owner.isAlive()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Appends one block to the trace file
+     */
+    private void writeBlock(ByteBuffer block) {
+        synchronized (fileLock) {
+            if (channel == null) {
+                return;
+            }
+            try {
+                while (block.hasRemaining()) {
+                    channel.write(block);
+                }
+            } catch (IOException e) {
+                enabled = false;
+                Logger.getInstance().error("Tracing stopped, cannot write trace file: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.monopoly;
+
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+import com.monopoly.model.player.TokenType;
+import com.monopoly.model.property.Property;
+
+/**
+ * Test fixture: a started game between Alice (ID 1) and Bob (ID 2).
+ */
+public final class TwoPlayerGame {
+
+    // The game and its two players
+    private final GameState state;
+    private final Player alice;
+    private final Player bob;
+
+    /**
+     * Creates and starts the game
+     */
+    public TwoPlayerGame() {
+        state = new GameState("room_test");
+        alice = new Player(1, "Alice", TokenType.values()[0]);
+        bob = new Player(2, "Bob", TokenType.values()[1]);
+        state.addPlayer(alice);
+        state.addPlayer(bob);
+        state.startGame();
+    }
+
+    /**
+     * Hands a street to a player
+     * @param player New owner
+     * @param position Board position of the street
+     */
+    public void give(Player player, int position) {
+        Property property = state.getBoard().getProperty(position);
+        property.setOwnerId(player.getId());
+        player.addProperty(property);
+        state.getBank().removeUnownedProperty(position);
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    public Player getAlice() {
+        return alice;
+    }
+
+    public Player getBob() {
+        return bob;
+    }
+}
@@ -0,0 +1,102 @@
+package com.monopoly.ai;
+
+import com.monopoly.TwoPlayerGame;
+import com.monopoly.bot.ExpectedValueStrategy;
+import com.monopoly.bot.PropertyValuation;
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.model.game.Board;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+import com.monopoly.network.protocol.ClientCommand;
+import com.monopoly.network.protocol.MessageType;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Unit tests for the search bot and its rollouts.
+ */
+public class MctsStrategyTest {
+
+    private TwoPlayerGame game;
+    private GameState state;
+    private Player alice;
+    private Player bob;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    public void setUp() {
+        game = new TwoPlayerGame();
+        state = game.getState();
+        alice = game.getAlice();
+        bob = game.getBob();
+        pool = new ForkJoinPool(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testRolloutsLeaveTheRootAlone() {
+        state.setTurnPhase(TurnPhase.PRE_ROLL);
+        byte[] checkpoint = state.checkpoint();
+        Simulation simulation = Simulation.fork(checkpoint, 42L, new ExpectedValueStrategy());
+        simulation.playOut(30);
+
+        GameState copy = simulation.getGameState();
+        assertNotSame(state, copy);
+        assertTrue(copy.getTurnNumber() > state.getTurnNumber() || simulation.isEnded());
+        assertEquals(0, alice.getPropertyCount() + bob.getPropertyCount());
+        double total = simulation.score(alice.getId()) + simulation.score(bob.getId());
+        assertTrue(simulation.score(alice.getId()) >= 0.0 && simulation.score(alice.getId()) <= 1.0);
+        assertEquals(1.0, total, 1e-9);
+
+        // The same seed plays the same game
+        Simulation again = Simulation.fork(checkpoint, 42L, new ExpectedValueStrategy());
+        again.playOut(30);
+        assertEquals(copy.getTurnNumber(), again.getGameState().getTurnNumber());
+        assertEquals(simulation.score(alice.getId()), again.score(alice.getId()), 0.0);
+    }
+
+    @Test
+    public void testSingleMoveIsNotSearched() {
+        state.setCurrentPlayerId(alice.getId());
+        state.setTurnPhase(TurnPhase.POST_ROLL);
+        PropertyValuation valuation = new PropertyValuation(state);
+        valuation.refresh();
+        MctsStrategy strategy = new MctsStrategy(pool, 1_000, 0, 7L);
+
+        assertEquals(MessageType.END_TURN, strategy.decide(valuation, alice.getId()).getCommandType());
+        assertEquals(0, strategy.getLastRollouts());
+        assertNull(strategy.decide(valuation, bob.getId()));
+    }
+
+    @Test
+    public void testSearchPlaysOnForkedCopies() {
+        game.give(alice, Board.MEDITERRANEAN_AVE);
+        alice.setPosition(Board.BALTIC_AVE);
+        state.setCurrentPlayerId(alice.getId());
+        state.setTurnPhase(TurnPhase.PROPERTY_DECISION);
+        PropertyValuation valuation = new PropertyValuation(state);
+        valuation.refresh();
+        MctsStrategy strategy = new MctsStrategy(pool, 5_000, 64, 7L);
+
+        ArrayList<ClientCommand> moves = strategy.candidates(valuation, alice.getId());
+        assertEquals(2, moves.size());
+
+        // Declining may win: heads-up, the auction that follows is often won below list price
+        MessageType chosen = strategy.decide(valuation, alice.getId()).getCommandType();
+        assertTrue(chosen == MessageType.BUY_PROPERTY || chosen == MessageType.DECLINE_BUY);
+        assertEquals(64, strategy.getLastRollouts());
+        // Searching never touches the room's own state
+        assertEquals(TurnPhase.PROPERTY_DECISION, state.getTurnPhase());
+        assertEquals(1, alice.getPropertyCount());
+    }
+}
@@ -0,0 +1,79 @@
+package com.monopoly.analytics;
+
+import com.monopoly.model.game.Board;
+import com.monopoly.model.property.Property;
+import com.monopoly.model.tile.RailroadTile;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the board landing model.
+ */
+public class LandingModelTest {
+
+    private final LandingModel model = LandingModel.standard();
+
+    @Test
+    public void testDistributionIsNormalizedAndConverged() {
+        double total = 0.0;
+        for (int position = 0; position < Board.BOARD_SIZE; position++) {
+            assertTrue(model.getLandingProbability(position) >= 0.0);
+            total += model.getLandingProbability(position);
+        }
+        assertEquals(1.0, total, 1e-9);
+        assertTrue(model.getIterations() < LandingModel.MAX_ITERATIONS);
+        assertSame(model, LandingModel.standard());
+    }
+
+    @Test
+    public void testGoToJailIsNeverAFinalLanding() {
+        assertEquals(0.0, model.getLandingProbability(Board.GO_TO_JAIL_POSITION), 0.0);
+
+        // Jail collects every arrest on top of its visits
+        int busiest = 0;
+        for (int position = 1; position < Board.BOARD_SIZE; position++) {
+            if (model.getLandingProbability(position) > model.getLandingProbability(busiest)) {
+                busiest = position;
+            }
+        }
+        assertEquals(Board.JAIL_POSITION, busiest);
+        assertTrue(model.getJailProbability() > 0.05 && model.getJailProbability() < 0.25);
+    }
+
+    @Test
+    public void testKnownLandingOrder() {
+        // Illinois Avenue is the classic hot spot; Chance sends players there
+        assertTrue(model.getLandingProbability(Board.ILLINOIS_AVE)
+            > model.getLandingProbability(Board.MEDITERRANEAN_AVE));
+        assertTrue(model.getLandingProbability(Board.ILLINOIS_AVE)
+            > model.getLandingProbability(Board.PARK_PLACE));
+        // Doubles give some turns more than one move
+        assertTrue(model.getLandingsPerTurn(Board.ILLINOIS_AVE)
+            > model.getLandingProbability(Board.ILLINOIS_AVE));
+    }
+
+    @Test
+    public void testExpectedRentFollowsRentLevels() {
+        Board board = new Board();
+        Property boardwalk = board.getProperty(Board.BOARDWALK);
+        double landings = model.getLandingsPerTurn(Board.BOARDWALK);
+
+        assertEquals(landings * boardwalk.getBaseRent(), model.expectedPropertyRent(boardwalk, false), 1e-12);
+        assertEquals(landings * boardwalk.getRentWithColorSet(), model.expectedPropertyRent(boardwalk, true), 1e-12);
+
+        boardwalk.setNumberOfHouses(3);
+        assertEquals(landings * boardwalk.getRentWithHouses(3), model.expectedPropertyRent(boardwalk, true), 1e-12);
+        assertEquals(LandingModel.LEVEL_ONE_HOUSE + 2, LandingModel.rentLevel(3, false, true));
+        assertEquals(LandingModel.LEVEL_HOTEL, LandingModel.rentLevel(0, true, true));
+
+        boardwalk.setNumberOfHouses(0);
+        boardwalk.mortgage();
+        assertEquals(0.0, model.expectedPropertyRent(boardwalk, true), 0.0);
+
+        assertEquals(model.getLandingsPerTurn(Board.READING_RAILROAD) * RailroadTile.RENT_BY_COUNT[3],
+            model.expectedRailroadRent(Board.READING_RAILROAD, 4), 1e-12);
+        assertEquals(0.0, model.expectedRent(Board.FREE_PARKING_POSITION, LandingModel.LEVEL_BASE), 0.0);
+        assertEquals(0.0, model.expectedRent(-1, LandingModel.LEVEL_BASE), 0.0);
+    }
+}
@@ -0,0 +1,98 @@
+package com.monopoly.analytics;
+
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.model.game.GameState;
+import com.monopoly.network.protocol.ClientCommand;
+import com.monopoly.server.GameController;
+import com.monopoly.server.Server;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Unit tests for the columnar turn statistics export.
+ */
+public class TurnStatsWriterTest {
+
+    private Path file;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        file = Files.createTempDirectory("stats-test").resolve("turns.mts");
+    }
+
+    @Test
+    public void testRowsRoundTripAcrossRowGroups() throws IOException {
+        int total = TurnStatsWriter.ROW_GROUP_SIZE + 1000;
+        try (TurnStatsWriter writer = new TurnStatsWriter(file)) {
+            for (int i = 0; i < total; i++) {
+                writer.append("room_" + (i / 100), i, i % 4, i % 40, 1500 - i % 300, i % 7, i % 3 - 1, i % 16);
+            }
+            assertEquals(total, writer.getRowCount());
+        }
+
+        int groups = 0;
+        int row = 0;
+        try (TurnStatsReader reader = new TurnStatsReader(file)) {
+            while (reader.nextGroup()) {
+                groups++;
+                int[] turns = reader.getTurns();
+                int[] money = reader.getMoney();
+                byte[] positions = reader.getPositions();
+                byte[] cardTypes = reader.getCardTypes();
+                for (int i = 0; i < reader.getRows(); i++, row++) {
+                    assertEquals(row, turns[i]);
+                    assertEquals(1500 - row % 300, money[i]);
+                    assertEquals(row % 40, positions[i]);
+                    assertEquals(row % 3 - 1, cardTypes[i]);
+                    assertEquals("room_" + (row / 100), reader.getGameId(i));
+                }
+            }
+        }
+        assertEquals(2, groups);
+        assertEquals(total, row);
+    }
+
+    @Test
+    public void testLiveGameWritesOneRowPerTurn() throws IOException {
+        Server server = new Server(0);
+        server.enableStats(file);
+        GameController room = new GameController("room_stats", server);
+        for (int playerId = 1; playerId <= 3; playerId++) {
+            room.addPlayer(playerId, null);
+            room.onPlayerJoined(playerId, "Player " + playerId);
+        }
+        room.startGame();
+        GameState state = room.getGameState();
+        for (int i = 0; i < 120 && !state.isGameOver(); i++) {
+            int current = state.getCurrentPlayerId();
+            TurnPhase phase = state.getTurnPhase();
+            if (phase == TurnPhase.PRE_ROLL) {
+                room.processCommand(current, ClientCommand.createRollDice(current));
+            } else if (phase == TurnPhase.PROPERTY_DECISION) {
+                room.processCommand(current, ClientCommand.createBuyProperty(current, -1));
+            } else {
+                room.processCommand(current, ClientCommand.createEndTurn(current));
+            }
+        }
+        int finishedTurns = state.getTurnNumber();
+        server.getStatsWriter().close();
+
+        try (TurnStatsReader reader = new TurnStatsReader(file)) {
+            assertTrue(reader.nextGroup());
+            assertTrue(reader.getRows() > 0);
+            assertTrue(reader.getRows() <= finishedTurns);
+            int[] turns = reader.getTurns();
+            for (int i = 1; i < reader.getRows(); i++) {
+                assertEquals(turns[i - 1] + 1, turns[i]);
+                assertEquals("room_stats", reader.getGameId(i));
+            }
+            assertFalse(reader.nextGroup());
+        }
+    }
+}
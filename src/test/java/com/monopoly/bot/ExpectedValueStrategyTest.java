@@ -0,0 +1,112 @@
+package com.monopoly.bot;
+
+import com.monopoly.TwoPlayerGame;
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.model.game.Board;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.game.Trade;
+import com.monopoly.model.player.Player;
+import com.monopoly.network.protocol.ClientCommand;
+import com.monopoly.network.protocol.MessageType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the expected-value bot and its valuation cache.
+ */
+public class ExpectedValueStrategyTest {
+
+    private TwoPlayerGame game;
+    private GameState state;
+    private Player alice;
+    private Player bob;
+    private PropertyValuation valuation;
+    private ExpectedValueStrategy strategy;
+
+    @BeforeEach
+    public void setUp() {
+        game = new TwoPlayerGame();
+        state = game.getState();
+        alice = game.getAlice();
+        bob = game.getBob();
+        valuation = new PropertyValuation(state);
+        strategy = new ExpectedValueStrategy();
+    }
+
+    @Test
+    public void testCacheRebuildsOnlyWhenOwnershipChanges() {
+        assertTrue(valuation.refresh());
+        assertEquals(1, valuation.getRevision());
+
+        alice.addMoney(200);
+        bob.setPosition(12);
+        assertFalse(valuation.refresh());
+        assertEquals(1, valuation.getRevision());
+
+        game.give(alice, Board.BALTIC_AVE);
+        assertTrue(valuation.refresh());
+        assertEquals(2, valuation.getRevision());
+        assertEquals(alice.getId(), valuation.getOwner(Board.BALTIC_AVE));
+
+        state.getBoard().getProperty(Board.BALTIC_AVE).mortgage();
+        assertTrue(valuation.refresh());
+        assertEquals(0.0, valuation.getRentPerTurn(Board.BALTIC_AVE), 0.0);
+    }
+
+    @Test
+    public void testCompletingASetIsWorthMost() {
+        game.give(alice, Board.MEDITERRANEAN_AVE);
+        valuation.refresh();
+
+        double completing = valuation.getAcquireValue(alice.getId(), Board.BALTIC_AVE);
+        double blocking = valuation.getAcquireValue(bob.getId(), Board.BALTIC_AVE);
+        assertTrue(completing > blocking);
+        assertTrue(completing > valuation.getPrice(Board.BALTIC_AVE));
+        assertTrue(strategy.shouldBuy(valuation, alice, Board.BALTIC_AVE));
+
+        // Spending below the reserve is never worth it
+        alice.setMoney(valuation.getPrice(Board.BALTIC_AVE));
+        assertFalse(strategy.shouldBuy(valuation, alice, Board.BALTIC_AVE));
+        assertTrue(strategy.maxBid(valuation, alice, Board.BALTIC_AVE) < valuation.getPrice(Board.BALTIC_AVE));
+    }
+
+    @Test
+    public void testBuildsOnCompleteSet() {
+        game.give(alice, Board.PARK_PLACE);
+        game.give(alice, Board.BOARDWALK);
+        valuation.refresh();
+        state.setCurrentPlayerId(alice.getId());
+        state.setTurnPhase(TurnPhase.POST_ROLL);
+
+        int build = strategy.chooseBuild(valuation, alice.getId());
+        assertTrue(build == Board.PARK_PLACE || build == Board.BOARDWALK);
+
+        ClientCommand command = strategy.decide(valuation, alice.getId());
+        assertEquals(MessageType.BUILD, command.getCommandType());
+        assertEquals(build, command.getIntParameter("propertyId", -1));
+
+        // Without the cash to keep a reserve the turn just ends
+        alice.setMoney(150);
+        assertEquals(MessageType.END_TURN, strategy.decide(valuation, alice.getId()).getCommandType());
+        assertNull(strategy.decide(valuation, bob.getId()));
+    }
+
+    @Test
+    public void testTradeNeedsAFairGain() {
+        game.give(alice, Board.MEDITERRANEAN_AVE);
+        game.give(bob, Board.BALTIC_AVE);
+        valuation.refresh();
+
+        Trade gift = new Trade(alice.getId(), bob.getId());
+        gift.setInitiatorMoney(300);
+        assertTrue(strategy.acceptTrade(valuation, bob, gift));
+
+        // Completing Alice's set for pocket money helps her more than Bob
+        Trade lopsided = new Trade(alice.getId(), bob.getId());
+        lopsided.addReceiverProperty(state.getBoard().getProperty(Board.BALTIC_AVE));
+        lopsided.setInitiatorMoney(70);
+        assertFalse(strategy.acceptTrade(valuation, bob, lopsided));
+    }
+}
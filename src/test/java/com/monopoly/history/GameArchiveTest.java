@@ -0,0 +1,90 @@
+package com.monopoly.history;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.transaction.TransactionType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Unit tests for the finished-game archive.
+ */
+public class GameArchiveTest {
+
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("archive-test");
+    }
+
+    /**
+     * Creates a two-player game summary
+     */
+    private ArchivedGame game(int number, String first, String second) {
+        ArrayList<ArchivedGame.Standing> standings = new ArrayList<>();
+        standings.add(new ArchivedGame.Standing(1, first, 3000, 4500, 12, false));
+        standings.add(new ArchivedGame.Standing(2, second, 0, 0, 0, true));
+        long[] totals = new long[TransactionType.values().length];
+        int[] counts = new int[TransactionType.values().length];
+        totals[TransactionType.RENT_PAYMENT.ordinal()] = number * 10L;
+        counts[TransactionType.RENT_PAYMENT.ordinal()] = number;
+        return new ArchivedGame("room_" + number, 1_000_000L + number * 1000L, 50 + number, 1,
+                                standings, totals, counts);
+    }
+
+    @Test
+    public void testPlayerLookupIsNewestFirst() throws IOException {
+        GameArchive archive = new GameArchive(directory);
+        for (int i = 0; i < 150; i++) {
+            archive.archive(game(i, "Alice", i % 2 == 0 ? "Bob" : "Carol"));
+        }
+        archive.flush();
+
+        ArrayList<ArchivedGame> recent = archive.findByPlayer("alice", 100);
+        assertEquals(100, recent.size());
+        assertEquals("room_149", recent.get(0).getRoomId());
+        assertEquals(1490, recent.get(0).getTotal(TransactionType.RENT_PAYMENT));
+        assertEquals(75, archive.findByPlayer("Bob", 100).size());
+        assertEquals(0, archive.findByPlayer("Dave", 100).size());
+
+        ArrayList<ArchivedGame> range = archive.findBetween(1_010_000L, 1_020_000L);
+        assertEquals(10, range.size());
+        assertEquals("room_10", range.get(0).getRoomId());
+        archive.close();
+    }
+
+    @Test
+    public void testIndexesRebuiltAndTornTailDropped() throws IOException {
+        GameArchive archive = new GameArchive(directory);
+        for (int i = 0; i < 5; i++) {
+            archive.archive(game(i, "Alice", "Bob"));
+        }
+        archive.close();
+
+        // A crash in the middle of a batch leaves a partial record behind
+        Path file = directory.resolve(GameArchive.FILE_NAME);
+        long size = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 40, 1, 2, 3}), size);
+        }
+
+        GameArchive reopened = new GameArchive(directory);
+        assertEquals(5, reopened.getGameCount());
+        assertEquals(size, Files.size(file));
+        reopened.archive(game(5, "Bob", "Alice"));
+        reopened.flush();
+        ArrayList<ArchivedGame> games = reopened.findByPlayer("BOB", 10);
+        assertEquals(6, games.size());
+        assertEquals("Bob", games.get(0).getStandings().get(0).getName());
+        reopened.close();
+    }
+}
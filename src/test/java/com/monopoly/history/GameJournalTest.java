@@ -0,0 +1,142 @@
+package com.monopoly.history;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.model.game.GameState;
+import com.monopoly.network.protocol.ClientCommand;
+import com.monopoly.server.GameController;
+import com.monopoly.server.Server;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Unit tests for the room journal.
+ */
+public class GameJournalTest {
+
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-test");
+    }
+
+    @Test
+    public void testRecordsSurviveReopen() throws IOException {
+        GameJournal journal = GameJournal.open(directory);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i + 1, journal.append(JournalRecord.COMMAND, i % 4, new byte[] {(byte) i}));
+        }
+        journal.close();
+
+        GameJournal reopened = GameJournal.open(directory);
+        assertEquals(100, reopened.getLastSequence());
+        assertEquals(101, reopened.append(JournalRecord.DISCONNECT, 2, new byte[0]));
+        reopened.close();
+
+        ArrayList<JournalRecord> records = GameJournal.readAll(directory);
+        assertEquals(101, records.size());
+        assertEquals(42, records.get(42).getBody()[0]);
+        assertEquals(JournalRecord.DISCONNECT, records.get(100).getType());
+    }
+
+    @Test
+    public void testTornRecordIsDropped() throws IOException {
+        GameJournal journal = GameJournal.open(directory);
+        journal.append(JournalRecord.COMMAND, 1, new byte[] {1, 2, 3});
+        journal.append(JournalRecord.COMMAND, 1, new byte[] {4, 5, 6});
+        journal.close();
+
+        // Corrupt the last byte of the second record's body
+        Path segment = GameJournal.listSegments(directory).get(0);
+        int second = 8 + JournalRecord.PAYLOAD_HEADER + 3;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {9}), second + 8 + JournalRecord.PAYLOAD_HEADER + 2);
+        }
+
+        GameJournal reopened = GameJournal.open(directory);
+        assertEquals(1, reopened.getLastSequence());
+        reopened.append(JournalRecord.COMMAND, 1, new byte[] {7});
+        reopened.close();
+
+        ArrayList<JournalRecord> records = GameJournal.readAll(directory);
+        assertEquals(2, records.size());
+        assertEquals(7, records.get(1).getBody()[0]);
+    }
+
+    @Test
+    public void testSnapshotTruncatesCoveredSegments() throws IOException {
+        GameJournal journal = GameJournal.open(directory);
+        for (int i = 0; i < 3; i++) {
+            journal.append(JournalRecord.COMMAND, 1, new byte[] {(byte) i});
+            journal.rollover();
+        }
+        journal.append(JournalRecord.COMMAND, 1, new byte[] {3});
+        long covered = journal.getLastSequence();
+        journal.rollover();
+        journal.append(JournalRecord.COMMAND, 1, new byte[] {4});
+        assertEquals(5, GameJournal.listSegments(directory).size());
+
+        journal.writeSnapshot(covered, new byte[] {42});
+        journal.close();
+
+        assertEquals(1, GameJournal.listSegments(directory).size());
+        JournalRecord snapshot = GameJournal.readSnapshot(directory);
+        assertEquals(covered, snapshot.getSequence());
+        assertEquals(42, snapshot.getBody()[0]);
+        ArrayList<JournalRecord> tail = GameJournal.readAfter(directory, snapshot.getSequence());
+        assertEquals(1, tail.size());
+        assertEquals(4, tail.get(0).getBody()[0]);
+    }
+
+    @Test
+    public void testRecoveryReproducesGame() throws IOException {
+        Server server = new Server(0);
+        server.enableJournal(directory);
+        GameController room = new GameController("room_replay", server);
+        for (int playerId = 1; playerId <= 3; playerId++) {
+            room.addPlayer(playerId, null);
+            room.onPlayerJoined(playerId, "Player " + playerId);
+        }
+        room.startGame();
+
+        // Buy whatever is offered and end turns, for a few hundred commands
+        GameState state = room.getGameState();
+        for (int i = 0; i < 300 && !room.isGameEnded(); i++) {
+            int current = state.getCurrentPlayerId();
+            TurnPhase phase = state.getTurnPhase();
+            if (phase == TurnPhase.PRE_ROLL) {
+                room.processCommand(current, ClientCommand.createRollDice(current));
+            } else if (phase == TurnPhase.PROPERTY_DECISION) {
+                room.processCommand(current, ClientCommand.createBuyProperty(current, -1));
+            } else {
+                room.processCommand(current, ClientCommand.createEndTurn(current));
+            }
+        }
+        assertTrue(state.getTurnNumber() > 20, "game stalled at turn " + state.getTurnNumber());
+        assertFalse(room.isGameEnded());
+        byte[] expected = state.checkpoint();
+        server.getJournalStore().shutdown();
+
+        // Snapshots have replaced the start of the game
+        Path roomDirectory = directory.resolve("room_replay");
+        assertNotNull(GameJournal.readSnapshot(roomDirectory));
+        assertNotEquals(JournalRecord.GENESIS, GameJournal.readAll(roomDirectory).get(0).getType());
+
+        Server restarted = new Server(0);
+        restarted.enableJournal(directory);
+        assertEquals(1, restarted.recoverRooms());
+        GameController recovered = restarted.getGameController("room_replay");
+        assertArrayEquals(expected, recovered.getGameState().checkpoint());
+        restarted.getJournalStore().shutdown();
+    }
+}
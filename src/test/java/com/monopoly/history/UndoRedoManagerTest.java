@@ -0,0 +1,114 @@
+package com.monopoly.history;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.game.StateVector;
+import com.monopoly.network.protocol.ClientCommand;
+import com.monopoly.server.GameController;
+import com.monopoly.server.Server;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for undo/redo over recorded actions.
+ */
+public class UndoRedoManagerTest {
+
+    private GameController room;
+    private GameState state;
+
+    @BeforeEach
+    public void setUp() {
+        room = new GameController("room_undo", new Server(0));
+        for (int playerId = 1; playerId <= 3; playerId++) {
+            room.addPlayer(playerId, null);
+            room.onPlayerJoined(playerId, "Player " + playerId);
+        }
+        room.startGame();
+        state = room.getGameState();
+    }
+
+    /**
+     * Plays one command and records it
+     */
+    private GameAction play(UndoRedoManager history, long actionId) {
+        int current = state.getCurrentPlayerId();
+        TurnPhase phase = state.getTurnPhase();
+        ActionType type;
+        if (phase == TurnPhase.PRE_ROLL) {
+            room.processCommand(current, ClientCommand.createRollDice(current));
+            type = ActionType.ROLL_DICE;
+        } else if (phase == TurnPhase.PROPERTY_DECISION) {
+            room.processCommand(current, ClientCommand.createBuyProperty(current, -1));
+            type = ActionType.BUY_PROPERTY;
+        } else {
+            room.processCommand(current, ClientCommand.createEndTurn(current));
+            type = ActionType.END_TURN;
+        }
+        return history.record(actionId, type, current, type.name(), state);
+    }
+
+    @Test
+    public void testUndoAndRedoRestoreExactState() {
+        UndoRedoManager history = new UndoRedoManager();
+        history.track(state);
+        ArrayList<byte[]> checkpoints = new ArrayList<>();
+        for (int i = 0; i < 1000 && !room.isGameEnded() && checkpoints.size() < 15; i++) {
+            byte[] checkpoint = state.checkpoint();
+            GameAction action = play(history, i);
+            if (!action.isReversible()) {
+                checkpoints.clear();
+            } else {
+                checkpoints.add(checkpoint);
+            }
+        }
+        assertEquals(checkpoints.size(), history.getUndoStackSize());
+        assertEquals(15, history.getUndoStackSize());
+        byte[] end = state.checkpoint();
+
+        for (int i = checkpoints.size() - 1; i >= 0; i--) {
+            assertNotNull(history.undo(state));
+            assertArrayEquals(checkpoints.get(i), state.checkpoint());
+        }
+        assertFalse(history.canUndo());
+
+        while (history.canRedo()) {
+            history.redo(state);
+        }
+        assertArrayEquals(end, state.checkpoint());
+
+        // The kept vector followed the rewinds, so the next action diffs correctly
+        if (play(history, 1000).isReversible()) {
+            history.undo(state);
+            assertArrayEquals(end, state.checkpoint());
+        }
+    }
+
+    @Test
+    public void testActionsKeepOnlyChangedFields() {
+        UndoRedoManager history = new UndoRedoManager();
+        history.track(state);
+        GameAction roll = play(history, 1);
+        assertTrue(roll.getChangedFieldCount() < StateVector.capture(state).length / 4,
+                   "roll changed " + roll.getChangedFieldCount() + " fields");
+    }
+
+    @Test
+    public void testHistoryIsBounded() {
+        UndoRedoManager history = new UndoRedoManager(5);
+        history.track(state);
+        for (int i = 0; i < 20; i++) {
+            history.record(i, ActionType.END_TURN, 1, "noop", state);
+        }
+        assertEquals(5, history.getUndoStackSize());
+        assertEquals(19, history.peekUndo().getActionId());
+
+        history.undo(state);
+        assertEquals(1, history.getRedoStackSize());
+        history.record(20, ActionType.END_TURN, 1, "noop", state);
+        assertFalse(history.canRedo());
+    }
+}
@@ -0,0 +1,246 @@
+package com.monopoly.logic;
+
+import com.monopoly.TwoPlayerGame;
+import com.monopoly.model.card.Card;
+import com.monopoly.model.card.CardEffect;
+import com.monopoly.model.card.ChanceCard;
+import com.monopoly.model.card.CardType;
+import com.monopoly.model.enums.EventCode;
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.model.game.Board;
+import com.monopoly.model.game.Dice;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+import com.monopoly.model.player.TokenType;
+import com.monopoly.model.property.Property;
+import com.monopoly.network.protocol.ClientCommand;
+import com.monopoly.network.protocol.ProtocolHandler;
+import com.monopoly.transaction.TransactionType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the shared turn flow and command rules.
+ */
+public class TurnEngineTest {
+
+    private TwoPlayerGame game;
+    private GameState state;
+    private Player alice;
+    private Player bob;
+    private TurnEngine engine;
+
+    @BeforeEach
+    public void setUp() {
+        game = new TwoPlayerGame();
+        state = game.getState();
+        alice = game.getAlice();
+        bob = game.getBob();
+        state.setCurrentPlayerId(alice.getId());
+        state.setTurnPhase(TurnPhase.PRE_ROLL);
+        engine = new TurnEngine(state, new ProtocolHandler());
+    }
+
+    @Test
+    public void testCommandsOutOfTurnOrPhaseAreRejected() {
+        assertEquals(TurnEngine.Rejection.NOT_YOUR_TURN,
+                     engine.validate(bob.getId(), ClientCommand.createRollDice(bob.getId())));
+        assertEquals(TurnEngine.Rejection.WRONG_PHASE,
+                     engine.validate(alice.getId(), ClientCommand.createEndTurn(alice.getId())));
+        assertNull(engine.validate(alice.getId(), ClientCommand.createRollDice(alice.getId())));
+
+        bob.setBankrupt(true);
+        assertEquals(TurnEngine.Rejection.NOT_IN_GAME,
+                     engine.validate(bob.getId(), ClientCommand.createPassBid(bob.getId())));
+    }
+
+    @Test
+    public void testUnmortgageChargesInterest() {
+        game.give(alice, Board.BALTIC_AVE);
+        Property baltic = state.getBoard().getProperty(Board.BALTIC_AVE);
+        int before = alice.getMoney();
+
+        assertTrue(engine.apply(alice.getId(), ClientCommand.createMortgage(alice.getId(), Board.BALTIC_AVE)));
+        assertTrue(baltic.isMortgaged());
+        assertEquals(before + baltic.getMortgageValue(), alice.getMoney());
+        assertEquals(TurnEngine.Rejection.ALREADY_MORTGAGED,
+                     engine.execute(alice.getId(), ClientCommand.createMortgage(alice.getId(), Board.BALTIC_AVE)));
+
+        assertTrue(engine.apply(alice.getId(), ClientCommand.createUnmortgage(alice.getId(), Board.BALTIC_AVE)));
+        assertFalse(baltic.isMortgaged());
+        assertEquals(before + baltic.getMortgageValue() - baltic.getUnmortgageCost(), alice.getMoney());
+        assertTrue(state.getLedger().isBalanced());
+    }
+
+    @Test
+    public void testEndTurnPassesToTheNextPlayer() {
+        RecordingListener listener = new RecordingListener();
+        engine.setListener(listener);
+        state.setTurnPhase(TurnPhase.POST_ROLL);
+        int turn = state.getTurnNumber();
+
+        assertTrue(engine.apply(alice.getId(), ClientCommand.createEndTurn(alice.getId())));
+        assertEquals(bob.getId(), state.getCurrentPlayerId());
+        assertEquals(turn + 1, state.getTurnNumber());
+        assertEquals(TurnPhase.PRE_ROLL, state.getTurnPhase());
+        assertEquals(bob.getId(), listener.turnStarted);
+        assertEquals(1, listener.stateChanges);
+    }
+
+    @Test
+    public void testRaisedCashPaysTheOwedRent() {
+        game.give(bob, Board.BOARDWALK);
+        game.give(alice, Board.PARK_PLACE);
+        Property parkPlace = state.getBoard().getProperty(Board.PARK_PLACE);
+        state.getLedger().payToBank(TransactionType.TAX_PAYMENT, alice.getId(), alice.getMoney() - 10);
+        state.getDice().roll();
+        int bobBefore = bob.getMoney();
+
+        // Rent of 50 with 10 in hand: the debt is kept for Bob
+        engine.getGameLogic().collectRent(alice.getId(), bob.getId(), 50, "Boardwalk");
+        assertEquals(TurnPhase.IN_DEBT, state.getTurnPhase());
+        assertEquals(bob.getId(), state.getDebtCreditorId());
+        assertEquals(50, state.getDebtAmount());
+
+        assertTrue(engine.apply(alice.getId(), ClientCommand.createMortgage(alice.getId(), Board.PARK_PLACE)));
+        assertTrue(engine.apply(alice.getId(), ClientCommand.createEndTurn(alice.getId())));
+
+        assertFalse(alice.isBankrupt());
+        assertFalse(state.hasDebt());
+        assertEquals(bobBefore + 50, bob.getMoney());
+        assertEquals(10 + parkPlace.getMortgageValue() - 50, alice.getMoney());
+        assertEquals(50, alice.getTotalRentPaid());
+        assertEquals(bob.getId(), state.getCurrentPlayerId());
+        assertTrue(state.getLedger().isBalanced());
+    }
+
+    @Test
+    public void testUnpaidDebtBankruptsToTheCreditor() {
+        RecordingListener listener = new RecordingListener();
+        engine.setListener(listener);
+        game.give(bob, Board.BOARDWALK);
+        game.give(alice, Board.PARK_PLACE);
+        state.getLedger().payToBank(TransactionType.TAX_PAYMENT, alice.getId(), alice.getMoney() - 10);
+        state.getDice().roll();
+
+        engine.getGameLogic().collectRent(alice.getId(), bob.getId(), 50, "Boardwalk");
+        assertEquals(TurnPhase.IN_DEBT, state.getTurnPhase());
+
+        // Ending the turn still short goes bankrupt to Bob, not the bank
+        assertTrue(engine.apply(alice.getId(), ClientCommand.createEndTurn(alice.getId())));
+        assertTrue(alice.isBankrupt());
+        assertFalse(state.hasDebt());
+        assertEquals(bob.getId(), state.getBoard().getProperty(Board.PARK_PLACE).getOwnerId());
+        assertTrue(state.isGameOver());
+        assertEquals(bob.getId(), listener.winnerId);
+    }
+
+    @Test
+    public void testRollerBankruptByRentPassesTheTurn() {
+        GameState table = new GameState("room_three");
+        Player ann = new Player(1, "Ann", TokenType.values()[0]);
+        Player ben = new Player(2, "Ben", TokenType.values()[1]);
+        Player cat = new Player(3, "Cat", TokenType.values()[2]);
+        table.addPlayer(ann);
+        table.addPlayer(ben);
+        table.addPlayer(cat);
+        table.startGame();
+        table.setCurrentPlayerId(ann.getId());
+        table.setTurnPhase(TurnPhase.PRE_ROLL);
+        TurnEngine threeWay = new TurnEngine(table, new ProtocolHandler());
+
+        // Rig the dice so Ann's roll lands her, penniless, on Ben's Boardwalk hotel
+        long seed = 1;
+        Dice probe = new Dice(seed);
+        while (probe.roll() > 0 && probe.isDoubles()) {
+            probe = new Dice(++seed);
+        }
+        table.getDice().setRngState(seed);
+        ann.setPosition(Board.BOARDWALK - probe.getTotal());
+        Property boardwalk = table.getBoard().getProperty(Board.BOARDWALK);
+        ben.addProperty(boardwalk);
+        table.getBank().removeUnownedProperty(Board.BOARDWALK);
+        boardwalk.restoreState(ben.getId(), 0, true, false);
+        table.getLedger().payToBank(TransactionType.TAX_PAYMENT, ann.getId(), ann.getMoney());
+
+        assertTrue(threeWay.apply(ann.getId(), ClientCommand.createRollDice(ann.getId())));
+        assertTrue(ann.isBankrupt());
+        assertFalse(table.isGameOver());
+        assertEquals(ben.getId(), table.getCurrentPlayerId());
+        assertEquals(TurnPhase.PRE_ROLL, table.getTurnPhase());
+        assertNull(threeWay.validate(ben.getId(), ClientCommand.createRollDice(ben.getId())));
+    }
+
+    @Test
+    public void testAdvanceToGoMovesAndPaysSalary() {
+        alice.setPosition(7);
+        int before = alice.getMoney();
+        Card card = ChanceCard.createStandardDeck().get(0);
+        assertEquals(CardEffect.ADVANCE_TO_GO, card.getEffect());
+
+        engine.getGameLogic().resolveCard(alice.getId(), card);
+        assertEquals(Board.GO_POSITION, alice.getPosition());
+        assertEquals(before + Player.GO_SALARY, alice.getMoney());
+        assertEquals(1, alice.getTimesPassedGo());
+        assertTrue(state.getLedger().isBalanced());
+    }
+
+    /**
+     * Keeps what the engine reported
+     */
+    private static final class RecordingListener implements TurnEngine.Listener {
+
+        int turnStarted = -1;
+        int stateChanges;
+        int winnerId = -1;
+
+        @Override
+        public void rolled(TurnOutcome roll) {
+        }
+
+        @Override
+        public void resolved(TurnOutcome outcome) {
+        }
+
+        @Override
+        public void cardDrawn(CardType type, Card card) {
+        }
+
+        @Override
+        public void event(EventCode code, int... args) {
+        }
+
+        @Override
+        public void auctionStarted(Property property) {
+        }
+
+        @Override
+        public void bidPlaced(int playerId, int currentBid) {
+        }
+
+        @Override
+        public void auctionWon(int winnerId, int amount) {
+        }
+
+        @Override
+        public void playerBankrupt(int playerId) {
+        }
+
+        @Override
+        public void turnStarted(int playerId) {
+            turnStarted = playerId;
+        }
+
+        @Override
+        public void stateChanged() {
+            stateChanges++;
+        }
+
+        @Override
+        public void gameOver(Player winner) {
+            winnerId = winner.getId();
+        }
+    }
+}
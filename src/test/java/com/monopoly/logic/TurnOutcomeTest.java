@@ -0,0 +1,87 @@
+package com.monopoly.logic;
+
+import com.monopoly.model.enums.EventCode;
+import com.monopoly.model.game.Board;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+import com.monopoly.model.player.TokenType;
+import com.monopoly.model.property.ColorGroup;
+import com.monopoly.model.property.Property;
+import com.monopoly.model.tile.RailroadTile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for allocation-free turn resolution.
+ */
+public class TurnOutcomeTest {
+
+    private GameState state;
+    private GameLogic logic;
+    private Player alice;
+    private Player bob;
+
+    @BeforeEach
+    public void setUp() {
+        state = new GameState("room_test");
+        alice = new Player(1, "Alice", TokenType.values()[0]);
+        bob = new Player(2, "Bob", TokenType.values()[1]);
+        state.addPlayer(alice);
+        state.addPlayer(bob);
+        state.startGame();
+        logic = new GameLogic(state);
+
+        // Alice owns Mediterranean Avenue (base rent $2) and Reading Railroad
+        Property property = state.getBoard().getProperty(Board.MEDITERRANEAN_AVE);
+        property.setOwnerId(alice.getId());
+        alice.addProperty(property);
+        state.getBank().removeUnownedProperty(property.getId());
+        ((RailroadTile) state.getBoard().getTile(Board.READING_RAILROAD)).setOwnerId(alice.getId());
+    }
+
+    @Test
+    public void testRentLandingRecordsCodeAndArguments() {
+        int before = bob.getMoney();
+        bob.setPosition(Board.MEDITERRANEAN_AVE);
+
+        TurnOutcome outcome = logic.resolveLanding(bob.getId());
+
+        assertEquals(EventCode.RENT_PAID, outcome.getCode());
+        assertEquals(2, outcome.getAmount());
+        assertEquals(alice.getId(), outcome.getOtherPlayerId());
+        assertEquals(before - 2, bob.getMoney());
+        assertEquals("Bob paid $2 rent to Alice for Mediterranean Avenue", outcome.describe(state));
+    }
+
+    @Test
+    public void testLandingOutcomeIsReused() {
+        bob.setPosition(Board.FREE_PARKING_POSITION);
+        TurnOutcome parking = logic.resolveLanding(bob.getId());
+        assertEquals(EventCode.FREE_PARKING, parking.getCode());
+        assertEquals("Free Parking. Rest here.", parking.describe(state));
+
+        bob.setPosition(Board.JAIL_POSITION);
+        TurnOutcome visiting = logic.resolveLanding(bob.getId());
+        assertSame(parking, visiting);
+        assertEquals(EventCode.JUST_VISITING, visiting.getCode());
+    }
+
+    @Test
+    public void testTextApiMatchesOutcome() {
+        bob.setPosition(Board.BALTIC_AVE);
+        assertEquals("Baltic Avenue is unowned. Price: $60. Buy or Auction?", logic.handleTileLanding(bob.getId()));
+    }
+
+    @Test
+    public void testBoardOwnershipCounts() {
+        Board board = state.getBoard();
+        assertEquals(1, board.countOwnedInColorGroup(ColorGroup.BROWN, alice.getId()));
+        assertEquals(0, board.countOwnedInColorGroup(ColorGroup.BROWN, bob.getId()));
+        assertEquals(0, board.countOwnedInColorGroup(ColorGroup.RAILROAD, alice.getId()));
+        assertEquals(1, board.countOwnedRailroads(alice.getId()));
+        assertEquals(0, board.countOwnedUtilities(alice.getId()));
+        assertEquals(2, board.getPropertiesInColorGroup(ColorGroup.BROWN).size());
+    }
+}
@@ -0,0 +1,148 @@
+package com.monopoly.model.game;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.model.enums.GameStatus;
+import com.monopoly.model.player.Player;
+import com.monopoly.model.player.TokenType;
+import com.monopoly.model.property.Property;
+import com.monopoly.transaction.Transaction;
+import com.monopoly.transaction.TransactionManager;
+import com.monopoly.transaction.TransactionType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for game state checkpoints.
+ */
+public class GameStateCodecTest {
+
+    private GameState state;
+    private Player alice;
+    private Player bob;
+
+    @BeforeEach
+    public void setUp() {
+        state = new GameState("room_test");
+        alice = new Player(1, "Alice", TokenType.values()[0]);
+        bob = new Player(2, "Bob", TokenType.values()[1]);
+        state.addPlayer(alice);
+        state.addPlayer(bob);
+        state.startGame();
+
+        // Alice owns a property with two houses, Bob paid her rent
+        Property property = state.getBoard().getProperty(1);
+        property.setOwnerId(alice.getId());
+        alice.addProperty(property);
+        state.getBank().removeUnownedProperty(property.getId());
+        property.restoreState(alice.getId(), 2, false, false);
+        alice.addMoney(50);
+        bob.subtractMoney(50);
+        state.recordTransaction(bob.getId(), alice.getId(), 50);
+        alice.setPosition(7);
+
+        state.getDice().roll();
+        state.drawChanceCard();
+    }
+
+    @Test
+    public void testRoundTripPreservesState() {
+        GameState restored = GameState.restore(state.checkpoint());
+
+        assertEquals("room_test", restored.getRoomId());
+        assertEquals(GameStatus.IN_PROGRESS, restored.getGameStatus());
+        assertEquals(state.getCurrentPlayerId(), restored.getCurrentPlayerId());
+
+        Player restoredAlice = restored.getPlayer(1);
+        assertEquals("Alice", restoredAlice.getName());
+        assertEquals(alice.getMoney(), restoredAlice.getMoney());
+        assertEquals(7, restoredAlice.getPosition());
+        assertEquals(1, restoredAlice.getOwnedProperties().size());
+        assertEquals(alice.getPropertiesBought(), restoredAlice.getPropertiesBought());
+
+        Property restoredProperty = restored.getBoard().getProperty(1);
+        assertEquals(1, restoredProperty.getOwnerId());
+        assertEquals(2, restoredProperty.getNumberOfHouses());
+        assertEquals(state.getDice().getTotal(), restored.getDice().getTotal());
+    }
+
+    @Test
+    public void testRestoredStateEncodesIdentically() {
+        byte[] checkpoint = state.checkpoint();
+        assertArrayEquals(checkpoint, GameState.restore(checkpoint).checkpoint());
+    }
+
+    @Test
+    public void testRestoredDiceContinueTheSameSequence() {
+        GameState restored = GameState.restore(state.checkpoint());
+        for (int i = 0; i < 20; i++) {
+            state.getDice().roll();
+            restored.getDice().roll();
+            assertEquals(state.getDice().getDie1(), restored.getDice().getDie1());
+            assertEquals(state.getDice().getDie2(), restored.getDice().getDie2());
+        }
+    }
+
+    @Test
+    public void testRestoredDeckKeepsOrder() {
+        GameState restored = GameState.restore(state.checkpoint());
+        ArrayList<Integer> expected = new ArrayList<>();
+        ArrayList<Integer> actual = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(state.drawChanceCard().getId());
+            actual.add(restored.drawChanceCard().getId());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void testLedgerSurvivesRoundTrip() {
+        TransactionManager ledger = state.getLedger();
+        ledger.transfer(TransactionType.RENT_PAYMENT, bob.getId(), alice.getId(), 120, 1);
+        ledger.transfer(TransactionType.RENT_PAYMENT, alice.getId(), bob.getId(), 20, 3);
+        ledger.payToBank(TransactionType.TAX_PAYMENT, bob.getId(), 200);
+        ledger.collectFromBank(TransactionType.GO_BONUS, alice.getId(), Player.GO_SALARY);
+
+        GameState restored = GameState.restore(state.checkpoint());
+        TransactionManager copy = restored.getLedger();
+        assertEquals(ledger.getTransactionCount(), copy.getTransactionCount());
+        for (TransactionType type : TransactionType.values()) {
+            assertEquals(ledger.getTotal(type), copy.getTotal(type));
+            assertEquals(ledger.getCount(type), copy.getCount(type));
+        }
+        assertEquals(100, copy.getNetFlow(bob.getId(), alice.getId()));
+        assertEquals(200, copy.getNetFlow(bob.getId(), Transaction.BANK_ID));
+        assertEquals(ledger.getBalance(alice.getId()), copy.getBalance(alice.getId()));
+        assertEquals(ledger.getBalance(Transaction.BANK_ID), copy.getBalance(Transaction.BANK_ID));
+        assertTrue(copy.isBalanced());
+
+        // History restarts, totals carry on
+        assertEquals(0, copy.getRecentTransactions(10).size());
+        copy.transfer(TransactionType.RENT_PAYMENT, bob.getId(), alice.getId(), 30, 1);
+        assertEquals(1, copy.getRecentTransactions(10).size());
+        assertEquals(130, copy.getNetFlow(bob.getId(), alice.getId()));
+        assertEquals(3, copy.getCount(TransactionType.RENT_PAYMENT));
+        assertTrue(copy.isBalanced());
+    }
+
+    @Test
+    public void testPendingDebtSurvivesRoundTrip() {
+        state.setDebt(TransactionType.RENT_PAYMENT, alice.getId(), 350);
+
+        GameState restored = GameState.restore(state.checkpoint());
+        assertEquals(TransactionType.RENT_PAYMENT, restored.getDebtType());
+        assertEquals(alice.getId(), restored.getDebtCreditorId());
+        assertEquals(350, restored.getDebtAmount());
+
+        state.clearDebt();
+        assertFalse(GameState.restore(state.checkpoint()).hasDebt());
+    }
+
+    @Test
+    public void testRejectsGarbage() {
+        assertThrows(IllegalArgumentException.class, () -> GameState.restore(new byte[] {1, 2, 3}));
+    }
+}
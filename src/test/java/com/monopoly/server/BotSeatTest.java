@@ -0,0 +1,53 @@
+package com.monopoly.server;
+
+import com.monopoly.bot.BotStrategy;
+import com.monopoly.bot.ExpectedValueStrategy;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+import com.monopoly.network.protocol.ClientCommand;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for bot seats driven by a room.
+ */
+public class BotSeatTest {
+
+    @Test
+    public void testBotsPlayAlongsideAHuman() {
+        Server server = new Server(0);
+        GameController room = new GameController("room_bots", server);
+        room.addPlayer(1, null);
+        room.onPlayerJoined(1, "Human");
+        assertTrue(room.addBot(2, "Bot 2", new ExpectedValueStrategy()));
+        assertTrue(room.addBot(3, "Bot 3", new ExpectedValueStrategy()));
+        assertTrue(room.isBot(2));
+        assertFalse(room.isBot(1));
+        room.startGame();
+        GameState state = room.getGameState();
+        // Bots stop once no human is left, so the human must not go broke
+        state.getPlayer(1).setMoney(100_000);
+
+        // The human only ever makes the phase's fallback move; the bots do the rest
+        for (int i = 0; i < 2000 && !room.isGameEnded() && state.getTurnNumber() < 60; i++) {
+            room.runBots();
+            synchronized (room) {
+                ClientCommand command = BotStrategy.fallback(state, 1);
+                if (command != null) {
+                    room.processCommand(1, command);
+                }
+            }
+        }
+
+        assertTrue(room.isGameEnded() || state.getTurnNumber() >= 60,
+                   "stalled at turn " + state.getTurnNumber() + " in " + state.getTurnPhase());
+        int owned = 0;
+        for (int playerId = 2; playerId <= 3; playerId++) {
+            Player bot = state.getPlayer(playerId);
+            owned += bot.getPropertyCount();
+        }
+        assertTrue(owned > 0);
+        assertFalse(room.addBot(4, "Bot 4", new ExpectedValueStrategy()));
+    }
+}
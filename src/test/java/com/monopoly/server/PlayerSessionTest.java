@@ -0,0 +1,76 @@
+package com.monopoly.server;
+
+import com.monopoly.datastructures.ArrayList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for resumable player sessions.
+ */
+public class PlayerSessionTest {
+
+    private PlayerSession session;
+
+    @BeforeEach
+    public void setUp() {
+        session = new PlayerSession(7, "token", null);
+    }
+
+    @Test
+    public void testDeliverStampsSequence() {
+        session.deliver("{\"type\":\"EVENT_LOG\"}");
+        session.deliver("{\"type\":\"EVENT_LOG\"}");
+
+        ArrayList<String> missed = session.replaySince(0);
+        assertEquals(2, missed.size());
+        assertTrue(missed.get(0).startsWith("{\"seq\":1,"));
+        assertTrue(missed.get(1).startsWith("{\"seq\":2,"));
+        assertEquals(2, session.getLastSequence());
+    }
+
+    @Test
+    public void testReplayOnlyMissedEvents() {
+        for (int i = 0; i < 10; i++) {
+            session.deliver("{\"n\":" + i + "}");
+        }
+
+        ArrayList<String> missed = session.replaySince(7);
+        assertEquals(3, missed.size());
+        assertEquals("{\"seq\":8,\"n\":7}", missed.get(0));
+        assertEquals(0, session.replaySince(10).size());
+    }
+
+    @Test
+    public void testFallenTooFarBehindNeedsSnapshot() {
+        for (int i = 0; i < PlayerSession.HISTORY_CAPACITY + 10; i++) {
+            session.deliver("{\"n\":" + i + "}");
+        }
+
+        assertNull(session.replaySince(0));
+        assertNotNull(session.replaySince(session.getOldestSequence() - 1));
+    }
+
+    @Test
+    public void testCharacterBoundEvictsOldest() {
+        StringBuilder big = new StringBuilder("{\"data\":\"");
+        for (int i = 0; i < PlayerSession.HISTORY_MAX_CHARS / 4; i++) {
+            big.append('x');
+        }
+        big.append("\"}");
+
+        for (int i = 0; i < 6; i++) {
+            session.deliver(big.toString());
+        }
+
+        assertTrue(session.getOldestSequence() > 1);
+        assertNull(session.replaySince(0));
+    }
+
+    @Test
+    public void testDetachAndAttach() {
+        assertTrue(session.isDetached());
+        session.detach();
+        assertTrue(session.getDetachedAt() > 0);
+    }
+}
@@ -0,0 +1,103 @@
+package com.monopoly.server;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.history.JournalRecord;
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.model.game.GameState;
+import com.monopoly.network.protocol.ClientCommand;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Unit tests for headless replay of recorded games.
+ */
+public class ReplayEngineTest {
+
+    private Path directory;
+    private Server server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("replay-test");
+        server = new Server(0);
+        server.enableJournal(directory);
+    }
+
+    /**
+     * Records a game of a number of commands
+     */
+    private GameState record(String roomId, int commands) {
+        GameController room = new GameController(roomId, server);
+        for (int playerId = 1; playerId <= 3; playerId++) {
+            room.addPlayer(playerId, null);
+            room.onPlayerJoined(playerId, "Player " + playerId);
+        }
+        room.startGame();
+        GameState state = room.getGameState();
+        for (int i = 0; i < commands && !room.isGameEnded(); i++) {
+            int current = state.getCurrentPlayerId();
+            TurnPhase phase = state.getTurnPhase();
+            if (phase == TurnPhase.PRE_ROLL) {
+                room.processCommand(current, ClientCommand.createRollDice(current));
+            } else if (phase == TurnPhase.PROPERTY_DECISION) {
+                room.processCommand(current, ClientCommand.createBuyProperty(current, -1));
+            } else {
+                room.processCommand(current, ClientCommand.createEndTurn(current));
+            }
+        }
+        return state;
+    }
+
+    @Test
+    public void testRecordedGamesVerify() {
+        int[] turns = new int[3];
+        ArrayList<Path> rooms = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            turns[i] = record("room_" + i, 40 + 30 * i).getTurnNumber();
+            rooms.add(directory.resolve("room_" + i));
+        }
+        server.getJournalStore().shutdown();
+
+        ArrayList<ReplayEngine.Result> results = new ReplayEngine(new Server(0)).verifyAll(rooms, 2);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(results.get(i).isMatch(), results.get(i).toString());
+            assertEquals(turns[i], results.get(i).getTurnNumber());
+        }
+    }
+
+    @Test
+    public void testMissingCommandIsDetected() throws IOException {
+        record("room_gap", 15);
+        server.getJournalStore().shutdown();
+
+        ReplayEngine.Recording recording = ReplayEngine.load(directory.resolve("room_gap"));
+        ArrayList<JournalRecord> records = recording.getRecords();
+        int size = records.size();
+        for (int i = 0; i < records.size(); i++) {
+            if (records.get(i).getType() == JournalRecord.COMMAND) {
+                records.remove(i);
+                break;
+            }
+        }
+        assertEquals(size - 1, records.size());
+        ReplayEngine.Result result = new ReplayEngine(new Server(0)).verify(recording);
+        assertFalse(result.isMatch());
+    }
+
+    @Test
+    public void testStepperAdvancesByTurn() throws IOException {
+        record("room_steps", 12);
+        server.getJournalStore().shutdown();
+
+        ReplayEngine.Stepper stepper = new ReplayEngine(new Server(0)).open(ReplayEngine.load(directory.resolve("room_steps")));
+        int turn = stepper.getGameState().getTurnNumber();
+        stepper.stepTurn();
+        assertEquals(turn + 1, stepper.getGameState().getTurnNumber());
+    }
+}
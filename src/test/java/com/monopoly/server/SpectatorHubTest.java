@@ -0,0 +1,131 @@
+package com.monopoly.server;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.network.protocol.ServerEvent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Unit tests for spectator fan-out.
+ */
+public class SpectatorHubTest {
+
+    private Server server;
+    private ExecutorService io;
+    private SpectatorHub hub;
+
+    @BeforeEach
+    public void setUp() {
+        server = new Server(0);
+        io = Executors.newSingleThreadExecutor();
+        hub = new SpectatorHub("room_watch", server.getProtocolHandler(), io);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        hub.close();
+        io.shutdownNow();
+    }
+
+    @Test
+    public void testEveryWatcherGetsEveryFrameInOrder() throws Exception {
+        Watcher first = new Watcher(101);
+        Watcher second = new Watcher(102);
+        hub.subscribe(first.getPlayerId(), first, null);
+        hub.subscribe(second.getPlayerId(), second, null);
+
+        hub.publish(ServerEvent.createStateUpdate("{}"));
+        hub.publish(ServerEvent.createDiceResult(1, 2));
+        hub.publish(ServerEvent.createTurnStart(2));
+        settle();
+
+        assertEquals(3, first.frames.size());
+        assertEquals(3, second.frames.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(first.frames.get(i), second.frames.get(i));
+        }
+        assertTrue(first.frames.get(0).contains("STATE_UPDATE"));
+
+        assertTrue(hub.unsubscribe(second.getPlayerId()));
+        hub.publish(ServerEvent.createTurnStart(1));
+        settle();
+        assertEquals(4, first.frames.size());
+        assertEquals(3, second.frames.size());
+        assertFalse(hub.unsubscribe(second.getPlayerId()));
+    }
+
+    @Test
+    public void testLateWatcherStartsFromAFreshSnapshot() throws Exception {
+        // The only snapshot is pushed out of the cache by later deltas
+        hub.publish(ServerEvent.createStateUpdate("{}"));
+        for (int i = 0; i < SpectatorHub.CACHE_CAPACITY + 10; i++) {
+            hub.publish(ServerEvent.createDiceResult(1, 2));
+        }
+
+        Watcher watcher = new Watcher(101);
+        hub.subscribe(watcher.getPlayerId(), watcher, ServerEvent.createStateUpdate("{\"fresh\":true}"));
+        hub.publish(ServerEvent.createDiceResult(3, 4));
+        settle();
+
+        assertEquals(2, watcher.frames.size());
+        assertTrue(watcher.frames.get(0).contains("STATE_UPDATE"));
+        assertTrue(watcher.frames.get(0).contains("fresh"));
+    }
+
+    @Test
+    public void testDeltasWaitForTheirBaseState() throws Exception {
+        hub.publish(ServerEvent.createStateUpdate("{}"));
+        for (int i = 0; i < SpectatorHub.CACHE_CAPACITY + 10; i++) {
+            hub.publish(ServerEvent.createDiceResult(1, 2));
+        }
+
+        // No snapshot offered: nothing is sent until the room publishes one
+        Watcher watcher = new Watcher(101);
+        hub.subscribe(watcher.getPlayerId(), watcher, null);
+        hub.publish(ServerEvent.createDiceResult(5, 6));
+        settle();
+        assertEquals(0, watcher.frames.size());
+
+        hub.publish(ServerEvent.createStateUpdate("{}"));
+        hub.publish(ServerEvent.createDiceResult(5, 6));
+        settle();
+        assertEquals(2, watcher.frames.size());
+        assertTrue(watcher.frames.get(0).contains("STATE_UPDATE"));
+    }
+
+    /**
+     * Runs queued spectator work until every watcher is caught up
+     */
+    private void settle() throws Exception {
+        for (int i = 0; i < 100 && hub.getBacklog() > 0; i++) {
+            io.submit(() -> { }).get();
+        }
+        io.submit(() -> { }).get();
+    }
+
+    /**
+     * Spectator connection that keeps the frames written to it
+     */
+    private final class Watcher extends ClientHandler {
+
+        final ArrayList<String> frames = new ArrayList<>();
+
+        Watcher(int playerId) {
+            super(new Socket(), playerId, server);
+        }
+
+        @Override
+        public boolean writeFrame(byte[] frame) {
+            frames.add(new String(frame, StandardCharsets.UTF_8));
+            return true;
+        }
+    }
+}
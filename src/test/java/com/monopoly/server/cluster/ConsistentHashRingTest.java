@@ -0,0 +1,67 @@
+package com.monopoly.server.cluster;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for consistent-hash room placement.
+ */
+public class ConsistentHashRingTest {
+
+    private static final int ROOMS = 10000;
+
+    private ConsistentHashRing ring;
+
+    @BeforeEach
+    public void setUp() {
+        ring = new ConsistentHashRing();
+        for (int i = 1; i <= 4; i++) {
+            ring.addNode(new ClusterNode("node" + i, "localhost", 20000 + i));
+        }
+    }
+
+    @Test
+    public void testEmptyRingHasNoOwner() {
+        assertNull(new ConsistentHashRing().nodeFor("room_1"));
+    }
+
+    @Test
+    public void testLookupIsStable() {
+        ClusterNode owner = ring.nodeFor("room_42");
+        assertNotNull(owner);
+        assertEquals(owner, ring.nodeFor("room_42"));
+    }
+
+    @Test
+    public void testRoomsSpreadEvenly() {
+        int[] counts = new int[5];
+        for (int i = 0; i < ROOMS; i++) {
+            String nodeId = ring.nodeFor("room_" + i).getNodeId();
+            counts[nodeId.charAt(4) - '0']++;
+        }
+        for (int i = 1; i <= 4; i++) {
+            assertTrue(counts[i] > ROOMS / 4 * 0.75, "node" + i + " owns " + counts[i]);
+            assertTrue(counts[i] < ROOMS / 4 * 1.25, "node" + i + " owns " + counts[i]);
+        }
+    }
+
+    @Test
+    public void testRemovingNodeOnlyMovesItsRooms() {
+        String[] before = new String[ROOMS];
+        for (int i = 0; i < ROOMS; i++) {
+            before[i] = ring.nodeFor("room_" + i).getNodeId();
+        }
+
+        ring.removeNode("node3");
+
+        for (int i = 0; i < ROOMS; i++) {
+            String after = ring.nodeFor("room_" + i).getNodeId();
+            if (!before[i].equals("node3")) {
+                assertEquals(before[i], after);
+            } else {
+                assertNotEquals("node3", after);
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.monopoly.server.metrics;
+
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.model.game.GameState;
+import com.monopoly.network.protocol.ClientCommand;
+import com.monopoly.network.protocol.MessageType;
+import com.monopoly.server.GameController;
+import com.monopoly.server.Server;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Unit tests for the server metrics registry.
+ */
+public class ServerMetricsTest {
+
+    @Test
+    public void testHistogramPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1000);
+        }
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000L, histogram.getMax());
+        long p50 = histogram.getPercentile(50);
+        long p99 = histogram.getPercentile(99);
+        assertTrue(Math.abs(p50 - 50_000_000L) <= 50_000_000L / LatencyHistogram.SUB_BUCKETS, "p50 " + p50);
+        assertTrue(Math.abs(p99 - 99_000_000L) <= 99_000_000L / LatencyHistogram.SUB_BUCKETS, "p99 " + p99);
+        assertEquals(histogram.getMax(), histogram.getPercentile(100));
+
+        for (long value : new long[] {0, 15, 16, 17, 1000, 123_456_789L, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.bucketUpperBound(index) >= value);
+            assertTrue(index == 0 || LatencyHistogram.bucketUpperBound(index - 1) < value);
+        }
+    }
+
+    @Test
+    public void testCommandsShowUpOnHttpEndpoint() throws IOException {
+        Server server = new Server(0);
+        GameController room = new GameController("room_metrics", server);
+        for (int playerId = 1; playerId <= 2; playerId++) {
+            room.addPlayer(playerId, null);
+            room.onPlayerJoined(playerId, "Player " + playerId);
+        }
+        room.startGame();
+        GameState state = room.getGameState();
+        int rolls = 0;
+        for (int i = 0; i < 30 && !state.isGameOver(); i++) {
+            int current = state.getCurrentPlayerId();
+            TurnPhase phase = state.getTurnPhase();
+            if (phase == TurnPhase.PRE_ROLL) {
+                room.processCommand(current, ClientCommand.createRollDice(current));
+                rolls++;
+            } else if (phase == TurnPhase.PROPERTY_DECISION) {
+                room.processCommand(current, ClientCommand.createBuyProperty(current, -1));
+            } else {
+                room.processCommand(current, ClientCommand.createEndTurn(current));
+            }
+        }
+
+        ServerMetrics metrics = server.getMetrics();
+        assertEquals(rolls, metrics.getCommandLatency(MessageType.ROLL_DICE).getCount());
+        int port = metrics.startHttp(0);
+        try {
+            HttpURLConnection connection =
+                    (HttpURLConnection) new URL("http://localhost:" + port + "/metrics").openConnection();
+            assertEquals(200, connection.getResponseCode());
+            String body;
+            try (InputStream in = connection.getInputStream()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            assertTrue(body.contains("command_latency{type=\"ROLL_DICE\"}_count " + rolls));
+            assertTrue(body.contains("room_commands{room=\"room_metrics\"} 30"));
+            assertTrue(body.contains("serializer_latency_count"));
+            assertTrue(body.contains("reaper_reaped 0"));
+            assertTrue(body.contains("reaper_pings 0"));
+            assertTrue(body.contains("reaper_scans "));
+            assertTrue(body.contains("reaper_entries_scanned "));
+            assertTrue(body.contains("reaper_scan_cpu_ns "));
+        } finally {
+            server.stop();
+        }
+    }
+}
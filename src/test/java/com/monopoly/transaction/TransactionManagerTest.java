@@ -0,0 +1,127 @@
+package com.monopoly.transaction;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+import com.monopoly.network.protocol.ClientCommand;
+import com.monopoly.server.GameController;
+import com.monopoly.server.Server;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the money ledger.
+ */
+public class TransactionManagerTest {
+
+    private GameState createState() {
+        GameState state = new GameState("room_ledger");
+        state.addPlayer(new Player(1, "Alice"));
+        state.addPlayer(new Player(2, "Bob"));
+        return state;
+    }
+
+    @Test
+    public void testTransferMovesMoneyAndRecords() {
+        GameState state = createState();
+        TransactionManager ledger = state.getLedger();
+        int bankBefore = state.getBank().getTotalMoney();
+
+        assertTrue(ledger.transfer(TransactionType.RENT_PAYMENT, 1, 2, 120, 3));
+        assertTrue(ledger.payToBank(TransactionType.TAX_PAYMENT, 2, 200));
+        ledger.collectFromBank(TransactionType.GO_BONUS, 1, Player.GO_SALARY);
+
+        assertEquals(Player.STARTING_MONEY + 80, state.getPlayer(1).getMoney());
+        assertEquals(Player.STARTING_MONEY - 80, state.getPlayer(2).getMoney());
+        assertEquals(bankBefore, state.getBank().getTotalMoney());
+        assertEquals(120, ledger.getNetFlow(1, 2));
+        assertEquals(-120, ledger.getNetFlow(2, 1));
+        assertEquals(200, ledger.getTotal(TransactionType.TAX_PAYMENT));
+        assertEquals(1, ledger.getCount(TransactionType.GO_BONUS));
+        assertTrue(ledger.isBalanced());
+
+        ArrayList<Transaction> recent = ledger.getRecentTransactions(10);
+        assertEquals(3, recent.size());
+        assertEquals(TransactionType.RENT_PAYMENT, recent.get(0).getTransactionType());
+        assertEquals(3, recent.get(0).getRelatedPropertyId());
+        assertTrue(recent.get(2).isFromBank());
+    }
+
+    @Test
+    public void testUnaffordableTransferMovesNothing() {
+        GameState state = createState();
+        TransactionManager ledger = state.getLedger();
+
+        assertFalse(ledger.transfer(TransactionType.TRADE, 1, 2, Player.STARTING_MONEY + 1,
+                                    Transaction.NO_PROPERTY));
+        assertEquals(Player.STARTING_MONEY, state.getPlayer(1).getMoney());
+        assertEquals(0, ledger.getTransactionCount());
+        assertThrows(IllegalArgumentException.class,
+                     () -> ledger.transfer(TransactionType.TRADE, 1, 99, 10, Transaction.NO_PROPERTY));
+    }
+
+    @Test
+    public void testMoneyMovedAroundTheLedgerIsDetected() {
+        GameState state = createState();
+        TransactionManager ledger = state.getLedger();
+        assertTrue(ledger.transfer(TransactionType.RENT_PAYMENT, 1, 2, 50, Transaction.NO_PROPERTY));
+        assertTrue(ledger.isBalanced());
+
+        state.getPlayer(2).addMoney(10);
+        assertFalse(ledger.isBalanced());
+        assertFalse(ledger.checkAccount(2));
+        assertTrue(ledger.checkAccount(1));
+
+        ledger.rebaseAccounts();
+        assertTrue(ledger.isBalanced());
+    }
+
+    @Test
+    public void testRingBufferKeepsNewestTransactions() {
+        GameState state = createState();
+        TransactionManager ledger = state.getLedger();
+        int transfers = TransactionManager.HISTORY_CAPACITY + 10;
+        for (int i = 0; i < transfers; i++) {
+            ledger.transfer(TransactionType.PLAYER_TO_PLAYER, 1 + i % 2, 2 - i % 2, 1, Transaction.NO_PROPERTY);
+        }
+
+        ArrayList<Transaction> recent = ledger.getRecentTransactions(transfers);
+        assertEquals(TransactionManager.HISTORY_CAPACITY, recent.size());
+        assertEquals(transfers, recent.get(recent.size() - 1).getTransactionId());
+        assertEquals(11, recent.get(0).getTransactionId());
+        assertTrue(ledger.isBalanced());
+    }
+
+    @Test
+    public void testPlayedGameStaysBalanced() {
+        GameController room = new GameController("room_ledger_game", new Server(0));
+        for (int playerId = 1; playerId <= 3; playerId++) {
+            room.addPlayer(playerId, null);
+            room.onPlayerJoined(playerId, "Player " + playerId);
+        }
+        room.startGame();
+        GameState state = room.getGameState();
+
+        for (int i = 0; i < 300 && !state.isGameOver(); i++) {
+            int current = state.getCurrentPlayerId();
+            TurnPhase phase = state.getTurnPhase();
+            if (phase == TurnPhase.PRE_ROLL) {
+                room.processCommand(current, ClientCommand.createRollDice(current));
+            } else if (phase == TurnPhase.PROPERTY_DECISION) {
+                room.processCommand(current, ClientCommand.createBuyProperty(current, -1));
+            } else {
+                room.processCommand(current, ClientCommand.createEndTurn(current));
+            }
+        }
+
+        TransactionManager ledger = state.getLedger();
+        assertTrue(ledger.getTransactionCount() > 0);
+        assertTrue(ledger.isBalanced());
+        assertTrue(ledger.checkAccount(Transaction.BANK_ID));
+        for (int playerId = 1; playerId <= 3; playerId++) {
+            assertTrue(ledger.checkAccount(playerId), "account " + playerId);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.monopoly.transaction;
+
+import com.monopoly.logic.BankruptcyManager;
+import com.monopoly.model.game.GameState;
+import com.monopoly.model.player.Player;
+import com.monopoly.model.property.Property;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for all-or-nothing asset transfers.
+ */
+public class UnitOfWorkTest {
+
+    private GameState state;
+    private Player alice;
+    private Player bob;
+    private Property property;
+
+    @BeforeEach
+    public void setUp() {
+        state = new GameState("room_uow");
+        alice = new Player(1, "Alice");
+        bob = new Player(2, "Bob");
+        state.addPlayer(alice);
+        state.addPlayer(bob);
+        property = state.getBoard().getProperty(1);
+        state.getBank().removeUnownedProperty(property.getId());
+        alice.addProperty(property);
+        alice.addGetOutOfJailCard();
+    }
+
+    /**
+     * Operation that always fails when executed
+     */
+    private static AtomicOperation failing() {
+        return new AtomicOperation() {
+            public boolean validate() {
+                return true;
+            }
+
+            public boolean execute() {
+                return false;
+            }
+
+            public void rollback() {
+                fail("a failed operation must not be rolled back");
+            }
+
+            public String getDescription() {
+                return "fail";
+            }
+        };
+    }
+
+    @Test
+    public void testFailureRollsBackExecutedOperations() {
+        int aliceBought = alice.getPropertiesBought();
+        UnitOfWork work = new UnitOfWork("trade")
+                .add(AssetTransfers.money(state, TransactionType.TRADE, 1, 2, 300))
+                .add(AssetTransfers.property(alice, bob, property))
+                .add(AssetTransfers.jailCards(alice, bob, 1))
+                .add(failing());
+
+        assertFalse(work.commit());
+        assertEquals(Player.STARTING_MONEY, alice.getMoney());
+        assertEquals(Player.STARTING_MONEY, bob.getMoney());
+        assertEquals(1, property.getOwnerId());
+        assertTrue(alice.ownsProperty(property.getId()));
+        assertFalse(bob.ownsProperty(property.getId()));
+        assertEquals(aliceBought, alice.getPropertiesBought());
+        assertEquals(0, bob.getPropertiesBought());
+        assertEquals(1, alice.getGetOutOfJailCards());
+        assertEquals(0, bob.getGetOutOfJailCards());
+        assertTrue(state.getLedger().isBalanced());
+        assertEquals(0, state.getLedger().getNetFlow(1, 2));
+    }
+
+    @Test
+    public void testInvalidOperationChangesNothing() {
+        UnitOfWork work = new UnitOfWork("trade")
+                .add(AssetTransfers.property(alice, bob, property))
+                .add(AssetTransfers.money(state, TransactionType.TRADE, 2, 1, Player.STARTING_MONEY + 1));
+
+        assertFalse(work.commit());
+        assertEquals(1, property.getOwnerId());
+        assertEquals(0, state.getLedger().getTransactionCount());
+    }
+
+    @Test
+    public void testBankruptcyMovesAllAssets() {
+        assertTrue(new BankruptcyManager(state).transferAssetsToCreditor(1, 2));
+
+        assertEquals(0, alice.getMoney());
+        assertEquals(2 * Player.STARTING_MONEY, bob.getMoney());
+        assertEquals(2, property.getOwnerId());
+        assertEquals(0, alice.getPropertyCount());
+        assertEquals(1, bob.getGetOutOfJailCards());
+        assertEquals(Player.STARTING_MONEY, state.getLedger().getTotal(TransactionType.BANKRUPTCY));
+    }
+
+    @Test
+    public void testFailedCreditorTransferFallsBackToBank() {
+        // A stale owner makes the property transfer invalid, so the whole transfer rolls back
+        property.setOwnerId(3);
+        new BankruptcyManager(state).declareBankruptcy(1, 2);
+
+        assertTrue(alice.isBankrupt());
+        assertEquals(0, alice.getMoney());
+        assertEquals(0, alice.getPropertyCount());
+        assertEquals(Player.STARTING_MONEY, bob.getMoney());
+        assertEquals(-1, property.getOwnerId());
+        assertTrue(state.getBank().isPropertyUnowned(property.getId()));
+        assertEquals(Player.STARTING_MONEY, state.getLedger().getTotal(TransactionType.BANKRUPTCY));
+        assertTrue(state.getLedger().isBalanced());
+    }
+}
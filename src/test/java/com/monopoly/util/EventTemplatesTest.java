@@ -0,0 +1,48 @@
+package com.monopoly.util;
+
+import com.monopoly.model.card.ChanceCard;
+import com.monopoly.model.enums.EventCode;
+import com.monopoly.network.protocol.ServerEvent;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Locale;
+
+/**
+ * Unit tests for event log templates.
+ */
+public class EventTemplatesTest {
+
+    private final EventTemplates templates = EventTemplates.forLocale(Locale.ROOT);
+
+    @Test
+    public void testEveryCodeHasATemplate() {
+        for (EventCode code : EventCode.values()) {
+            String text = templates.render(code, new int[code.getArgCount()], id -> "P");
+            assertFalse(text.startsWith(code.name()), "No template for " + code);
+        }
+    }
+
+    @Test
+    public void testArgumentsRenderByKind() {
+        String text = templates.render(EventCode.BOUGHT, new int[] {2, 39, 400},
+                                       id -> id == 2 ? "Bob" : null);
+        assertEquals("Bob bought Boardwalk for $400", text);
+
+        ChanceCard card = ChanceCard.createStandardDeck().get(0);
+        int[] args = {7, 0, 0, 0, 0, -1, 0, EventTemplates.cardKey(card)};
+        assertEquals("Player 7 drew: " + card.getDescription(),
+                     templates.render(EventCode.CARD_APPLIED, args, id -> null));
+    }
+
+    @Test
+    public void testStructuredEventSurvivesTheWire() {
+        ServerEvent sent = ServerEvent.createEventLog(EventCode.RENT_PAID, new int[] {1, 39, 3, 4, -50, 2, 0, -1});
+        ServerEvent received = ServerEvent.fromJson(sent.serialize());
+
+        assertEquals(EventCode.RENT_PAID, EventCode.fromId(received.getIntData("code", -1)));
+        assertArrayEquals(new int[] {1, 39, 3, 4, -50, 2, 0, -1}, received.getIntArrayData("args"));
+        assertNull(received.getStringData("description"));
+    }
+}
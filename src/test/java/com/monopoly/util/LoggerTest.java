@@ -0,0 +1,88 @@
+package com.monopoly.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Unit tests for the asynchronous logger.
+ */
+public class LoggerTest {
+
+    private final Logger logger = Logger.getInstance();
+
+    private Path file;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        file = Files.createTempDirectory("logger-test").resolve("server.log");
+        logger.flush();
+        logger.setConsoleEnabled(false);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        logger.flush();
+        logger.disableFileLogging();
+        logger.setLevel(Logger.LogLevel.INFO);
+        logger.setConsoleEnabled(true);
+    }
+
+    @Test
+    public void testConcurrentProducersKeepEveryLineInOrder() throws Exception {
+        logger.enableFileLogging(file.toString());
+        int perThread = 3000;
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int producer = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    logger.info("producer {} line {}", producer, i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        logger.setLevel(Logger.LogLevel.WARN);
+        logger.info("filtered {}", 1);
+        logger.flush();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(threads.length * perThread, lines.size());
+        int[] next = new int[threads.length];
+        for (String line : lines) {
+            String message = line.substring(line.indexOf("] ") + 2);
+            String[] words = message.split(" ");
+            int producer = Integer.parseInt(words[1]);
+            assertEquals(next[producer]++, Integer.parseInt(words[3]));
+        }
+    }
+
+    @Test
+    public void testFileRotatesAtSizeLimit() throws IOException {
+        logger.enableFileLogging(file.toString(), 4096, 2);
+        for (int i = 0; i < 400; i++) {
+            logger.warn("rotation test entry number {} of {}", i, 400);
+            if (i % 50 == 0) {
+                logger.flush();
+            }
+        }
+        logger.flush();
+
+        assertTrue(Files.exists(file));
+        assertTrue(Files.exists(Paths.get(file + ".1")));
+        assertTrue(Files.exists(Paths.get(file + ".2")));
+        assertFalse(Files.exists(Paths.get(file + ".3")));
+        List<String> current = Files.readAllLines(file);
+        assertTrue(current.get(current.size() - 1).endsWith("entry number 399 of 400"));
+    }
+}
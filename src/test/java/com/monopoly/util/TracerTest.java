@@ -0,0 +1,114 @@
+package com.monopoly.util;
+
+import com.monopoly.datastructures.ArrayList;
+import com.monopoly.model.enums.TurnPhase;
+import com.monopoly.model.game.GameState;
+import com.monopoly.network.protocol.ClientCommand;
+import com.monopoly.network.protocol.MessageType;
+import com.monopoly.server.GameController;
+import com.monopoly.server.Server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Unit tests for binary event tracing.
+ */
+public class TracerTest {
+
+    private final Tracer tracer = Tracer.getInstance();
+
+    private Path file;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        file = Files.createTempDirectory("trace-test").resolve("server.trace");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tracer.disable();
+    }
+
+    @Test
+    public void testThreadsWriteSeparateBuffersIntoOneFile() throws Exception {
+        tracer.enable(file);
+        int perThread = Tracer.RECORDS_PER_BUFFER * 2 + 10;
+        Thread[] threads = new Thread[3];
+        for (int t = 0; t < threads.length; t++) {
+            String roomId = "room_" + t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    tracer.record(Tracer.TraceEvent.BYTES_SENT, roomId, 1, Tracer.NO_CODE, i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        tracer.disable();
+        tracer.record(Tracer.TraceEvent.BYTES_SENT, "room_0", 1, Tracer.NO_CODE, -1);
+
+        TraceReader reader = new TraceReader(file);
+        assertEquals(threads.length, reader.getRooms().size());
+        for (int t = 0; t < threads.length; t++) {
+            ArrayList<TraceReader.TraceRecord> timeline = reader.getTimeline("room_" + t);
+            assertEquals(perThread, timeline.size());
+            for (int i = 0; i < perThread; i++) {
+                assertEquals(i, timeline.get(i).getValue());
+            }
+        }
+    }
+
+    @Test
+    public void testRoomTimelineCoversCommandPhases() throws IOException {
+        tracer.enable(file);
+        Server server = new Server(0);
+        GameController room = new GameController("room_trace", server);
+        for (int playerId = 1; playerId <= 2; playerId++) {
+            room.addPlayer(playerId, null);
+            room.onPlayerJoined(playerId, "Player " + playerId);
+        }
+        room.startGame();
+        GameState state = room.getGameState();
+        int commands = 0;
+        for (; commands < 20 && !state.isGameOver(); commands++) {
+            int current = state.getCurrentPlayerId();
+            TurnPhase phase = state.getTurnPhase();
+            if (phase == TurnPhase.PRE_ROLL) {
+                room.processCommand(current, ClientCommand.createRollDice(current));
+            } else if (phase == TurnPhase.PROPERTY_DECISION) {
+                room.processCommand(current, ClientCommand.createBuyProperty(current, -1));
+            } else {
+                room.processCommand(current, ClientCommand.createEndTurn(current));
+            }
+        }
+        tracer.disable();
+
+        ArrayList<TraceReader.TraceRecord> timeline = new TraceReader(file).getTimeline("room_trace");
+        int validations = 0;
+        int logic = 0;
+        for (int i = 0; i < timeline.size(); i++) {
+            TraceReader.TraceRecord record = timeline.get(i);
+            if (i > 0) {
+                assertTrue(timeline.get(i - 1).getTimeNanos() <= record.getTimeNanos());
+            }
+            if (record.getEvent() == Tracer.TraceEvent.VALIDATION) {
+                validations++;
+            } else if (record.getEvent() == Tracer.TraceEvent.LOGIC) {
+                logic++;
+                assertTrue(record.getValue() >= 0);
+                assertNotEquals(MessageType.HELLO.ordinal(), record.getCode());
+            }
+        }
+        assertEquals(commands, validations);
+        assertEquals(commands, logic);
+    }
+}